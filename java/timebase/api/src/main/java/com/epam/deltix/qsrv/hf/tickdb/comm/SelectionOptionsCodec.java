@@ -32,6 +32,7 @@ public abstract class SelectionOptionsCodec {
 
     public static final int VERSION_WITH_FIXED_STREAM_TYPE_SUPPORT = 99;
     public static final int VERSION_WITH_SPACES_SUPPORT = 110;
+    public static final int VERSION_WITH_LAST_VALUES = 131;
 
     public static void write(DataOutputStream out, SelectionOptions options, int serverVersion)
             throws IOException
@@ -59,6 +60,9 @@ public abstract class SelectionOptionsCodec {
         if (serverVersion >= VERSION_WITH_SPACES_SUPPORT) {
             SerializationUtils.writeNullableString(options.space, out);
         }
+
+        if (serverVersion >= VERSION_WITH_LAST_VALUES)
+            out.writeBoolean(options.lastValues);
     }
 
     public static void read(DataInputStream in, SelectionOptions options, int clientVersion) throws IOException {
@@ -88,5 +92,9 @@ public abstract class SelectionOptionsCodec {
         if (clientVersion >= VERSION_WITH_SPACES_SUPPORT) {
             options.space = SerializationUtils.readNullableString(in);
         }
+
+        options.lastValues = false;
+        if (clientVersion >= VERSION_WITH_LAST_VALUES)
+            options.lastValues = in.readBoolean();
     }
 }
@@ -90,7 +90,7 @@ public abstract class TDBProtocol extends SerializationUtils {
     /**
      *  This component's version, whether server or client.
      */
-    public static final int     VERSION = 130;
+    public static final int     VERSION = 131;
     
     /**
      *  Server will refuse to talk to a client unless the client's version is   at least
@@ -26,6 +26,29 @@ public class FSOptions {
 
     public String  url = null;
 
+    /**
+     * Location (folder or URI) of the secondary storage tier for cold stream data.
+     * When null, all data is kept at the stream location.
+     */
+    public String  secondaryLocation = null;
+
+    /**
+     * Default age (milliseconds) of stream data, that should be moved to the secondary storage tier.
+     * Zero disables migration for streams, that does not define this value.
+     */
+    public long    tieringAge = 0;
+
+    /**
+     * Folder of the write-ahead log, that makes loaded data durable before it is stored in the streams.
+     * When null, the log is disabled.
+     */
+    public String  walLocation = null;
+
+    /**
+     * Interval (milliseconds) between group commits of the write-ahead log.
+     */
+    public int     walCommitInterval = 1;
+
     public FSOptions() {
     }
 
@@ -48,4 +71,16 @@ public class FSOptions {
         this.compression = compression;
         return this;
     }
+
+    public FSOptions withSecondaryLocation(String location, long tieringAge) {
+        this.secondaryLocation = location;
+        this.tieringAge = tieringAge;
+        return this;
+    }
+
+    public FSOptions withWriteAheadLog(String location, int commitInterval) {
+        this.walLocation = location;
+        this.walCommitInterval = commitInterval;
+        return this;
+    }
 }
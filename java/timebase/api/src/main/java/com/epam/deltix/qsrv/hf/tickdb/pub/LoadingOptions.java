@@ -59,6 +59,23 @@ public class LoadingOptions extends CommonOptions {
     // TODO: Rename
     public boolean      allowExperimentalTransport = false;
 
+    /**
+     *  Capacity (in messages) of the client-side send queue.
+     *  <p>
+     *  When positive, <code>send()</code> only encodes message into the queue and returns,
+     *  while dedicated I/O thread writes queued messages into the channel in batches.
+     *  Zero (default) writes messages on the caller thread.
+     *  Applies to remote socket-based loaders.
+     *  </p>
+     */
+    public int          asyncQueueSize = 0;
+
+    /**
+     *  What <code>send()</code> does when the async send queue is full.
+     *  See {@link #asyncQueueSize}.
+     */
+    public BackPressure backPressure = BackPressure.BLOCK;
+
     private final HashMap<Class <? extends LoadingError>, ErrorAction>
                         mapping = new HashMap<Class <? extends LoadingError>, ErrorAction>();
 
@@ -124,6 +141,23 @@ public class LoadingOptions extends CommonOptions {
         Continue                
     }
 
+    public enum BackPressure {
+        /**
+         Wait until queue has space for the message
+         */
+        BLOCK,
+
+        /**
+         Silently discard the message
+         */
+        DROP,
+
+        /**
+         Throw {@link LoaderOverflowException}
+         */
+        ERROR
+    }
+
     public enum WriteMode {
         /**
          Adds only new data into a stream without truncation
@@ -155,5 +189,7 @@ public class LoadingOptions extends CommonOptions {
         this.writeMode = template.writeMode;
         this.mapping.putAll(template.mapping);
         this.filterExpression = template.filterExpression;
+        this.asyncQueueSize = template.asyncQueueSize;
+        this.backPressure = template.backPressure;
     }
 }
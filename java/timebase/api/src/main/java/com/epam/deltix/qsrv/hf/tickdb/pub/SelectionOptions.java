@@ -54,6 +54,13 @@ public class SelectionOptions extends CommonOptions {
      */
     public boolean      rebroadcast = true;
 
+    /**
+     *  On open/reset cursors, emit the last cached messages of each subscribed entity
+     *  (kept by streams with enabled last-value cache) timestamped before the reset time,
+     *  followed by the regular data.
+     */
+    public boolean      lastValues = false;
+
     /**
      *  Enabled/Disables sending system messages when cursor switches from historical to realtime mode.
      */
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.pub.task;
+
+import com.epam.deltix.qsrv.hf.pub.util.SerializationUtils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ *  Compacts cold data of the stream: merges adjacent small time slices
+ *  and optionally recompresses them using another compression algorithm.
+ *  Time slices used by open cursors or loaders are skipped.
+ *
+ *  <p>Progress and errors are reported by the stream's background process.</p>
+ */
+public class CompactionTask extends SerializableTask {
+
+    /**
+     *  Data written before this time (in milliseconds) is considered cold.
+     */
+    public long                     coldTime = Long.MIN_VALUE;
+
+    /**
+     *  Compression to rewrite cold data with, for example "ZSTD(9)".
+     *  When null, data is not recompressed.
+     */
+    public String                   compression;
+
+    /**
+     *  Max uncompressed size of merged time slices. When zero, stream's max file size is used.
+     */
+    public int                      maxFileSize = 0;
+
+    /**
+     *  Pause (in milliseconds) between compaction steps, to reduce impact on readers and writers.
+     */
+    public long                     pause = 10;
+
+    public boolean                  background = true;
+
+    public CompactionTask() { } // for deserialization
+
+    public CompactionTask(long coldTime, String compression) {
+        this.coldTime = coldTime;
+        this.compression = compression;
+    }
+
+    @Override
+    public boolean                  isBackground() {
+        return background;
+    }
+
+    @Override
+    public void                     write(DataOutputStream out) throws IOException {
+        out.writeLong(coldTime);
+        SerializationUtils.writeNullableString(compression, out);
+        out.writeInt(maxFileSize);
+        out.writeLong(pause);
+        out.writeBoolean(background);
+    }
+
+    @Override
+    public void                     read(DataInputStream in) throws IOException {
+        coldTime = in.readLong();
+        compression = SerializationUtils.readNullableString(in);
+        maxFileSize = in.readInt();
+        pause = in.readLong();
+        background = in.readBoolean();
+    }
+}
@@ -36,4 +36,6 @@ public class CommonOptions {
     public long                 retryTimeout = 5000; // period of time in milliseconds between reconnect attempts
 
     public boolean              async = false; // run replication process asynchronously in separate thread
+
+    public int                  threads = 1; // number of parallel reader/loader pairs for multi-stream replication
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.replication;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ *  Progress of parallel restore, persisted per partition.
+ *  For each partition it keeps time of the last message known to be flushed into target,
+ *  so interrupted restore resumes from that time and skips completed partitions.
+ */
+final class RestoreCheckpoint {
+    private static final String     COMPLETED = "completed";
+
+    private final File              file;
+    private final Properties        state = new Properties();
+
+    private RestoreCheckpoint(File file) {
+        this.file = file;
+    }
+
+    static RestoreCheckpoint        open(File file) throws IOException {
+        RestoreCheckpoint checkpoint = new RestoreCheckpoint(file);
+
+        if (file.exists()) {
+            try (InputStream in = new FileInputStream(file)) {
+                checkpoint.state.load(in);
+            }
+        }
+
+        return checkpoint;
+    }
+
+    /**
+     * @return time of the last flushed message or Long.MIN_VALUE, if partition was not started
+     */
+    synchronized long               getTime(String partition) {
+        String value = state.getProperty(partition);
+        return value != null && !COMPLETED.equals(value) ? Long.parseLong(value) : Long.MIN_VALUE;
+    }
+
+    synchronized boolean            isCompleted(String partition) {
+        return COMPLETED.equals(state.getProperty(partition));
+    }
+
+    synchronized void               update(String partition, long time) throws IOException {
+        state.setProperty(partition, String.valueOf(time));
+        store();
+    }
+
+    synchronized void               complete(String partition) throws IOException {
+        state.setProperty(partition, COMPLETED);
+        store();
+    }
+
+    private void                    store() throws IOException {
+        File tmp = new File(file.getPath() + ".tmp");
+
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            state.store(out, "Restore checkpoint");
+        }
+
+        // replace atomically, so that crash never leaves partial checkpoint
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
@@ -31,4 +31,8 @@ public class RestoreOptions extends CommonOptions {
     }
 
     public String name; // stream name
+
+    public int partitions = 1; // number of entity partitions per stream for multi-stream restore
+
+    public String checkpoint; // file to store progress of multi-stream restore and resume from
 }
@@ -61,6 +61,7 @@ import com.epam.deltix.util.concurrent.Signal;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  *
@@ -179,6 +180,44 @@ public class StreamReplicator {
         );
     }
 
+    /**
+     *  Replicates several streams in parallel: from[i] into to[i], using {@link CommonOptions#threads} threads.
+     *  Each stream is replicated as by {@link #replicate(StreamStorage, Storage, ReplicationOptions)}.
+     */
+    public void         replicate(final StreamStorage[] from, final StreamStorage[] to, final ReplicationOptions options) {
+        checkStorages(from, to);
+
+        runReplicationTask(
+            new ReplicationTask((monitor) ->
+                runParallel(createReplicationTasks(from, to, options), options.threads, monitor),
+                from.length > 0 ? from[0] : null, to.length > 0 ? to[0] : null, options
+            )
+        );
+    }
+
+    /**
+     *  Restores several streams in parallel: from[i] into to[i], using {@link CommonOptions#threads} reader/loader pairs.
+     *  Streams are split by entities into {@link RestoreOptions#partitions} partitions.
+     *  When {@link RestoreOptions#checkpoint} is defined, progress of each partition is saved there,
+     *  so that restarted restore skips completed partitions and resumes started ones.
+     */
+    public void         restore(final StreamStorage[] from, final StreamStorage[] to, final RestoreOptions options) {
+        checkStorages(from, to);
+
+        runReplicationTask(
+            new ReplicationTask((monitor) ->
+                runParallelRestore(from, to, options, monitor),
+                from.length > 0 ? from[0] : null, to.length > 0 ? to[0] : null, options
+            )
+        );
+    }
+
+    private static void checkStorages(StreamStorage[] from, StreamStorage[] to) {
+        if (from.length != to.length)
+            throw new IllegalArgumentException("Number of source streams (" + from.length + ") " +
+                "does not match number of target streams (" + to.length + ")");
+    }
+
     private void        runReplicationTask(final ReplicationTask task) {
         final ExecutionMonitorImpl monitor = new ExecutionMonitorImpl();
         if (task.options.retries > 0) {
@@ -727,8 +766,6 @@ public class StreamReplicator {
     }
 
     private void         restore(StreamStorage src, StreamStorage dest, RestoreOptions options, ExecutionMonitorImpl monitor) {
-        TypesMapping mapping = null;
-
         DXTickStream source = src.getSource();
 
         if (source == null) {
@@ -736,6 +773,73 @@ public class StreamReplicator {
             return;
         }
 
+        DXTickStream target = prepareRestoreTarget(source, dest, options);
+        if (target == null)
+            return;
+
+        TypesMapping mapping = getTypesMapping(source, target);
+
+        IdentityKey[] entities = options.entities;
+        long[] range = options.range != null ? options.range : new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+
+        LoadingOptions loadingOptions = getRestoreLoadingOptions(source, options);
+
+        TickLoader loader = null;
+        TickCursor cursor = null;
+        DBLock lock = null;
+
+        long[] sourceRange = options.entities != null ? source.getTimeRange(options.entities) : source.getTimeRange();
+        sourceRange = calcMonitorRange(sourceRange, range);
+        boolean updateMonitor = true;
+        long rangeLength = sourceRange[1] - sourceRange[0];
+        if (rangeLength == 0)
+            updateMonitor = false;
+
+        try
+        {
+            lock = target.tryLock(LockType.WRITE, 5000);
+
+            loader = target.createLoader(loadingOptions);
+            cursor = source.select(range[0], new SelectionOptions(true, false), null, entities);
+
+            while (true) {
+                try {
+                    if (!cursor.next() || cursor.getMessage().getTimeStampMs() > range[1])
+                        break;
+
+                    RawMessage msg = (RawMessage) cursor.getMessage();
+                    if (mapping != null)
+                        msg.type = mapping.getType(msg.type);
+
+                    if (updateMonitor)
+                        monitor.setProgress((double) (msg.getTimeStampMs() - sourceRange[0]) / (double) rangeLength);
+
+                    loader.send(msg);
+
+                } catch (CursorException ex) {
+                    // ignore
+                }
+            }
+
+        } catch (StreamLockedException e) {
+            LOGGER.error("Cannot lock stream [%s]: %s").with(target.getKey()).with(e);
+        } finally {
+            Util.close(cursor);
+            Util.close(loader);
+
+            if (lock != null)
+                lock.release();
+        }
+
+        LOGGER.info("Stream " + dest.name + " restoring complete.");
+    }
+
+    /**
+     *  Creates target stream or makes its schema compatible with the source.
+     *
+     *  @return target stream or null, if target schema cannot be changed in given reload mode
+     */
+    private DXTickStream prepareRestoreTarget(DXTickStream source, StreamStorage dest, RestoreOptions options) {
         DXTickStream target = dest.getSource();
 
         if (target == null) {
@@ -765,71 +869,364 @@ public class StreamReplicator {
                             " source types (" + MessageProcessor.toDetailedString(inTypes) +
                             ") \nis not compatible with \ntarget types (" +
                             MessageProcessor.toDetailedString(outTypes) + ")");
-                    return;
+                    return null;
                 }
-            } else if (!MessageProcessor.isEquals(inTypes, outTypes)) {
-                // check that we should remap types
-                mapping = new TypesMapping(inTypes, outTypes);
             }
         }
 
-        IdentityKey[] entities = options.entities;
-        long[] range = options.range != null ? options.range : new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        return target;
+    }
+
+    private static TypesMapping getTypesMapping(DXTickStream source, DXTickStream target) {
+        RecordClassDescriptor[] inTypes = DXTickStream.getClassDescriptors(source);
+        RecordClassDescriptor[] outTypes = DXTickStream.getClassDescriptors(target);
 
+        // check that we should remap types
+        return MessageProcessor.isEquals(inTypes, outTypes) ? null : new TypesMapping(inTypes, outTypes);
+    }
+
+    private LoadingOptions  getRestoreLoadingOptions(DXTickStream source, RestoreOptions options) {
         LoadingOptions loadingOptions = new LoadingOptions((true));
         if (options.mode == ReloadMode.prohibit) {
             loadingOptions.writeMode = LoadingOptions.WriteMode.APPEND;
             LOGGER.warn("Restore will only append new data into [" + source.getKey() + "] stream due to '" + options.mode +  "' mode ");
         }
 
-        TickLoader loader = null;
-        TickCursor cursor = null;
-        DBLock lock = null;
+        return loadingOptions;
+    }
 
-        long[] sourceRange = options.entities != null ? source.getTimeRange(options.entities) : source.getTimeRange();
-        sourceRange = calcMonitorRange(sourceRange, range);
-        boolean updateMonitor = true;
-        long rangeLength = sourceRange[1] - sourceRange[0];
-        if (rangeLength == 0)
-            updateMonitor = false;
+    /**
+     *  Unit of parallel replication: single stream or single partition of the stream.
+     */
+    private abstract static class ParallelTask implements Runnable {
+        final String            name;
 
-        try
-        {
-            lock = target.tryLock(LockType.WRITE, 5000);
+        volatile double         progress;
+        volatile long           count;
 
-            loader = target.createLoader(loadingOptions);
-            cursor = source.select(range[0], new SelectionOptions(true, false), null, entities);
+        ParallelTask(String name) {
+            this.name = name;
+        }
 
-            while (true) {
+        double                  getProgress() {
+            return progress;
+        }
+    }
+
+    private List<ParallelTask>  createReplicationTasks(StreamStorage[] from, StreamStorage[] to, ReplicationOptions options) {
+        ArrayList<ParallelTask> tasks = new ArrayList<>();
+
+        for (int i = 0; i < from.length; i++) {
+            final StreamStorage source = from[i];
+            final StreamStorage target = to[i];
+
+            tasks.add(new ParallelTask(source.name) {
+                // replicator keeps decoders state, so each stream uses its own
+                private final StreamReplicator      replicator = new StreamReplicator(LOGGER);
+                private final ExecutionMonitorImpl  monitor = new ExecutionMonitorImpl();
+
+                @Override
+                public void     run() {
+                    replicator.replicate(source, target, options, monitor);
+                }
+
+                @Override
+                double          getProgress() {
+                    return monitor.getProgress();
+                }
+            });
+        }
+
+        return tasks;
+    }
+
+    private void                runParallelRestore(StreamStorage[] from, StreamStorage[] to, RestoreOptions options, ExecutionMonitorImpl monitor) {
+        final RestoreCheckpoint checkpoint;
+        try {
+            checkpoint = options.checkpoint != null ? RestoreCheckpoint.open(new File(options.checkpoint)) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ArrayList<ParallelTask> tasks = new ArrayList<>();
+        ArrayList<DBLock> locks = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < from.length; i++) {
+                DXTickStream source = from[i].getSource();
+
+                if (source == null) {
+                    LOGGER.warn("Source stream " + from[i].name + " does not exists in source database.");
+                    continue;
+                }
+
+                DXTickStream target = prepareRestoreTarget(source, to[i], options);
+                if (target == null)
+                    continue;
+
+                // lock belongs to the stream object, which is shared by all partitions of the stream
                 try {
-                    if (!cursor.next() || cursor.getMessage().getTimeStampMs() > range[1])
-                        break;
+                    locks.add(target.tryLock(LockType.WRITE, 5000));
+                } catch (StreamLockedException e) {
+                    LOGGER.error("Cannot lock stream [%s]: %s").with(target.getKey()).with(e);
+                    continue;
+                }
 
-                    RawMessage msg = (RawMessage) cursor.getMessage();
-                    if (mapping != null)
-                        msg.type = mapping.getType(msg.type);
+                IdentityKey[][] partitions = partition(options.entities != null ? options.entities : source.listEntities(), options.partitions);
 
-                    if (updateMonitor)
-                        monitor.setProgress((double) (msg.getTimeStampMs() - sourceRange[0]) / (double) rangeLength);
+                for (int p = 0; p < partitions.length; p++) {
+                    String key = source.getKey() + "->" + target.getKey() + "#" + p + "/" + partitions.length;
 
-                    loader.send(msg);
+                    if (checkpoint != null && checkpoint.isCompleted(key)) {
+                        LOGGER.info("Partition [%s] is already restored.").with(key);
+                        continue;
+                    }
 
-                } catch (CursorException ex) {
-                    // ignore
+                    // single partition restores all entities, including ones that appear while restoring
+                    IdentityKey[] entities = partitions.length > 1 ? partitions[p] : options.entities;
+                    tasks.add(new RestorePartition(key, source, target, entities, options, checkpoint));
                 }
             }
 
-        } catch (StreamLockedException e) {
-            LOGGER.error("Cannot lock stream [%s]: %s").with(target.getKey()).with(e);
+            // returns only when all workers are stopped, so locks cover all writes into targets
+            runParallel(tasks, options.threads, monitor);
         } finally {
-            Util.close(cursor);
-            Util.close(loader);
-
-            if (lock != null)
+            for (DBLock lock : locks)
                 lock.release();
         }
+    }
 
-        LOGGER.info("Stream " + dest.name + " restoring complete.");
+    /**
+     *  Splits entities into groups by symbol hash, so that entity always falls into the same partition.
+     */
+    private static IdentityKey[][]  partition(IdentityKey[] entities, int count) {
+        int n = Math.max(1, Math.min(count, entities.length));
+
+        ArrayList<ArrayList<IdentityKey>> groups = new ArrayList<>(n);
+        for (int i = 0; i < n; i++)
+            groups.add(new ArrayList<>());
+
+        for (IdentityKey id : entities)
+            groups.get(Math.floorMod(id.getSymbol().toString().hashCode(), n)).add(id);
+
+        IdentityKey[][] result = new IdentityKey[n][];
+        for (int i = 0; i < n; i++)
+            result[i] = groups.get(i).toArray(new IdentityKey[0]);
+
+        return result;
+    }
+
+    private class RestorePartition extends ParallelTask {
+        private static final int        CHECKPOINT_INTERVAL = 100_000; // messages
+
+        private final DXTickStream      source;
+        private final DXTickStream      target;
+        private final IdentityKey[]     entities;
+        private final RestoreOptions    options;
+        private final RestoreCheckpoint checkpoint;
+
+        RestorePartition(String name, DXTickStream source, DXTickStream target, IdentityKey[] entities,
+                         RestoreOptions options, RestoreCheckpoint checkpoint) {
+            super(name);
+
+            this.source = source;
+            this.target = target;
+            this.entities = entities;
+            this.options = options;
+            this.checkpoint = checkpoint;
+        }
+
+        @Override
+        public void         run() {
+            if (entities != null && entities.length == 0) {
+                progress = 1;
+                return;
+            }
+
+            TypesMapping mapping = getTypesMapping(source, target);
+            long[] range = options.range != null ? options.range : new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+
+            long[] sourceRange = entities != null ? source.getTimeRange(entities) : source.getTimeRange();
+            sourceRange = calcMonitorRange(sourceRange, range);
+            long rangeLength = sourceRange[1] - sourceRange[0];
+
+            long checkpointTime = checkpoint != null ? checkpoint.getTime(name) : Long.MIN_VALUE;
+            long startTime = range[0];
+
+            if (checkpointTime != Long.MIN_VALUE) {
+                // everything up to the checkpoint time is flushed: resume strictly after it and drop
+                // whatever was loaded past the checkpoint, since APPEND loader would not truncate it
+                startTime = Math.max(range[0], checkpointTime + 1);
+
+                LOGGER.info("Resuming partition [%s] from %s").with(name).withTimestamp(startTime);
+
+                if (entities != null)
+                    target.truncate(startTime, entities);
+                else
+                    target.truncate(startTime);
+            }
+
+            TickLoader loader = null;
+            TickCursor cursor = null;
+
+            try {
+                loader = target.createLoader(getRestoreLoadingOptions(source, options));
+                cursor = source.select(startTime, new SelectionOptions(true, false), null, entities);
+
+                long lastTime = Long.MIN_VALUE;
+                int sinceCheckpoint = 0;
+
+                while (true) {
+                    if (Thread.currentThread().isInterrupted())
+                        throw new ReplicationException("Partition [" + name + "] restore is interrupted");
+
+                    try {
+                        if (!cursor.next() || cursor.getMessage().getTimeStampMs() > range[1])
+                            break;
+
+                        RawMessage msg = (RawMessage) cursor.getMessage();
+                        if (mapping != null)
+                            msg.type = mapping.getType(msg.type);
+
+                        loader.send(msg);
+                        count++;
+
+                        // checkpoint only at time boundary, so that resumed partition does not skip messages
+                        if (checkpoint != null && ++sinceCheckpoint >= CHECKPOINT_INTERVAL && msg.getTimeStampMs() > lastTime) {
+                            if (loader instanceof Flushable)
+                                ((Flushable) loader).flush();
+
+                            checkpoint.update(name, lastTime);
+                            sinceCheckpoint = 0;
+                        }
+
+                        lastTime = msg.getTimeStampMs();
+
+                        if (rangeLength > 0)
+                            progress = (double) (lastTime - sourceRange[0]) / (double) rangeLength;
+
+                    } catch (CursorException ex) {
+                        // ignore
+                    }
+                }
+
+                Util.close(loader);
+                loader = null;
+
+                if (checkpoint != null)
+                    checkpoint.complete(name);
+
+                progress = 1;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                Util.close(cursor);
+                Util.close(loader);
+            }
+
+            LOGGER.info("Partition [%s] restoring complete (%s messages).").with(name).with(count);
+        }
+    }
+
+    /**
+     *  Runs tasks using given number of threads and reports aggregated progress into the monitor.
+     *  First failure cancels remaining tasks and is rethrown once all of them are stopped.
+     */
+    private void                runParallel(List<ParallelTask> tasks, int threads, ExecutionMonitorImpl monitor) {
+        if (tasks.isEmpty())
+            return;
+
+        final int n = Math.max(1, Math.min(threads, tasks.size()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(n, new ThreadFactory() {
+            private int index = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "StreamReplicator #" + (++index));
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        LOGGER.info("Running %s replication tasks using %s threads.").with(tasks.size()).with(n);
+
+        ArrayList<Future<?>> futures = new ArrayList<>(tasks.size());
+
+        try {
+            for (ParallelTask task : tasks)
+                futures.add(executor.submit(task));
+
+            executor.shutdown();
+
+            long startTime = TimeKeeper.currentTime;
+            long lastReport = startTime;
+
+            while (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                for (Future<?> future : futures) {
+                    if (future.isDone())
+                        getResult(future);
+                }
+
+                double progress = 0;
+                long count = 0;
+                for (ParallelTask task : tasks) {
+                    progress += task.getProgress();
+                    count += task.count;
+                }
+                monitor.setProgress(progress / tasks.size());
+
+                long now = TimeKeeper.currentTime;
+                if (now - lastReport >= 10_000 && count > 0) {
+                    lastReport = now;
+                    LOGGER.info("Replicated %s messages (%s msg/s).").with(count).with(count * 1000 / Math.max(now - startTime, 1));
+                }
+            }
+
+            for (Future<?> future : futures)
+                getResult(future);
+
+        } catch (InterruptedException e) {
+            throw new ReplicationException("Parallel replication is interrupted", e);
+        } finally {
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+    }
+
+    private static void         awaitTermination(ExecutorService executor) {
+        boolean interrupted = false;
+
+        try {
+            while (true) {
+                try {
+                    if (executor.awaitTermination(10, TimeUnit.SECONDS))
+                        break;
+
+                    LOGGER.warn("Waiting for replication tasks to stop.");
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void         getResult(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+
+            throw new ReplicationException("Replication failed", cause);
+        }
     }
 
     private void writeStreamOptions(File file, StreamOptions options) {
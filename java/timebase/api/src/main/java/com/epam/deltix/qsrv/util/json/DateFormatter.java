@@ -43,6 +43,68 @@ public class DateFormatter {
     }
 
     public long fromDateString(String value) throws ParseException {
-        return DTFX.parse(value).getTime();
+        return fromDateString((CharSequence) value);
+    }
+
+    /**
+     * Parses date in {@link #DATETIME_MILLIS_FORMAT_STR} format without allocations,
+     * other inputs are handled by {@link FastDateFormat}.
+     */
+    public long fromDateString(CharSequence value) throws ParseException {
+        if (value.length() == 24 &&
+                value.charAt(4) == '-' && value.charAt(7) == '-' && value.charAt(10) == 'T' &&
+                value.charAt(13) == ':' && value.charAt(16) == ':' && value.charAt(19) == '.' && value.charAt(23) == 'Z') {
+
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 2);
+            int day = digits(value, 8, 2);
+            int hour = digits(value, 11, 2);
+            int minute = digits(value, 14, 2);
+            int second = digits(value, 17, 2);
+            int millis = digits(value, 20, 3);
+
+            if (year > 1582 && month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month) &&
+                    hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60 && millis >= 0)
+                return (((daysFromCivil(year, month, day) * 24 + hour) * 60 + minute) * 60 + second) * 1000 + millis;
+        }
+
+        return DTFX.parse(value.toString()).getTime();
+    }
+
+    /**
+     * @return value of decimal digits or -1 if there is non-digit character
+     */
+    private static int digits(CharSequence value, int offset, int count) {
+        int result = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4: case 6: case 9: case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Number of days since 1970-01-01 in Gregorian calendar.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097L + doe - 719468;
     }
 }
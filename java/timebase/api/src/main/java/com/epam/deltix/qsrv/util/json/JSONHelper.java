@@ -19,12 +19,15 @@ package com.epam.deltix.qsrv.util.json;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.epam.deltix.qsrv.hf.pub.RawMessage;
 import com.epam.deltix.qsrv.hf.tickdb.pub.DXTickStream;
 import com.epam.deltix.qsrv.hf.tickdb.pub.LoadingError;
 import com.epam.deltix.qsrv.hf.tickdb.pub.LoadingOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.TickLoader;
+import com.epam.deltix.qsrv.util.json.parser.StreamingJsonMessageSource;
+
+import java.io.Reader;
+import java.io.StringReader;
 
 /**
  * @author Daniil Yarmalkevich
@@ -48,8 +51,27 @@ public class JSONHelper {
     }
 
     public static void parseAndLoad(String jsonArray, DXTickStream stream) {
-        JsonArray parsed = (JsonArray) new JsonParser().parse(jsonArray);
-        parseAndLoad(parsed, stream);
+        parseAndLoad(new StringReader(jsonArray), stream);
+    }
+
+    /**
+     * Loads JSON array of messages without building JSON tree.
+     */
+    public static void parseAndLoad(Reader jsonArray, DXTickStream stream) {
+        try (StreamingJsonMessageSource source = new StreamingJsonMessageSource(stream.getTypes(), jsonArray);
+             TickLoader loader = stream.createLoader(new LoadingOptions(true))) {
+
+            for (;;) {
+                try {
+                    if (!source.next())
+                        break;
+                } catch (Exception e) {
+                    throw new LoadingError("Message is invalid:" + source.getMessageText().replace("\"", "'"), e);
+                }
+
+                loader.send(source.getMessage());
+            }
+        }
     }
 
 }
@@ -28,7 +28,6 @@ import com.epam.deltix.util.collections.generated.ObjectToObjectHashMap;
 import com.epam.deltix.util.lang.StringUtils;
 import com.epam.deltix.util.memory.MemoryDataInput;
 
-import java.util.Arrays;
 
 /**
  * Formats RawMessage to JSON. Not thread safe.
@@ -78,6 +77,7 @@ public class JSONRawMessagePrinter {
     private final ObjectToObjectHashMap<String, UnboundDecoder> _decoders = new ObjectToObjectHashMap<>();
     private final MemoryDataInput buffer = new MemoryDataInput();
     private final DateFormatter formatter = new DateFormatter();
+    private byte[] binaryBuffer = new byte[64];
 
     public JSONRawMessagePrinter() {
         this(false, true, DataEncoding.STANDARD, false, false, PrintType.FULL);
@@ -303,11 +303,21 @@ public class JSONRawMessagePrinter {
     }
 
     protected boolean appendBinaryField(BinaryDataType type, ReadableValue udec, StringBuilder sb) throws NullValueException {
-        final int len = udec.getBinaryLength();
         try {
-            byte[] bytes = new byte[len];
-            udec.getBinary(0, len, bytes, 0);
-            sb.append(Arrays.toString(bytes));
+            final int len = udec.getBinaryLength();
+            if (binaryBuffer.length < len)
+                binaryBuffer = new byte[Math.max(len, binaryBuffer.length * 2)];
+
+            udec.getBinary(0, len, binaryBuffer, 0);
+
+            // same format as Arrays.toString(byte[]), without intermediate copies
+            sb.append('[');
+            for (int i = 0; i < len; i++) {
+                if (i > 0)
+                    sb.append(", ");
+                sb.append(binaryBuffer[i]);
+            }
+            sb.append(']');
 
         } catch (NullValueException e) {
             return false;
@@ -405,46 +415,37 @@ public class JSONRawMessagePrinter {
 
         sb.append('"');
 
-        if (htmlSafe) {
-
-            String[] replacements = HTML_SAFE_REPLACEMENT_CHARS;
+        String[] replacements = htmlSafe ? HTML_SAFE_REPLACEMENT_CHARS : REPLACEMENT_CHARS;
 
-            int last = 0;
-            int length = text.length();
+        int last = 0;
+        int length = text.length();
 
-            for (int i = 0; i < length; i++) {
-                char c = text.charAt(i);
-                String replacement;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            String replacement;
 
-                if (c < 128) {
-                    replacement = replacements[c];
-                    if (replacement == null)
-                        continue;
-                } else if (c == '\u2028') {
-                    replacement = "\\u2028";
-                } else if (c == '\u2029') {
-                    replacement = "\\u2029";
-                } else {
+            if (c < 128) {
+                replacement = replacements[c];
+                if (replacement == null)
                     continue;
-                }
-
-                if (last < i)
-                    sb.append(text, last, i);
-
-                sb.append(replacement);
-                last = i + 1;
+            } else if (htmlSafe && c == '\u2028') {
+                replacement = "\\u2028";
+            } else if (htmlSafe && c == '\u2029') {
+                replacement = "\\u2029";
+            } else {
+                continue;
             }
 
-            if (last < length)
-                sb.append(text, last, length);
-        } else {
-            for (int i = 0; i < text.length(); i++) {
-                char ch = text.charAt(i);
-                if (ch == '"')
-                    sb.append('\\');
-                sb.append(ch);
-            }
+            // append unescaped run in one chunk
+            if (last < i)
+                sb.append(text, last, i);
+
+            sb.append(replacement);
+            last = i + 1;
         }
+
+        if (last < length)
+            sb.append(text, last, length);
         sb.append('"');
     }
 
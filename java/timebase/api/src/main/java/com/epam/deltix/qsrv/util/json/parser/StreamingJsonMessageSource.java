@@ -0,0 +1,738 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.util.json.parser;
+
+import com.epam.deltix.dfp.Decimal64Utils;
+import com.epam.deltix.qsrv.hf.pub.RawMessage;
+import com.epam.deltix.qsrv.hf.pub.WritableValue;
+import com.epam.deltix.qsrv.hf.pub.codec.CodecMetaFactory;
+import com.epam.deltix.qsrv.hf.pub.codec.CompiledCodecMetaFactory;
+import com.epam.deltix.qsrv.hf.pub.codec.FixedUnboundEncoder;
+import com.epam.deltix.qsrv.hf.pub.codec.UnboundEncoder;
+import com.epam.deltix.qsrv.hf.pub.md.*;
+import com.epam.deltix.qsrv.util.json.DateFormatter;
+import com.epam.deltix.streaming.MessageSource;
+import com.epam.deltix.util.collections.generated.ObjectToObjectHashMap;
+import com.epam.deltix.util.lang.Util;
+import com.epam.deltix.util.memory.MemoryDataOutput;
+import com.epam.deltix.util.text.CharSequenceParser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.text.ParseException;
+import java.util.Arrays;
+
+/**
+ * Reads JSON messages (JSON array of objects or sequence of objects) and encodes them
+ * directly into {@link RawMessage} without building intermediate objects.
+ * <p>
+ * Text of each message object is copied into reusable buffer, then keys of the object are indexed
+ * and values are encoded in the schema field order. Values are parsed straight from the buffer,
+ * so JSON keys may come in any order. Lookup starts right after the previously matched key,
+ * which makes it O(1) per field when JSON keys follow schema order (as produced by {@link com.epam.deltix.qsrv.util.json.JSONRawMessagePrinter}).
+ * </p>
+ * Message type is resolved from the type property (full name, short name or GUID of the descriptor).
+ * It may be omitted if there is only one descriptor.
+ * Not thread safe.
+ */
+public class StreamingJsonMessageSource implements MessageSource<RawMessage> {
+    private static final int                    EOF = -1;
+
+    private final CodecMetaFactory              factory = CompiledCodecMetaFactory.INSTANCE;
+    private final ObjectToObjectHashMap<String, FixedUnboundEncoder> encoders = new ObjectToObjectHashMap<>();
+
+    private final RecordClassDescriptor[]       descriptors;
+    private final String                        typePropertyName;
+    private final Reader                        reader;
+
+    private final RawMessage                    raw = new RawMessage();
+    private final MemoryDataOutput              out = new MemoryDataOutput();
+    private final DateFormatter                 dateFormatter = new DateFormatter();
+
+    // input
+    private final char[]                        input = new char[8192];
+    private int                                 inputPosition = 0;
+    private int                                 inputLimit = 0;
+    private boolean                             started = false;
+    private boolean                             finished = false;
+
+    // text of the current message object
+    private char[]                              buf = new char[1024];
+    private int                                 length = 0;
+
+    private ObjectIndex[]                       indexes = new ObjectIndex[4];
+    private final Span                          span = new Span();
+    private final StringBuilder                 text = new StringBuilder();
+    private byte[]                              binary = new byte[256];
+    private String                              symbol = "";
+
+    public StreamingJsonMessageSource(RecordClassDescriptor[] descriptors, Reader reader) {
+        this(descriptors, "type", reader);
+    }
+
+    public StreamingJsonMessageSource(RecordClassDescriptor[] descriptors, String typePropertyName, Reader reader) {
+        this.descriptors = descriptors;
+        this.typePropertyName = typePropertyName;
+        this.reader = reader;
+
+        for (int i = 0; i < indexes.length; i++)
+            indexes[i] = new ObjectIndex();
+    }
+
+    @Override
+    public RawMessage               getMessage() {
+        return raw;
+    }
+
+    /**
+     * @return JSON text of the current message (for error reporting)
+     */
+    public String                   getMessageText() {
+        return new String(buf, 0, length);
+    }
+
+    @Override
+    public boolean                  next() {
+        if (finished)
+            return false;
+
+        try {
+            int c = skipWhitespace();
+
+            if (!started) {
+                started = true;
+                if (c == '[')
+                    c = skipWhitespace();
+            }
+
+            if (c == ',')
+                c = skipWhitespace();
+
+            if (c == ']' || c == EOF) {
+                finished = true;
+                return false;
+            }
+
+            if (c != '{')
+                throw new IllegalArgumentException("Expected JSON object, but found '" + (char) c + "'");
+
+            readObject();
+        } catch (IOException e) {
+            finished = true;
+            throw new UncheckedIOException(e);
+        }
+
+        parseMessage();
+        return true;
+    }
+
+    @Override
+    public boolean                  isAtEnd() {
+        return finished;
+    }
+
+    @Override
+    public void                     close() {
+        finished = true;
+        Util.close(reader);
+    }
+
+    ///////////////////////////// INPUT ///////////////////////////////
+
+    private int                     read() throws IOException {
+        if (inputPosition == inputLimit) {
+            inputLimit = reader.read(input, 0, input.length);
+            inputPosition = 0;
+
+            if (inputLimit <= 0) {
+                inputLimit = 0;
+                return EOF;
+            }
+        }
+
+        return input[inputPosition++];
+    }
+
+    private int                     skipWhitespace() throws IOException {
+        int c;
+        do {
+            c = read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+
+        return c;
+    }
+
+    private void                    append(char c) {
+        if (length == buf.length)
+            buf = Arrays.copyOf(buf, length * 2);
+
+        buf[length++] = c;
+    }
+
+    /**
+     * Copies text of the object (opening brace is already consumed) into {@link #buf}.
+     */
+    private void                    readObject() throws IOException {
+        length = 0;
+        append('{');
+
+        int         depth = 1;
+        boolean     inString = false;
+
+        while (depth > 0) {
+            int c = read();
+            if (c == EOF)
+                throw new IllegalArgumentException("Unexpected end of JSON input");
+
+            append((char) c);
+
+            if (inString) {
+                if (c == '\\') {
+                    c = read();
+                    if (c == EOF)
+                        throw new IllegalArgumentException("Unexpected end of JSON input");
+                    append((char) c);
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+        }
+    }
+
+    ///////////////////////////// MESSAGE ///////////////////////////////
+
+    private void                    parseMessage() {
+        ObjectIndex root = index(0, 0);
+
+        RecordClassDescriptor type = matchObjectType(root, descriptors);
+
+        int pos = root.find("symbol");
+        if (pos >= 0)
+            raw.setSymbol(readSymbol(root.valueStart[pos], root.valueEnd[pos]));
+        else
+            raw.setSymbol("");
+
+        pos = root.find("timestamp");
+        if (pos >= 0 && !isNull(root.valueStart[pos], root.valueEnd[pos]))
+            raw.setTimeStampMs(readDateTime(root.valueStart[pos], root.valueEnd[pos]));
+        else
+            raw.setTimeStampMs(Long.MIN_VALUE);
+
+        FixedUnboundEncoder encoder = getEncoder(type);
+        out.reset();
+        encoder.beginWrite(out);
+        writeObject(root, 0, encoder);
+        encoder.endWrite();
+
+        raw.type = type;
+        raw.setBytes(out);
+    }
+
+    private FixedUnboundEncoder     getEncoder(RecordClassDescriptor type) {
+        String guid = type.getGuid();
+        FixedUnboundEncoder encoder = encoders.get(guid, null);
+
+        if (encoder == null) {
+            encoder = factory.createFixedUnboundEncoderFactory(type).create();
+            encoders.put(guid, encoder);
+        }
+        return encoder;
+    }
+
+    private RecordClassDescriptor   matchObjectType(ObjectIndex index, RecordClassDescriptor[] rcds) {
+        int pos = index.find(typePropertyName);
+
+        if (pos < 0 || isNull(index.valueStart[pos], index.valueEnd[pos])) {
+            if (rcds.length == 1)
+                return rcds[0];
+
+            throw new IllegalStateException(new TypeNotSetException());
+        }
+
+        CharSequence name = readString(index.valueStart[pos], index.valueEnd[pos]);
+
+        RecordClassDescriptor match = null;
+        for (RecordClassDescriptor rcd : rcds) {
+            String rcdName = rcd.getName();
+
+            if (contentEquals(rcdName, name) || contentEquals(rcd.getGuid(), name))
+                return rcd;
+
+            if (match == null && endsWith(rcdName, name))
+                match = rcd;
+        }
+
+        if (match == null)
+            throw new IllegalStateException(new NoSuchDescriptorInSchemaException(name.toString(), rcds));
+
+        return match;
+    }
+
+    private void                    writeObject(ObjectIndex index, int depth, UnboundEncoder encoder) {
+        while (encoder.nextField()) {
+            int pos = index.find(encoder.getField().getName());
+
+            if (pos >= 0) {
+                try {
+                    writeValue(index.valueStart[pos], index.valueEnd[pos], encoder.getField().getType(), encoder, depth);
+                } catch (RuntimeException x) {
+                    throw new IllegalArgumentException("Can not write value to the field '" + encoder.getField().getName() +
+                            "'. Reason: " + x.getLocalizedMessage(), x);
+                }
+            }
+        }
+    }
+
+    private void                    writeValue(int start, int end, DataType type, WritableValue w, int depth) {
+        if (isNull(start, end)) {
+            w.writeNull();
+        } else if (type instanceof IntegerDataType) {
+            w.writeLong(CharSequenceParser.parseLong(readNumber(start, end)));
+        } else if (type instanceof FloatDataType) {
+            FloatDataType ftype = (FloatDataType) type;
+            if (ftype.isFloat())
+                w.writeFloat(CharSequenceParser.parseFloat(readNumber(start, end)));
+            else if (ftype.isDecimal64())
+                w.writeLong(Decimal64Utils.fromDouble(CharSequenceParser.parseDouble(readNumber(start, end))));
+            else
+                w.writeDouble(CharSequenceParser.parseDouble(readNumber(start, end)));
+        } else if (type instanceof VarcharDataType) {
+            if (buf[start] != '"' && isAlphanumeric((VarcharDataType) type))
+                w.writeLong(CharSequenceParser.parseLong(span.set(start, end)));
+            else
+                w.writeString(readString(start, end));
+        } else if (type instanceof CharDataType) {
+            w.writeString(readString(start, end));
+        } else if (type instanceof EnumDataType) {
+            if (buf[start] == '"')
+                w.writeLong(((EnumDataType) type).getDescriptor().stringToLong(readString(start, end)));
+            else
+                w.writeLong(CharSequenceParser.parseLong(span.set(start, end)));
+        } else if (type instanceof BooleanDataType) {
+            w.writeBoolean(readBoolean(start, end));
+        } else if (type instanceof DateTimeDataType) {
+            w.writeLong(readDateTime(start, end));
+        } else if (type instanceof TimeOfDayDataType) {
+            w.writeInt(CharSequenceParser.parseInt(readNumber(start, end)));
+        } else if (type instanceof ArrayDataType) {
+            writeArray(start, end, (ArrayDataType) type, w, depth);
+        } else if (type instanceof ClassDataType) {
+            if (buf[start] != '{')
+                throw new IllegalArgumentException("Expected JSON object");
+
+            ObjectIndex index = index(start, depth + 1);
+            RecordClassDescriptor rcd = matchObjectType(index, ((ClassDataType) type).getDescriptors());
+            writeObject(index, depth + 1, w.getFieldEncoder(rcd));
+        } else if (type instanceof BinaryDataType) {
+            writeBinary(start, end, w);
+        } else {
+            throw new IllegalArgumentException("Unrecognized DataType: " + type);
+        }
+    }
+
+    private void                    writeArray(int start, int end, ArrayDataType type, WritableValue w, int depth) {
+        if (buf[start] != '[')
+            throw new IllegalArgumentException("Expected JSON array");
+
+        DataType    elementType = type.getElementDataType();
+        int         count = 0;
+
+        for (int p = nextElement(start + 1); p >= 0; p = nextElement(skipValue(p)))
+            count++;
+
+        w.setArrayLength(count);
+
+        for (int p = nextElement(start + 1); p >= 0; ) {
+            int e = skipValue(p);
+            WritableValue element = w.nextWritableElement();
+
+            if (!isNull(p, e) || elementType.isNullable())
+                writeValue(p, e, elementType, element, depth);
+
+            p = nextElement(e);
+        }
+    }
+
+    private void                    writeBinary(int start, int end, WritableValue w) {
+        if (buf[start] != '[')
+            throw new IllegalArgumentException("Expected JSON array of bytes");
+
+        int count = 0;
+        for (int p = nextElement(start + 1); p >= 0; ) {
+            int e = skipValue(p);
+
+            if (count == binary.length)
+                binary = Arrays.copyOf(binary, count * 2);
+
+            binary[count++] = (byte) CharSequenceParser.parseInt(span.set(p, e));
+            p = nextElement(e);
+        }
+
+        w.writeBinary(binary, 0, count);
+    }
+
+    ///////////////////////////// VALUES ///////////////////////////////
+
+    private boolean                 isNull(int start, int end) {
+        return end - start == 4 && buf[start] == 'n' && buf[start + 1] == 'u' && buf[start + 2] == 'l' && buf[start + 3] == 'l';
+    }
+
+    /**
+     * Numbers may be written as JSON strings (for example, decimals and floats written by JSONRawMessagePrinter).
+     */
+    private CharSequence            readNumber(int start, int end) {
+        if (buf[start] == '"')
+            return readString(start, end);
+
+        return span.set(start, end);
+    }
+
+    private boolean                 readBoolean(int start, int end) {
+        CharSequence value = buf[start] == '"' ? readString(start, end) : span.set(start, end);
+
+        if (contentEquals("true", value) || contentEquals("1", value))
+            return true;
+        if (contentEquals("false", value) || contentEquals("0", value))
+            return false;
+
+        throw new IllegalArgumentException("Expected boolean value: " + value);
+    }
+
+    private long                    readDateTime(int start, int end) {
+        if (buf[start] != '"')
+            return CharSequenceParser.parseLong(span.set(start, end));
+
+        CharSequence value = readString(start, end);
+        try {
+            return dateFormatter.fromDateString(value);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private String                  readSymbol(int start, int end) {
+        CharSequence value = readString(start, end);
+
+        // reuse previous symbol to avoid allocation for the same symbol
+        if (!contentEquals(symbol, value))
+            symbol = value.toString();
+
+        return symbol;
+    }
+
+    /**
+     * @return string content, valid till the next call
+     */
+    private CharSequence            readString(int start, int end) {
+        if (buf[start] != '"')
+            return span.set(start, end); // not a string literal, use as is
+
+        int from = start + 1;
+        int to = end - 1;
+
+        int escape = from;
+        while (escape < to && buf[escape] != '\\')
+            escape++;
+
+        if (escape == to)
+            return span.set(from, to);
+
+        text.setLength(0);
+        text.append(buf, from, escape - from);
+
+        for (int i = escape; i < to; i++) {
+            char c = buf[i];
+            if (c != '\\') {
+                text.append(c);
+                continue;
+            }
+
+            c = buf[++i];
+            switch (c) {
+                case 'b': text.append('\b'); break;
+                case 'f': text.append('\f'); break;
+                case 'n': text.append('\n'); break;
+                case 'r': text.append('\r'); break;
+                case 't': text.append('\t'); break;
+                case 'u':
+                    text.append((char) Integer.parseInt(new String(buf, i + 1, 4), 16));
+                    i += 4;
+                    break;
+                default:
+                    text.append(c);
+            }
+        }
+
+        return text;
+    }
+
+    private static boolean          isAlphanumeric(VarcharDataType type) {
+        String encoding = type.getEncoding();
+        return encoding != null && encoding.startsWith(VarcharDataType.ENCODING_ALPHANUMERIC);
+    }
+
+    private static boolean          contentEquals(CharSequence a, CharSequence b) {
+        if (a == null)
+            return false;
+
+        int len = a.length();
+        if (len != b.length())
+            return false;
+
+        for (int i = 0; i < len; i++) {
+            if (a.charAt(i) != b.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean          endsWith(String s, CharSequence suffix) {
+        int offset = s.length() - suffix.length();
+        if (offset < 0)
+            return false;
+
+        for (int i = 0; i < suffix.length(); i++) {
+            if (s.charAt(offset + i) != suffix.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    ///////////////////////////// STRUCTURE ///////////////////////////////
+
+    private ObjectIndex             index(int start, int depth) {
+        if (depth == indexes.length) {
+            indexes = Arrays.copyOf(indexes, depth * 2);
+            for (int i = depth; i < indexes.length; i++)
+                indexes[i] = new ObjectIndex();
+        }
+
+        ObjectIndex index = indexes[depth];
+        index.build(start);
+        return index;
+    }
+
+    private int                     skipSpaces(int p) {
+        while (p < length) {
+            char c = buf[p];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                break;
+            p++;
+        }
+        return p;
+    }
+
+    /**
+     * @param p position after '[' or after previous array element
+     * @return position of the next element or -1 if array is over
+     */
+    private int                     nextElement(int p) {
+        p = skipSpaces(p);
+        if (p >= length)
+            throw new IllegalArgumentException("Unexpected end of JSON array");
+
+        if (buf[p] == ',')
+            p = skipSpaces(p + 1);
+
+        return buf[p] == ']' ? -1 : p;
+    }
+
+    /**
+     * @return position right after the value that starts at p
+     */
+    private int                     skipValue(int p) {
+        char c = buf[p];
+
+        if (c == '"')
+            return skipString(p);
+
+        if (c == '{' || c == '[') {
+            int depth = 0;
+            while (p < length) {
+                c = buf[p];
+                if (c == '"') {
+                    p = skipString(p);
+                    continue;
+                }
+
+                if (c == '{' || c == '[')
+                    depth++;
+                else if (c == '}' || c == ']') {
+                    if (--depth == 0)
+                        return p + 1;
+                }
+                p++;
+            }
+            throw new IllegalArgumentException("Unexpected end of JSON value");
+        }
+
+        while (p < length) {
+            c = buf[p];
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t')
+                break;
+            p++;
+        }
+        return p;
+    }
+
+    private int                     skipString(int p) {
+        for (p++; p < length; p++) {
+            char c = buf[p];
+            if (c == '\\')
+                p++;
+            else if (c == '"')
+                return p + 1;
+        }
+        throw new IllegalArgumentException("Unterminated JSON string");
+    }
+
+    /**
+     * Positions of keys and values of a single JSON object.
+     */
+    private final class ObjectIndex {
+        private int[]       keyStart = new int[16];
+        private int[]       keyEnd = new int[16];
+        private int[]       valueStart = new int[16];
+        private int[]       valueEnd = new int[16];
+        private int         count;
+        private int         hint;
+
+        /**
+         * @param p position of '{'
+         */
+        void                build(int p) {
+            count = 0;
+            hint = 0;
+            p = skipSpaces(p + 1);
+
+            while (p < length && buf[p] != '}') {
+                if (buf[p] != '"')
+                    throw new IllegalArgumentException("Expected field name at " + p + " in " + getMessageText());
+
+                int ks = p + 1;
+                p = skipString(p);
+                int ke = p - 1;
+
+                p = skipSpaces(p);
+                if (p >= length || buf[p] != ':')
+                    throw new IllegalArgumentException("Expected ':' at " + p + " in " + getMessageText());
+
+                p = skipSpaces(p + 1);
+                int vs = p;
+                p = skipValue(p);
+
+                add(ks, ke, vs, p);
+
+                p = skipSpaces(p);
+                if (p < length && buf[p] == ',')
+                    p = skipSpaces(p + 1);
+            }
+        }
+
+        private void        add(int ks, int ke, int vs, int ve) {
+            if (count == keyStart.length) {
+                int size = count * 2;
+                keyStart = Arrays.copyOf(keyStart, size);
+                keyEnd = Arrays.copyOf(keyEnd, size);
+                valueStart = Arrays.copyOf(valueStart, size);
+                valueEnd = Arrays.copyOf(valueEnd, size);
+            }
+
+            keyStart[count] = ks;
+            keyEnd[count] = ke;
+            valueStart[count] = vs;
+            valueEnd[count] = ve;
+            count++;
+        }
+
+        /**
+         * @return index of the given key or -1 if not found
+         */
+        int                 find(String name) {
+            for (int i = hint; i < count; i++) {
+                if (keyEquals(i, name)) {
+                    hint = i + 1;
+                    return i;
+                }
+            }
+
+            for (int i = 0; i < hint && i < count; i++) {
+                if (keyEquals(i, name)) {
+                    hint = i + 1;
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        private boolean     keyEquals(int i, String name) {
+            int start = keyStart[i];
+            int len = keyEnd[i] - start;
+
+            if (len != name.length())
+                return false;
+
+            for (int j = 0; j < len; j++) {
+                if (buf[start + j] != name.charAt(j))
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Reusable view of {@link #buf} region.
+     */
+    private final class Span implements CharSequence {
+        private int         start;
+        private int         end;
+
+        Span                set(int start, int end) {
+            this.start = start;
+            this.end = end;
+            return this;
+        }
+
+        @Override
+        public int          length() {
+            return end - start;
+        }
+
+        @Override
+        public char         charAt(int index) {
+            return buf[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new String(buf, start + from, to - from);
+        }
+
+        @Override
+        public String       toString() {
+            return new String(buf, start, end - start);
+        }
+    }
+}
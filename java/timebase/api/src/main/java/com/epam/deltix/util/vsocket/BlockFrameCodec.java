@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import com.epam.deltix.util.memory.DataExchangeUtils;
+import com.epam.deltix.util.memory.MemoryDataOutput;
+
+/**
+ *  Frame format of block codecs: 4-byte header followed by payload.
+ *  Positive header is the length of compressed data after decompression;
+ *  negative header means that payload of (-header) bytes is stored as is.
+ */
+abstract class BlockFrameCodec extends FrameCodec {
+    static final int            HEADER_SIZE = 4;
+
+    @Override
+    final int                   compress(byte[] data, int offset, int length, MemoryDataOutput out) {
+        out.reset(0);
+
+        if (length >= MIN_COMPRESS_SIZE) {
+            out.ensureSize(HEADER_SIZE + maxCompressedLength(length));
+
+            int size = compress(data, offset, length, out.getBuffer(), HEADER_SIZE);
+
+            if (size < length) {
+                DataExchangeUtils.writeInt(out.getBuffer(), 0, length);
+                return HEADER_SIZE + size;
+            }
+        }
+
+        out.ensureSize(HEADER_SIZE + length);
+        DataExchangeUtils.writeInt(out.getBuffer(), 0, -length);
+        System.arraycopy(data, offset, out.getBuffer(), HEADER_SIZE, length);
+
+        return HEADER_SIZE + length;
+    }
+
+    @Override
+    final int                   decompress(byte[] data, int offset, int length, MemoryDataOutput out) {
+        int header = DataExchangeUtils.readInt(data, offset);
+
+        out.reset(0);
+
+        if (header < 0) {
+            out.ensureSize(-header);
+            System.arraycopy(data, offset + HEADER_SIZE, out.getBuffer(), 0, -header);
+            return -header;
+        }
+
+        out.ensureSize(header);
+        decompress(data, offset + HEADER_SIZE, length - HEADER_SIZE, out.getBuffer(), header);
+
+        return header;
+    }
+
+    abstract int                maxCompressedLength(int length);
+
+    /**
+     *  @return compressed size
+     */
+    abstract int                compress(byte[] src, int offset, int length, byte[] dest, int destOffset);
+
+    abstract void               decompress(byte[] src, int offset, int length, byte[] dest, int destLength);
+}
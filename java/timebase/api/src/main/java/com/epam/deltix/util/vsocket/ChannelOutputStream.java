@@ -120,6 +120,12 @@ public class ChannelOutputStream extends VSOutputStream {
         return remoteCapacityAvailable.get();
     }
 
+    @Override
+    public int                  getAvailableCapacity() {
+        checkCapacity();
+        return getRemoteCapacity();
+    }
+
     private void                flushInternal (boolean partialOk) throws IOException, InterruptedException {
         for (;;) {
             for (;;) {
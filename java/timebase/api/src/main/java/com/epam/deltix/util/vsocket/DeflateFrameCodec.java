@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import com.epam.deltix.util.memory.MemoryDataOutput;
+
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ *  Legacy frame format: whole frame is a zlib stream.
+ */
+final class DeflateFrameCodec extends FrameCodec {
+    private final Deflater      deflater = new Deflater();
+    private final Inflater      inflater = new Inflater();
+
+    @Override
+    int                         compress(byte[] data, int offset, int length, MemoryDataOutput out) {
+        deflater.reset();
+        deflater.setLevel(length < MIN_COMPRESS_SIZE ? Deflater.NO_COMPRESSION : 3);
+        deflater.setInput(data, offset, length);
+        deflater.finish();
+
+        out.reset(0);
+        byte[] buffer = out.getBuffer();
+        int count = deflater.deflate(buffer);
+
+        while (!deflater.finished()) {
+            if (count >= buffer.length) {
+                out.ensureSize(out.getSize() + out.getSize() / 2);
+                buffer = out.getBuffer();
+            }
+            count += deflater.deflate(buffer, count, buffer.length - count);
+        }
+
+        return count;
+    }
+
+    @Override
+    int                         decompress(byte[] data, int offset, int length, MemoryDataOutput out) {
+        inflater.reset();
+        inflater.setInput(data, offset, length);
+        out.reset(0);
+
+        try {
+            int count = inflater.inflate(out.getBuffer());
+            while (!inflater.finished()) {
+                out.ensureSize(out.getSize() + out.getSize() / 2);
+                count += inflater.inflate(out.getBuffer(), count, out.getSize() - count);
+            }
+
+            return count;
+        } catch (final DataFormatException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    void                        close() {
+        deflater.end();
+        inflater.end();
+    }
+}
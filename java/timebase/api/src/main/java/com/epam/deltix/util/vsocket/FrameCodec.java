@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import com.epam.deltix.util.memory.MemoryDataOutput;
+
+/**
+ *  Compresses and decompresses single channel frames. Frames are independent
+ *  of each other, because frames of the same channel may travel over
+ *  different transport sockets and arrive out of order.
+ *  Instances are not thread-safe.
+ */
+abstract class FrameCodec {
+    // frames smaller than this are not worth compressing
+    static final int            MIN_COMPRESS_SIZE = 128;
+
+    static FrameCodec           create (VSCodec codec) {
+        switch (codec) {
+            case DEFLATE:   return new DeflateFrameCodec ();
+            case LZ4:       return new LZ4FrameCodec ();
+            case ZSTD:      return new ZstdFrameCodec (VSProtocol.getZstdLevel ());
+            default:        throw new IllegalArgumentException ("Unsupported codec: " + codec);
+        }
+    }
+
+    /**
+     *  Compresses frame into the specified output (starting at 0).
+     *  @return size of compressed frame
+     */
+    abstract int                compress (byte [] data, int offset, int length, MemoryDataOutput out);
+
+    /**
+     *  Decompresses frame into the specified output (starting at 0).
+     *  @return size of decompressed frame
+     */
+    abstract int                decompress (byte [] data, int offset, int length, MemoryDataOutput out);
+
+    void                        close () {
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ *  LZ4 (fast) frame codec: lowest CPU cost per byte.
+ */
+final class LZ4FrameCodec extends BlockFrameCodec {
+    private final LZ4Compressor         compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor   decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    @Override
+    int                         maxCompressedLength(int length) {
+        return compressor.maxCompressedLength(length);
+    }
+
+    @Override
+    int                         compress(byte[] src, int offset, int length, byte[] dest, int destOffset) {
+        return compressor.compress(src, offset, length, dest, destOffset, dest.length - destOffset);
+    }
+
+    @Override
+    void                        decompress(byte[] src, int offset, int length, byte[] dest, int destLength) {
+        int read = decompressor.decompress(src, offset, dest, 0, destLength);
+
+        if (read != length)
+            throw new IllegalStateException("Corrupted LZ4 frame: read " + read + " of " + length + " bytes");
+    }
+}
@@ -62,4 +62,11 @@ public interface VSChannel extends Disposable {
     public String               encode(String value);
 
     public String               decode(String value);
+
+    /**
+     *  @return compression codec of this channel; {@link VSCodec#NONE} if not compressed.
+     */
+    public VSCodec              getCodec();
+
+    public VSCompressionStats   getCompressionStats();
 }
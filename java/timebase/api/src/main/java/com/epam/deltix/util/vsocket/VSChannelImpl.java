@@ -28,9 +28,6 @@ import javax.annotation.CheckReturnValue;
 import java.io.*;
 import java.util.*;
 import java.util.logging.Level;
-import java.util.zip.DataFormatException;
-import java.util.zip.Deflater;
-import java.util.zip.Inflater;
 
 /**
  *
@@ -65,14 +62,18 @@ final class VSChannelImpl implements VSChannel {
 
     private final QuickExecutor.QuickTask   lnrNotifier;
 
+    private final VSCodec                   codec;
     private final boolean                   compressed;
 
-    private final Inflater                  inflater;
+    private final FrameCodec                inflater;
     private final MemoryDataOutput          infOut;
+    private boolean                         inflaterClosed;     // guarded by inflater
 
-    private final Deflater                  deflater;
+    private final FrameCodec                deflater;
     private final MemoryDataOutput          defOut;
 
+    private final VSCompressionStats        compressionStats = new VSCompressionStats();
+
     private volatile long                   numBytesSend; // synchronized by "this"
     private final Counter                   numBytesRead = new Counter();
 
@@ -142,7 +143,7 @@ final class VSChannelImpl implements VSChannel {
     }
     
     public VSChannelImpl (VSDispatcher dispatcher, int inCapacity, int outCapacity,
-                         boolean compressed, int localId, int index, ContextContainer contextContainer) {
+                         VSCodec codec, int localId, int index, ContextContainer contextContainer) {
         if (inCapacity <= 0)
             throw new IllegalArgumentException("inCapacity");
         if (outCapacity <= 0)
@@ -151,15 +152,16 @@ final class VSChannelImpl implements VSChannel {
         this.dispatcher = dispatcher;
         this.localId = localId;
         this.index = index;
-        this.compressed = compressed;
+        this.codec = codec;
+        this.compressed = codec != VSCodec.NONE;
         this.inCapacity = inCapacity;
         this.outCapacity = outCapacity;
 
         this.contextContainer = contextContainer;
 
-        inflater = compressed ? new Inflater() : null;
+        inflater = compressed ? FrameCodec.create(codec) : null;
         infOut = compressed ? new MemoryDataOutput(inCapacity) : null;
-        deflater = compressed ? new Deflater() : null;
+        deflater = compressed ? FrameCodec.create(codec) : null;
         defOut = compressed ? new MemoryDataOutput(outCapacity) : null;
 
         this.out = new ChannelOutputStream(this, outCapacity);
@@ -270,6 +272,8 @@ final class VSChannelImpl implements VSChannel {
             out.closeNoFlush(); // do not flush data
         }
 
+        VSChannelState  previous;
+
         synchronized (this) {
             if (state == VSChannelState.Removed)
                 return;
@@ -277,6 +281,8 @@ final class VSChannelImpl implements VSChannel {
             if (state == VSChannelState.Closed)
                 return;
 
+            previous = state;
+
             try {
                 // send 'closing' signal only when connected
                 if (state != VSChannelState.NotConnected)
@@ -298,6 +304,35 @@ final class VSChannelImpl implements VSChannel {
 
             state = VSChannelState.Closed;
         }
+
+        closeDeflater();
+
+        // remote side keeps sending data until it gets our CLOSING signal,
+        // inflater is needed to account for it and is released in onRemoteClosed()
+        if (previous != VSChannelState.Connected)
+            closeInflater();
+
+        if (compressed && LOGGER.isLoggable(Level.FINE))
+            LOGGER.log(Level.FINE, this + " " + codec + " compression: " + compressionStats);
+    }
+
+    private void                closeDeflater() {
+        if (compressed) {
+            synchronized (deflater) {
+                deflater.close();
+            }
+        }
+    }
+
+    private void                closeInflater() {
+        if (compressed) {
+            synchronized (inflater) {
+                if (!inflaterClosed) {
+                    inflaterClosed = true;
+                    inflater.close();
+                }
+            }
+        }
     }
 
     public void processCommand(int cmd, long position) {
@@ -352,6 +387,9 @@ final class VSChannelImpl implements VSChannel {
         synchronized (this) {
             state = VSChannelState.Removed;
         }
+
+        closeDeflater();
+        closeInflater();
     }
 
     void                        onRemoteClosing() {
@@ -463,7 +501,12 @@ final class VSChannelImpl implements VSChannel {
             int queuePosition = (int) (position % inCapacity);
             if (compressed) {
                 synchronized (inflater) {
-                    unpackedLength = decompress(data, offset, length);
+                    if (inflaterClosed)
+                        throw new EOFException("Channel is closed");
+
+                    long start = System.nanoTime();
+                    unpackedLength = inflater.decompress(data, offset, length, infOut);
+                    compressionStats.received(length, unpackedLength, System.nanoTime() - start);
                     available = in.putData(infOut.getBuffer(), 0, unpackedLength, queuePosition);
                 }
             } else {
@@ -529,7 +572,7 @@ final class VSChannelImpl implements VSChannel {
         DataExchangeUtils.writeInt (data, 4, inCapacity);
         DataExchangeUtils.writeInt (data, 8, outCapacity);
         DataExchangeUtils.writeInt (data, 12, index);
-        DataExchangeUtils.writeByte(data, 16, compressed ? 1 : 0);
+        DataExchangeUtils.writeByte(data, 16, codec.getId());
 
         final VSTransportChannel    tc = dispatcher.checkOut ();
         try {
@@ -599,7 +642,9 @@ final class VSChannelImpl implements VSChannel {
                         tc = dispatcher.checkOut ();
 
                         synchronized (deflater) {
-                            int compressed = compress(data, offset, length);
+                            long start = System.nanoTime();
+                            int compressed = deflater.compress(data, offset, length, defOut);
+                            compressionStats.sent(length, compressed, System.nanoTime() - start);
                             tc.write(remoteId, remoteIndex, numBytesSend, defOut.getBuffer(), 0, compressed, length);
                             numBytesSend += length;
                         }
@@ -780,45 +825,12 @@ final class VSChannelImpl implements VSChannel {
         return new String(output);
     }
 
-    private int compress(byte[] data, int offset, int length) {
-
-        deflater.reset();
-        deflater.setLevel(length < 128 ? Deflater.NO_COMPRESSION : 3);
-        deflater.setInput(data, offset, length);
-        deflater.finish();
-
-        defOut.reset(0);
-        byte[] buffer = defOut.getBuffer();
-        int count = deflater.deflate(buffer);
-
-        while (!deflater.finished()) {
-            if (count >= buffer.length) {
-                defOut.ensureSize(defOut.getSize() + defOut.getSize() / 2);
-                buffer = defOut.getBuffer();
-            }
-            count += deflater.deflate(buffer, count, buffer.length - count);
-        }
-
-        return count;
+    public VSCodec              getCodec () {
+        return codec;
     }
 
-    private int decompress(byte[] data, int offset, int length) {
-
-        inflater.reset();
-        inflater.setInput(data, offset, length);
-        infOut.reset(0);
-
-        try {
-            int count = inflater.inflate(infOut.getBuffer());
-            while (!inflater.finished()) {
-                infOut.ensureSize(infOut.getSize() + infOut.getSize() / 2);
-                count += inflater.inflate(infOut.getBuffer(), count, infOut.getSize() - count);
-            }
-
-            return count;
-        } catch (final DataFormatException e) {
-            throw new RuntimeException(e);
-        }
+    public VSCompressionStats   getCompressionStats () {
+        return compressionStats;
     }
 
     @Override
@@ -65,6 +65,8 @@ public class VSClient extends ConnectionStateListener implements Disposable, Dis
     private volatile DisconnectEventListener     listener;
     private int                         reconnectInterval;
     private VSCompression               serverCompression;
+    private volatile VSCodec []         serverCodecs = { VSCodec.DEFLATE };
+    private final VSCodec []            codecs = VSProtocol.getCodecs();
 
     private int                         soTimeout = Integer.getInteger("TimeBase.network.VSClient.soTimeout", 5000);
     private int                         timeout = Integer.getInteger("TimeBase.network.VSClient.timeout", 5000);
@@ -404,6 +406,7 @@ public class VSClient extends ConnectionStateListener implements Disposable, Dis
 
                 String compression = dis.readUTF();
                 this.serverCompression = Enum.valueOf(VSCompression.class, compression);
+                this.serverCodecs = VSCodec.parse(dis.readUTF());
 
                 long numBytesRecieved = dis.readLong(); // number of bytes recieved by remote side
                 ok = numBytesRecieved != -1;
@@ -480,6 +483,7 @@ public class VSClient extends ConnectionStateListener implements Disposable, Dis
                 this.reconnectInterval = dis.readInt();
 
                 String compression = dis.readUTF();
+                this.serverCodecs = VSCodec.parse(dis.readUTF());
                 long numBytesRecieved = dis.readLong();
                 assert numBytesRecieved == 0; // new connections should have = 0;
                 this.serverCompression = Enum.valueOf(VSCompression.class, compression);
@@ -509,6 +513,20 @@ public class VSClient extends ConnectionStateListener implements Disposable, Dis
         return transportType;
     }
 
+    /**
+     *  @return the most preferred local codec supported by server.
+     */
+    private VSCodec                 selectCodec () {
+        VSCodec []      supported = serverCodecs;
+
+        for (VSCodec codec : codecs)
+            for (VSCodec remote : supported)
+                if (codec == remote)
+                    return codec;
+
+        return VSCodec.DEFLATE;
+    }
+
     public VSChannel                openChannel () throws IOException {
         return openChannel(VSProtocol.CHANNEL_BUFFER_SIZE, VSProtocol.CHANNEL_BUFFER_SIZE, false);
     }
@@ -519,7 +537,7 @@ public class VSClient extends ConnectionStateListener implements Disposable, Dis
         else if (serverCompression == VSCompression.ON)
             compressed = true;
 
-        VSChannelImpl   vsc = dispatcher.newChannel (inCapacity, outCapacity, compressed);
+        VSChannelImpl   vsc = dispatcher.newChannel (inCapacity, outCapacity, compressed ? selectCodec () : VSCodec.NONE);
 
         try {
             vsc.sendConnect ();
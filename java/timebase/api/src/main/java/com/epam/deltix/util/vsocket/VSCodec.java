@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import java.util.ArrayList;
+
+/**
+ *  Compression codec of channel data, negotiated in the transport handshake
+ *  and selected per channel in the connection request.
+ */
+public enum VSCodec {
+    NONE (0),
+    DEFLATE (1),
+    LZ4 (2),
+    ZSTD (3);
+
+    private final int           id;
+    private volatile Boolean    available;
+
+    VSCodec (int id) {
+        this.id = id;
+    }
+
+    public int                  getId () {
+        return id;
+    }
+
+    /**
+     *  @return codec for the specified wire id, or null if it is unknown.
+     */
+    public static VSCodec       forId (int id) {
+        for (VSCodec codec : values ())
+            if (codec.id == id)
+                return codec;
+
+        return null;
+    }
+
+    /**
+     *  @return true if the codec implementation can be loaded in this process.
+     */
+    public boolean              isAvailable () {
+        Boolean     result = available;
+
+        if (result == null) {
+            try {
+                FrameCodec.create (this).close ();
+                result = Boolean.TRUE;
+            } catch (Throwable x) {
+                VSProtocol.LOGGER.fine ("Codec " + this + " is not available: " + x);
+                result = Boolean.FALSE;
+            }
+
+            available = result;
+        }
+
+        return result;
+    }
+
+    /**
+     *  Parses comma-separated list of codecs, skipping unknown and unavailable ones.
+     */
+    public static VSCodec []    parse (String list) {
+        ArrayList<VSCodec> codecs = new ArrayList<>();
+
+        if (list != null) {
+            for (String name : list.split (",")) {
+                name = name.trim ();
+
+                for (VSCodec codec : values ())
+                    if (codec != NONE && codec.name ().equalsIgnoreCase (name) && codec.isAvailable () && !codecs.contains (codec))
+                        codecs.add (codec);
+            }
+        }
+
+        return codecs.toArray (new VSCodec [codecs.size ()]);
+    }
+
+    public static String        format (VSCodec [] codecs) {
+        StringBuilder   sb = new StringBuilder ();
+
+        for (VSCodec codec : codecs) {
+            if (sb.length () > 0)
+                sb.append (',');
+
+            sb.append (codec.name ());
+        }
+
+        return sb.toString ();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  Compression statistics of a channel. Each direction is updated
+ *  by one thread at a time; readers may observe slightly stale values.
+ */
+public final class VSCompressionStats {
+    private volatile long       rawBytesSent;
+    private volatile long       packedBytesSent;
+    private volatile long       compressTime;
+
+    private volatile long       rawBytesReceived;
+    private volatile long       packedBytesReceived;
+    private volatile long       decompressTime;
+
+    void                        sent (int raw, int packed, long nanos) {
+        rawBytesSent += raw;
+        packedBytesSent += packed;
+        compressTime += nanos;
+    }
+
+    void                        received (int packed, int raw, long nanos) {
+        rawBytesReceived += raw;
+        packedBytesReceived += packed;
+        decompressTime += nanos;
+    }
+
+    public long                 getRawBytesSent () {
+        return rawBytesSent;
+    }
+
+    public long                 getPackedBytesSent () {
+        return packedBytesSent;
+    }
+
+    /**
+     *  @return CPU time spent compressing, in nanoseconds.
+     */
+    public long                 getCompressTime () {
+        return compressTime;
+    }
+
+    public long                 getRawBytesReceived () {
+        return rawBytesReceived;
+    }
+
+    public long                 getPackedBytesReceived () {
+        return packedBytesReceived;
+    }
+
+    /**
+     *  @return CPU time spent decompressing, in nanoseconds.
+     */
+    public long                 getDecompressTime () {
+        return decompressTime;
+    }
+
+    /**
+     *  @return ratio of raw to compressed size of sent data (greater is better).
+     */
+    public double               getSendRatio () {
+        long        packed = packedBytesSent;
+        return packed == 0 ? 1.0 : (double) rawBytesSent / packed;
+    }
+
+    public double               getReceiveRatio () {
+        long        packed = packedBytesReceived;
+        return packed == 0 ? 1.0 : (double) rawBytesReceived / packed;
+    }
+
+    @Override
+    public String               toString () {
+        return String.format (
+            "sent %d -> %d bytes (x%.2f, %d ms); received %d -> %d bytes (x%.2f, %d ms)",
+            rawBytesSent, packedBytesSent, getSendRatio (), TimeUnit.NANOSECONDS.toMillis (compressTime),
+            packedBytesReceived, rawBytesReceived, getReceiveRatio (), TimeUnit.NANOSECONDS.toMillis (decompressTime)
+        );
+    }
+}
@@ -556,7 +556,7 @@ public final class VSDispatcher implements Disposable {
             notifyListeners();
     }
 
-    VSChannelImpl               newChannel (int inCapacity, int outCapacity, boolean compressed) {
+    VSChannelImpl               newChannel (int inCapacity, int outCapacity, VSCodec codec) {
         VSChannelImpl               vsc;
         if (!remoteConnected) {
             throw new IllegalStateException("Attempt to create new channel after disconnect");
@@ -573,7 +573,7 @@ public final class VSDispatcher implements Disposable {
                 throw new IllegalStateException ("Too many channels are open");
 
             index += isClient ? -1 : 1;
-            vsc = new VSChannelImpl (this, inCapacity, outCapacity, compressed, localId, index, contextContainer);
+            vsc = new VSChannelImpl (this, inCapacity, outCapacity, codec, localId, index, contextContainer);
             
             if (extend) {
                 channels.add (vsc);
@@ -38,5 +38,12 @@ public abstract class VSOutputStream extends OutputStream {
      */
     public abstract void    flushAvailable() throws IOException;
 
+    /*
+     *  Returns number of bytes that can be sent without waiting for the remote side, or -1 if unknown.
+     */
+    public int              getAvailableCapacity() {
+        return -1;
+    }
+
     //public abstract int     available();
 }
@@ -24,7 +24,7 @@ import java.util.logging.Logger;
 public class VSProtocol {
     public static final Logger      LOGGER = Logger.getLogger ("deltix.vsocket");
 
-    public static final int         VERSION = 1015;
+    public static final int         VERSION = 1016;
     public static final int         KEEP_ALIVE_INTERVAL = 1000;
 
     public static final int         HEADER = 0xD1;
@@ -58,6 +58,11 @@ public class VSProtocol {
     public static final int         CHANNEL_BUFFER_SIZE = 1 << 17; // optimized for local connections
     public static final int         CHANNEL_MAX_BUFFER_SIZE = 1 << 19; // optimized for remote connections
 
+    // first protocol version negotiating compression codecs
+    static final int                CODECS_VERSION = 1016;
+    static final String             DEFAULT_CODECS = "LZ4,ZSTD,DEFLATE";
+    static final int                DEFAULT_ZSTD_LEVEL = 3;
+
     public static int               getIdleTime() {
 
         String delay = System.getProperty("VSProtocol.idleTime");
@@ -68,6 +73,17 @@ public class VSProtocol {
         }
     }
 
+    /**
+     *  @return supported compression codecs, in order of preference.
+     */
+    public static VSCodec []        getCodecs() {
+        return VSCodec.parse(System.getProperty("VSProtocol.codecs", DEFAULT_CODECS));
+    }
+
+    public static int               getZstdLevel() {
+        return Integer.getInteger("VSProtocol.zstdLevel", DEFAULT_ZSTD_LEVEL);
+    }
+
     public static int               getHeader(boolean ssl) {
         return ssl ? SSL_HEADER : HEADER;
     }
@@ -55,6 +55,7 @@ public class VSServerFramework implements ConnectionHandshakeHandler, Disposable
     private final long                          time;
     private int                                 reconnectInterval;
     private final VSCompression                 compression;
+    private final VSCodec []                    codecs = VSProtocol.getCodecs ();
 
     private TLSContext                          tlsContext;
 
@@ -272,6 +273,9 @@ public class VSServerFramework implements ConnectionHandshakeHandler, Disposable
             dout.writeInt(reconnectInterval);
             dout.writeUTF(compression.toString());
 
+            if (clientVersion >= VSProtocol.CODECS_VERSION)
+                dout.writeUTF(VSCodec.format(codecs));
+
             // writing -1 means socket wasn't found
             dout.writeLong(broken != null ? broken.getInputStream().getBytesRead() : (isNew ? 0 : -1));
             dout.flush();
@@ -142,6 +142,27 @@ class VSTransportChannel implements Runnable, Disposable {
         }
     }
 
+    /**
+     *  Refuses connection request of the remote channel by closing it
+     *  before it gets connected: remote side reads end of stream,
+     *  and its writes fail with ChannelClosedException.
+     */
+    private void                rejectChannel (int remoteId, int remoteIndex) {
+        byte []                 data = new byte [32];
+
+        DataExchangeUtils.writeUnsignedShort (data, 0, remoteId);
+        DataExchangeUtils.writeUnsignedShort (data, 2, CLOSING);
+        DataExchangeUtils.writeInt (data, 4, remoteIndex);
+        DataExchangeUtils.writeLong (data, 8, 0);
+
+        DataExchangeUtils.writeUnsignedShort (data, 16, remoteId);
+        DataExchangeUtils.writeUnsignedShort (data, 18, CLOSED);
+        DataExchangeUtils.writeInt (data, 20, remoteIndex);
+        DataExchangeUtils.writeLong (data, 24, 2);
+
+        write (data);
+    }
+
     public void                 keepAlive () {
         write(keepAlive);
     }
@@ -178,9 +199,16 @@ class VSTransportChannel implements Runnable, Disposable {
                     int inCapacity = din.readInt();
                     int outCapacity = din.readInt();
                     int rIndex = din.readInt();
-                    boolean compressed = din.readByte() == 1;
+                    int codecId = din.readByte();
+                    VSCodec codec = VSCodec.forId(codecId);
+
+                    if (codec == null || (codec != VSCodec.NONE && !codec.isAvailable())) {
+                        LOGGER.log (Level.SEVERE, "Rejecting channel request: unsupported codec #" + codecId);
+                        rejectChannel (code, rIndex);
+                        continue;
+                    }
 
-                    VSChannelImpl local = dispatcher.newChannel (outCapacity, inCapacity, compressed);
+                    VSChannelImpl local = dispatcher.newChannel (outCapacity, inCapacity, codec);
                     try {
                         local.onConnectionRequest(code, inCapacity, rIndex);
                         dispatcher.connectionListener.connectionAccepted (dispatcher.getQuickExecutor(), local);
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.replication;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class Test_RestoreCheckpoint {
+
+    @Test
+    public void testResume() throws IOException {
+        File file = File.createTempFile("checkpoint", ".properties");
+        file.deleteOnExit();
+
+        try {
+            RestoreCheckpoint checkpoint = RestoreCheckpoint.open(file);
+            assertEquals(Long.MIN_VALUE, checkpoint.getTime("a#0/2"));
+            assertFalse(checkpoint.isCompleted("a#0/2"));
+
+            checkpoint.update("a#0/2", 1000);
+            checkpoint.update("a#1/2", 2000);
+            checkpoint.update("a#1/2", 3000);
+            checkpoint.complete("a#0/2");
+
+            RestoreCheckpoint restored = RestoreCheckpoint.open(file);
+            assertTrue(restored.isCompleted("a#0/2"));
+            assertEquals(Long.MIN_VALUE, restored.getTime("a#0/2"));
+            assertFalse(restored.isCompleted("a#1/2"));
+            assertEquals(3000, restored.getTime("a#1/2"));
+        } finally {
+            file.delete();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.util.json;
+
+import org.junit.Test;
+
+import java.text.ParseException;
+import java.time.Instant;
+
+import static org.junit.Assert.assertEquals;
+
+public class Test_DateFormatter {
+
+    private final DateFormatter formatter = new DateFormatter();
+
+    @Test
+    public void testRoundTrip() throws ParseException {
+        long[] timestamps = {
+                0, 1, 999, 86_400_000L, 951_782_400_000L, 1_609_459_199_999L, 4_102_444_800_000L
+        };
+
+        StringBuilder sb = new StringBuilder();
+        for (long timestamp : timestamps) {
+            sb.setLength(0);
+            formatter.toDateString(timestamp, sb);
+
+            assertEquals(sb.toString(), timestamp, formatter.fromDateString((CharSequence) sb));
+            assertEquals(sb.toString(), timestamp, formatter.fromDateString(sb.toString()));
+        }
+    }
+
+    @Test
+    public void testAgainstJavaTime() throws ParseException {
+        String[] values = {
+                "1970-01-01T00:00:00.000Z", "2000-02-29T23:59:59.999Z", "2021-03-14T01:59:26.535Z", "2100-12-31T12:00:00.001Z"
+        };
+
+        for (String value : values)
+            assertEquals(value, Instant.parse(value).toEpochMilli(), formatter.fromDateString(value));
+    }
+
+    @Test(expected = ParseException.class)
+    public void testInvalid() throws ParseException {
+        formatter.fromDateString("not a date");
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.util.json;
+
+import com.epam.deltix.qsrv.hf.pub.RawMessage;
+import com.epam.deltix.qsrv.hf.pub.md.*;
+import com.epam.deltix.qsrv.util.json.parser.StreamingJsonMessageSource;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class Test_StreamingJsonMessageSource {
+
+    private static final RecordClassDescriptor LEG = new RecordClassDescriptor(
+            "test.Leg", null, false, null,
+            new NonStaticDataField("price", null, new FloatDataType(FloatDataType.ENCODING_FIXED_DOUBLE, true)),
+            new NonStaticDataField("venue", null, new VarcharDataType("UTF8", true, false))
+    );
+
+    private static final RecordClassDescriptor ORDER = new RecordClassDescriptor(
+            "test.Order", null, false, null,
+            new NonStaticDataField("id", null, new IntegerDataType(IntegerDataType.ENCODING_INT64, true)),
+            new NonStaticDataField("comment", null, new VarcharDataType("UTF8", true, false)),
+            new NonStaticDataField("leg", null, new ClassDataType(true, LEG)),
+            new NonStaticDataField("sizes", null, new ArrayDataType(true, new IntegerDataType(IntegerDataType.ENCODING_INT32, true))),
+            new NonStaticDataField("legs", null, new ArrayDataType(true, new ClassDataType(true, LEG)))
+    );
+
+    private static final RecordClassDescriptor[] TYPES = { ORDER };
+
+    @Test
+    public void testNestedObject() {
+        compare("{\"type\":\"test.Order\",\"symbol\":\"AAPL\",\"timestamp\":\"2021-03-14T01:59:26.535Z\"," +
+                "\"id\":42,\"leg\":{\"price\":12.5,\"venue\":\"NYSE\"}}");
+    }
+
+    @Test
+    public void testArrays() {
+        compare("{\"type\":\"test.Order\",\"symbol\":\"MSFT\",\"timestamp\":\"2021-03-14T01:59:26.535Z\"," +
+                "\"sizes\":[1, 2, null, 3],\"legs\":[{\"price\":1.0,\"venue\":\"A\"},{\"venue\":\"[B]\",\"price\":2.0}]}");
+    }
+
+    @Test
+    public void testEscapedStrings() {
+        compare("{\"type\":\"test.Order\",\"symbol\":\"a\\\"b\",\"timestamp\":\"2021-03-14T01:59:26.535Z\"," +
+                "\"comment\":\"quote \\\" backslash \\\\ tab \\t brace } \\u00e9\\u0001\"," +
+                "\"leg\":{\"venue\":\"{\\\"nested\\\"}\"}}");
+    }
+
+    @Test
+    public void testKeyOrderAndNulls() {
+        compare("{\"legs\":null,\"comment\":null,\"id\":7,\"symbol\":\"X\",\"type\":\"Order\",\"timestamp\":\"1970-01-01T00:00:00.001Z\"}");
+    }
+
+    @Test
+    public void testSequence() {
+        String[] messages = {
+                "{\"type\":\"test.Order\",\"symbol\":\"A\",\"timestamp\":\"2021-03-14T01:59:26.535Z\",\"id\":1}",
+                "{\"type\":\"test.Order\",\"symbol\":\"B\",\"timestamp\":\"2021-03-14T01:59:26.536Z\",\"sizes\":[5]}",
+        };
+
+        JsonArray array = new JsonParser().parse("[" + String.join(",", messages) + "]").getAsJsonArray();
+        JSONRawMessageParser parser = new JSONRawMessageParser(TYPES);
+
+        try (StreamingJsonMessageSource source = new StreamingJsonMessageSource(TYPES, new StringReader("[\n" + String.join(",\n", messages) + "\n]"))) {
+            for (int i = 0; i < messages.length; i++) {
+                assertTrue(source.next());
+                assertSameMessage(messages[i], parser.parse(array.get(i).getAsJsonObject()), source.getMessage());
+            }
+
+            assertFalse(source.next());
+        }
+    }
+
+    @Test
+    public void testPrinterEscaping() {
+        String value = "quote \" backslash \\ newline \n tab \t control \u0001 <html>";
+
+        JsonObject template = new JsonObject();
+        template.addProperty("type", "test.Order");
+        template.addProperty("symbol", "S");
+        template.addProperty("timestamp", "2021-03-14T01:59:26.535Z");
+        template.addProperty("comment", value);
+        RawMessage raw = new JSONRawMessageParser(TYPES).parse(template);
+
+        StringBuilder sb = new StringBuilder();
+        new JSONRawMessagePrinter().append(raw, sb);
+        String json = sb.toString();
+
+        assertTrue(json, json.contains("quote \\\" backslash \\\\ newline \\n tab \\t control \\u0001 <html>"));
+
+        JsonObject printed = new JsonParser().parse(json).getAsJsonObject();
+        assertEquals(value, printed.get("comment").getAsString());
+
+        // printed text is accepted by the streaming parser as well
+        try (StreamingJsonMessageSource source = new StreamingJsonMessageSource(TYPES, new StringReader(json))) {
+            assertTrue(source.next());
+            assertSameMessage(json, raw, source.getMessage());
+        }
+    }
+
+    @Test
+    public void testHtmlSafePrinterEscaping() {
+        JsonObject template = new JsonObject();
+        template.addProperty("type", "test.Order");
+        template.addProperty("symbol", "S");
+        template.addProperty("timestamp", "2021-03-14T01:59:26.535Z");
+        template.addProperty("comment", "<a href='x'>&</a>\\");
+        RawMessage raw = new JSONRawMessageParser(TYPES).parse(template);
+
+        StringBuilder sb = new StringBuilder();
+        new JSONRawMessagePrinter(false, true, DataEncoding.STANDARD, true, false, PrintType.FULL).append(raw, sb);
+        String json = sb.toString();
+
+        assertFalse(json, json.contains("<") || json.contains(">") || json.contains("&") || json.contains("'"));
+        assertEquals("<a href='x'>&</a>\\", new JsonParser().parse(json).getAsJsonObject().get("comment").getAsString());
+    }
+
+    private static void compare(String json) {
+        RawMessage expected = new JSONRawMessageParser(TYPES).parse(new JsonParser().parse(json).getAsJsonObject());
+
+        try (StreamingJsonMessageSource source = new StreamingJsonMessageSource(TYPES, new StringReader(json))) {
+            assertTrue(source.next());
+            assertSameMessage(json, expected, source.getMessage());
+            assertFalse(source.next());
+        }
+    }
+
+    private static void assertSameMessage(String json, RawMessage expected, RawMessage actual) {
+        assertEquals(json, expected.type, actual.type);
+        assertEquals(json, expected.getSymbol().toString(), actual.getSymbol().toString());
+        assertEquals(json, expected.getTimeStampMs(), actual.getTimeStampMs());
+        assertArrayEquals(json, bytes(expected), bytes(actual));
+    }
+
+    private static byte[] bytes(RawMessage raw) {
+        return Arrays.copyOfRange(raw.data, raw.offset, raw.offset + raw.length);
+    }
+}
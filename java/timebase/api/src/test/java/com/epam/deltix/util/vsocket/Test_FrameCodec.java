@@ -0,0 +1,82 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.vsocket;
+
+import com.epam.deltix.util.memory.MemoryDataOutput;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Test_FrameCodec {
+
+    private static byte[] ticks(int size) {
+        byte[] data = new byte[size];
+        Random random = new Random(17);
+
+        // repetitive data with some noise, similar to encoded messages
+        for (int i = 0; i < size; i++)
+            data[i] = (byte) (i % 32 < 24 ? i % 32 : random.nextInt());
+
+        return data;
+    }
+
+    private static void roundTrip(VSCodec codec, byte[] data) {
+        FrameCodec encoder = FrameCodec.create(codec);
+        FrameCodec decoder = FrameCodec.create(codec);
+
+        MemoryDataOutput packed = new MemoryDataOutput(VSProtocol.CHANNEL_BUFFER_SIZE);
+        MemoryDataOutput unpacked = new MemoryDataOutput(VSProtocol.CHANNEL_BUFFER_SIZE);
+
+        int size = encoder.compress(data, 0, data.length, packed);
+        assertTrue(codec + " frame is too large: " + size, size <= VSProtocol.MAXSIZE + 0xFF);
+
+        byte[] frame = Arrays.copyOf(packed.getBuffer(), size);
+        int length = decoder.decompress(frame, 0, frame.length, unpacked);
+
+        assertEquals(data.length, length);
+        assertArrayEquals(data, Arrays.copyOf(unpacked.getBuffer(), length));
+    }
+
+    @Test
+    public void roundTrips() {
+        for (VSCodec codec : VSProtocol.getCodecs()) {
+            roundTrip(codec, ticks(10));
+            roundTrip(codec, ticks(4096));
+            roundTrip(codec, ticks(VSProtocol.MAXSIZE));
+        }
+    }
+
+    @Test
+    public void incompressible() {
+        byte[] data = new byte[VSProtocol.MAXSIZE];
+        new Random(1).nextBytes(data);
+
+        for (VSCodec codec : VSProtocol.getCodecs())
+            roundTrip(codec, data);
+    }
+
+    @Test
+    public void negotiation() {
+        assertEquals("LZ4,DEFLATE", VSCodec.format(VSCodec.parse("lz4, none, deflate, lz4, unknown")));
+        assertEquals(VSCodec.ZSTD, VSCodec.forId(VSCodec.ZSTD.getId()));
+    }
+}
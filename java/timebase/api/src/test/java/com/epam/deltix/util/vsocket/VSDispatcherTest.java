@@ -110,7 +110,7 @@ public class VSDispatcherTest {
         // Put some data into VSOutputStream
         List<VSChannelImpl> channels = new ArrayList<>();
         for (int i = 0; i < channelCount; i++) {
-            VSChannelImpl channel = dispatcher.newChannel(1024, 1024, true);
+            VSChannelImpl channel = dispatcher.newChannel(1024, 1024, VSCodec.DEFLATE);
             channel.onRemoteConnected(i, 64*1024, i);
             channels.add(channel);
             byte[] buffer = new byte[1024];
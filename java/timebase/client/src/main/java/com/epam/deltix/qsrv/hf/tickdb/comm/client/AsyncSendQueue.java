@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.comm.client;
+
+import com.epam.deltix.qsrv.hf.codec.MessageSizeCodec;
+import com.epam.deltix.qsrv.hf.tickdb.comm.TDBProtocol;
+import com.epam.deltix.qsrv.hf.tickdb.pub.LoaderOverflowException;
+import com.epam.deltix.qsrv.hf.tickdb.pub.LoadingOptions;
+import com.epam.deltix.util.memory.MemoryDataOutput;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  Bounded queue of encoded loader messages, drained into the channel by a dedicated I/O thread.
+ *  <p>
+ *  Single producer, single consumer (I/O thread).
+ *  Producer claims a slot, encodes message into it and publishes it.
+ *  Consumer writes all published messages and flushes the channel when queue becomes empty.
+ *  </p>
+ *  <p>
+ *  Producer side is not thread safe: {@link TickLoaderClient} calls it under its monitor,
+ *  which also keeps producer away from the channel while loader writes commands directly
+ *  (after {@link #drain}).
+ *  </p>
+ */
+final class AsyncSendQueue implements Runnable {
+    static final byte                       SEND = 0;
+    static final byte                       REMOVE = 1;
+
+    private static final int                SPIN_COUNT = 100;
+    private static final int                YIELD_COUNT = 200;
+    private static final long               PARK_NANOS = 10_000;
+
+    private final MemoryDataOutput []       slots;
+    private final byte []                   kinds;
+    private final int                       mask;
+    private final LoadingOptions.BackPressure backPressure;
+    private final DataOutputStream          out;
+    private final Thread                    thread;
+
+    // next sequence to publish, written by producer
+    private volatile long                   head = 0;
+    // next sequence to write, written by consumer
+    private volatile long                   tail = 0;
+    // all sequences below are written and flushed
+    private volatile long                   flushed = 0;
+
+    private volatile boolean                consumerParked = false;
+    private volatile boolean                stopped = false;
+    private volatile IOException            error;
+
+    private long                            dropped = 0;
+
+    AsyncSendQueue (int capacity, LoadingOptions.BackPressure backPressure, DataOutputStream out, String name) {
+        int size = Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1;
+
+        this.slots = new MemoryDataOutput [size];
+        for (int i = 0; i < size; i++)
+            slots[i] = new MemoryDataOutput (256);
+
+        this.kinds = new byte [size];
+        this.mask = size - 1;
+        this.backPressure = backPressure;
+        this.out = out;
+
+        this.thread = new Thread (this, name);
+        this.thread.setDaemon (true);
+    }
+
+    void                        start () {
+        thread.start ();
+    }
+
+    /**
+     *  Returns buffer to encode next message into or null, if message should be dropped.
+     *  Must be followed by {@link #publish}, unless message is discarded.
+     *
+     *  @throws LoaderOverflowException when queue is full and ERROR policy is used
+     */
+    MemoryDataOutput            claim () throws IOException {
+        final long      sequence = head;
+
+        for (int i = 0; sequence - tail > mask; i++) {
+            checkError ();
+
+            if (stopped)
+                throw new IOException ("Send queue is stopped");
+
+            if (backPressure == LoadingOptions.BackPressure.DROP) {
+                if (dropped++ == 0)
+                    TickDBClient.LOGGER.warn("%s: send queue is full, dropping messages.").with(thread.getName());
+                return null;
+            }
+
+            if (backPressure == LoadingOptions.BackPressure.ERROR)
+                throw new LoaderOverflowException ("Send queue is full (" + slots.length + " messages)");
+
+            idle (i);
+        }
+
+        checkError ();
+
+        MemoryDataOutput buffer = slots[(int) sequence & mask];
+        buffer.reset ();
+        return buffer;
+    }
+
+    void                        publish (byte kind) {
+        final long      sequence = head;
+
+        kinds[(int) sequence & mask] = kind;
+        head = sequence + 1;
+
+        if (consumerParked)
+            LockSupport.unpark (thread);
+    }
+
+    /**
+     *  Waits until all published messages are written and flushed into the channel.
+     */
+    void                        drain () throws IOException {
+        final long      sequence = head;
+
+        for (int i = 0; flushed < sequence; i++) {
+            checkError ();
+
+            if (stopped)
+                throw new IOException ("Send queue is stopped");
+
+            idle (i);
+
+            if (Thread.interrupted ())
+                throw new InterruptedIOException ();
+        }
+
+        checkError ();
+    }
+
+    void                        stop () {
+        stopped = true;
+        LockSupport.unpark (thread);
+
+        if (dropped > 0)
+            TickDBClient.LOGGER.warn("%s: %s messages were dropped.").with(thread.getName()).with(dropped);
+    }
+
+    IOException                 getError () {
+        return error;
+    }
+
+    private void                checkError () throws IOException {
+        IOException x = error;
+        if (x != null)
+            throw x;
+    }
+
+    private static void         idle (int counter) {
+        if (counter < SPIN_COUNT)
+            Thread.onSpinWait ();
+        else if (counter < SPIN_COUNT + YIELD_COUNT)
+            Thread.yield ();
+        else
+            LockSupport.parkNanos (PARK_NANOS);
+    }
+
+    @Override
+    public void                 run () {
+        try {
+            while (!stopped) {
+                long        available = head;
+                long        sequence = tail;
+
+                if (sequence == available) {
+                    consumerParked = true;
+
+                    // re-check after announcing, producer unparks only parked consumer
+                    if (head == sequence && !stopped)
+                        LockSupport.park (this);
+
+                    consumerParked = false;
+                    continue;
+                }
+
+                do {
+                    write (slots[(int) sequence & mask], kinds[(int) sequence & mask]);
+                    tail = ++sequence;
+                } while (sequence < available);
+
+                // batch is over: flush only when there is nothing more to write
+                if (head == sequence) {
+                    out.flush ();
+                    flushed = sequence;
+                }
+            }
+        } catch (IOException x) {
+            error = x;
+        } catch (Throwable x) {
+            error = new IOException (x);
+        }
+    }
+
+    private void                write (MemoryDataOutput buffer, byte kind) throws IOException {
+        int size = buffer.getSize ();
+
+        if (kind == REMOVE)
+            out.writeByte (TDBProtocol.LOAD_REMOVE);
+
+        MessageSizeCodec.write (size, out);
+        out.write (buffer.getBuffer (), 0, size);
+    }
+}
@@ -215,6 +215,7 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
             ds.close();
 
             serverListener.unschedule();
+            stopQueue();
 
             notifyClose();
             notifyFlush(new ChannelClosedException());
@@ -303,6 +304,8 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
     private final DataOutputStream          out;
     private final MemoryDataOutput          outBuffer = new MemoryDataOutput (256);
     private final MessageEncoder            encoder;
+    // not null in async mode, see LoadingOptions.asyncQueueSize
+    private final AsyncSendQueue            queue;
     @GuardedBy ("this")
     private boolean                         disabled = false; //TODO: refactor
 
@@ -354,6 +357,14 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
 //                    StreamConfigurationHelper.createBoundEncoder (factory, null, null, options.getTypeLoader(), md.getTopTypes ());
 
             ds.setNoDelay(options.channelPerformance.isLowLatency());
+
+            if (options.asyncQueueSize > 0) {
+                queue = new AsyncSendQueue(options.asyncQueueSize, options.backPressure, out, "TickLoader I/O (" + stream.getKey() + ")");
+                queue.start();
+            } else {
+                queue = null;
+            }
+
             ok = true;
 
 
@@ -367,10 +378,21 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
         return (stream);
     }
 
+    /*
+     *  In async mode the monitor stays: it is uncontended with a single producer thread,
+     *  but it is what makes the send queue single-producer when loader is shared, and
+     *  it keeps send() from publishing into the queue while flush() or close() write
+     *  commands into the channel after draining it.
+     */
     @SuppressWarnings ("unchecked")
     @Override
     public synchronized void        send (MessageInfo msg) {
         validate(true);
+
+        if (queue != null) {
+            sendAsync(msg, AsyncSendQueue.SEND);
+            return;
+        }
         
         outBuffer.reset ();
         TimeCodec.writeTime (msg, outBuffer);
@@ -401,6 +423,11 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
 
         validate(true);
 
+        if (queue != null) {
+            sendAsync(msg, AsyncSendQueue.REMOVE);
+            return;
+        }
+
         outBuffer.reset ();
         TimeCodec.writeTime (msg, outBuffer);
         encoder.encode (msg, outBuffer);
@@ -423,6 +450,40 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
         }
     }
 
+    /**
+     *  Encodes message into the send queue; I/O thread writes it into the channel.
+     *  Encoding stays on the caller thread, because message objects are reused by callers.
+     */
+    private void                    sendAsync (MessageInfo msg, byte kind) {
+        try {
+            MemoryDataOutput buffer = queue.claim ();
+            if (buffer == null) // dropped
+                return;
+
+            TimeCodec.writeTime (msg, buffer);
+
+            if (!encoder.encode (msg, buffer) && kind == AsyncSendQueue.SEND)
+                return;
+
+            assert buffer.getSize () > TDBProtocol.LOAD_REMOVE: "Size too small: " + buffer.getSize ();
+
+            queue.publish (kind);
+        } catch (ChannelClosedException e) {
+            validate(true);
+            throw new com.epam.deltix.util.io.UncheckedIOException(e);
+        } catch (IOException iox) {
+            if (iox instanceof SocketException)
+                onDisconnected();
+
+            throw new com.epam.deltix.util.io.UncheckedIOException(iox);
+        }
+    }
+
+    private void                    stopQueue () {
+        if (queue != null)
+            queue.stop();
+    }
+
     @Override
     public void                     addEventListener(LoadingErrorListener listener) {
         synchronized(listeners) {
@@ -508,6 +569,9 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
 
         if (ds.getState() == VSChannelState.Connected) {
             try {
+                if (queue != null)
+                    queue.drain ();
+
                 out.writeByte (TDBProtocol.LOAD_CLOSE);
                 out.flush ();
 
@@ -518,6 +582,7 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
         }
 
         closed = true;
+        stopQueue();
         ds.close(); // we should close channel in any case
     }
 
@@ -525,6 +590,9 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
     public synchronized void        flush() throws IOException {
         validate(true);
 
+        if (queue != null)
+            queue.drain();
+
         out.writeByte(TDBProtocol.LOAD_FLUSH);
         out.flush();
 
@@ -541,6 +609,7 @@ class TickLoaderClient implements TickLoader<MessageInfo>, LoadingErrorListener,
 
             ds.close(true);
             closed = true;
+            stopQueue();
             
             if (explode)
                 throw error;
@@ -19,7 +19,7 @@ package com.epam.deltix.qsrv.hf.tickdb.tool;
 import com.google.gson.JsonParseException;
 import com.epam.deltix.qsrv.hf.pub.RawMessage;
 import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
-import com.epam.deltix.qsrv.util.json.parser.JsonMessageSource;
+import com.epam.deltix.qsrv.util.json.parser.StreamingJsonMessageSource;
 import com.epam.deltix.util.lang.Util;
 import com.epam.deltix.util.s3.S3DataStore;
 import com.epam.deltix.util.s3.S3Reader;
@@ -35,7 +35,7 @@ public class S3RawMessageReader extends S3Reader<RawMessage> {
     private final S3SpaceMetadata metadata;
     private final boolean oldFormat;
 
-    private JsonMessageSource messageSource;
+    private StreamingJsonMessageSource messageSource;
 
     public S3RawMessageReader(S3DataStore dataStore, String dataKey, long startTime, long endTime, RecordClassDescriptor[] descriptors) throws IOException {
         super(dataStore, dataKey, startTime, endTime);
@@ -55,7 +55,7 @@ public class S3RawMessageReader extends S3Reader<RawMessage> {
     protected void startBatch(InputStream batchData) throws IOException {
         GZIPInputStream zin = new GZIPInputStream(batchData);
         BufferedReader reader = new BufferedReader(new InputStreamReader(zin));
-        messageSource = new JsonMessageSource(descriptors, reader);
+        messageSource = new StreamingJsonMessageSource(descriptors, reader);
     }
 
     @Override
@@ -39,6 +39,9 @@ public class Replicator {
     public boolean      live = false;
     public int          retries = 0;                // number of retries
     public long         retryTimeout = 5000;        // 5 sec
+    public int          threads = 1;                // number of parallel reader/loader pairs
+    public int          partitions = 1;             // number of entity partitions per stream on restore
+    public String       checkpoint;                 // checkpoint file of multi-stream restore
 
     public ReloadMode   mode = ReloadMode.prohibit;
 
@@ -55,6 +58,9 @@ public class Replicator {
         System.out.println ("retries:       " + retries);
         System.out.println ("retry timeout: " + retryTimeout + "ms");
         System.out.println ("cpmode:        " + (live ? "live" : "offline"));
+        System.out.println ("threads:       " + threads);
+        System.out.println ("partitions:    " + partitions);
+        System.out.println ("checkpoint:    " + checkpoint);
 
         if (bkpath != null) {
             System.out.println ("bkpath:        " + bkpath);
@@ -105,6 +111,18 @@ public class Replicator {
             retryTimeout = Integer.valueOf(value);
             shell.confirm("Retry timeout: " + retryTimeout);
             return (true);
+        } else if (option.equalsIgnoreCase("threads")) {
+            threads = Integer.valueOf(value);
+            shell.confirm("Replication threads: " + threads);
+            return (true);
+        } else if (option.equalsIgnoreCase("partitions")) {
+            partitions = Integer.valueOf(value);
+            shell.confirm("Restore partitions: " + partitions);
+            return (true);
+        } else if (option.equalsIgnoreCase("checkpoint")) {
+            checkpoint = value;
+            shell.confirm("Restore checkpoint file: " + checkpoint);
+            return (true);
         }
 
         return (false);
@@ -225,6 +243,39 @@ public class Replicator {
                 return true;
             }
 
+            if (values.length > 1 && sourcedb != null) {
+                // restore several streams of the same names in parallel
+                DXTickDB sourceDB = null;
+
+                try {
+                    sourceDB = TickDBFactory.openFromUrl(sourcedb, false);
+
+                    final StreamStorage[] sources = new StreamStorage[values.length];
+                    final StreamStorage[] targets = new StreamStorage[values.length];
+                    for (int i = 0; i < values.length; i++) {
+                        sources[i] = new StreamStorage(sourceDB, values[i]);
+                        targets[i] = new StreamStorage(shell.dbmgr.getDB(), values[i]);
+                    }
+
+                    final RestoreOptions options = new RestoreOptions();
+                    options.types = types;
+                    options.entities = entities;
+                    options.mode = mode;
+                    options.retries = retries;
+                    options.retryTimeout = retryTimeout;
+                    options.threads = threads;
+                    options.partitions = partitions;
+                    options.checkpoint = checkpoint;
+                    options.range = new long[] { shell.selector.getTime(), shell.selector.getEndtime() };
+
+                    new StreamReplicator().restore(sources, targets, options);
+                } finally {
+                    Util.close(sourceDB);
+                }
+
+                return true;
+            }
+
             DXTickDB sourceDB = null;
 
             try {
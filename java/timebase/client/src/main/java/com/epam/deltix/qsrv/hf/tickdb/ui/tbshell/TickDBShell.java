@@ -26,6 +26,7 @@ import com.epam.deltix.qsrv.hf.stream.*;
 import com.epam.deltix.qsrv.hf.tickdb.pub.*;
 import com.epam.deltix.qsrv.hf.tickdb.pub.lock.DBLock;
 import com.epam.deltix.qsrv.hf.tickdb.pub.lock.LockType;
+import com.epam.deltix.qsrv.hf.tickdb.pub.task.CompactionTask;
 import com.epam.deltix.qsrv.hf.tickdb.schema.MetaDataChange;
 import com.epam.deltix.qsrv.hf.tickdb.schema.SchemaAnalyzer;
 import com.epam.deltix.qsrv.hf.tickdb.schema.SchemaConverter;
@@ -537,6 +538,35 @@ public class TickDBShell extends AbstractShell {
             return (true);
         }
 
+        if (key.equalsIgnoreCase("compact")) {
+            if (!dbmgr.checkStream())
+                return (true);
+
+            if (args == null) {
+                System.out.println ("Usage: compact <time>[;<compression>]");
+                return (true);
+            }
+
+            String[] arguments = StringUtils.split(args, ";", true, false);
+            CompactionTask task = new CompactionTask(df.parse(arguments[0]).getTime(),
+                    arguments.length > 1 && !arguments[1].isEmpty() ? arguments[1] : null);
+
+            final long ts = TimeKeeper.currentTime;
+
+            for (DXTickStream stream : dbmgr.getStreams ()) {
+                stream.execute(task);
+                waitAndDrawProgressBar(stream);
+
+                BackgroundProcessInfo process = stream.getBackgroundProcess();
+                if (process != null && process.error != null)
+                    System.out.println("\n" + stream.getKey() + ": compaction failed: " + process.error);
+            }
+
+            if (!Util.QUIET)
+                System.out.println("\nCompaction total time (ms): " + (TimeKeeper.currentTime - ts));
+            return (true);
+        }
+
         if (key.equalsIgnoreCase("rename")) {
             if (!dbmgr.checkStream())
                 return (true);
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.comm.client;
+
+import com.epam.deltix.qsrv.hf.codec.MessageSizeCodec;
+import com.epam.deltix.qsrv.hf.tickdb.comm.TDBProtocol;
+import com.epam.deltix.qsrv.hf.tickdb.pub.LoaderOverflowException;
+import com.epam.deltix.qsrv.hf.tickdb.pub.LoadingOptions;
+import com.epam.deltix.util.memory.MemoryDataOutput;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class Test_AsyncSendQueue {
+
+    private final GateOutputStream      channel = new GateOutputStream();
+    private final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    private AsyncSendQueue              queue;
+
+    @After
+    public void tearDown() {
+        channel.open();
+
+        if (queue != null)
+            queue.stop();
+    }
+
+    @Test
+    public void blockPolicy() throws Exception {
+        queue = start(2, LoadingOptions.BackPressure.BLOCK);
+
+        fill();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                assertTrue(publish(2, AsyncSendQueue.SEND));
+            } catch (Throwable x) {
+                error.set(x);
+            }
+        });
+        producer.start();
+
+        // producer waits for space while channel is blocked
+        producer.join(200);
+        assertTrue(producer.isAlive());
+
+        channel.open();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertNull(error.get());
+
+        queue.drain();
+        assertArrayEquals(expected.toByteArray(), channel.toByteArray());
+    }
+
+    @Test
+    public void dropPolicy() throws Exception {
+        queue = start(2, LoadingOptions.BackPressure.DROP);
+
+        fill();
+
+        assertNull(queue.claim());
+        assertNull(queue.claim());
+
+        channel.open();
+        queue.drain();
+
+        assertTrue(publish(3, AsyncSendQueue.SEND));
+        queue.drain();
+
+        assertArrayEquals(expected.toByteArray(), channel.toByteArray());
+    }
+
+    @Test
+    public void errorPolicy() throws Exception {
+        queue = start(2, LoadingOptions.BackPressure.ERROR);
+
+        fill();
+
+        try {
+            queue.claim();
+            fail("LoaderOverflowException expected");
+        } catch (LoaderOverflowException x) {
+            // ok
+        }
+
+        channel.open();
+        queue.drain();
+
+        assertTrue(publish(3, AsyncSendQueue.REMOVE));
+        queue.drain();
+
+        assertArrayEquals(expected.toByteArray(), channel.toByteArray());
+    }
+
+    @Test
+    public void closeWithQueuedMessages() throws Exception {
+        queue = start(8, LoadingOptions.BackPressure.BLOCK);
+
+        fill();
+        for (int i = 2; i < 8; i++)
+            assertTrue(publish(i, i % 2 == 0 ? AsyncSendQueue.SEND : AsyncSendQueue.REMOVE));
+
+        // the way loader closes: drain the queue, then write command into the channel
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread closer = new Thread(() -> {
+            try {
+                queue.drain();
+                channel.write(TDBProtocol.LOAD_CLOSE);
+                queue.stop();
+            } catch (Throwable x) {
+                error.set(x);
+            }
+        });
+        closer.start();
+
+        closer.join(200);
+        assertTrue(closer.isAlive());
+
+        channel.open();
+        closer.join(5000);
+        assertFalse(closer.isAlive());
+        assertNull(error.get());
+
+        expected.write(TDBProtocol.LOAD_CLOSE);
+        assertArrayEquals(expected.toByteArray(), channel.toByteArray());
+    }
+
+    @Test
+    public void stopWithQueuedMessages() throws Exception {
+        queue = start(2, LoadingOptions.BackPressure.BLOCK);
+
+        fill();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread producer = new Thread(() -> {
+            try {
+                publish(2, AsyncSendQueue.SEND);
+            } catch (Throwable x) {
+                error.set(x);
+            }
+        });
+        producer.start();
+        producer.join(200);
+        assertTrue(producer.isAlive());
+
+        // stopped queue releases blocked producer and does not hang in drain
+        queue.stop();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertTrue(String.valueOf(error.get()), error.get() instanceof IOException);
+
+        channel.open();
+
+        try {
+            queue.drain();
+            fail("IOException expected");
+        } catch (IOException x) {
+            // ok
+        }
+    }
+
+    @Test
+    public void ioError() throws Exception {
+        queue = start(4, LoadingOptions.BackPressure.BLOCK);
+
+        IOException failure = new IOException("broken pipe");
+        channel.fail(failure);
+        channel.open();
+
+        assertTrue(publish(0, AsyncSendQueue.SEND));
+
+        try {
+            queue.drain();
+            fail("IOException expected");
+        } catch (IOException x) {
+            assertSame(failure, x);
+        }
+
+        try {
+            queue.claim();
+            fail("IOException expected");
+        } catch (IOException x) {
+            assertSame(failure, x);
+        }
+    }
+
+    private AsyncSendQueue start(int capacity, LoadingOptions.BackPressure backPressure) {
+        AsyncSendQueue queue = new AsyncSendQueue(capacity, backPressure, new DataOutputStream(channel), "Test I/O");
+        queue.start();
+        return queue;
+    }
+
+    /**
+     * Makes queue of two slots full: first message is taken by I/O thread, which is blocked in channel.
+     */
+    private void fill() throws Exception {
+        assertTrue(publish(0, AsyncSendQueue.SEND));
+        assertTrue(channel.awaitWriter());
+        assertTrue(publish(1, AsyncSendQueue.REMOVE));
+    }
+
+    private boolean publish(int value, byte kind) throws IOException {
+        MemoryDataOutput buffer = queue.claim();
+        if (buffer == null)
+            return false;
+
+        buffer.writeInt(value);
+        buffer.writeLong(value * 31L);
+        queue.publish(kind);
+
+        synchronized (expected) {
+            if (kind == AsyncSendQueue.REMOVE)
+                expected.write(TDBProtocol.LOAD_REMOVE);
+
+            MessageSizeCodec.write(buffer.getSize(), expected);
+            expected.write(buffer.getBuffer(), 0, buffer.getSize());
+        }
+        return true;
+    }
+
+    /**
+     * Channel that blocks writers until it is opened.
+     */
+    private static class GateOutputStream extends OutputStream {
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private final CountDownLatch        opened = new CountDownLatch(1);
+        private final CountDownLatch        writing = new CountDownLatch(1);
+        private volatile IOException        failure;
+
+        void open() {
+            opened.countDown();
+        }
+
+        void fail(IOException x) {
+            failure = x;
+        }
+
+        boolean awaitWriter() throws InterruptedException {
+            return writing.await(5, TimeUnit.SECONDS);
+        }
+
+        synchronized byte[] toByteArray() {
+            return data.toByteArray();
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            writing.countDown();
+
+            try {
+                opened.await();
+            } catch (InterruptedException x) {
+                throw new InterruptedIOException();
+            }
+
+            if (failure != null)
+                throw failure;
+
+            synchronized (this) {
+                data.write(b, off, len);
+            }
+        }
+    }
+}
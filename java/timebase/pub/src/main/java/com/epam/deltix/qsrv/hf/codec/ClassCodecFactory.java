@@ -26,7 +26,7 @@ import com.epam.deltix.qsrv.hf.pub.md.EnumClassDescriptor;
 import com.epam.deltix.qsrv.hf.pub.md.EnumDataType;
 import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
 import com.epam.deltix.util.io.BasicIOUtil;
-import com.epam.deltix.util.lang.JavaCompilerHelper;
+import com.epam.deltix.util.jcg.JClassCompiler;
 import com.epam.deltix.util.lang.JavaCompilerHelper.SpecialClassLoader;
 import com.epam.deltix.util.lang.StringUtils;
 import com.epam.deltix.util.lang.Util;
@@ -163,22 +163,38 @@ public abstract class ClassCodecFactory {
                 trace(gen);
 
             final Class<?> msgClass = layout.getTargetClass();
+            final ClassLoader cl = classLoader != null ? classLoader : msgClass != null ? msgClass.getClassLoader() : ClassCodecFactory.class.getClassLoader();
+
+            // main class goes first
+            final Map<String, String> mapClassName2Code = new LinkedHashMap<>();
+            mapClassName2Code.put(className, CodecGenerator.toString(gen.getJClass()));
 
             final CompilationUnit[] dependencies = gen.getDependencies();
             if (dependencies != null) {
-                final Map<String, String> mapClassName2Code = new HashMap<>();
-                mapClassName2Code.put(className, CodecGenerator.toString(gen.getJClass()));
-                for (CompilationUnit dependency : dependencies) {
-                    mapClassName2Code.put(dependency.getJClass().fullName(), CodecGenerator.toString(dependency.getJClass()));
+                for (CompilationUnit dependency : dependencies)
+                    mapClassName2Code.putIfAbsent(dependency.getJClass().fullName(), CodecGenerator.toString(dependency.getJClass()));
+            }
+
+            final CodecClassCache cache = CodecClassCache.INSTANCE;
+            if (cache.isEnabled()) {
+                final String key = CodecClassCache.getLayoutKey(classDescriptor, type, msgClass);
+                final Class<?> cached = cache.load(key, className, mapClassName2Code, cl);
+                if (cached != null)
+                    return cached;
+            }
+
+            final long start = System.nanoTime();
+            try {
+                if (dependencies != null) {
+                    final Map<String, Class<?>> classes = JClassCompiler.create(cl).compileClasses(mapClassName2Code);
+                    //codecCache.cleanNotCompiledClasses();
+                    return classes.get(gen.getJClass().fullName());
+                } else {
+                    // TODO: refactor gen/cu: getSourceCode
+                    return JClassCompiler.create(cl).compileClass(className, CodecGenerator.toString(gen.getJClass()));
                 }
-                final ClassLoader cl = classLoader != null ? classLoader : msgClass != null ? msgClass.getClassLoader() : ClassCodecFactory.class.getClassLoader();
-                final Map<String, Class<?>> classes = new JavaCompilerHelper(cl).compileClasses(mapClassName2Code);
-                //codecCache.cleanNotCompiledClasses();
-                return classes.get(gen.getJClass().fullName());
-            } else {
-                final ClassLoader cl = classLoader != null ? classLoader : msgClass != null ? msgClass.getClassLoader() : ClassCodecFactory.class.getClassLoader();
-                // TODO: refactor gen/cu: getSourceCode
-                return new JavaCompilerHelper(cl).compileClass(className, CodecGenerator.toString(gen.getJClass()));
+            } finally {
+                cache.compiled(System.nanoTime() - start);
             }
 
 //            final ObjectArrayList notCompiledClasses = codecCache.getNotCompiledClasses();
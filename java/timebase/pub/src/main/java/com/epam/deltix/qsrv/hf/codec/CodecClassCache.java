@@ -0,0 +1,419 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.codec;
+
+import com.epam.deltix.gflog.api.Log;
+import com.epam.deltix.gflog.api.LogFactory;
+import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
+
+import com.epam.deltix.util.jcg.JClassCompiler;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Persistent cache of compiled generated classes (codecs and beans).
+ *
+ * <p>Entries are keyed by a stable hash of the class layout (see {@link #getLayoutKey}) and
+ * validated by a digest of the generated sources (generated class names are normalized),
+ * so entry is reused only when generator would produce the same code.</p>
+ *
+ * <p>Each file also records the schema it was written with (file format, Java and TimeBase versions)
+ * and ends with a checksum of its content. Entries of other schema are recompiled and replaced,
+ * corrupted files are deleted.</p>
+ *
+ * <p>Cache directory is defined by "TimeBase.codecs.cacheDir" system property or set by the server
+ * using {@link #setDefaultDirectory(File)}. When no directory defined, cache is disabled.
+ * Set "TimeBase.codecs.cache" to false to disable cache completely.</p>
+ */
+public final class CodecClassCache {
+    private static final Log LOG = LogFactory.getLog(CodecClassCache.class.getPackage().getName());
+
+    private static final boolean    ENABLED = Boolean.parseBoolean(System.getProperty("TimeBase.codecs.cache", "true"));
+    private static final int        FORMAT_VERSION = 2;
+    private static final int        MAGIC = 0x43434331; // "CCC1"
+    private static final String     EXTENSION = ".classes";
+
+    /**
+     * Version of code that produced cached entries. Entries written with other schema are not reused.
+     */
+    static final String             SCHEMA = FORMAT_VERSION + "/" + System.getProperty("java.specification.version") + "/" + getBuildVersion();
+
+    public static final CodecClassCache INSTANCE = new CodecClassCache();
+
+    private volatile File           directory;
+    private final String            schema;
+
+    private final AtomicLong        hits = new AtomicLong();
+    private final AtomicLong        misses = new AtomicLong();
+    private final AtomicLong        compileTime = new AtomicLong();
+    private final AtomicLong        loadTime = new AtomicLong();
+
+    private CodecClassCache() {
+        String dir = System.getProperty("TimeBase.codecs.cacheDir");
+        if (dir != null && !dir.isEmpty())
+            directory = new File(dir);
+
+        schema = SCHEMA;
+    }
+
+    CodecClassCache(File directory, String schema) {
+        this.directory = directory;
+        this.schema = schema;
+    }
+
+    /**
+     * Sets cache directory, unless it is already defined by system property.
+     */
+    public synchronized void        setDefaultDirectory(File dir) {
+        if (directory == null)
+            directory = dir;
+    }
+
+    public File                     getDirectory() {
+        return directory;
+    }
+
+    public boolean                  isEnabled() {
+        return ENABLED && directory != null;
+    }
+
+    /** @return number of classes loaded from the cache */
+    public long                     getHits() {
+        return hits.get();
+    }
+
+    /** @return number of compilations (cache misses) */
+    public long                     getMisses() {
+        return misses.get();
+    }
+
+    /** @return total time (milliseconds) spent in compilation of generated code */
+    public long                     getCompileTime() {
+        return compileTime.get() / 1_000_000;
+    }
+
+    /** @return total time (milliseconds) spent in loading classes from cache */
+    public long                     getLoadTime() {
+        return loadTime.get() / 1_000_000;
+    }
+
+    /**
+     * Accounts compilation, that was done bypassing the cache.
+     */
+    public void                     compiled(long nanos) {
+        misses.incrementAndGet();
+        compileTime.addAndGet(nanos);
+    }
+
+    /**
+     * Builds stable key for the given record layout: hash of descriptor (including parents), codec type and bound class.
+     */
+    public static String            getLayoutKey(RecordClassDescriptor rcd, Object type, Class<?> target) {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        for (RecordClassDescriptor cd = rcd; cd != null; cd = cd.getParent())
+            cd.dump(os);
+
+        String suffix = "|" + type + "|" + (target != null ? target.getName() : "");
+        byte[] tail = suffix.getBytes(StandardCharsets.UTF_8);
+        os.write(tail, 0, tail.length);
+
+        return (getSimpleName(rcd.getName()) + "-" + toHex(digest(os.toByteArray())));
+    }
+
+    /**
+     * Builds key for the set of generated sources having stable class names (e.g. beans).
+     */
+    public static String            getSourceKey(String prefix, Map<String, String> sources) {
+        return (prefix + "-" + getSourceDigest(sources));
+    }
+
+    /**
+     * Returns class compiled from given sources: loaded from cache or compiled and stored.
+     *
+     * @param key           layout key (see {@link #getLayoutKey})
+     * @param mainClass     name of class to return
+     * @param sources       map of full class name to source code, main class first
+     * @param parent        parent class loader for generated classes
+     * @return loaded class or null, if cache is disabled or sources cannot be compiled in-memory
+     *         (caller should compile sources in usual way).
+     * @throws JClassCompiler.CompilationException when sources have errors
+     */
+    public Class<?>                 load(String key, String mainClass, Map<String, String> sources, ClassLoader parent) {
+        Map<String, Class<?>> classes = loadAll(key, sources, parent);
+        return classes != null ? classes.get(mainClass) : null;
+    }
+
+    /**
+     * Same as {@link #load}, but returns all classes, mapped by names of given sources.
+     */
+    public Map<String, Class<?>>    loadAll(String key, Map<String, String> sources, ClassLoader parent) {
+        if (!isEnabled())
+            return null;
+
+        File dir = directory;
+        File file = new File(dir, key + EXTENSION);
+        String digest = getSourceDigest(sources);
+
+        long start = System.nanoTime();
+        Entry entry = read(file, schema, key, digest);
+
+        if (entry != null) {
+            try {
+                Map<String, Class<?>> classes = entry.define(parent, sources.keySet());
+                loadTime.addAndGet(System.nanoTime() - start);
+                hits.incrementAndGet();
+                return classes;
+            } catch (Throwable e) {
+                LOG.warn("Cannot load cached classes from %s: %s").with(file).with(e);
+            }
+        }
+
+        start = System.nanoTime();
+        entry = compile(sources, parent);
+        long elapsed = System.nanoTime() - start;
+
+        if (entry == null) {
+            // caller compiles sources in usual way and accounts miss
+            compileTime.addAndGet(elapsed);
+            return null;
+        }
+
+        compiled(elapsed);
+
+        entry.digest = digest;
+        write(dir, file, schema, key, entry);
+
+        try {
+            return entry.define(parent, sources.keySet());
+        } catch (Throwable e) {
+            LOG.warn("Cannot define compiled classes: %s").with(e);
+            return null;
+        }
+    }
+
+    //
+    //  Cache entry
+    //
+
+    private static final class Entry {
+        String                      digest;
+        final List<String>          names = new ArrayList<>(); // original names, same order as sources
+        final Map<String, byte[]>   bytecode = new HashMap<>(); // all compiled classes (including nested)
+
+        Map<String, Class<?>>       define(ClassLoader parent, Collection<String> requested) throws ClassNotFoundException {
+            ClassLoader loader = JClassCompiler.define(parent, bytecode);
+
+            Map<String, Class<?>> result = new HashMap<>();
+            Iterator<String> it = requested.iterator();
+
+            for (String name : names) {
+                Class<?> cls = loader.loadClass(name);
+                result.put(it.next(), cls);
+                // generated names differ between runs: provide classes by original names too
+                result.put(name, cls);
+            }
+
+            return result;
+        }
+    }
+
+    /**
+     * @return cached entry or null, if there is no valid entry for given schema, key and sources
+     */
+    private static Entry            read(File file, String schema, String key, String digest) {
+        if (!file.exists())
+            return null;
+
+        long length = file.length();
+
+        try (CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(new FileInputStream(file)), new CRC32());
+             DataInputStream in = new DataInputStream(checked)) {
+
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                LOG.debug("Ignoring cached classes %s: unknown format").with(file);
+                return null;
+            }
+
+            Entry entry = new Entry();
+
+            String entrySchema = in.readUTF();
+            String entryKey = in.readUTF();
+            entry.digest = in.readUTF();
+
+            if (!schema.equals(entrySchema) || !key.equals(entryKey) || !digest.equals(entry.digest)) {
+                LOG.debug("Ignoring stale cached classes %s (schema %s)").with(file).with(entrySchema);
+                return null;
+            }
+
+            int numNames = in.readInt();
+            checkLength(numNames, length);
+            for (int i = 0; i < numNames; i++)
+                entry.names.add(in.readUTF());
+
+            int numClasses = in.readInt();
+            checkLength(numClasses, length);
+            for (int i = 0; i < numClasses; i++) {
+                String name = in.readUTF();
+                int size = in.readInt();
+                checkLength(size, length);
+                byte[] bytes = new byte[size];
+                in.readFully(bytes);
+                entry.bytecode.put(name, bytes);
+            }
+
+            long checksum = checked.getChecksum().getValue();
+            if (in.readLong() != checksum || in.read() != -1)
+                throw new IOException("Checksum mismatch");
+
+            return entry;
+        } catch (IOException e) {
+            LOG.warn("Deleting corrupted cached classes %s: %s").with(file).with(e);
+            if (!file.delete())
+                LOG.warn("Cannot delete %s").with(file);
+            return null;
+        }
+    }
+
+    private static void             checkLength(int value, long fileLength) throws IOException {
+        if (value < 0 || value > fileLength)
+            throw new IOException("Invalid length: " + value);
+    }
+
+    private static void             write(File dir, File file, String schema, String key, Entry entry) {
+        File tmp = null;
+
+        try {
+            if (!dir.exists() && !dir.mkdirs() && !dir.isDirectory())
+                throw new IOException("Cannot create directory " + dir);
+
+            tmp = File.createTempFile(file.getName(), ".tmp", dir);
+
+            try (CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)), new CRC32());
+                 DataOutputStream out = new DataOutputStream(checked)) {
+
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(schema);
+                out.writeUTF(key);
+                out.writeUTF(entry.digest);
+
+                out.writeInt(entry.names.size());
+                for (String name : entry.names)
+                    out.writeUTF(name);
+
+                out.writeInt(entry.bytecode.size());
+                for (Map.Entry<String, byte[]> e : entry.bytecode.entrySet()) {
+                    out.writeUTF(e.getKey());
+                    out.writeInt(e.getValue().length);
+                    out.write(e.getValue());
+                }
+
+                out.writeLong(checked.getChecksum().getValue());
+            }
+
+            if (!tmp.renameTo(file)) {
+                // concurrent writer may be already stored the same entry
+                file.delete();
+                if (!tmp.renameTo(file))
+                    throw new IOException("Cannot rename " + tmp + " to " + file);
+            }
+
+            tmp = null;
+        } catch (IOException e) {
+            LOG.warn("Cannot store compiled classes into %s: %s").with(file).with(e);
+        } finally {
+            if (tmp != null)
+                tmp.delete();
+        }
+    }
+
+    private static Entry            compile(Map<String, String> sources, ClassLoader parent) {
+        Map<String, byte[]> bytecode = JClassCompiler.compileToBytecode(sources, parent);
+        if (bytecode == null)
+            return null;
+
+        Entry entry = new Entry();
+        entry.names.addAll(sources.keySet());
+        entry.bytecode.putAll(bytecode);
+        return entry;
+    }
+
+    //
+    //  Helpers
+    //
+
+    /**
+     * Digest of sources, where generated class names (which include sequence number) are replaced by positional placeholders.
+     */
+    static String                   getSourceDigest(Map<String, String> sources) {
+        List<String> names = new ArrayList<>();
+        for (String name : sources.keySet())
+            names.add(getSimpleName(name));
+
+        StringBuilder all = new StringBuilder();
+        all.append(FORMAT_VERSION).append('\n');
+
+        for (String code : sources.values()) {
+            for (int i = 0; i < names.size(); i++)
+                code = Pattern.compile("\\b" + Pattern.quote(names.get(i)) + "\\b").matcher(code).replaceAll(Matcher.quoteReplacement("$C" + i));
+
+            all.append(code).append('\n');
+        }
+
+        return toHex(digest(all.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String           getBuildVersion() {
+        String version = CodecClassCache.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+
+    private static byte[]           digest(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String           toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        return sb.toString();
+    }
+
+    private static String           getSimpleName(String name) {
+        if (name == null)
+            return "Undefined";
+
+        int idx = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$'));
+        String simple = idx != -1 ? name.substring(idx + 1) : name;
+        return simple.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.epam.deltix.qsrv.hf.pub.md;
 
+import com.epam.deltix.qsrv.hf.codec.CodecClassCache;
 import com.epam.deltix.qsrv.hf.pub.*;
 import com.epam.deltix.timebase.messages.*;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
@@ -1056,7 +1057,7 @@ public class JavaBeanGenerator extends BeanGenerator {
 
     public ClassLoader          compile ()  {
         try {
-            Map <String, String>        sources = new HashMap <> ();
+            Map <String, String>        sources = new TreeMap <> (); // stable order for cache key
 
             for (JavaBeanGenerator.Bean bean : beans ()) {
                 if (bean.cls != null)
@@ -1073,10 +1074,29 @@ public class JavaBeanGenerator extends BeanGenerator {
             if (sources.isEmpty ())
                 return (CL);
 
+            final CodecClassCache     cache = CodecClassCache.INSTANCE;
+
+            if (cache.isEnabled ()) {
+                Map <String, Class <?>> classes =
+                    cache.loadAll (CodecClassCache.getSourceKey ("beans", sources), sources, CL);
+
+                if (classes != null) {
+                    for (String name : sources.keySet ())
+                        getByNativeClassName (name).cls = classes.get (name);
+
+                    return (classes.get (sources.keySet ().iterator ().next ()).getClassLoader ());
+                }
+            }
+
+            final long                start = System.nanoTime ();
             final JavaCompilerHelper  jch = new JavaCompilerHelper (CL);
 
-            for (Map.Entry <String, Class <?>> e : jch.compileClasses (sources).entrySet ())
-                getByNativeClassName (e.getKey ()).cls = e.getValue ();
+            try {
+                for (Map.Entry <String, Class <?>> e : jch.compileClasses (sources).entrySet ())
+                    getByNativeClassName (e.getKey ()).cls = e.getValue ();
+            } finally {
+                cache.compiled (System.nanoTime () - start);
+            }
 
             return (jch.getClassLoader ());
         } catch (ClassNotFoundException x) {
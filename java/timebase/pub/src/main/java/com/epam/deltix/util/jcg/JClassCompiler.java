@@ -0,0 +1,303 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.util.jcg;
+
+import com.epam.deltix.gflog.api.Log;
+import com.epam.deltix.gflog.api.LogFactory;
+import com.epam.deltix.util.lang.JavaCompilerHelper;
+
+import javax.tools.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ *  Compiles classes generated using {@link JContext} model. Backend is selected by
+ *  "TimeBase.codegen.backend" system property:
+ *  <ul>
+ *      <li><b>javac</b> (default) - {@link JavaCompilerHelper};</li>
+ *      <li><b>memory</b> - in-process compilation without any file I/O, bytecode
+ *      is defined directly by a class loader. Falls back to <b>javac</b> backend when JDK compiler
+ *      is not available or referenced classes cannot be resolved from the class loader.
+ *      Errors in the source itself are reported by {@link CompilationException} without
+ *      compiling the same source again.</li>
+ *  </ul>
+ */
+public abstract class JClassCompiler {
+    private static final Log LOG = LogFactory.getLog(JClassCompiler.class);
+
+    public static final String      BACKEND_PROPERTY = "TimeBase.codegen.backend";
+
+    public enum Backend {
+        JAVAC,
+        MEMORY
+    }
+
+    private static volatile Backend defaultBackend = getBackend(System.getProperty(BACKEND_PROPERTY));
+
+    /**
+     *  Reports errors found in generated source.
+     */
+    public static final class CompilationException extends RuntimeException {
+        public CompilationException(String message) {
+            super(message);
+        }
+    }
+
+    static Backend                  getBackend(String value) {
+        if (value == null || value.isEmpty())
+            return Backend.JAVAC;
+
+        try {
+            return Backend.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown code generation backend \"%s\", using %s").with(value).with(Backend.JAVAC);
+            return Backend.JAVAC;
+        }
+    }
+
+    public static Backend           getDefaultBackend() {
+        return defaultBackend;
+    }
+
+    /**
+     *  Overrides backend defined by system property. Affects compilers created after the call.
+     */
+    public static void              setDefaultBackend(Backend backend) {
+        defaultBackend = backend;
+    }
+
+    /**
+     *  Creates compiler of default backend.
+     */
+    public static JClassCompiler    create(ClassLoader parent) {
+        return create(defaultBackend, parent);
+    }
+
+    public static JClassCompiler    create(Backend backend, ClassLoader parent) {
+        switch (backend) {
+            case MEMORY:    return new MemoryCompiler(parent);
+            default:        return new JavacCompiler(parent);
+        }
+    }
+
+    public abstract Class<?>                compileClass(String className, String code) throws ClassNotFoundException;
+
+    public abstract Map<String, Class<?>>   compileClasses(Map<String, String> sources) throws ClassNotFoundException;
+
+    /**
+     *  Compiles sources into bytecode in memory.
+     *
+     *  @param sources  map of class name to source code
+     *  @param parent   class loader used to resolve referenced classes
+     *  @return map of binary class name (including nested classes) to bytecode,
+     *          or null when JDK compiler is not available or referenced classes cannot be resolved.
+     *  @throws CompilationException when source has errors
+     */
+    public static Map<String, byte[]>       compileToBytecode(Map<String, String> sources, ClassLoader parent) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null)
+            return null;
+
+        List<JavaFileObject> units = new ArrayList<>(sources.size());
+        for (Map.Entry<String, String> e : sources.entrySet())
+            units.add(new SourceFile(e.getKey(), e.getValue()));
+
+        Map<String, byte[]> output = new HashMap<>();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager standard = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+
+        boolean compiled;
+
+        try (MemoryFileManager fm = new MemoryFileManager(standard, output)) {
+            List<String> options = Arrays.asList("-classpath", getClassPath(parent), "-g:none", "-proc:none");
+
+            compiled = compiler.getTask(null, fm, diagnostics, options, null, units).call();
+        } catch (IOException | RuntimeException e) {
+            LOG.debug("In-memory compilation failed: %s").with(e);
+            return null;
+        }
+
+        if (!compiled) {
+            if (LOG.isDebugEnabled())
+                LOG.debug("In-memory compilation failed: %s").with(diagnostics.getDiagnostics());
+
+            if (isResolutionFailure(diagnostics.getDiagnostics()))
+                return null; // other backend may see classes, which are not visible for us
+
+            throw new CompilationException("Generated code cannot be compiled: " + diagnostics.getDiagnostics());
+        }
+
+        return output;
+    }
+
+    /**
+     *  @return true if compilation failed only because referenced classes or packages were not found.
+     */
+    private static boolean                  isResolutionFailure(List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+        boolean found = false;
+
+        for (Diagnostic<? extends JavaFileObject> d : diagnostics) {
+            if (d.getKind() != Diagnostic.Kind.ERROR)
+                continue;
+
+            String code = d.getCode();
+            if (code == null || !(code.startsWith("compiler.err.cant.resolve") || code.startsWith("compiler.err.cant.access") || code.equals("compiler.err.doesnt.exist")))
+                return false;
+
+            found = true;
+        }
+
+        return found;
+    }
+
+    /**
+     *  Defines compiled classes in a new class loader.
+     */
+    public static ClassLoader               define(ClassLoader parent, Map<String, byte[]> bytecode) {
+        return new BytecodeClassLoader(parent, bytecode);
+    }
+
+    private static final class JavacCompiler extends JClassCompiler {
+        private final JavaCompilerHelper helper;
+
+        JavacCompiler(ClassLoader parent) {
+            this.helper = new JavaCompilerHelper(parent);
+        }
+
+        @Override
+        public Class<?>                 compileClass(String className, String code) throws ClassNotFoundException {
+            return helper.compileClass(className, code);
+        }
+
+        @Override
+        public Map<String, Class<?>>    compileClasses(Map<String, String> sources) throws ClassNotFoundException {
+            return helper.compileClasses(sources);
+        }
+    }
+
+    private static final class MemoryCompiler extends JClassCompiler {
+        private final ClassLoader parent;
+
+        MemoryCompiler(ClassLoader parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public Class<?>                 compileClass(String className, String code) throws ClassNotFoundException {
+            return compileClasses(Collections.singletonMap(className, code)).get(className);
+        }
+
+        @Override
+        public Map<String, Class<?>>    compileClasses(Map<String, String> sources) throws ClassNotFoundException {
+            Map<String, byte[]> bytecode = compileToBytecode(sources, parent);
+
+            if (bytecode == null)
+                return new JavacCompiler(parent).compileClasses(sources);
+
+            ClassLoader loader = define(parent, bytecode);
+
+            Map<String, Class<?>> classes = new HashMap<>();
+            for (String name : sources.keySet())
+                classes.put(name, loader.loadClass(name));
+
+            return classes;
+        }
+    }
+
+    private static final class BytecodeClassLoader extends ClassLoader {
+        private final Map<String, byte[]> bytecode;
+
+        BytecodeClassLoader(ClassLoader parent, Map<String, byte[]> bytecode) {
+            super(parent);
+            this.bytecode = bytecode;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] bytes = bytecode.get(name);
+            if (bytes == null)
+                throw new ClassNotFoundException(name);
+
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    private static String                   getClassPath(ClassLoader loader) {
+        LinkedHashSet<String> paths = new LinkedHashSet<>();
+
+        for (ClassLoader cl = loader; cl != null; cl = cl.getParent()) {
+            if (cl instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) cl).getURLs()) {
+                    try {
+                        paths.add(new File(url.toURI()).getPath());
+                    } catch (Exception e) {
+                        // not a file
+                    }
+                }
+            }
+        }
+
+        paths.addAll(Arrays.asList(System.getProperty("java.class.path", "").split(File.pathSeparator)));
+
+        return String.join(File.pathSeparator, paths);
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String code;
+
+        SourceFile(String className, String code) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+
+    private static final class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+        private final Map<String, byte[]> output;
+
+        MemoryFileManager(StandardJavaFileManager fileManager, Map<String, byte[]> output) {
+            super(fileManager);
+            this.output = output;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+            return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                @Override
+                public OutputStream openOutputStream() {
+                    return new ByteArrayOutputStream() {
+                        @Override
+                        public void close() {
+                            output.put(className, toByteArray());
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
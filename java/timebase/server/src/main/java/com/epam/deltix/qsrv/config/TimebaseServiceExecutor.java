@@ -261,6 +261,10 @@ public class TimebaseServiceExecutor implements ServiceExecutor {
         options.compression = config.getString("fileSystem.compression", options.compression);
         options.maxFolderSize = config.getInt("fileSystem.maxFolderSize", options.maxFolderSize);
         options.maxFileSize = config.getInt("fileSystem.maxFileSize", options.maxFileSize);
+        options.secondaryLocation = config.getString("fileSystem.secondaryLocation", options.secondaryLocation);
+        options.tieringAge = config.getLong("fileSystem.tieringAge", options.tieringAge);
+        options.walLocation = config.getString("fileSystem.walLocation", options.walLocation);
+        options.walCommitInterval = config.getInt("fileSystem.walCommitInterval", options.walCommitInterval);
 
         FSType fs = getFSType(config);
         if (fs == FSType.HDFS) {
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.fs.alloc;
+
+import com.epam.deltix.gflog.api.AppendableEntry;
+import com.epam.deltix.gflog.api.Loggable;
+import net.jcip.annotations.GuardedBy;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Off-heap heap manager: "buddy" memory allocation algorithm over direct memory. Thread-safe.
+ *
+ * Unlike {@link HeapManager} allocated blocks are addressed by offset and accessed only by copying
+ * (see {@link #write} and {@link #read}), since off-heap memory cannot be exposed as {@code byte[]}.
+ * Copying takes no lock: the caller guarantees that block is not deallocated while it is accessed.
+ */
+public class DirectBuddyHeapManager implements Loggable {
+
+    public static final int NOT_AVAILABLE = BinaryBuddyAllocator.NOT_AVAILABLE;
+
+    @GuardedBy("this")
+    private final BinaryBuddyAllocator2 alloc;
+    private final ByteBuffer heap;
+    // each thread copies through own view of the heap, so that positions are not shared
+    private final ThreadLocal<ByteBuffer> views;
+    private final int maxBlockSize;
+    private int usedSize;
+    private int usefulSize;
+    private int numberOfAllocatedBlocks;
+
+    /**
+     * @param minBlockSize minimum allocation unit (power of 2)
+     * @param maxBlockSize size of the heap (power of 2)
+     */
+    public DirectBuddyHeapManager (int minBlockSize, int maxBlockSize) {
+        this.maxBlockSize = maxBlockSize;
+
+        alloc = new BinaryBuddyAllocator2(minBlockSize, maxBlockSize);
+        heap = ByteBuffer.allocateDirect(maxBlockSize); // @ALLOCATION (once)
+        views = ThreadLocal.withInitial(heap::duplicate);
+    }
+
+    /**
+     * @return offset of the allocated block or {@link #NOT_AVAILABLE} if heap is out of memory
+     */
+    public synchronized int allocate(int size) {
+        int blockOffset = alloc.allocate(size);
+        if (blockOffset != NOT_AVAILABLE) {
+            usedSize += BinaryBuddyHeapManager.getBlockSize(size);
+            assert usedSize <= maxBlockSize;
+            numberOfAllocatedBlocks++;
+            usefulSize += size;
+        }
+        return blockOffset;
+    }
+
+    /**
+     * Releases previously allocated block. Size must be the same as given to {@link #allocate(int)}.
+     */
+    public synchronized void deallocate(int offset, int size) {
+        usedSize -= BinaryBuddyHeapManager.getBlockSize(size);
+        usefulSize -= size;
+        assert usedSize >= 0;
+        alloc.deallocate(offset, size);
+        numberOfAllocatedBlocks--;
+    }
+
+    /** Copies {@code length} bytes from {@code src} into heap block at given offset */
+    public void write(int offset, byte[] src, int srcOffset, int length) {
+        ByteBuffer view = views.get();
+        view.clear().position(offset);
+        view.put(src, srcOffset, length);
+    }
+
+    /** Copies {@code length} bytes from heap block at given offset into {@code dst} */
+    public void read(int offset, byte[] dst, int dstOffset, int length) {
+        ByteBuffer view = views.get();
+        view.clear().position(offset);
+        view.get(dst, dstOffset, length);
+    }
+
+    /** @return maximum size of allocation unit and also total amount of memory in heap */
+    public long getHeapSize() {
+        return maxBlockSize;
+    }
+
+    /** Return heap utilization percentage */
+    public synchronized long getUtilization() {
+        return 100L*usedSize / maxBlockSize;
+    }
+
+    @Override
+    public synchronized void appendTo(AppendableEntry entry) {
+        long useful = 100L * usefulSize / maxBlockSize;
+        long frag = (usedSize > 0) ? 100L * (usedSize - usefulSize) / usedSize : 0;
+
+        entry.append(numberOfAllocatedBlocks).append(" off-heap entries use ").append(getUtilization())
+            .append("%, useful content ").append(useful).append("%, fragmentation ").append(frag).append('%');
+    }
+}
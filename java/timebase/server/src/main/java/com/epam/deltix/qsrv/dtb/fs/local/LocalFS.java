@@ -53,4 +53,9 @@ public class LocalFS implements AbstractFileSystem {
     public String getSeparator() {
         return File.separator;
     }
+
+    @Override
+    public boolean isMappingSupported() {
+        return true;
+    }
 }
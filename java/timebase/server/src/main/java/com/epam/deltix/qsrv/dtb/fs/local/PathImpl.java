@@ -21,6 +21,7 @@ import com.epam.deltix.util.io.*;
 import com.epam.deltix.util.lang.Util;
 
 import java.io.*;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.util.Arrays;
@@ -113,6 +114,13 @@ class PathImpl extends File implements AbstractPath {
         return (fis);
     }
     
+    @Override
+    public MappedByteBuffer map () throws IOException {
+        try (FileChannel channel = FileChannel.open (toPath (), StandardOpenOption.READ)) {
+            return (channel.map (FileChannel.MapMode.READ_ONLY, 0, channel.size ()));
+        }
+    }
+
     @Override
     public OutputStream     openOutput (long size) throws IOException {
         if (size < 0)
@@ -60,4 +60,11 @@ public interface AbstractFileSystem {
     }
 
     default boolean isLocal() { return true; }
+
+    /**
+     * FS should return true if {@link AbstractPath#map()} is supported, i.e. files can be memory-mapped for reading.
+     */
+    default boolean isMappingSupported() {
+        return false;
+    }
 }
@@ -20,6 +20,7 @@ import org.apache.commons.lang3.NotImplementedException;
 
 import javax.annotation.CheckReturnValue;
 import java.io.*;
+import java.nio.MappedByteBuffer;
 
 /**
  *
@@ -57,6 +58,14 @@ public interface AbstractPath {
         return openInput(offset);
     }
 
+    /**
+     * Maps the whole file into memory for reading. Supported when {@link AbstractFileSystem#isMappingSupported()}.
+     * Mapping is released, when the returned buffer is garbage collected.
+     */
+    default MappedByteBuffer     map () throws IOException {
+        throw new NotImplementedException("map is not implemented for this FS");
+    }
+
     /** @param size when greater than zero specifies output file size (strict),  when zero - size is unknown (usually small) */
     @CheckReturnValue
     OutputStream         openOutput (long size) throws IOException;
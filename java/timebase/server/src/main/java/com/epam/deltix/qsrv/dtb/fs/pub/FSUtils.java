@@ -60,8 +60,8 @@ public class FSUtils {
     @SuppressWarnings("unchecked")
     public static boolean               isDistributedFS(final AbstractFileSystem fs) {
         AbstractFileSystem unwrappedFS = fs;
-        if (fs instanceof Wrapper)
-            unwrappedFS = ((Wrapper<AbstractFileSystem>) fs).getNestedInstance();
+        while (unwrappedFS instanceof Wrapper)
+            unwrappedFS = ((Wrapper<AbstractFileSystem>) unwrappedFS).getNestedInstance();
 
         return !(unwrappedFS instanceof LocalFS);
     }
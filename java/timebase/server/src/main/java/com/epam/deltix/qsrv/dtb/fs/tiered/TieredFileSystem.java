@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.fs.tiered;
+
+import com.epam.deltix.qsrv.dtb.fs.pub.AbstractFileSystem;
+import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
+import com.epam.deltix.util.lang.Wrapper;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * File system that keeps files on two storage tiers: a fast primary tier and a slower (and usually cheaper) secondary one.
+ *
+ * All files are written to the primary tier. Files located within the primary root folder may be moved
+ * to the same relative location within the secondary root folder using {@link #copyToSecondary(AbstractPath)}
+ * and {@link #completeMigration(AbstractPath, AbstractPath)}.
+ * Read operations look for a file in the primary tier first, so migrated files remain accessible using original paths.
+ *
+ * Both tiers are usually obtained from {@link com.epam.deltix.qsrv.dtb.fs.pub.FSFactory},
+ * so reads from both of them go through the configured chunk cache.
+ */
+@ParametersAreNonnullByDefault
+public final class TieredFileSystem implements AbstractFileSystem, Wrapper<AbstractFileSystem> {
+    private static final String TMP_SUFFIX = ".migrating";
+    private static final int    BUFFER_SIZE = 1 << 16;
+
+    private final AbstractFileSystem primary;
+    private final String primaryRoot;
+
+    private final AbstractFileSystem secondary;
+    private final AbstractPath secondaryRoot;
+
+    /**
+     * @param primaryRoot folder on the primary tier
+     * @param secondaryRoot folder on the secondary tier, that will keep files migrated from the primary root folder
+     */
+    public TieredFileSystem(AbstractPath primaryRoot, AbstractPath secondaryRoot) {
+        this.primary = primaryRoot.getFileSystem();
+        this.primaryRoot = primaryRoot.getPathString();
+        this.secondary = secondaryRoot.getFileSystem();
+        this.secondaryRoot = secondaryRoot;
+    }
+
+    @Override
+    public AbstractFileSystem getNestedInstance() {
+        return primary;
+    }
+
+    public AbstractFileSystem getSecondary() {
+        return secondary;
+    }
+
+    /**
+     * Copies the given file from the primary tier to a temporary file on the secondary one.
+     * File may be modified concurrently, so caller should check that it is unchanged
+     * before calling {@link #completeMigration(AbstractPath, AbstractPath)}.
+     *
+     * @param path file to copy
+     * @return temporary copy, or null when file is located outside of primary root or already migrated.
+     */
+    @Nullable
+    public AbstractPath copyToSecondary(AbstractPath path) throws IOException {
+        AbstractPath hot = unwrap(path);
+        AbstractPath cold = getSecondaryPath(hot);
+
+        if (cold == null || !hot.isFile())
+            return null;
+
+        long size = hot.length();
+
+        AbstractPath folder = cold.getParentPath();
+        folder.makeFolderRecursive();
+
+        AbstractPath tmp = folder.append(cold.getName() + TMP_SUFFIX);
+        tmp.deleteIfExists();
+
+        try (InputStream is = hot.openInput(0);
+             OutputStream os = tmp.openOutput(size)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+
+            for (int n; (n = is.read(buffer)) > 0; )
+                os.write(buffer, 0, n);
+        }
+
+        return tmp;
+    }
+
+    /**
+     * Replaces the given file of the primary tier with its copy, made by {@link #copyToSecondary(AbstractPath)}.
+     * Caller should guarantee that file is not modified concurrently.
+     *
+     * @param path file to move
+     * @param copy temporary copy of the file
+     * @return number of moved bytes
+     */
+    public long completeMigration(AbstractPath path, AbstractPath copy) throws IOException {
+        AbstractPath hot = unwrap(path);
+        AbstractPath cold = getSecondaryPath(hot);
+
+        long size = hot.length();
+
+        if (cold == null || copy.length() != size) {
+            copy.deleteIfExists();
+            throw new IOException("Failed to copy " + hot + " to " + cold + ": size mismatch");
+        }
+
+        // stale copy may be left by interrupted migration
+        cold.deleteIfExists();
+        copy.moveTo(cold);
+
+        hot.deleteExisting();
+
+        return size;
+    }
+
+    /**
+     * @return location of the given primary tier path in the secondary tier,
+     * or null when path is located outside of primary root
+     */
+    @Nullable
+    AbstractPath getSecondaryPath(AbstractPath path) {
+        String pathString = path.getPathString();
+
+        if (!pathString.startsWith(primaryRoot))
+            return null;
+
+        String relativePath = pathString.substring(primaryRoot.length());
+
+        if (relativePath.isEmpty())
+            return secondaryRoot;
+
+        if (!relativePath.startsWith("/") && !relativePath.startsWith("\\"))
+            return null;
+
+        AbstractPath result = secondaryRoot;
+        for (String name : relativePath.split("[/\\\\]")) {
+            if (!name.isEmpty())
+                result = result.append(name);
+        }
+
+        return result;
+    }
+
+    static AbstractPath unwrap(AbstractPath path) {
+        return path instanceof TieredPath ? ((TieredPath) path).getNestedInstance() : path;
+    }
+
+    TieredPath wrap(AbstractPath path) {
+        return new TieredPath(path, this);
+    }
+
+    /// AbstractFileSystem interface
+
+    @Override
+    public boolean isAbsolutePath(String path) {
+        return primary.isAbsolutePath(path);
+    }
+
+    @Override
+    public AbstractPath createPath(String path) {
+        return wrap(primary.createPath(path));
+    }
+
+    @Override
+    public AbstractPath createPath(AbstractPath parent, String child) {
+        return wrap(primary.createPath(unwrap(parent), child));
+    }
+
+    @Override
+    public String getSeparator() {
+        return primary.getSeparator();
+    }
+
+    @Override
+    public long getReopenOnSeekThreshold() {
+        return Math.min(primary.getReopenOnSeekThreshold(), secondary.getReopenOnSeekThreshold());
+    }
+
+    @Override
+    public int getPrefetchSize() {
+        return Math.max(primary.getPrefetchSize(), secondary.getPrefetchSize());
+    }
+
+    @Override
+    public boolean isReadsWithLimitPreferable() {
+        return primary.isReadsWithLimitPreferable() || secondary.isReadsWithLimitPreferable();
+    }
+
+    @Override
+    public boolean isLocal() {
+        return primary.isLocal() && secondary.isLocal();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.fs.tiered;
+
+import com.epam.deltix.qsrv.dtb.fs.common.DelegatingAbstractPath;
+import com.epam.deltix.qsrv.dtb.fs.pub.AbstractFileSystem;
+import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.TreeSet;
+
+/**
+ * Path of {@link TieredFileSystem}. Delegate is a path on the primary tier.
+ * Files missing on the primary tier are looked up on the secondary one.
+ * Structural operations (move, rename, delete) are applied to both tiers.
+ */
+final class TieredPath extends DelegatingAbstractPath<TieredPath> {
+
+    private final TieredFileSystem fs;
+    private AbstractPath secondary;
+    private boolean resolved;
+
+    TieredPath(AbstractPath delegate, TieredFileSystem fs) {
+        super(delegate);
+        this.fs = fs;
+    }
+
+    @Override
+    protected TieredPath wrap(AbstractPath path) {
+        return fs.wrap(path);
+    }
+
+    @Override
+    public AbstractFileSystem getFileSystem() {
+        return fs;
+    }
+
+    @Nullable
+    AbstractPath getSecondary() {
+        if (!resolved) {
+            secondary = fs.getSecondaryPath(delegate);
+            resolved = true;
+        }
+
+        return secondary;
+    }
+
+    private boolean existsSecondary() {
+        AbstractPath path = getSecondary();
+        return path != null && path.exists();
+    }
+
+    /**
+     * @return path on the tier where this file is located
+     */
+    private AbstractPath resolve() {
+        if (delegate.exists())
+            return delegate;
+
+        return existsSecondary() ? secondary : delegate;
+    }
+
+    @Override
+    public String[] listFolder() throws IOException {
+        AbstractPath path = getSecondary();
+
+        if (path == null || !path.isFolder())
+            return delegate.listFolder();
+
+        if (!delegate.isFolder())
+            return path.listFolder();
+
+        TreeSet<String> names = new TreeSet<>();
+        for (String name : delegate.listFolder())
+            names.add(name);
+        for (String name : path.listFolder())
+            names.add(name);
+
+        return names.toArray(new String[names.size()]);
+    }
+
+    @Override
+    public InputStream openInput(long offset) throws IOException {
+        return resolve().openInput(offset);
+    }
+
+    @Override
+    public InputStream openInput(long offset, long length) throws IOException {
+        return resolve().openInput(offset, length);
+    }
+
+    @Override
+    public OutputStream openOutputForAppend() throws IOException {
+        return delegate.openOutputForAppend();
+    }
+
+    @Override
+    public long length() {
+        return resolve().length();
+    }
+
+    @Override
+    public boolean isFile() {
+        return delegate.isFile() || (existsSecondary() && secondary.isFile());
+    }
+
+    @Override
+    public boolean isFolder() {
+        return delegate.isFolder() || (existsSecondary() && secondary.isFolder());
+    }
+
+    @Override
+    public boolean exists() {
+        return delegate.exists() || existsSecondary();
+    }
+
+    @Override
+    public void moveTo(AbstractPath newPath) throws IOException {
+        TieredPath target = fs.wrap(TieredFileSystem.unwrap(newPath));
+
+        boolean hot = delegate.exists();
+        boolean cold = existsSecondary();
+
+        if (hot || !cold)
+            delegate.moveTo(target.delegate);
+
+        if (cold) {
+            AbstractPath to = target.getSecondary();
+            if (to == null)
+                throw new IOException("Cannot move " + this + " outside of tiered storage: " + newPath);
+
+            to.getParentPath().makeFolderRecursive();
+            secondary.moveTo(to);
+        }
+    }
+
+    @Override
+    public TieredPath renameTo(String newName) throws IOException {
+        boolean hot = delegate.exists();
+        boolean cold = existsSecondary();
+
+        if (hot || !cold)
+            delegate.renameTo(newName);
+
+        if (cold)
+            secondary.renameTo(newName);
+
+        return wrap(delegate.getParentPath().append(newName));
+    }
+
+    @Override
+    public void deleteExisting() throws IOException {
+        boolean hot = delegate.exists();
+        boolean cold = existsSecondary();
+
+        if (hot || !cold)
+            delegate.deleteExisting();
+
+        if (cold)
+            secondary.deleteExisting();
+    }
+
+    @Override
+    public void deleteIfExists() throws IOException {
+        delegate.deleteIfExists();
+
+        if (existsSecondary())
+            secondary.deleteIfExists();
+    }
+
+    @Override
+    public long getModificationTime() throws IOException {
+        return resolve().getModificationTime();
+    }
+
+    @Override
+    public void setModificationTime(long timestamp) throws IOException {
+        resolve().setModificationTime(timestamp);
+    }
+
+    @Override
+    public void setCacheMetadata(boolean cache) {
+        delegate.setCacheMetadata(cache);
+
+        if (getSecondary() != null)
+            secondary.setCacheMetadata(cache);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString() + " (T)";
+    }
+}
@@ -20,4 +20,5 @@ public enum Algorithm {
     ZLIB,
     SNAPPY,
     LZ4,
+    ZSTD,
 }
@@ -41,4 +41,10 @@ public abstract class BlockCompressor {
         int                         length,
         ByteArrayList               appendTo
     );
-}
\ No newline at end of file
+
+    /**
+     *  Releases native resources of the codec, if any. It must not be used afterwards.
+     */
+    public void                 close() {
+    }
+}
@@ -27,8 +27,14 @@ import java.util.StringTokenizer;
  */
 public class BlockCompressorFactory {
 
+    public static final String      DICTIONARY_OPTION = "DICT";
+
+    private static final int        ZSTD_DEFAULT_LEVEL = 3;
+
     public static byte              getCode(Algorithm algorithm) {
         switch (algorithm) {
+            case ZSTD:
+                return 3;
             case LZ4:
                 return 2;
             case SNAPPY:
@@ -43,6 +49,8 @@ public class BlockCompressorFactory {
 
     public static Algorithm              getAlgorithm(byte code) {
         switch (code) {
+            case 3:
+                return Algorithm.ZSTD;
             case 2:
                 return Algorithm.LZ4;
             case 1:
@@ -56,13 +64,23 @@ public class BlockCompressorFactory {
     }
 
     public static BlockCompressor createCompressor(String compression, ByteArrayList buffer) {
+        return createCompressor(compression, null, buffer);
+    }
+
+    /**
+     *  Creates compressor for the given compression, for example "LZ4(5)" or "ZSTD(3, DICT)".
+     *  @param dictionary compression dictionary; used by ZSTD only, may be null
+     */
+    public static BlockCompressor createCompressor(String compression, ZstdDigestedDictionary dictionary, ByteArrayList buffer) {
         if (compression == null)
             throw new NullPointerException("Compression can't be null.");
 
-        StringTokenizer tokenizer = new StringTokenizer(compression, "()");
+        StringTokenizer tokenizer = new StringTokenizer(compression, "(),");
         Algorithm algorithm = getCompressionType(tokenizer);
 
         switch (algorithm) {
+            case ZSTD:
+                return new ZstdBlockCompressor(getCompressionLevel(tokenizer, ZSTD_DEFAULT_LEVEL), dictionary, buffer);
             case LZ4:
                 return new LZ4BlockCompressor(getCompressionLevel(tokenizer), buffer);
             case ZLIB:
@@ -76,10 +94,19 @@ public class BlockCompressorFactory {
     }
 
     public static BlockDecompressor createDecompressor(byte code) {
+        return createDecompressor(code, null);
+    }
+
+    /**
+     *  @param dictionary compression dictionary; used by ZSTD only, may be null
+     */
+    public static BlockDecompressor createDecompressor(byte code, ZstdDigestedDictionary dictionary) {
 
         Algorithm algorithm = getAlgorithm(code);
 
         switch (algorithm) {
+            case ZSTD:
+                return new ZstdBlockDecompressor(dictionary);
             case LZ4:
                 return new LZ4BlockDecompressor();
             case ZLIB:
@@ -92,6 +119,25 @@ public class BlockCompressorFactory {
         }
     }
 
+    /**
+     *  @return true, if given compression requires trained dictionary, for example "ZSTD(3, DICT)"
+     */
+    public static boolean           usesDictionary(String compression) {
+        if (compression == null)
+            return false;
+
+        StringTokenizer tokenizer = new StringTokenizer(compression, "(),");
+        if (getCompressionType(tokenizer) != Algorithm.ZSTD)
+            return false;
+
+        while (tokenizer.hasMoreTokens()) {
+            if (DICTIONARY_OPTION.equalsIgnoreCase(tokenizer.nextToken().trim()))
+                return true;
+        }
+
+        return false;
+    }
+
     private static Algorithm getCompressionType(StringTokenizer tokenizer) {
         try {
             if (tokenizer.hasMoreTokens())
@@ -104,17 +150,21 @@ public class BlockCompressorFactory {
     }
 
     private static int getCompressionLevel(StringTokenizer tokenizer) {
+        return getCompressionLevel(tokenizer, 1);
+    }
+
+    private static int getCompressionLevel(StringTokenizer tokenizer, int defaultLevel) {
         if (tokenizer.hasMoreTokens()) {
             String level = tokenizer.nextToken().trim();
             try {
                 return Integer.parseInt(level);
             } catch(NumberFormatException e) {
-                return 1;
+                return defaultLevel;
             } catch(NullPointerException e) {
-                return 1;
+                return defaultLevel;
             }
         }
 
-        return 1;
+        return defaultLevel;
     }
 }
@@ -63,4 +63,10 @@ public abstract class BlockDecompressor {
         int                         outOffset,
         int                         outLength
     );
+
+    /**
+     *  Releases native resources of the codec, if any. It must not be used afterwards.
+     */
+    public void                 close() {
+    }
 }
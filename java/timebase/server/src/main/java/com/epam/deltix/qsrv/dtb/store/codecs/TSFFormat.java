@@ -26,6 +26,16 @@ public class TSFFormat {
 
     public final static short   INDEX_FORMAT_VERSION = 2;
     public final static short   FILE_FORMAT_VERSION = 3;
+    /**
+     *  Files with zone maps: header has additional int (length of zone maps section),
+     *  and the section itself follows the index entries.
+     */
+    public final static short   ZONE_MAP_FORMAT_VERSION = 4;
+    /**
+     *  Files with write-ahead log position: header of the version 4 has additional
+     *  id of the log, position of the last stored change and limit timestamp of the file.
+     */
+    public final static short   LOG_POSITION_FORMAT_VERSION = 5;
 
     public static byte          getAlgorithmCode(int flags) {
         return (byte)((flags & ALGORITHM_FLAG) >> 28);
@@ -36,6 +36,8 @@ public class TSNames {
     public static final String      ROOT_PROPS_NAME = "config.properties";
     
     public static final String      INDEX_NAME = "index.dat";                   
+
+    public static final String      ZSTD_DICTIONARY_NAME = "dictionary.dat";
     
     public static String            buildFileName (int id) {
         return (String.format ("%s%04x.dat", FILE_NAME_PREFIX, id));
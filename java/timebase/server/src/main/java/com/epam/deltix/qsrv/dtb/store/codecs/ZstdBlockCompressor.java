@@ -0,0 +1,67 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.codecs;
+
+import com.epam.deltix.util.collections.generated.ByteArrayList;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+
+/**
+ *  Zstandard block compressor. When dictionary is specified, every block is compressed
+ *  using it and frame header refers to the dictionary id.
+ */
+public class ZstdBlockCompressor extends BlockCompressor {
+    private final ZstdCompressCtx               context = new ZstdCompressCtx();
+
+    public ZstdBlockCompressor(int compressionLevel, ZstdDigestedDictionary dictionary, ByteArrayList buffer) {
+        super(buffer);
+
+        context.setLevel(compressionLevel);
+        context.setChecksum(false);
+
+        if (dictionary != null)
+            context.loadDict(dictionary.forCompression(compressionLevel));
+    }
+
+    @Override
+    public void                 close() {
+        context.close();
+    }
+
+    @Override
+    public byte                 code() {
+        return BlockCompressorFactory.getCode(Algorithm.ZSTD);
+    }
+
+    public int                  deflate (
+        byte []                     src,
+        int                         offset,
+        int                         length,
+        ByteArrayList               appendTo
+    )
+    {
+        int maxCompressedLength = (int) Zstd.compressBound(length);
+
+        int size = appendTo.size();
+        appendTo.ensureCapacity(size + maxCompressedLength);
+        byte[] data = appendTo.getInternalBuffer();
+        int compressedLength = context.compressByteArray(data, size, maxCompressedLength, src, offset, length);
+        appendTo.setSize(size + compressedLength);
+
+        return compressedLength;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.codecs;
+
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+
+/**
+ *  Zstandard block decompressor. Blocks compressed without dictionary
+ *  are decoded correctly even if dictionary is specified.
+ */
+public class ZstdBlockDecompressor extends BlockDecompressor {
+    private final ZstdDecompressCtx             context = new ZstdDecompressCtx();
+
+    public ZstdBlockDecompressor(ZstdDigestedDictionary dictionary) {
+        if (dictionary != null)
+            context.loadDict(dictionary.forDecompression());
+    }
+
+    @Override
+    public void                 close() {
+        context.close();
+    }
+
+    public void                 inflate (
+        byte []                     src,
+        int                         srcOffset,
+        int                         srcLength,
+        byte []                     out,
+        int                         outOffset,
+        int                         outLength
+    )
+    {
+        int         infLength;
+
+        try {
+            infLength = context.decompressByteArray(out, outOffset, outLength, src, srcOffset, srcLength);
+        } catch (ZstdException x) {
+            throw new com.epam.deltix.util.io.UncheckedIOException(x);
+        }
+
+        if (infLength != outLength)
+            throw new com.epam.deltix.util.io.UncheckedIOException( "Inflated " + infLength + " bytes; expected: " + outLength
+            );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.codecs;
+
+import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
+import com.epam.deltix.util.io.IOUtil;
+import com.github.luben.zstd.ZstdDictTrainer;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ *  Collects samples of data blocks and trains Zstandard dictionary.
+ *  Dictionary is trained once per root and stored next to the root index file,
+ *  see {@link TSNames#ZSTD_DICTIONARY_NAME}.
+ */
+public class ZstdDictionary {
+    public static final int     DICTIONARY_SIZE =
+            Integer.getInteger("TimeBase.fileSystem.compression.zstd.dictionarySize", 64 << 10);
+
+    public static final int     SAMPLES_SIZE =
+            Integer.getInteger("TimeBase.fileSystem.compression.zstd.samplesSize", 100 * DICTIONARY_SIZE);
+
+    // maximum length of the single sample
+    private static final int    SAMPLE_LENGTH = 4096;
+
+    // maximum number of samples taken from the single data block
+    private static final int    SAMPLES_PER_BLOCK = 8;
+
+    private final ZstdDictTrainer   trainer = new ZstdDictTrainer(SAMPLES_SIZE, DICTIONARY_SIZE);
+    private int                     sampled = 0;
+
+    /**
+     *  Adds samples from the given data block.
+     *  @return true, when enough samples are collected to train dictionary
+     */
+    public boolean              addSamples(byte[] data, int offset, int length) {
+        if (length == 0)
+            return isComplete();
+
+        int step = Math.max(length / SAMPLES_PER_BLOCK, SAMPLE_LENGTH);
+
+        for (int position = 0; position < length && !isComplete(); position += step) {
+            int size = Math.min(SAMPLE_LENGTH, length - position);
+
+            if (!trainer.addSample(Arrays.copyOfRange(data, offset + position, offset + position + size))) // @ALLOCATION
+                sampled = SAMPLES_SIZE;
+            else
+                sampled += size;
+        }
+
+        return isComplete();
+    }
+
+    public boolean              isComplete() {
+        return sampled >= SAMPLES_SIZE - SAMPLE_LENGTH;
+    }
+
+    /**
+     *  Trains dictionary using collected samples.
+     *  @throws com.github.luben.zstd.ZstdException when samples are not suitable for training
+     */
+    public byte[]               train() {
+        return trainer.trainSamples();
+    }
+
+    /**
+     *  Reads dictionary from the given file.
+     *  @return dictionary content, or null if file does not exist
+     */
+    public static byte[]        read(AbstractPath file) throws IOException {
+        if (!file.exists())
+            return null;
+
+        try (InputStream is = file.openInput(0)) {
+            byte[] dictionary = new byte[(int) file.length()];
+            IOUtil.readFully(is, dictionary, 0, dictionary.length);
+            return dictionary;
+        } catch (FileNotFoundException x) {
+            return null;
+        }
+    }
+
+    /**
+     *  Finds dictionary of the root containing given time slice file.
+     *  @return dictionary content, or null if root has no dictionary
+     */
+    public static byte[]        find(AbstractPath tsf) throws IOException {
+        for (AbstractPath folder = tsf.getParentPath(); folder != null; folder = folder.getParentPath()) {
+            if (folder.append(TSNames.ROOT_PROPS_NAME).exists())
+                return read(folder.append(TSNames.ZSTD_DICTIONARY_NAME));
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.codecs;
+
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  Trained Zstandard dictionary, digested once and shared by all compressors
+ *  and decompressors of the root. Unlike compression contexts, digested
+ *  dictionaries are thread-safe. They are kept while contexts may refer to them.
+ */
+public class ZstdDigestedDictionary {
+    private final byte[]                            content;
+    private final ZstdDictDecompress                decompress;
+
+    // digested for compression levels in use, usually the single one
+    private final Map<Integer, ZstdDictCompress>    compress = new HashMap<>();
+
+    public ZstdDigestedDictionary(byte[] content) {
+        this.content = content;
+        this.decompress = new ZstdDictDecompress(content);
+    }
+
+    public byte[]                       getContent() {
+        return content;
+    }
+
+    public ZstdDictDecompress           forDecompression() {
+        return decompress;
+    }
+
+    public synchronized ZstdDictCompress forCompression(int level) {
+        return compress.computeIfAbsent(level, l -> new ZstdDictCompress(content, l));
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.epam.deltix.qsrv.dtb.store.dataacc;
 
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMap;
 import com.epam.deltix.util.collections.ByteArray;
 import com.epam.deltix.util.lang.*;
 import com.epam.deltix.util.memory.MemoryDataInput;
@@ -36,6 +37,7 @@ public final class DataBlock implements DataBlockInfo {
     private int                             length;
     private ByteArray                       data;
     private boolean                         isDirty;
+    private ZoneMap                         zoneMap;
 
     @Override
     public String                   toString () {
@@ -67,6 +69,9 @@ public final class DataBlock implements DataBlockInfo {
     }
     
     private boolean                    setDirty () {
+        // any modification makes statistics stale
+        zoneMap = null;
+
         if (!isDirty) {
             isDirty = true;
             return true;
@@ -110,6 +115,7 @@ public final class DataBlock implements DataBlockInfo {
         this.length = length;
         this.startTime = startTime;
         this.endTime = endTime;
+        this.zoneMap = null;
         
         alloc ();                
     }   
@@ -200,6 +206,7 @@ public final class DataBlock implements DataBlockInfo {
         //PDSFactory.getAllocator().free(data);
         data = null;
         ts = null;
+        zoneMap = null;
         isDirty = false;    // extremely important for reuse!
     }
 
@@ -216,6 +223,44 @@ public final class DataBlock implements DataBlockInfo {
         return setDirty ();
     }
 
+    /**
+     *  Appends data to the end of the block. Appended messages must not be
+     *  earlier than the existing ones. Returns true, if block goes dirty
+     */
+    public boolean                     append (ByteArray src, int offset, int length, long startTime, long endTime) {
+        int         newLength = this.length + length;
+
+        if (newLength > data.getLength()) {
+            ByteArray old = data;
+
+            data = new ByteArray(Util.doubleUntilAtLeast(old.getLength(), newLength)); // @ALLOCATION
+
+            if (this.length > 0)
+                ByteArray.arraycopy(old, 0, data, 0, this.length);
+        }
+
+        ByteArray.arraycopy(src, offset, data, this.length, length);
+
+        this.length = newLength;
+
+        if (startTime < this.startTime)
+            this.startTime = startTime;
+
+        if (endTime > this.endTime)
+            this.endTime = endTime;
+
+        return setDirty ();
+    }
+
+    @Override
+    public ZoneMap                  getZoneMap () {
+        return (zoneMap);
+    }
+
+    public void                     setZoneMap (ZoneMap zoneMap) {
+        this.zoneMap = zoneMap;
+    }
+
     public void                     setClean () {
         isDirty = false;
     }
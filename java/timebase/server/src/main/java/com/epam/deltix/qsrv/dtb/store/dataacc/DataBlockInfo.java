@@ -16,6 +16,8 @@
  */
 package com.epam.deltix.qsrv.dtb.store.dataacc;
 
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMap;
+
 /**
  *
  */
@@ -28,5 +30,11 @@ public interface DataBlockInfo {
 
     public int                  getDataLength ();
 
+    /**
+     *  Returns statistics of the block data, or null, if unknown
+     *  (zone maps are not enabled, or block was modified since it was stored).
+     */
+    public ZoneMap              getZoneMap ();
+
     public void                 clear();
 }
@@ -38,6 +38,7 @@ public final class DataReaderImpl
 
 
     private EntityFilter                        currentFilter;
+    private volatile ZoneMapFilter              zoneMapFilter;
     private boolean                             forward;
     private boolean                             pqIsLoaded = false;    
     private ABLPQ                               pq;
@@ -226,6 +227,15 @@ public final class DataReaderImpl
         limit = timestamp;
     }
 
+    @Override
+    public void                 setZoneMapFilter(ZoneMapFilter filter) {
+        zoneMapFilter = filter;
+    }
+
+    ZoneMapFilter               getZoneMapFilter() {
+        return zoneMapFilter;
+    }
+
     @Override
     public long                 getStartTimestamp() {
         return currentTimeSlice != null ? currentTimeSlice.getStartTimestamp() : currentTimestamp;
@@ -248,7 +258,7 @@ public final class DataReaderImpl
                 return (false);
 
             if (!pqIsLoaded) {
-                currentTimeSlice.processBlocks(currentFilter, this);
+                currentTimeSlice.processBlocks(currentFilter, zoneMapFilter, this);
                 pqIsLoaded = true;
             }
 
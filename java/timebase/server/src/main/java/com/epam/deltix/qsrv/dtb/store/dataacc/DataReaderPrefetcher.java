@@ -16,21 +16,28 @@
  */
 package com.epam.deltix.qsrv.dtb.store.dataacc;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.epam.deltix.gflog.api.Log;
 import com.epam.deltix.gflog.api.LogFactory;
 import com.epam.deltix.gflog.api.LogLevel;
 import com.epam.deltix.qsrv.dtb.store.pub.EntityFilter;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.NotificationHandler;
 import com.epam.deltix.util.concurrent.UncheckedInterruptedException;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
+import java.lang.ref.Cleaner;
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Prefetches timeslice data for {@link DataReaderImpl} using dedicated thread pool.
@@ -40,12 +47,46 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * This implementation not starts prefetching till reader tries to access the <b>second</b> slice of data (first call to {@link #getNextTimeSliceToReadPrefetched}.
  *
+ * Prefetch depth is adaptive: it is derived from the measured consumer speed (time reader spends on a slice)
+ * and the observed slice load latency, limited by {@code maxPrefetchSize}. Shared prefetch leases are handed out
+ * using fair-share policy: reader that holds more than {@code totalPrefetchMax / activeReaders} leases
+ * may borrow only when this leaves enough free leases for other readers.
+ *
  * @author Alexei Osipov
  */
 @ParametersAreNonnullByDefault
 public class DataReaderPrefetcher {
     private static final Log LOG = LogFactory.getLog(DataReaderPrefetcher.class);
 
+    public enum Properties {
+        prefetchLeases,
+        prefetchReaders,
+        prefetchDepth,
+        prefetchHits,
+        prefetchMisses,
+        prefetchWaitTime
+    }
+
+    /**
+     * Exports prefetch metrics (component "Prefetch"). Per-reader values are arrays aligned with {@link Properties#prefetchReaders}.
+     */
+    public static final NotificationHandler HANDLER = new NotificationHandler("Prefetch", Properties.values(), 1000);
+
+    private static final long PUBLISH_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final AtomicLong lastPublishTime = new AtomicLong(0);
+
+    // Weight of the new sample in moving averages of consume interval and load latency.
+    private static final double EWMA_ALPHA = 0.25;
+
+    // Prefetchers that started prefetching (take part in sharing of leases).
+    // Keys are weak: reader that was abandoned without close must not keep its fair share forever.
+    private static final Set<DataReaderPrefetcher> activePrefetchers =
+            Collections.newSetFromMap(new MapMaker().weakKeys().<DataReaderPrefetcher, Boolean>makeMap());
+
+    // Returns leases of abandoned prefetchers to the shared pool.
+    private static final Cleaner leaseCleaner = Cleaner.create(
+            new ThreadFactoryBuilder().setNameFormat("datareader-prefetch-cleaner").setDaemon(true).build());
+
     // Queue with future slices.
     // Contract: all slices in queue are checked out to "prefetchAccessor".
     // Contract: whoever removes entries from the queue is responsible to check them in.
@@ -67,6 +108,18 @@ public class DataReaderPrefetcher {
 
     private final int maxPrefetchSize; // Maximum number for prefetched slices for this client.
 
+    // Adaptive depth state. Nanoseconds, negative means "no samples yet".
+    private double consumeIntervalAvg = -1; // Time reader spends on a slice (between getting slice and asking for next one)
+    private double loadLatencyAvg = -1; // Time to load (process blocks) of a single slice
+    private long lastReturnTime = 0;
+    private final LeaseCount leasesHeld = new LeaseCount(); // Number of shared leases held by this prefetcher
+
+    // Metrics
+    private volatile int targetDepth;
+    private volatile long hits = 0; // Slice was prefetched when reader asked for it
+    private volatile long misses = 0; // Reader had to wait for prefetch or load slice itself
+    private volatile long waitTime = 0; // Total time (nanoseconds) reader waited for prefetch tasks
+
     private static final ExecutorService prefetchExecutor = createPrefetchThreadPoolExecutor();
 
     // Global number of permitted prefetched slices (across all DataReader-s).
@@ -95,7 +148,9 @@ public class DataReaderPrefetcher {
     public DataReaderPrefetcher(DataReaderImpl reader, int prefetchSize) {
         this.reader = reader;
         this.maxPrefetchSize = prefetchSize;
+        this.targetDepth = Math.min(2, prefetchSize);
         this.prefetchAccessor = new PrefetchAccessor(this.reader);
+        leaseCleaner.register(this, leasesHeld);
     }
 
 
@@ -111,10 +166,16 @@ public class DataReaderPrefetcher {
      */
     @Nullable
     public TimeSlice getNextTimeSliceToReadPrefetched(TimeSlice currentTimeSlice) throws InterruptedException {
+        long now = System.nanoTime();
         if (!started) {
             startFromSlice(currentTimeSlice);
             started = true;
+            register();
+        } else if (lastReturnTime != 0) {
+            consumeIntervalAvg = average(consumeIntervalAvg, now - lastReturnTime);
         }
+
+        targetDepth = computeTargetDepth();
         addSlicesToPrefetchQueue();
         if (LOG.isEnabled(LogLevel.TRACE)) {
             LOG.trace()
@@ -126,6 +187,8 @@ public class DataReaderPrefetcher {
 
         if (prefetchSliceQueue.isEmpty()) {
             // No more slices left. This mean end of stream.
+            // Reader will not ask for leases anymore, so it should not reduce fair share of others.
+            deregister();
             return null;
         }
         PrefetchHolder prefetchHolder = prefetchSliceQueue.poll();
@@ -134,12 +197,24 @@ public class DataReaderPrefetcher {
             TimeSlice prefetchedSlice;
             try {
                 if (prefetchHolder.sliceFuture != null) {
+                    if (prefetchHolder.sliceFuture.isDone()) {
+                        hits++;
+                    } else {
+                        misses++;
+                    }
+
                     // Wait for prefetch to complete
+                    long waitStart = System.nanoTime();
                     prefetchedSlice = prefetchHolder.sliceFuture.get();
+                    waitTime += System.nanoTime() - waitStart;
+
                     assert prefetchedSlice == prefetchHolder.slice;
-                    decrementUsedPrefetchSlots();
+
+                    if (prefetchHolder.loadTime > 0)
+                        loadLatencyAvg = average(loadLatencyAvg, prefetchHolder.loadTime);
                 } else {
                     // No prefetch for this slice. Just use it.
+                    misses++;
                     prefetchedSlice = prefetchHolder.slice;
                 }
             } catch (CancellationException e) {
@@ -156,10 +231,38 @@ public class DataReaderPrefetcher {
             // Change accessor of the slice from "prefetchAccessor" to "reader"
             return reader.store.checkOutTimeSlice(reader, prefetchedSlice);
         } finally {
+            releaseLease(prefetchHolder);
             releasePrefetchedSlice(prefetchHolder.slice);
+            lastReturnTime = System.nanoTime();
+            publishMetrics(lastReturnTime);
         }
     }
 
+    private static double average(double avg, long sample) {
+        return avg < 0 ? sample : avg + EWMA_ALPHA * (sample - avg);
+    }
+
+    /**
+     * Number of slices that should be "in flight" so reader never waits:
+     * slices consumed by reader during load of a single slice plus one in reserve.
+     */
+    private int computeTargetDepth() {
+        if (consumeIntervalAvg < 0 || loadLatencyAvg < 0)
+            return targetDepth; // not enough statistics yet
+
+        return targetDepth(loadLatencyAvg, consumeIntervalAvg, maxPrefetchSize);
+    }
+
+    /**
+     * @param loadLatency time (nanoseconds) to load a single slice
+     * @param consumeInterval time (nanoseconds) reader spends on a single slice
+     * @return number of slices to keep in flight, in range [1, maxPrefetchSize]
+     */
+    static int targetDepth(double loadLatency, double consumeInterval, int maxPrefetchSize) {
+        double depth = Math.ceil(loadLatency / Math.max(consumeInterval, 1.0)) + 1;
+        return (int) Math.max(1, Math.min(depth, maxPrefetchSize));
+    }
+
     private void addSlicesToPrefetchQueue() throws InterruptedException {
         assert started;
         if (nextTimeSliceToPrefetch == null) {
@@ -173,9 +276,10 @@ public class DataReaderPrefetcher {
         if (slicesToAdd > 0) {
             final AtomicBoolean cancelFlag = initAndGetCancelFlag();
             EntityFilter filter = reader.getCurrentFilter();
+            ZoneMapFilter zoneFilter = reader.getZoneMapFilter();
 
             while (slicesToAdd > 0 && nextTimeSliceToPrefetch != null) {
-                boolean hasPrefetchLease = incrementUsedPrefetchSlots();
+                boolean hasPrefetchLease = acquireLease();
                 if (!hasPrefetchLease) {
                     if (slicesAdded > 0 || !prefetchSliceQueue.isEmpty()) {
                         // We already have at least one new slice to work on. Do not add new slices for now.
@@ -190,18 +294,22 @@ public class DataReaderPrefetcher {
                     // We reached end or hit the limit. No more data.
                     releasePrefetchedSlice(nextTimeSliceToPrefetch);
                     nextTimeSliceToPrefetch = null;
+                    if (hasPrefetchLease)
+                        releaseLease();
                     break;
                 }
 
-                Future<TimeSlice> prefetchTaskFuture;
+                final PrefetchHolder holder = new PrefetchHolder(next, hasPrefetchLease);
                 // Add prefetch task
                 try {
-                    prefetchTaskFuture = prefetchExecutor.submit(new Callable<TimeSlice>() {
+                    holder.sliceFuture = prefetchExecutor.submit(new Callable<TimeSlice>() {
                         @Override
                         public TimeSlice call() {
                             if (!cancelFlag.get()) {
                                 //System.out.println("Starting to read slice from thread: " + Thread.currentThread().getName());
-                                next.processBlocks(filter, null);
+                                long start = System.nanoTime();
+                                next.processBlocks(filter, zoneFilter, null);
+                                holder.loadTime = System.nanoTime() - start;
                             }
 
                             return next;
@@ -210,10 +318,11 @@ public class DataReaderPrefetcher {
                 } catch (RejectedExecutionException e) {
                     // Out of prefetching threads.
                     // Let reader to fetch data in his own thread when he reach this block.
-                    prefetchTaskFuture = null;
+                    holder.sliceFuture = null;
                 }
 
-                prefetchSliceQueue.add(new PrefetchHolder(next, prefetchTaskFuture));
+                Future<TimeSlice> prefetchTaskFuture = holder.sliceFuture;
+                prefetchSliceQueue.add(holder);
                 totalSlicesInAllQueues.incrementAndGet();
 
                 slicesToAdd--;
@@ -237,23 +346,48 @@ public class DataReaderPrefetcher {
     }
 
     /**
+     * Fair-share lease acquisition. Reader within its fair share may take any free lease.
+     * Reader above its fair share may take a lease only if at least one fair share remains free for others.
+     *
      * @return true if successfully got lease for new prefetch slot
      */
-    private boolean incrementUsedPrefetchSlots() {
-        int newValue = prefetchLeases.incrementAndGet();
-        if (newValue > totalPrefetchMax) {
-            // We got above the limit. Rollback.
-            prefetchLeases.decrementAndGet();
-            return false;
-        } else {
-            return true;
+    boolean acquireLease() {
+        int limit = leaseLimit(leasesHeld.value, activePrefetchers.size(), totalPrefetchMax);
+
+        for (;;) {
+            int current = prefetchLeases.get();
+            if (current >= limit)
+                return false;
+
+            if (prefetchLeases.compareAndSet(current, current + 1)) {
+                leasesHeld.value++;
+                return true;
+            }
         }
     }
 
-    private void decrementUsedPrefetchSlots() {
+    /**
+     * @param held number of leases held by reader
+     * @param activeReaders number of readers that share leases
+     * @return upper bound for total number of leases (across all readers) when reader may take one more lease
+     */
+    static int leaseLimit(int held, int activeReaders, int totalMax) {
+        int fairShare = Math.max(1, totalMax / Math.max(1, activeReaders));
+        return held < fairShare ? totalMax : totalMax - fairShare;
+    }
+
+    void releaseLease() {
+        leasesHeld.value--;
         prefetchLeases.decrementAndGet();
     }
 
+    private void releaseLease(PrefetchHolder holder) {
+        if (holder.leased) {
+            holder.leased = false;
+            releaseLease();
+        }
+    }
+
     /**
      * Determines how many slices should be added to prefetch queue at current iteration.
      *
@@ -276,13 +410,13 @@ public class DataReaderPrefetcher {
         }
         int incompleteDownloads = queuedCount - completedCount;
         int freeHardPrefetchSlots = maxPrefetchSize - queuedCount;
-        //int freeSoftPrefetchSlots = targetPrefetchSize - queuedCount;
+        int freeSoftPrefetchSlots = targetDepth - queuedCount;
         //int freePrefetchThreads = maxIncompleteTasksPerReader - incompleteDownloads;
 
         assert freeHardPrefetchSlots >= 1; // We an get to this method only after we processed a block so there always at least one slot at buffer.
 
-
-        int slicesToAdd = freeHardPrefetchSlots;
+        // Adaptive depth never exceeds hard limit
+        int slicesToAdd = Math.min(freeSoftPrefetchSlots, freeHardPrefetchSlots);
         if (completedHeadCount > 0) {
             // Limit number of new tasks per iteration if we have prepared blocks
             // Note: there a chance that actually we have some non-prefetched blocks. So we should not make this number too low.
@@ -292,7 +426,7 @@ public class DataReaderPrefetcher {
         // Get rid of negative values
         slicesToAdd = Math.max(slicesToAdd, 0);
 
-        if (slicesToAdd < 0 && queuedCount == 0) {
+        if (slicesToAdd == 0 && queuedCount == 0) {
             // Special case: we not plan to add slices but queue is empty. Empty queue is treated as finished stream. And that is not what we want.
             // So we ensure that at least one slice will be added
             // Note: that should not happen normally:
@@ -308,6 +442,7 @@ public class DataReaderPrefetcher {
                     .append(" completedHeadCount=").append(completedHeadCount)
                     .append(" incompleteDownloads=").append(incompleteDownloads)
                     .append(" freePrefetchSlots=").append(freeHardPrefetchSlots)
+                    .append(" targetDepth=").append(targetDepth)
                     .append(" slicesToAdd=").append(slicesToAdd)
                     .commit();
         }
@@ -329,7 +464,11 @@ public class DataReaderPrefetcher {
             prefetchCancelFlag = null;
         }
 
+        if (started)
+            deregister();
+
         started = false;
+        lastReturnTime = 0;
 
         try {
             PrefetchHolder prefetchHolder;
@@ -343,6 +482,7 @@ public class DataReaderPrefetcher {
                     slice = prefetchHolder.slice;
                 }
                 releasePrefetchedSlice(slice);
+                releaseLease(prefetchHolder);
                 prefetchSliceQueue.poll();
                 totalSlicesInAllQueues.decrementAndGet();
             }
@@ -355,6 +495,7 @@ public class DataReaderPrefetcher {
             if (!prefetchSliceQueue.isEmpty()) {
                 // We failed to complete tasks and check-in slices try to cancel tasks
                 for (PrefetchHolder prefetchHolder : prefetchSliceQueue) {
+                    releaseLease(prefetchHolder);
                     if (prefetchHolder.sliceFuture != null) {
                         if (prefetchHolder.sliceFuture.cancel(false) || prefetchHolder.sliceFuture.isDone()) {
                             // Cancellation was successful. Now we can check-in the slice.
@@ -369,10 +510,81 @@ public class DataReaderPrefetcher {
 
     }
 
+    void register() {
+        activePrefetchers.add(this);
+    }
+
+    void deregister() {
+        activePrefetchers.remove(this);
+    }
+
+    static int getActivePrefetchers() {
+        // size() may include collected keys that are not cleaned up yet, iterator skips them
+        int count = 0;
+        for (DataReaderPrefetcher ignored : activePrefetchers)
+            count++;
+        return count;
+    }
+
+    static int getPrefetchLeases() {
+        return prefetchLeases.get();
+    }
+
     private void releasePrefetchedSlice(TimeSlice prefetchedSlice) {
         prefetchedSlice.getStore().checkInTimeSlice(prefetchAccessor, prefetchedSlice);
     }
 
+    public int getTargetDepth() {
+        return targetDepth;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return total time (nanoseconds) reader waited for prefetched slices
+     */
+    public long getWaitTime() {
+        return waitTime;
+    }
+
+    private static void publishMetrics(long now) {
+        if (!HANDLER.hasListeners())
+            return;
+
+        long last = lastPublishTime.get();
+        if (now - last < PUBLISH_INTERVAL || !lastPublishTime.compareAndSet(last, now))
+            return; // too early or other reader publishes right now
+
+        DataReaderPrefetcher[] prefetchers = activePrefetchers.toArray(new DataReaderPrefetcher[0]);
+
+        String[] readers = new String[prefetchers.length];
+        long[] depth = new long[prefetchers.length];
+        long[] hits = new long[prefetchers.length];
+        long[] misses = new long[prefetchers.length];
+        long[] waitTime = new long[prefetchers.length];
+
+        for (int i = 0; i < prefetchers.length; i++) {
+            readers[i] = prefetchers[i].reader.toString();
+            depth[i] = prefetchers[i].getTargetDepth();
+            hits[i] = prefetchers[i].getHits();
+            misses[i] = prefetchers[i].getMisses();
+            waitTime[i] = TimeUnit.NANOSECONDS.toMillis(prefetchers[i].getWaitTime());
+        }
+
+        HANDLER.propertyChanged(Properties.prefetchLeases, prefetchLeases.get());
+        HANDLER.propertyChanged(Properties.prefetchReaders, readers);
+        HANDLER.propertyChanged(Properties.prefetchDepth, depth);
+        HANDLER.propertyChanged(Properties.prefetchHits, hits);
+        HANDLER.propertyChanged(Properties.prefetchMisses, misses);
+        HANDLER.propertyChanged(Properties.prefetchWaitTime, waitTime);
+    }
+
     /**
      * Stub class that stubs {@link DAPrivate} to use it as TimeSlice owner for checkouts.
      */
@@ -409,13 +621,29 @@ public class DataReaderPrefetcher {
         }
     }
 
+    /**
+     * Number of leases held by prefetcher. Does not reference prefetcher, so it can return leases after prefetcher is collected.
+     */
+    private static final class LeaseCount implements Runnable {
+        volatile int value;
+
+        @Override
+        public void run() {
+            if (value > 0)
+                prefetchLeases.addAndGet(-value);
+            value = 0;
+        }
+    }
+
     private static final class PrefetchHolder {
         final TimeSlice slice; // Time slice
-        final Future<TimeSlice> sliceFuture; // Future that completes when slice prefetch completes. Result must be same as in "slice" field
+        Future<TimeSlice> sliceFuture; // Future that completes when slice prefetch completes. Result must be same as in "slice" field
+        boolean leased; // True if holder owns shared prefetch lease
+        volatile long loadTime; // Time spent by prefetch task to load slice (nanoseconds), set by prefetch thread
 
-        private PrefetchHolder(TimeSlice slice, @Nullable Future<TimeSlice> sliceFuture) {
+        private PrefetchHolder(TimeSlice slice, boolean leased) {
             this.slice = slice;
-            this.sliceFuture = sliceFuture;
+            this.leased = leased;
         }
     }
 }
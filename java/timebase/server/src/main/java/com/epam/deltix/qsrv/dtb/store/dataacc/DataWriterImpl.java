@@ -35,6 +35,10 @@ public class DataWriterImpl extends BlockAccessorBase implements DataWriter {
 
     private final MemoryDataOutput              buffer = new MemoryDataOutput ();
 
+    // position of the body in the encoded message
+    private int                                 bodyOffset;
+    private int                                 bodyLength;
+
     public DataWriterImpl () {
     }
     //
@@ -102,6 +106,9 @@ public class DataWriterImpl extends BlockAccessorBase implements DataWriter {
         buffer.seek (bodyPos - 1);
         SymmetricSizeCodec.write (bodyLength, buffer);
 
+        this.bodyOffset = bodyPos + extend;
+        this.bodyLength = bodyLength;
+
         return packetLength;
     }
         
@@ -133,6 +140,8 @@ public class DataWriterImpl extends BlockAccessorBase implements DataWriter {
             
             AccessorBlockLink   link = getBlockLink (entity, nstime);
             link.insertMessage (nstime, buffer.getBuffer (), 0, packetLength);
+
+            store.logMessage (currentTimeSlice, entity, nstime, typeCode, buffer.getBuffer (), bodyOffset, bodyLength);
             break;
         }
     }
@@ -165,16 +174,20 @@ public class DataWriterImpl extends BlockAccessorBase implements DataWriter {
             }
 
             AccessorBlockLink link = getBlockLink (entity, nstime);
-            if (link.getEndTime() > nstime) {
-                if (truncate)
-                    link.truncate(nstime + 1);
-                else
-                    throw new IllegalMessageAppend(link.getEndTime());
+            long endTime = link.getEndTime();
+            if (endTime > nstime) {
+                if (!truncate)
+                    throw new IllegalMessageAppend(endTime);
+
+                link.truncate(nstime + 1);
+                store.logDelete(currentTimeSlice, nstime + 1, endTime, new int[] { entity });
             }
 
             link.insertMessage (nstime, buffer.getBuffer (), 0, packetLength);
             lastWrittenNanos = nstime;
 
+            store.logMessage (currentTimeSlice, entity, nstime, typeCode, buffer.getBuffer (), bodyOffset, bodyLength);
+
             break;
         }
     }
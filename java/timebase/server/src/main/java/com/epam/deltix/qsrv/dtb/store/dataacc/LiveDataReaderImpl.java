@@ -212,6 +212,11 @@ public final class LiveDataReaderImpl
         limit = timestamp;
     }
 
+    @Override
+    public void                 setZoneMapFilter(ZoneMapFilter filter) {
+        // live data is never skipped: blocks are modified while being read
+    }
+
     @Override
     public long                 getStartTimestamp() {
         return currentTimeSlice != null ? currentTimeSlice.getStartTimestamp() : currentTimestamp;
@@ -82,6 +82,16 @@ public interface TimeSlice {
         BlockProcessor          bp
     );             
 
+    /**
+     *  Same as {@link #processBlocks(EntityFilter, BlockProcessor)}, but skips
+     *  (does not load) blocks whose zone maps do not match the specified filter.
+     */
+    public void             processBlocks (
+        EntityFilter            filter,
+        ZoneMapFilter           zoneFilter,
+        BlockProcessor          bp
+    );
+
     public void             dataInserted (DAPrivate accessor, DataBlock db, int dataOffset, int msgLength, long timestamp);
 
     public void             dataDropped (DAPrivate accessor, DataBlock db, int dataOffset, int length, long timestamp);
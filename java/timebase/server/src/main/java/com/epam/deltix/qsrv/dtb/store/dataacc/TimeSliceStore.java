@@ -132,6 +132,44 @@ public interface TimeSliceStore {
         throws InterruptedException;
 
 
+    /**
+     *  Records the message, inserted into the specified time slice,
+     *  in the write-ahead log (if enabled).
+     *
+     *  @param slice        A time slice, checked out to the writer.
+     *  @param entity       Entity of the message.
+     *  @param timestamp    Timestamp of the message.
+     *  @param type         Type code of the message.
+     *  @param body         Buffer containing message body.
+     *  @param offset       Offset of the body in the buffer.
+     *  @param length       Length of the body.
+     */
+    public void         logMessage (
+        TimeSlice           slice,
+        int                 entity,
+        long                timestamp,
+        int                 type,
+        byte []             body,
+        int                 offset,
+        int                 length
+    );
+
+    /**
+     *  Records removal of the time range (inclusive) from the specified time slice
+     *  in the write-ahead log (if enabled).
+     *
+     *  @param slice        A time slice, checked out to the writer, or null.
+     *  @param from         Start of the range.
+     *  @param to           End of the range.
+     *  @param entities     Entities to remove or null for all entities.
+     */
+    public void         logDelete (
+        @Nullable TimeSlice slice,
+        long                from,
+        long                to,
+        @Nullable int []    entities
+    );
+
     public void         addSliceListener(SliceListener listener);
 
     public void         removeSliceListener(SliceListener listener);
@@ -17,6 +17,7 @@
 package com.epam.deltix.qsrv.dtb.store.impl;
 
 import com.epam.deltix.qsrv.dtb.store.dataacc.*;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMap;
 import java.io.*;
 
 /**
@@ -31,6 +32,7 @@ final class DataBlockStub implements DataBlockInfo {
     private final int               lengthOnDisk;
     private final long              startTime;
     private final long              endTime;
+    private ZoneMap                 zoneMap;
 
     public DataBlockStub (
         int                 entity,
@@ -77,6 +79,15 @@ final class DataBlockStub implements DataBlockInfo {
         return endTime;
     }
 
+    @Override
+    public ZoneMap              getZoneMap () {
+        return zoneMap;
+    }
+
+    void                        setZoneMap (ZoneMap zoneMap) {
+        this.zoneMap = zoneMap;
+    }
+
     @Override
     public void clear() {
         // do nothing
@@ -23,24 +23,53 @@ import com.epam.deltix.util.collections.ByteArray;
 import com.epam.deltix.util.io.IOUtil;
 import com.epam.deltix.util.lang.Util;
 
+import javax.annotation.Nullable;
 import java.io.BufferedInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 
 class FileInput {
+    /**
+     *  When enabled, files of file systems supporting mapping (local FS) are memory-mapped
+     *  and data blocks are copied (or inflated) directly from the page cache,
+     *  avoiding read() system calls and the intermediate stream buffer.
+     *  Default value of {@link PDSImpl#isMappedReads()}.
+     */
+    static final boolean            MAPPED_READS = Boolean.getBoolean("TimeBase.fileSystem.mappedReads");
+
     private long    offsetInFile = -1;
 
     private InputStream             is;
     private InputStream             bis;
 
+    // view of the mapping owned by TSFile
+    private ByteBuffer              mapped;
+
     private boolean                 opened = false;
     private ByteArray               buffer;
 
-    void        open(AbstractPath path, int offset) throws IOException {
+    /**
+     *  Opens file for reading at the given offset.
+     *  @param mapping memory mapping of the whole file, when file is read using mapping;
+     *                 mapping is shared and it is not released on close
+     */
+    void        open(AbstractPath path, @Nullable ByteBuffer mapping, int offset) throws IOException {
         assert !opened;
 
-        is = path.openInput (offset);
-        bis = BufferedStreamUtil.wrapWithBuffered (is);
+        if (mapping != null) {
+            if (offset > mapping.limit())
+                throw new EOFException("Offset " + offset + " is beyond the end of " + path.getPathString());
+
+            mapped = mapping.duplicate();
+            mapped.position(offset);
+            is = bis = new MappedInputStream(mapped);
+        } else {
+            is = path.openInput (offset);
+            bis = BufferedStreamUtil.wrapWithBuffered (is);
+        }
 
         opened = true;
         offsetInFile = offset;
@@ -49,7 +78,9 @@ class FileInput {
     public void         read(DataBlock into, int length, BlockDecompressor decompressor) throws IOException {
         ByteArray data = into.getData();
 
-        if (decompressor == null) {
+        if (mapped != null) {
+            readMapped(into, length, decompressor);
+        } else if (decompressor == null) {
             IOUtil.readFully(bis, data.getArray(), data.getOffset(), into.getDataLength());
         } else if (length > 0) {
             if (buffer == null)
@@ -67,11 +98,42 @@ class FileInput {
         offsetInFile += length;
     }
 
+    private void        readMapped(DataBlock into, int length, BlockDecompressor decompressor) throws IOException {
+        ByteArray data = into.getData();
+
+        try {
+            if (decompressor == null) {
+                mapped.get(data.getArray(), data.getOffset(), into.getDataLength());
+            } else if (length > 0) {
+                if (buffer == null)
+                    buffer = new ByteArray(length);
+
+                if (buffer.getLength() < length)
+                    buffer.setArray(new byte[length], 0, length); // @ALLOCATION
+
+                mapped.get(buffer.getArray(), buffer.getOffset(), length);
+                decompressor.inflate(buffer.getArray(), buffer.getOffset(), length, data.getArray(), data.getOffset(), into.getDataLength());
+            }
+        } catch (BufferUnderflowException e) {
+            throw new EOFException("Unexpected end of mapped file at " + offsetInFile + " reading " + length + " bytes");
+        }
+    }
+
     public boolean isOpened() {
         return opened;
     }
 
     void            seek (long offset) throws IOException {
+        if (mapped != null) {
+            // mapped files can be positioned in any direction
+            if (offset > mapped.limit())
+                throw new EOFException("Seek to " + offset + " beyond the end of mapped file (" + mapped.limit() + ")");
+
+            mapped.position((int) offset);
+            offsetInFile = offset;
+            return;
+        }
+
         long    skip = offset - offsetInFile;
 
         if (skip < 0)
@@ -96,6 +158,8 @@ class FileInput {
             is = null;
         }
 
+        mapped = null;
+
         if (opened) {
             opened = false;
             return true;
@@ -106,6 +170,16 @@ class FileInput {
 
     public void setOffset(int offset) {
         this.offsetInFile = offset;
+
+        if (mapped != null)
+            mapped.position(offset);
+    }
+
+    /**
+     * @return true, if file is read using memory mapping
+     */
+    boolean         isMapped() {
+        return mapped != null;
     }
 
     public long getOffsetInFile() {
@@ -118,4 +192,46 @@ class FileInput {
     public InputStream getInputStream() {
         return bis;
     }
+
+    /**
+     *  InputStream view of the mapped buffer, shares its position.
+     */
+    private static final class MappedInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private MappedInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int      read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int      read(byte[] b, int off, int len) {
+            if (len == 0)
+                return 0;
+
+            int remaining = buffer.remaining();
+            if (remaining == 0)
+                return -1;
+
+            int n = Math.min(len, remaining);
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long     skip(long n) {
+            int skip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skip);
+            return skip;
+        }
+
+        @Override
+        public int      available() {
+            return buffer.remaining();
+        }
+    }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.impl;
+
+import com.epam.deltix.gflog.api.Log;
+import com.epam.deltix.qsrv.dtb.fs.alloc.DirectBuddyHeapManager;
+import com.epam.deltix.qsrv.dtb.store.dataacc.DataBlock;
+import com.epam.deltix.qsrv.dtb.store.dataacc.DataBlockInfo;
+import com.epam.deltix.util.collections.ByteArray;
+import com.epam.deltix.util.collections.generated.ObjectArrayList;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  Keeps data blocks of clean, checked-in (deactivated) TSFiles outside of the Java heap.
+ *  When such file is activated again, blocks are restored from direct memory instead of reading
+ *  and decompressing file. Memory budget is capped, least recently used slices are evicted.
+ *  <p>
+ *  Loads take no lock: reader pins the entry while copying, and memory of a removed entry
+ *  is released by the last reader. Only allocation and eviction are serialized.
+ *  </p>
+ *
+ *  Enabled when "TimeBase.storage.offHeapCacheSize" (bytes) is greater than zero.
+ */
+final class OffHeapBlockCache {
+    private static final Log LOGGER = PDSImpl.LOGGER;
+
+    static final long               CACHE_SIZE = Long.getLong("TimeBase.storage.offHeapCacheSize", 0);
+
+    private static final int        MIN_BLOCK_SIZE = 512;
+    private static final int        MAX_SLAB_SIZE = 1 << 30;
+
+    private static final class Entry {
+        final int []            entities;
+        final int []            slabs;
+        final int []            offsets;
+        final int []            lengths;
+        int                     count;
+
+        // number of readers copying data, or -1 when memory is released
+        final AtomicInteger     pins = new AtomicInteger();
+        volatile boolean        removed;
+        volatile long           accessed;
+
+        Entry (int capacity) {
+            entities = new int [capacity];
+            slabs = new int [capacity];
+            offsets = new int [capacity];
+            lengths = new int [capacity];
+        }
+
+        boolean                 pin () {
+            for (;;) {
+                int     count = pins.get();
+
+                if (count < 0)
+                    return false;
+
+                if (pins.compareAndSet(count, count + 1))
+                    return true;
+            }
+        }
+    }
+
+    private final DirectBuddyHeapManager []     heaps;
+
+    private final ConcurrentHashMap<TSFile, Entry> entries = new ConcurrentHashMap<>(256);
+
+    // access clock: eldest entry has the least stamp
+    private final AtomicLong                    clock = new AtomicLong();
+
+    // incremented when entries of the root are discarded
+    private final AtomicInteger                 generation = new AtomicInteger();
+
+    private final LongAdder                     hits = new LongAdder();
+    private final LongAdder                     misses = new LongAdder();
+    private final LongAdder                     evicted = new LongAdder();
+
+    static OffHeapBlockCache        create () {
+        return CACHE_SIZE > 0 ? new OffHeapBlockCache(CACHE_SIZE) : null;
+    }
+
+    OffHeapBlockCache (long size) {
+        // buddy heap requires power of 2 size
+        int slabSize = (int) Math.min(MAX_SLAB_SIZE, Long.highestOneBit(Math.max(size, MIN_BLOCK_SIZE * 2)));
+        int numSlabs = (int) Math.max(1, size / slabSize);
+
+        heaps = new DirectBuddyHeapManager [numSlabs];
+        for (int ii = 0; ii < numSlabs; ii++)
+            heaps [ii] = new DirectBuddyHeapManager(MIN_BLOCK_SIZE, slabSize);
+
+        LOGGER.info().append("Off-heap block cache: ").append(((long) numSlabs * slabSize) >> 20).append(" MB").commit();
+    }
+
+    /**
+     *  Moves loaded blocks of the given clean file into direct memory, evicting older slices if needed.
+     */
+    void                            store (TSFile tsf, ObjectArrayList<DataBlockInfo> dbs) {
+        invalidate(tsf);
+
+        int numEntities = dbs.size();
+        Entry entry = new Entry(numEntities);
+        int gen = generation.get();
+
+        synchronized (this) {
+            for (int ii = 0; ii < numEntities; ii++) {
+                DataBlockInfo info = dbs.getObjectNoRangeCheck(ii);
+
+                if (!(info instanceof DataBlock))
+                    continue;
+
+                DataBlock db = (DataBlock) info;
+                ByteArray data = db.getData();
+                int length = db.getDataLength();
+
+                if (data == null || length <= 0)
+                    continue;
+
+                if (!allocate(entry, length)) {
+                    // does not fit even into empty cache
+                    release(entry);
+                    return;
+                }
+
+                entry.entities [entry.count] = db.getEntity();
+                entry.lengths [entry.count] = length;
+                entry.count++;
+            }
+        }
+
+        if (entry.count == 0)
+            return;
+
+        // entry is not visible yet, so memory is copied without lock
+        for (int ii = 0, pos = 0; ii < entry.count; pos++) {
+            DataBlockInfo info = dbs.getObjectNoRangeCheck(pos);
+
+            if (!(info instanceof DataBlock))
+                continue;
+
+            DataBlock db = (DataBlock) info;
+            ByteArray data = db.getData();
+
+            if (data == null || db.getDataLength() <= 0)
+                continue;
+
+            heaps [entry.slabs [ii]].write(entry.offsets [ii], data.getArray(), data.getOffset(), entry.lengths [ii]);
+            ii++;
+        }
+
+        entry.accessed = clock.incrementAndGet();
+        entries.put(tsf, entry);
+
+        // entries of the root were discarded while data was copied
+        if (gen != generation.get())
+            invalidate(tsf, entry);
+    }
+
+    /**
+     *  Restores block data from direct memory.
+     *  @return true if block was found in cache
+     */
+    boolean                         load (TSFile tsf, DataBlock db) {
+        Entry entry = entries.get(tsf);
+
+        if (entry != null && entry.pin()) {
+            try {
+                int entity = db.getEntity();
+
+                for (int ii = 0; ii < entry.count; ii++) {
+                    if (entry.entities [ii] == entity && entry.lengths [ii] == db.getDataLength()) {
+                        ByteArray data = db.getData();
+                        heaps [entry.slabs [ii]].read(entry.offsets [ii], data.getArray(), data.getOffset(), entry.lengths [ii]);
+
+                        // advance the clock only when another entry was touched since
+                        if (entry.accessed != clock.get())
+                            entry.accessed = clock.incrementAndGet();
+
+                        hits.increment();
+                        return true;
+                    }
+                }
+            } finally {
+                unpin(entry);
+            }
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    /**
+     *  Discards cached data of the given file (file is modified or dropped).
+     */
+    void                            invalidate (TSFile tsf) {
+        Entry entry = entries.remove(tsf);
+
+        if (entry != null)
+            retire(entry);
+    }
+
+    void                            invalidate (TSRootFolder root) {
+        generation.incrementAndGet();
+
+        for (Iterator<Map.Entry<TSFile, Entry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<TSFile, Entry> e = it.next();
+            if (e.getKey().root == root)
+                invalidate(e.getKey(), e.getValue());
+        }
+    }
+
+    void                            clear () {
+        generation.incrementAndGet();
+
+        for (Map.Entry<TSFile, Entry> e : entries.entrySet())
+            invalidate(e.getKey(), e.getValue());
+    }
+
+    boolean                         contains (TSFile tsf) {
+        return entries.containsKey(tsf);
+    }
+
+    int                             size () {
+        return entries.size();
+    }
+
+    long                            getHits () {
+        return hits.sum();
+    }
+
+    long                            getMisses () {
+        return misses.sum();
+    }
+
+    long                            getEvicted () {
+        return evicted.sum();
+    }
+
+    /**
+     *  @return average heap utilization percentage
+     */
+    long                            getUtilization () {
+        long total = 0;
+        for (DirectBuddyHeapManager heap : heaps)
+            total += heap.getUtilization();
+
+        return total / heaps.length;
+    }
+
+    private void                    invalidate (TSFile tsf, Entry entry) {
+        if (entries.remove(tsf, entry))
+            retire(entry);
+    }
+
+    private boolean                 allocate (Entry entry, int length) {
+        assert Thread.holdsLock(this);
+
+        for (;;) {
+            for (int ii = 0; ii < heaps.length; ii++) {
+                int offset = heaps [ii].allocate(length);
+
+                if (offset != DirectBuddyHeapManager.NOT_AVAILABLE) {
+                    entry.slabs [entry.count] = ii;
+                    entry.offsets [entry.count] = offset;
+                    return true;
+                }
+            }
+
+            if (!evictEldest())
+                return false;
+        }
+    }
+
+    private boolean                 evictEldest () {
+        Map.Entry<TSFile, Entry> eldest = null;
+
+        for (Map.Entry<TSFile, Entry> e : entries.entrySet()) {
+            if (eldest == null || e.getValue().accessed < eldest.getValue().accessed)
+                eldest = e;
+        }
+
+        if (eldest == null)
+            return false;
+
+        invalidate(eldest.getKey(), eldest.getValue());
+        evicted.increment();
+        return true;
+    }
+
+    /**
+     *  Marks removed entry to release its memory, when the last reader unpins it.
+     */
+    private void                    retire (Entry entry) {
+        entry.removed = true;
+
+        if (entry.pins.compareAndSet(0, -1))
+            release(entry);
+    }
+
+    private void                    unpin (Entry entry) {
+        if (entry.pins.decrementAndGet() == 0 && entry.removed && entry.pins.compareAndSet(0, -1))
+            release(entry);
+    }
+
+    private void                    release (Entry entry) {
+        for (int ii = 0; ii < entry.count; ii++)
+            heaps [entry.slabs [ii]].deallocate(entry.offsets [ii], entry.lengths [ii]);
+
+        entry.count = 0;
+    }
+}
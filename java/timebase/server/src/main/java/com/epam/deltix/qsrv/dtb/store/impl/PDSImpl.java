@@ -28,20 +28,39 @@ import com.epam.deltix.qsrv.dtb.store.pub.DataWriter;
 import com.epam.deltix.qsrv.dtb.store.pub.EmergencyShutdownControl;
 import com.epam.deltix.qsrv.dtb.store.pub.PersistentDataStore;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.NotificationHandler;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.PropertyMonitor;
 import com.epam.deltix.util.collections.generated.ObjectArrayList;
 import com.epam.deltix.util.concurrent.QuickExecutor;
 import com.epam.deltix.util.concurrent.UncheckedInterruptedException;
 import com.epam.deltix.util.runtime.Shutdown;
 
 import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 class PDSImpl implements PersistentDataStore {
     static final Log LOGGER = LogFactory.getLog("deltix.dtb");
 
+    public enum Properties {
+        writerQueueDepth,
+        writerFlushLatency,
+        writerFilesStored,
+        writerFilesStolen,
+        offHeapCacheUtilization,
+        offHeapCacheHits,
+        offHeapCacheMisses,
+        offHeapCacheEvicted,
+        zoneMapSkippedBlocks
+    }
+
     // After thant number of failures across any number of files we trigger Emergency shutdown.
     private static final int FAILURES_TO_TRIGGER_SHUTDOWN = Integer.getInteger("TimeBase.storage.failuresToShutdown", 5);
 
@@ -52,6 +71,9 @@ class PDSImpl implements PersistentDataStore {
     // Number of Writer Threads
     private static final int NUMBER_OF_WRITERS = Integer.getInteger("TimeBase.storage.writers", 1);
 
+    // Max time idle writer waits before trying to steal files from other writers
+    private static final long WRITER_PARK_TIMEOUT = TimeUnit.MILLISECONDS.toNanos(50);
+
     final Runtime RUNTIME = Runtime.getRuntime();
 
     private long maxFileSize;
@@ -64,7 +86,10 @@ class PDSImpl implements PersistentDataStore {
     private boolean                         isStarted = false;
     private boolean                         shutdownInProgress = false;
     private boolean                         isReadOnly = false;
-    private final ObjectArrayList <TSFile>  dirtyFiles = new ObjectArrayList <> ();
+    // Dirty files are partitioned by roots between writers
+    private volatile WriterQueue []         queues = new WriterQueue [0];
+    private volatile WriterStats            writerStats = new WriterStats (0);
+    private final AtomicInteger             rootSequence = new AtomicInteger(0);
     private int                             numWriters = NUMBER_OF_WRITERS;
     private final List<TSFWriterThread>     writers = new ObjectArrayList<>(numWriters);
 
@@ -73,7 +98,7 @@ class PDSImpl implements PersistentDataStore {
     private final QuickExecutor             executor;
     private final QuickExecutor             localExecutor;
 
-    private final ObjectArrayList<TSFile>   badDirtyFiles = new ObjectArrayList<>(); // Files that were not saved properly
+    private final ConcurrentLinkedQueue<TSFile> badDirtyFiles = new ConcurrentLinkedQueue<>(); // Files that were not saved properly
 
     // Key: TSFile.getPathString(), Value: number of failures
     // We do not keep TSFile itself because it will mean preserving a permanent reference to a file object.
@@ -83,6 +108,22 @@ class PDSImpl implements PersistentDataStore {
     private EmergencyShutdownControl shutdownControl = null;
     private final AtomicInteger failedWriteAttempts = new AtomicInteger(0);
 
+    final NotificationHandler               handler = new NotificationHandler("Storage", Properties.values(), 1000);
+
+    // Number of data blocks that readers did not load because of their zone maps
+    private final AtomicLong                skippedBlocks = new AtomicLong();
+
+    // Off-heap storage of clean checked-in slices, null if disabled
+    private volatile OffHeapBlockCache      blockCache = OffHeapBlockCache.create();
+
+    // Local TSF files are memory-mapped for reading
+    private volatile boolean                mappedReads = FileInput.MAPPED_READS;
+
+    // Log of unsaved changes, null if disabled
+    private volatile WriteAheadLog          wal;
+    private File                            walFolder;
+    private int                             walCommitInterval;
+
     //private ByteArrayHeap                   allocator;
 
     PDSImpl (QuickExecutor exe) {
@@ -128,17 +169,62 @@ class PDSImpl implements PersistentDataStore {
         if (isStarted)
             throw new IllegalStateException ("Already started");
 
+        WriterQueue []  shards = new WriterQueue [numWriters];
+
         for (int ii = 0; ii < numWriters; ii++) {
-            TSFWriterThread     wt = new TSFWriterThread (this, ii);
+            shards [ii] = new WriterQueue (ii);
 
-            wt.start ();
+            TSFWriterThread     wt = new TSFWriterThread (this, shards [ii]);
+            shards [ii].setOwner (wt);
 
             writers.add(wt);
         }
 
+        writerStats = new WriterStats (numWriters);
+        queues = shards;
+
+        if (walFolder != null) {
+            WriteAheadLog   log = new WriteAheadLog (walFolder, walCommitInterval);
+
+            try {
+                log.open ();
+            } catch (IOException iox) {
+                throw new com.epam.deltix.util.io.UncheckedIOException (iox);
+            }
+
+            wal = log;
+        }
+
+        for (TSFWriterThread wt : writers)
+            wt.start ();
+
         isStarted = true;
     }
 
+    @Override
+    public synchronized void        setWriteAheadLog (File folder, int commitInterval) {
+        if (isStarted)
+            throw new IllegalStateException ("Already started");
+
+        walFolder = folder;
+        walCommitInterval = commitInterval;
+    }
+
+    @Override
+    public boolean                  waitUntilDataLogged (int timeout) {
+        WriteAheadLog log = getWriteAheadLog ();
+
+        return (log == null || log.waitUntilCommitted (timeout));
+    }
+
+    @Override
+    public void                     completeRecovery () {
+        WriteAheadLog log = getWriteAheadLog ();
+
+        if (log != null)
+            log.completeRecovery ();
+    }
+
     public synchronized void        startShutdown() {
         shutdownInProgress = true;
     }
@@ -150,11 +236,20 @@ class PDSImpl implements PersistentDataStore {
         for (TSFWriterThread wt : writers)
             wt.interrupt ();
 
+        if (wal != null) {
+            wal.close ();
+            wal = null;
+        }
+
         shutdownInProgress = false;
 
         if (localExecutor != null)
             localExecutor.shutdownInstance();
 
+        OffHeapBlockCache   cache = blockCache;
+        if (cache != null)
+            cache.clear();
+
         //allocator = null;
     }
 
@@ -272,7 +367,7 @@ class PDSImpl implements PersistentDataStore {
         checkIsStarted ();
         checkShutdown ();
 
-        return new TSRootFolder(this, fs, path, space);
+        return new TSRootFolder(this, fs, path, space, rootSequence.getAndIncrement());
     }
 
     @Override
@@ -280,7 +375,7 @@ class PDSImpl implements PersistentDataStore {
         checkIsStarted ();
         checkShutdown ();
 
-        return new TSRootFolder(this, path.getFileSystem(), path.getPathString(), space);
+        return new TSRootFolder(this, path.getFileSystem(), path.getPathString(), space, rootSequence.getAndIncrement());
     }
 
     @Override
@@ -306,6 +401,16 @@ class PDSImpl implements PersistentDataStore {
         this.shutdownControl = shutdownControl;
     }
 
+    @Override
+    public void addPropertyMonitor(PropertyMonitor listener) {
+        handler.addPropertyMonitor(listener);
+    }
+
+    @Override
+    public void removePropertyMonitor(PropertyMonitor listener) {
+        handler.removePropertyMonitor(listener);
+    }
+
 //    public ByteArrayHeap      getHeap() {
 //        return allocator;
 //    }
@@ -315,15 +420,10 @@ class PDSImpl implements PersistentDataStore {
     //
     boolean                    removeFromWriteQueue (TSFile tsf) {
 
-        boolean removed;
+        boolean removed = getQueue(tsf).remove(tsf);
 
-        synchronized (dirtyFiles) {
-            removed = dirtyFiles.remove(tsf);
-            if (removed) {
-                tsf.queued = false;
-                dirtyFiles.notify();
-            }
-        }
+        if (removed)
+            tsf.queued = false;
 
         // file can be processed now by Writer Thread, so it's not contains in dirty files
         if (removed) {
@@ -337,6 +437,8 @@ class PDSImpl implements PersistentDataStore {
     }
 
     void                    fileWasCheckedInClean (TSFile tsf) {
+        // nothing to store, so logged changes are not needed anymore
+        tsf.walClean ();
     }
 
     void                    fileHasFailed (TSFile tsf, Throwable x) {
@@ -344,21 +446,23 @@ class PDSImpl implements PersistentDataStore {
             LOGGER.error().append("Error storing ").append(tsf).append(". Aborting.").append(x).commit();
             boolean discardFile = false;
 
-            synchronized (dirtyFiles) {
-                int failuresPerFile = failuresByFile.computeIfAbsent(tsf.getPathString(), tsFile -> new AtomicInteger(0)).incrementAndGet();
-                if (failuresPerFile < ATTEMPTS_PER_FILE) {
-                    // Try to process file again
-                    if (shutdownInProgress) {
-                        // Add it to "bad" file list: files in "bad" list have lower priority
-                        badDirtyFiles.add(tsf);
-                    } else {
-                        // Add it into regular list to avoid a situation when high writer load effectively prevents re-processing the file at all
-                        dirtyFiles.add(tsf);
-                    }
-                    dirtyFiles.notify();
+            int failuresPerFile;
+            synchronized (failuresByFile) {
+                failuresPerFile = failuresByFile.computeIfAbsent(tsf.getPathString(), tsFile -> new AtomicInteger(0)).incrementAndGet();
+            }
+
+            if (failuresPerFile < ATTEMPTS_PER_FILE) {
+                // Try to process file again
+                if (shutdownInProgress) {
+                    // Add it to "bad" file list: files in "bad" list have lower priority
+                    badDirtyFiles.add(tsf);
+                    wakeupIdleWriter();
                 } else {
-                    discardFile = true;
+                    // Add it into regular list to avoid a situation when high writer load effectively prevents re-processing the file at all
+                    enqueue(tsf);
                 }
+            } else {
+                discardFile = true;
             }
 
             if (discardFile) {
@@ -397,19 +501,20 @@ class PDSImpl implements PersistentDataStore {
         //  It is CRITICAL to first unuse the file, as the below notification
         //  is usually the last step on the way to closing the root.
         //
+        tsf.walStored ();
         TreeOps.unuse (tsf);
         fileProcessed(tsf);
     }
 
     void                    fileWasDropped (TSFile tsf) {
+        tsf.walReleased ();
+
         // do not call "unuse" here
         fileProcessed(tsf);
     }
 
     private void            fileProcessed(TSFile tsf) {
-        synchronized (dirtyFiles) {
-            tsf.queued = false;
-        }
+        tsf.queued = false;
 
         // change numDirtyFiles at the end of processing, to be able to wait until all data stored
         synchronized (cleanLock) {
@@ -441,33 +546,140 @@ class PDSImpl implements PersistentDataStore {
             cleanLock.notifyAll();
         }
 
-        synchronized (dirtyFiles) {
-            assert dirtyFiles.indexOf (tsf) < 0 : tsf + " is already queued";
+        assert !getQueue(tsf).contains (tsf) : tsf + " is already queued";
 
-            tsf.queued = true;
+        tsf.queued = true;
 
-            dirtyFiles.add (tsf);
-            dirtyFiles.notify ();
-        }
+        enqueue (tsf);
 
         if (shutdownInProgress && LOGGER.isInfoEnabled()) {
             LOGGER.info("Added file to be saved during shutdown: %s").with(tsf.getPathString());
         }
     }
 
-    TSFile                  getTSFToWrite () throws InterruptedException {
-        synchronized (dirtyFiles) {
-            while (dirtyFiles.isEmpty ()) {
+    /**
+     *  Returns next file to store by the given writer: own files first, then files stolen from
+     *  other writers and finally files failed to store before. Waits when nothing to store.
+     */
+    TSFile                  getTSFToWrite (WriterQueue own) throws InterruptedException {
+        for (;;) {
+            TSFile tsf = own.poll();
+            if (tsf != null)
+                return tsf;
+
+            WriterQueue [] shards = queues;
+            for (int ii = 1; ii < shards.length; ii++) {
+                tsf = shards [(own.index + ii) % shards.length].steal();
+                if (tsf != null)
+                    return tsf;
+            }
 
-                // We don't have "normal" file to process, so let's try a "bad" file
-                if (!badDirtyFiles.isEmpty()) {
-                    return badDirtyFiles.remove(0);
-                }
+            // We don't have "normal" file to process, so let's try a "bad" file
+            tsf = badDirtyFiles.poll();
+            if (tsf != null)
+                return tsf;
+
+            own.park(WRITER_PARK_TIMEOUT);
+        }
+    }
 
-                dirtyFiles.wait ();
+    void                    writerFlushed (WriterQueue own, long latency) {
+        own.fileStored(latency);
+
+        if (handler.hasListeners()) {
+            WriterQueue [] shards = queues;
+            WriterStats stats = writerStats;
+
+            // arrays are reused: handler publishes the latest values only
+            for (int ii = 0; ii < shards.length; ii++) {
+                stats.depth [ii] = shards [ii].size();
+                stats.latencies [ii] = TimeUnit.NANOSECONDS.toMicros(shards [ii].getLastFlushLatency());
+                stats.stored [ii] = shards [ii].getNumStored();
+                stats.stolen [ii] = shards [ii].getNumStolen();
             }
 
-            return dirtyFiles.remove(0);
+            handler.propertyChanged(Properties.writerQueueDepth, stats.depth);
+            handler.propertyChanged(Properties.writerFlushLatency, stats.latencies);
+            handler.propertyChanged(Properties.writerFilesStored, stats.stored);
+            handler.propertyChanged(Properties.writerFilesStolen, stats.stolen);
+
+            OffHeapBlockCache   cache = blockCache;
+            if (cache != null) {
+                handler.propertyChanged(Properties.offHeapCacheUtilization, cache.getUtilization());
+                handler.propertyChanged(Properties.offHeapCacheHits, cache.getHits());
+                handler.propertyChanged(Properties.offHeapCacheMisses, cache.getMisses());
+                handler.propertyChanged(Properties.offHeapCacheEvicted, cache.getEvicted());
+            }
+        }
+    }
+
+    void                    blocksSkipped (int count) {
+        long total = skippedBlocks.addAndGet(count);
+
+        if (handler.hasListeners())
+            handler.propertyChanged(Properties.zoneMapSkippedBlocks, total);
+    }
+
+    boolean                 isMappedReads () {
+        return mappedReads;
+    }
+
+    /**
+     *  Enables memory-mapped reading of files located on file systems supporting it.
+     *  Affects files loaded after the call.
+     */
+    void                    setMappedReads (boolean mappedReads) {
+        this.mappedReads = mappedReads;
+    }
+
+    /**
+     *  Replaces off-heap cache of clean slices. Should be called before the store is started.
+     */
+    void                    setBlockCache (OffHeapBlockCache blockCache) {
+        this.blockCache = blockCache;
+    }
+
+    OffHeapBlockCache       getBlockCache () {
+        return blockCache;
+    }
+
+    WriteAheadLog           getWriteAheadLog () {
+        return wal;
+    }
+
+    private WriterQueue     getQueue (TSFile tsf) {
+        return getQueue(tsf.root);
+    }
+
+    /**
+     *  Returns queue of the writer storing files of the given root.
+     */
+    WriterQueue             getQueue (TSRootFolder root) {
+        WriterQueue [] shards = queues;
+        return shards [Math.floorMod(root.getWriterIndex(), shards.length)];
+    }
+
+    WriterQueue []          getQueues () {
+        return queues;
+    }
+
+    private void            enqueue (TSFile tsf) {
+        WriterQueue queue = getQueue(tsf);
+
+        queue.add(tsf);
+        queue.wakeup();
+
+        // owner is busy - let idle writer steal this file
+        if (!queue.isIdle())
+            wakeupIdleWriter();
+    }
+
+    private void            wakeupIdleWriter () {
+        for (WriterQueue queue : queues) {
+            if (queue.isIdle()) {
+                queue.wakeup();
+                return;
+            }
         }
     }
 
@@ -480,4 +692,21 @@ class PDSImpl implements PersistentDataStore {
         if (shutdownInProgress)
             throw new IllegalStateException ("Shutdown in progress");
     }
+
+    /**
+     *  Per-writer statistics published to the property monitors.
+     */
+    private static final class WriterStats {
+        final long []                       depth;
+        final long []                       latencies;
+        final long []                       stored;
+        final long []                       stolen;
+
+        WriterStats (int numWriters) {
+            depth = new long [numWriters];
+            latencies = new long [numWriters];
+            stored = new long [numWriters];
+            stolen = new long [numWriters];
+        }
+    }
 }
@@ -27,12 +27,20 @@ import java.util.stream.Stream;
 import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
 import com.epam.deltix.qsrv.dtb.fs.pub.FSUtils;
 import com.epam.deltix.qsrv.dtb.store.codecs.TSNames;
+import com.epam.deltix.qsrv.dtb.store.dataacc.DataAccessorBase;
+import com.epam.deltix.qsrv.dtb.store.dataacc.TimeSlice;
 import com.epam.deltix.qsrv.dtb.store.impl.IndexInfo.ChildInfo;
+import com.epam.deltix.qsrv.dtb.store.pub.DataAccessor;
+import com.epam.deltix.qsrv.dtb.store.pub.DataWriter;
+import com.epam.deltix.qsrv.dtb.store.pub.SymbolRegistry;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
+import com.epam.deltix.qsrv.dtb.store.pub.TimeRange;
+import com.epam.deltix.qsrv.dtb.store.pub.TimeSliceIterator;
 import com.epam.deltix.qsrv.dtb.store.raw.MutableRawTSF;
 import com.epam.deltix.qsrv.dtb.store.raw.DiagPrinter;
 import com.epam.deltix.qsrv.dtb.store.raw.RawFolder;
 import com.epam.deltix.qsrv.dtb.store.raw.RawTSF;
+import com.epam.deltix.util.collections.generated.IntegerArrayList;
 
 import static com.epam.deltix.qsrv.dtb.store.impl.PDSImpl.LOGGER;
 
@@ -71,6 +79,152 @@ public class Restorer {
         new Restorer(path, false).restoreFolders(path, false);
     }
 
+    /*
+        Replays changes left in the write-ahead log for given root.
+        Each file stores position of the last change of the log applied to it,
+        so changes are replayed strictly after stored positions and replay can be repeated.
+     */
+    static void replay(TSRootFolder root, WriteAheadLog wal) throws IOException {
+        String path = root.getPathString();
+        List<WriteAheadLog.Record> records = wal.read(path);
+
+        if (!records.isEmpty()) {
+            LOGGER.warn("Root %s has %s unsaved changes in write-ahead log. Replaying ...").with(path).with(records.size());
+
+            resolveEntities(root.getSymbolRegistry(), records);
+
+            int replayed = 0;
+
+            try (DataWriter writer = root.getStore().createWriter()) {
+                writer.associate(root);
+
+                boolean opened = false;
+
+                for (WriteAheadLog.Record r : records) {
+                    wal.setReplayRecord(r);
+
+                    try {
+                        if (r.type == WriteAheadLog.MESSAGE) {
+                            if (r.entity < 0)
+                                continue;
+
+                            // message is stored already
+                            if (isApplied(root, r))
+                                continue;
+
+                            if (!opened) {
+                                writer.open(r.time, null);
+                                opened = true;
+                            }
+
+                            writer.insertMessage(r.entity, r.time, r.messageType, out -> out.write(r.body, 0, r.body.length));
+                        } else {
+                            if (opened) {
+                                writer.close();
+                                opened = false;
+                            }
+
+                            delete(root, r);
+                        }
+
+                        replayed++;
+                    } finally {
+                        wal.setReplayRecord(null);
+                    }
+                }
+            }
+
+            LOGGER.warn("Root %s: %s changes replayed.").with(path).with(replayed);
+        }
+
+        wal.replayed(path);
+    }
+
+    private static void resolveEntities(SymbolRegistry registry, List<WriteAheadLog.Record> records) {
+        for (WriteAheadLog.Record r : records) {
+            if (r.type == WriteAheadLog.MESSAGE) {
+                r.entity = registry.registerSymbol(r.symbol, r.entityData);
+
+                if (r.entity < 0)
+                    LOGGER.warn("Cannot register symbol %s. Message is skipped.").with(r.symbol);
+            } else if (r.symbols != null) {
+                IntegerArrayList ids = new IntegerArrayList(r.symbols.length);
+
+                for (String symbol : r.symbols) {
+                    int id = symbol != null ? registry.symbolToId(symbol) : SymbolRegistry.NO_SUCH_SYMBOL;
+
+                    if (id != SymbolRegistry.NO_SUCH_SYMBOL)
+                        ids.add(id);
+                }
+
+                r.entities = ids.toIntArray();
+            }
+        }
+    }
+
+    /*
+        Checks whether message is applied to the file covering its timestamp.
+     */
+    private static boolean isApplied(TSRootFolder root, WriteAheadLog.Record r) throws IOException {
+        TSFile tsf;
+
+        root.acquireSharedLock();
+        try {
+            tsf = TreeOps.findTSFForRead(root, r.time);
+        } finally {
+            root.releaseSharedLock();
+        }
+
+        if (tsf == null)
+            return false;
+
+        try {
+            return tsf.isApplied(r.position, r.time);
+        } finally {
+            TreeOps.unuse(tsf);
+        }
+    }
+
+    /*
+        Deletes data of each file in the range, where the change is not applied to it.
+     */
+    private static void delete(TSRoot root, WriteAheadLog.Record r) {
+        final int[] entities = r.entities;
+
+        if (entities != null && entities.length == 0)
+            return;
+
+        try (final DataWriter writer = root.getStore().createWriter()) {
+            writer.associate(root);
+
+            root.iterate(new TimeRange(r.time, r.endTime), null, new TimeSliceIterator() {
+                @Override
+                public DataAccessor getAccessor() {
+                    return writer;
+                }
+
+                @Override
+                public void process(TimeSlice slice) {
+                    long[] range;
+
+                    try {
+                        range = ((TSFile) slice).getUnappliedRange(r.position, r.time, r.endTime);
+                    } catch (IOException iox) {
+                        throw new com.epam.deltix.util.io.UncheckedIOException(iox);
+                    }
+
+                    if (range == null)
+                        return;
+
+                    if (entities == null)
+                        slice.cut(range[0], range[1], (DataAccessorBase) writer);
+                    else
+                        slice.cut(range, entities, (DataAccessorBase) writer);
+                }
+            });
+        }
+    }
+
     private void restoreFolders(AbstractPath entry, boolean isFirst) throws IOException {
 
         restoreTempFolders(entry, isFirst);
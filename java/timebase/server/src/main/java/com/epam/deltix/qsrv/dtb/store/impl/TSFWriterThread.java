@@ -18,6 +18,7 @@ package com.epam.deltix.qsrv.dtb.store.impl;
 
 import com.epam.deltix.gflog.api.Log;
 import com.epam.deltix.qsrv.dtb.store.codecs.BlockCompressor;
+import com.epam.deltix.qsrv.dtb.store.codecs.ZstdDigestedDictionary;
 import com.epam.deltix.util.collections.generated.ByteArrayList;
 import com.epam.deltix.util.lang.StringUtils;
 
@@ -27,16 +28,19 @@ import com.epam.deltix.util.lang.StringUtils;
 class TSFWriterThread extends Thread {
     private static final Log LOGGER = PDSImpl.LOGGER;
     private final PDSImpl       pds;
+    private final WriterQueue   queue;
 
     // compression related
     private BlockCompressor     compressor = null;
     private String              compression   = null;
+    private ZstdDigestedDictionary dictionary = null;
 
     private final ByteArrayList buffer = new ByteArrayList();
 
-    TSFWriterThread (PDSImpl pds, int idx) {
-        super ("TSF Writer Thread #" + idx);
+    TSFWriterThread (PDSImpl pds, WriterQueue queue) {
+        super ("TSF Writer Thread #" + queue.index);
         this.pds = pds;
+        this.queue = queue;
 
         // Should not be a daemon thread because it executes IO operations
     }
@@ -48,11 +52,17 @@ class TSFWriterThread extends Thread {
             for (;;) {
                 boolean logThisOne = LOGGER.isDebugEnabled();
 
-                final TSFile          tsf = pds.getTSFToWrite ();
+                final TSFile          tsf = pds.getTSFToWrite (queue);
                 final TSRootFolder    root = tsf.root;
 
-                if (!StringUtils.equals(root.getCompression(), compression)) {
+                if (!StringUtils.equals(root.getCompression(), compression) || root.getCompressionDictionary() != dictionary) {
                     compression = root.getCompression();
+                    dictionary = root.getCompressionDictionary();
+
+                    // replaced compressor holds native context
+                    if (compressor != null)
+                        compressor.close();
+
                     compressor = root.createCompressor(buffer);
                 }
 
@@ -97,6 +107,8 @@ class TSFWriterThread extends Thread {
                         if (logThisOne)
                             LOGGER.debug().append("Storing ").append(tsf).append(" ...").commit();
 
+                        long start = System.nanoTime();
+
                         if (tsf.store(compressor)) {
                             TreeOps.finalizeIndex(tsf.getParent());
 
@@ -108,6 +120,7 @@ class TSFWriterThread extends Thread {
                         }
 
                         pds.fileWasStored(tsf);
+                        pds.writerFlushed(queue, System.nanoTime() - start);
                     }
                 } catch (Throwable x) {
                     pds.fileHasFailed (tsf, x);
@@ -121,6 +134,9 @@ class TSFWriterThread extends Thread {
         } catch (Throwable x) {
             LOGGER.error().append(getName()).append(" is crashed.").append(x).commit();
             pds.writerFailed(this);
+        } finally {
+            if (compressor != null)
+                compressor.close();
         }
     }
 }
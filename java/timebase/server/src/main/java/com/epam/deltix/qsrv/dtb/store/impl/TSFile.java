@@ -23,14 +23,22 @@ import com.epam.deltix.qsrv.dtb.store.pub.AbstractSingleEntityFilter;
 import com.epam.deltix.qsrv.dtb.store.pub.EntityFilter;
 import com.epam.deltix.qsrv.dtb.store.pub.ListEntityFilter;
 import com.epam.deltix.qsrv.dtb.store.pub.SingleEntityFilter;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMap;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapCollector;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
+import com.epam.deltix.qsrv.hf.pub.codec.TimeCodec;
 import com.epam.deltix.qsrv.hf.blocks.ObjectPool;
 import com.epam.deltix.util.collections.ByteArray;
 import com.epam.deltix.util.collections.generated.ByteArrayList;
 import com.epam.deltix.util.collections.generated.IntegerArrayList;
 import com.epam.deltix.util.collections.generated.ObjectArrayList;
 import com.epam.deltix.util.collections.generated.ObjectHashSet;
+import com.epam.deltix.util.memory.MemoryDataInput;
 
+import javax.annotation.Nullable;
 import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.util.Arrays;
 
 import static com.epam.deltix.qsrv.dtb.store.impl.TSFState.*;
 
@@ -51,15 +59,39 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
     static final int                        FILE_FORMAT_VERSION = 3;
 
+    /**
+     *  Version of files having zone maps section after the index block.
+     */
+    static final int                        ZONE_MAP_FORMAT_VERSION = TSFFormat.ZONE_MAP_FORMAT_VERSION;
+
+    /**
+     *  Version of files having position of the write-ahead log in the header.
+     */
+    static final int                        LOG_POSITION_FORMAT_VERSION = TSFFormat.LOG_POSITION_FORMAT_VERSION;
+
     private static final int                FILE_HEADER_SIZE = 14;
 
+    private static final int                ZONE_MAP_HEADER_SIZE = 18;
+
+    private static final int                LOG_POSITION_HEADER_SIZE = 42;
+
     private static int                      computeIndexBlockSize (
         boolean  compressed,
         int numEntities,
         int formatVersion
     )
     {
-        return (numEntities * (compressed ? 28 : DataBlockStub.SIZE_ON_DISK) + (formatVersion >= 3 ? FILE_HEADER_SIZE : 10));
+        return (numEntities * (compressed ? 28 : DataBlockStub.SIZE_ON_DISK) + getHeaderSize (formatVersion));
+    }
+
+    private static int                      getHeaderSize (int formatVersion) {
+        if (formatVersion >= LOG_POSITION_FORMAT_VERSION)
+            return (LOG_POSITION_HEADER_SIZE);
+
+        if (formatVersion >= ZONE_MAP_FORMAT_VERSION)
+            return (ZONE_MAP_HEADER_SIZE);
+
+        return (formatVersion >= 3 ? FILE_HEADER_SIZE : 10);
     }
 
     private static final int                INITIAL_SIZE = FILE_HEADER_SIZE;
@@ -91,6 +123,23 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
     private ObjectArrayList <DataBlockInfo>     dbs = null;
 
+    /**
+     *  Number of times the file was written to disk. Lets callers detect
+     *  changes of the file between two structure locks.
+     */
+    private int                                 storeCount;
+
+    /**
+     *  Memory mapping of the stored file, shared by all inputs reading it.
+     *  Kept while the file is active and its content on disk is not changed.
+     */
+    private MappedByteBuffer                    mapping;
+
+    /**
+     *  Statistics of all blocks, as stored on disk. Reset on any modification.
+     */
+    private volatile ZoneMap                    zoneMap;
+
     private ObjectHashSet <DAPrivate>           checkouts = null;
 
     /**
@@ -108,6 +157,30 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
     //    @GuardedBy("this")
     private BlockDecompressor                   decompressor;
 
+    /**
+     *  Oldest segment of the write-ahead log, having changes of this file,
+     *  which are not stored yet.
+     */
+    private WriteAheadLog.Segment               walSegment;
+
+    /**
+     *  Segment of the write-ahead log, having changes of this file, which are
+     *  stored, but not committed to the index yet.
+     */
+    private WriteAheadLog.Segment               walStoredSegment;
+
+    /**
+     *  Position of the last change of the current write-ahead log,
+     *  which is applied to this file, or NO_POSITION.
+     */
+    private long                                walPosition = WriteAheadLog.NO_POSITION;
+
+    /**
+     *  Changes up to walPosition are applied to this file for timestamps before this limit.
+     *  It is less than limitTimestamp, when the file is loaded after its next file is lost.
+     */
+    private long                                walLimit = Long.MAX_VALUE;
+
     TSFile (TSFolder parent, long version, int id, long startTimestamp, boolean isNew) {
         super (parent, id, startTimestamp);
 
@@ -184,6 +257,10 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
         assert state != DIRTY_QUEUED_FOR_WRITE;
 
+        if (state != TSFState.DIRTY_CHECKED_OUT)
+            invalidateBlockCache();
+
+        zoneMap = null;
         state = TSFState.DIRTY_CHECKED_OUT;
     }
 
@@ -202,6 +279,8 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
         boolean checkedOut = false;
 
+        zoneMap = null;
+
         for (int ii = 0, size = snapshot.length; ii < size; ii++) {
             DAPrivate   acc = snapshot [ii];
 
@@ -218,6 +297,8 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
     public void             dataDropped(DAPrivate accessor, DataBlock db, int dataOffset, int length, long timestamp) {
         assert isCheckedOutTo (accessor);
 
+        zoneMap = null;
+
         DAPrivate[] snapshot = getCheckouts();
 
         for (int ii = 0, size = snapshot.length; ii < size; ii++) {
@@ -342,10 +423,15 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
     @Override
     public void        processBlocks (EntityFilter filter, BlockProcessor bp) {
+        processBlocks (filter, null, bp);
+    }
+
+    @Override
+    public void        processBlocks (EntityFilter filter, ZoneMapFilter zoneFilter, BlockProcessor bp) {
         if (filter == null)
             filter = EntityFilter.ALL;
 
-        ensureIndexAndDataLoadedCatchIOX (filter, bp);
+        ensureIndexAndDataLoadedCatchIOX (filter, zoneFilter, bp);
     }
 
     @Override
@@ -456,6 +542,8 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
         assertCheckedOutTo(accessor);
 
+        zoneMap = null;
+
         ensureIndexAndDataLoadedCatchIOX(EntityFilter.ALL, new AbstractBlockProcessor() {
             long lastTime = Long.MIN_VALUE;
             long firstTime = Long.MAX_VALUE;
@@ -501,6 +589,9 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         synchronized (next){
             next.invalidateTime();
         }
+
+        // moved data is not stored yet
+        walMoveTo(next);
     }
 
     long                            getSplitTime(final DataAccessorBase accessor) {
@@ -553,6 +644,8 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
         assertCheckedOutTo(accessor);
 
+        zoneMap = null;
+
         root.acquireSharedLock();
 
         try {
@@ -584,6 +677,8 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         } finally {
             root.releaseSharedLock();
         }
+
+        root.logDelete(this, timestamp, Long.MAX_VALUE, new int[] { entity });
     }
 
     private void        setLastTimestamp(long timestamp) {
@@ -595,6 +690,10 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
     public void       cut(final long[] range, final int[] entities, final DataAccessorBase accessor) {
         assertCheckedOutTo(accessor);
 
+        root.logDelete(this, range[0], range[1], entities);
+
+        zoneMap = null;
+
         ensureIndexAndDataLoadedCatchIOX(new ListEntityFilter(entities), new AbstractBlockProcessor() {
 
             @Override
@@ -622,6 +721,10 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
         assertCheckedOutTo(accessor);
 
+        root.logDelete(this, startTime, endTime, null);
+
+        zoneMap = null;
+
         ensureIndexAndDataLoadedCatchIOX(EntityFilter.ALL, new AbstractBlockProcessor() {
             private long end = Long.MIN_VALUE;
             private long start = Long.MAX_VALUE;
@@ -759,8 +862,18 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         getParent().buildCache();
         getParent().dropChild(this);
 
+        queueForDeletion();
+    }
+
+    /**
+     *  Marks this file as dropped and queues it to the writer thread,
+     *  which deletes it. File must be already removed from its parent.
+     */
+    private void        queueForDeletion() {
         synchronized (this) {
             dropped = true;
+            mapping = null;
+            invalidateBlockCache();
 
             if (state == CLEAN_CACHED) {
                 state = DIRTY_QUEUED_FOR_WRITE;
@@ -774,6 +887,13 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
     @Override
     synchronized void                deactivate () {
 
+        // keep data of clean slice outside of java heap
+        if (state == TSFState.CLEAN_CACHED && !dropped && !isNew && dbs != null) {
+            OffHeapBlockCache blockCache = root.getCache().getBlockCache();
+            if (blockCache != null)
+                blockCache.store(this, dbs);
+        }
+
         if (dbs != null) {
             for (int pos = 0, numEntities = dbs.size(); pos < numEntities; pos++)
                 dbs.getObjectNoRangeCheck(pos).clear();
@@ -781,8 +901,10 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         }
 
         dbs = null;
+        mapping = null;
         checkouts = null;
         uncompressedSize = -1;
+        releaseDecompressor ();
 
         if (LOGGER.isDebugEnabled())
             LOGGER.debug().append(this).append(": ").append(state).append("-> null").commit(); //append(new Exception()).commit();
@@ -845,6 +967,238 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         return storeInternal(compressor);
     }
 
+    //
+    //  COMPACTION
+    //
+
+    /**
+     *  Returns true, if the file is not used by anyone except the caller
+     *  and has no unsaved changes.
+     */
+    synchronized boolean            isIdle () {
+        return (useCount == 1 && state == CLEAN_CACHED && !dropped && !isNew);
+    }
+
+    synchronized int                getStoreCount () {
+        return (storeCount);
+    }
+
+    synchronized boolean            isCompressedWith (BlockCompressor compressor) {
+        if (compressor == null)
+            return (!compressedOnDisk);
+
+        return (compressedOnDisk && compressionCode == compressor.code());
+    }
+
+    int                             getDataSize () throws IOException {
+        ensureIndexAndDataLoaded (null, null);
+
+        synchronized (this) {
+            return (uncompressedSize);
+        }
+    }
+
+    /**
+     *  Writes data of this file and the next (adjacent) one into a new file
+     *  of the same folder, and replaces both files with it in a single store
+     *  of the folder index. Old files are deleted afterwards, so that a crash
+     *  at any point leaves either old or new files referenced by the index.
+     *  Both files must be idle and have the same parent.
+     *  Calling thread must be holding an exclusive structure lock.
+     *
+     *  @return the number of bytes reclaimed on disk
+     */
+    long                            merge (TSFile next, BlockCompressor compressor)
+        throws IOException
+    {
+        assert root.currentThreadHoldsWriteLock ();
+
+        TSFolder                        parent = getParent ();
+
+        if (next.getParent () != parent)
+            throw new IllegalArgumentException (next + " does not have " + parent + " as its parent");
+
+        ensureIndexAndDataLoaded (EntityFilter.ALL, null);
+        next.ensureIndexAndDataLoaded (EntityFilter.ALL, null);
+
+        long                            sizeBefore = getPath ().length () + next.getPath ().length ();
+        TSFile                          merged = parent.createFileToReplace (getStartTimestamp ());
+        boolean                         replaced = false;
+
+        TreeOps.use (merged);
+
+        try {
+            merged.appendBlocks (this);
+            merged.appendBlocks (next);
+
+            long                        position;
+            long                        limit;
+
+            synchronized (this) {
+                position = walPosition;
+                limit = walLimit;
+            }
+
+            // changes of the write-ahead log in the range of the next file are applied to it
+            if (limit >= next.getStartTimestamp ()) {
+                synchronized (next) {
+                    limit = next.walLimit;
+                }
+            }
+
+            synchronized (next) {
+                position = Math.max (position, next.walPosition);
+            }
+
+            merged.limitTimestamp = next.limitTimestamp;
+
+            boolean                     stored;
+
+            synchronized (merged) {
+                merged.walPosition = position;
+                merged.walLimit = limit;
+
+                merged.state = DIRTY_QUEUED_FOR_WRITE;
+                stored = merged.storeInternal (compressor);
+            }
+
+            if (!stored)
+                throw new IllegalStateException (merged + " was not stored");
+
+            merged.setClean ();
+
+            // both entries are switched by one index store
+            parent.replaceChildren (this, next, merged);
+            replaced = true;
+
+            merged.limitTimestamp = TreeOps.getLimitTimestamp (merged);
+
+            storeIndex (parent);
+        } finally {
+            if (!replaced)
+                merged.getPath ().deleteIfExists ();
+
+            TreeOps.unuse (merged);
+        }
+
+        long                            sizeAfter = merged.getPath ().length ();
+
+        // files are not referenced by the index anymore
+        queueForDeletion ();
+        next.queueForDeletion ();
+
+        return (sizeBefore - sizeAfter);
+    }
+
+    /**
+     *  Appends all data of the given file to this new file.
+     *  Parent folders already know entities of the given file.
+     */
+    private void                    appendBlocks (TSFile from) {
+        ObjectArrayList <DataBlock>     blocks = new ObjectArrayList <> ();
+
+        synchronized (from) {
+            for (int ii = 0, numEntities = from.dbs.size (); ii < numEntities; ii++)
+                blocks.add ((DataBlock) from.dbs.getObjectNoRangeCheck (ii));
+        }
+
+        synchronized (this) {
+            assert isNew;
+
+            for (int ii = 0; ii < blocks.size (); ii++) {
+                DataBlock       db = blocks.getObjectNoRangeCheck (ii);
+
+                if (db.getDataLength () == 0)
+                    continue;
+
+                int             pos = find (db.getEntity ());
+                DataBlock       to;
+
+                if (pos < 0) {
+                    to = new DataBlock ();
+                    to.initNew (this, db.getEntity ());
+                    dbs.add (-pos - 1, to);
+
+                    uncompressedSize += DataBlockStub.SIZE_ON_DISK;
+                } else {
+                    to = (DataBlock) dbs.getObjectNoRangeCheck (pos);
+                }
+
+                if (to.append (db.getData (), 0, db.getDataLength (), db.getStartTime (), db.getEndTime ()))
+                    blockGoesDirty (to);
+
+                uncompressedSize += db.getDataLength ();
+
+                if (db.getEndTime () > lastTimestamp)
+                    setLastTimestamp (db.getEndTime ());
+            }
+        }
+    }
+
+    /**
+     *  Rewrites this file using the specified compressor. The file must be idle.
+     *  Calling thread must be holding an exclusive structure lock.
+     *
+     *  @return the number of bytes reclaimed on disk
+     */
+    long                            recompress (BlockCompressor compressor)
+        throws IOException
+    {
+        assert root.currentThreadHoldsWriteLock ();
+
+        ensureIndexAndDataLoaded (EntityFilter.ALL, null);
+
+        long                sizeBefore = getPath ().length ();
+        boolean             stored = false;
+
+        try {
+            synchronized (this) {
+                state = DIRTY_QUEUED_FOR_WRITE;
+                stored = storeInternal (compressor);
+            }
+        } finally {
+            if (!stored)
+                discardChanges ();
+        }
+
+        setClean ();
+
+        return (sizeBefore - getPath ().length ());
+    }
+
+    private synchronized void       setClean () {
+        for (int ii = 0, numEntities = dbs.size (); ii < numEntities; ii++)
+            ((DataBlock) dbs.getObjectNoRangeCheck (ii)).setClean ();
+
+        state = CLEAN_CACHED;
+    }
+
+    /**
+     *  Drops in-memory data, so that it will be reloaded from disk.
+     */
+    private synchronized void       discardChanges () {
+        invalidateBlockCache ();
+
+        if (dbs != null) {
+            for (int ii = 0, numEntities = dbs.size (); ii < numEntities; ii++)
+                dbs.getObjectNoRangeCheck (ii).clear ();
+        }
+
+        dbs = null;
+        mapping = null;
+        zoneMap = null;
+        state = CLEAN_CACHED;
+    }
+
+    private static void             storeIndex (TSFolder folder)
+        throws IOException
+    {
+        TreeOps.storeIndexFile (folder);
+
+        for (TSFolder f = folder; f != null; f = f.getParent ())
+            f.finalizeIndexFile ();
+    }
+
     private synchronized boolean        storeInternal (BlockCompressor compressor)
         throws IOException
     {
@@ -858,12 +1212,33 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
         compressedOnDisk = (compressor != null);
 
-        int             indexSize = computeIndexBlockSize (compressedOnDisk, numEntities, FILE_FORMAT_VERSION);
+        ZoneMapCollector    collector = root.getZoneMapCollector ();
+        ZoneMap []          zoneMaps = collector != null ? computeZoneMaps (collector, numEntities) : null;
+        byte []             zoneMapData = zoneMaps != null ? encodeZoneMaps (collector.getFields (), zoneMaps) : null;
+
+        WriteAheadLog   wal = walPosition != WriteAheadLog.NO_POSITION ? root.getCache ().getWriteAheadLog () : null;
+
+        int             version =
+            wal != null ? LOG_POSITION_FORMAT_VERSION :
+            zoneMaps != null ? ZONE_MAP_FORMAT_VERSION : FILE_FORMAT_VERSION;
+        int             indexSize = computeIndexBlockSize (compressedOnDisk, numEntities, version);
         int             sizeOnDisk;
+
+        if (zoneMapData != null)
+            indexSize += zoneMapData.length;
+
         int []          compLengths;
         ByteArrayList   compressedData = null;
 
         if (compressedOnDisk) {
+            // dictionary will be used by compressor for the next files
+            if (root.isDictionaryTrainingRequired()) {
+                for (int ii = 0; ii < numEntities; ii++) {
+                    if (root.sampleForDictionary((DataBlock) dbs.getObjectNoRangeCheck (ii)))
+                        break;
+                }
+            }
+
             compressedData = compressor.getReusableBuffer();
             compressedData.setSize(0);
             compLengths = new int [numEntities];
@@ -883,10 +1258,13 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         }
         else {
             compLengths = null;
-            sizeOnDisk = uncompressedSize;
+            sizeOnDisk = indexSize;
+
+            for (int ii = 0; ii < numEntities; ii++)
+                sizeOnDisk += dbs.getObjectNoRangeCheck (ii).getDataLength ();
         }
 
-        formatVersion = FILE_FORMAT_VERSION;
+        formatVersion = version;
 
         //
         //  Rebuild the offsets array to correspond to the data on disk.
@@ -907,6 +1285,15 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
             dos.writeInt (flags);
 
+            if (version >= ZONE_MAP_FORMAT_VERSION)
+                dos.writeInt (zoneMapData != null ? zoneMapData.length : 0);
+
+            if (wal != null) {
+                dos.writeLong (wal.getId ());
+                dos.writeLong (walPosition);
+                dos.writeLong (Math.min (walLimit, limitTimestamp));
+            }
+
             int                     offset = indexSize;
 
             for (int ii = 0; ii < numEntities; ii++) {
@@ -924,6 +1311,9 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                 offset += db.getDataLength ();
             }
 
+            if (zoneMapData != null)
+                dos.write (zoneMapData);
+
             if (compressedOnDisk) {
                 os.write(compressedData.getInternalBuffer(), 0, compressedData.size());
             } else {
@@ -946,6 +1336,29 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         TreeOps.finalize (tmp);
 
         isNew = false;
+        storeCount++;
+
+        // content on disk is replaced
+        mapping = null;
+
+        // file may be re-written using another algorithm
+        if (compressedOnDisk && compressionCode != compressor.code ()) {
+            compressionCode = compressor.code ();
+            releaseDecompressor ();
+        }
+
+        if (zoneMaps != null) {
+            ZoneMap         total = new ZoneMap (collector.getFields ());
+
+            for (int ii = 0; ii < numEntities; ii++) {
+                ((DataBlock) dbs.getObjectNoRangeCheck (ii)).setZoneMap (zoneMaps [ii]);
+                total.merge (zoneMaps [ii]);
+            }
+
+            zoneMap = total;
+        } else {
+            zoneMap = null;
+        }
 
 //        if (DEBUG_VERIFY_FILE_AFTER_STORE) {
 //            TSFVerifier tsfv = new TSFVerifier ();
@@ -958,8 +1371,215 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 //                System.exit (1);
 //            }
 //        }
+
+        // logged changes are stored, but not committed to the index yet
+        if (walSegment != null) {
+            if (walStoredSegment == null)
+                walStoredSegment = walSegment;
+            else
+                walSegment.unpin ();
+
+            walSegment = null;
+        }
+
         return true;
     }
+
+    //
+    //  WRITE-AHEAD LOG
+    //
+
+    /**
+     *  Pins the segment of the write-ahead log, having changes of this file,
+     *  unless an older one is already pinned, and advances position of the file.
+     */
+    synchronized void               walPin (WriteAheadLog.Segment segment, long position) {
+        if (walSegment == null) {
+            walSegment = segment;
+            segment.pin ();
+        }
+
+        if (position > walPosition) {
+            walPosition = position;
+            // all changes up to the position are applied in the whole range of the file
+            walLimit = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     *  Returns true, if the change of the write-ahead log at the given
+     *  position and timestamp is applied to this file.
+     */
+    boolean                         isApplied (long position, long timestamp) throws IOException {
+        ensureIndexAndDataLoaded (null, null);
+
+        synchronized (this) {
+            return (position <= walPosition && timestamp < walLimit);
+        }
+    }
+
+    /**
+     *  Returns the range of timestamps, where changes of the write-ahead log
+     *  up to the given position are not applied to this file, or null.
+     */
+    long []                         getUnappliedRange (long position, long from, long to) throws IOException {
+        ensureIndexAndDataLoaded (null, null);
+
+        synchronized (this) {
+            if (position > walPosition)
+                return (new long [] { from, to });
+
+            if (to < walLimit)
+                return (null);
+
+            return (new long [] { Math.max (from, walLimit), to });
+        }
+    }
+
+    /**
+     *  Moves position of the write-ahead log to the file, receiving data of this one.
+     */
+    private void                    walMoveTo (TSFile to) {
+        WriteAheadLog.Segment       segment;
+        long                        position;
+        long                        limit;
+
+        synchronized (this) {
+            segment = walSegment;
+            position = walPosition;
+            limit = walLimit;
+        }
+
+        synchronized (to) {
+            if (segment != null && to.walSegment == null) {
+                to.walSegment = segment;
+                segment.pin ();
+            }
+
+            if (position > to.walPosition) {
+                to.walPosition = position;
+                to.walLimit = limit;
+            }
+        }
+    }
+
+    /**
+     *  Releases the write-ahead log, when stored changes are committed to the index.
+     */
+    synchronized void               walStored () {
+        if (walStoredSegment != null) {
+            walStoredSegment.unpin ();
+            walStoredSegment = null;
+        }
+    }
+
+    /**
+     *  Releases the write-ahead log, when the file is checked in without unsaved changes.
+     */
+    synchronized void               walClean () {
+        if (walSegment != null) {
+            walSegment.unpin ();
+            walSegment = null;
+        }
+    }
+
+    /**
+     *  Releases the write-ahead log, when changes of this file are dropped.
+     */
+    synchronized void               walReleased () {
+        walStored ();
+        walClean ();
+    }
+
+    /**
+     *  Computes statistics of every block. Returns null if collector fails,
+     *  so that file is stored without zone maps.
+     */
+    private ZoneMap []              computeZoneMaps (ZoneMapCollector collector, int numEntities) {
+        String []           fields = collector.getFields ();
+        ZoneMap []          maps = new ZoneMap [numEntities];
+        MemoryDataInput     mdi = new MemoryDataInput ();
+
+        try {
+            synchronized (collector) {
+                for (int ii = 0; ii < numEntities; ii++) {
+                    DataBlock       db = (DataBlock) dbs.getObjectNoRangeCheck (ii);
+                    ZoneMap         map = db.getZoneMap ();
+
+                    // statistics of unmodified blocks are still valid
+                    if (map == null || !Arrays.equals (map.getFields (), fields)) {
+                        map = new ZoneMap (fields);
+
+                        if (db.getDataLength () > 0) {
+                            db.configure (mdi, 0);
+
+                            while (mdi.hasAvail ()) {
+                                TimeCodec.readNanoTime (mdi);
+
+                                int     type = mdi.readUnsignedByte ();
+                                int     bodyLength = SymmetricSizeCodec.readForward (mdi);
+
+                                collector.collect (type, mdi.getBytes (), mdi.getCurrentOffset (), bodyLength, map);
+
+                                mdi.skipBytes (bodyLength);
+                                SymmetricSizeCodec.skipForward (mdi);
+                            }
+                        }
+                    }
+
+                    maps [ii] = map;
+                }
+            }
+        } catch (RuntimeException x) {
+            LOGGER.warn().append(this).append(": failed to collect zone maps: ").append(x).commit();
+            return (null);
+        }
+
+        return (maps);
+    }
+
+    private static byte []          encodeZoneMaps (String [] fields, ZoneMap [] maps)
+        throws IOException
+    {
+        ByteArrayOutputStream   bos = new ByteArrayOutputStream ();
+        DataOutputStream        dos = new DataOutputStream (bos);
+
+        dos.writeShort (fields.length);
+
+        for (String field : fields)
+            dos.writeUTF (field);
+
+        for (ZoneMap map : maps)
+            map.write (dos);
+
+        dos.flush ();
+
+        return (bos.toByteArray ());
+    }
+
+    private void                    readZoneMaps (DataInputStream dis, DataBlockStub [] stubs)
+        throws IOException
+    {
+        String []           fields = new String [dis.readUnsignedShort ()];
+
+        for (int ii = 0; ii < fields.length; ii++)
+            fields [ii] = dis.readUTF ();
+
+        ZoneMap             total = new ZoneMap (fields);
+
+        for (int ii = 0; ii < stubs.length; ii++) {
+            ZoneMap         map = new ZoneMap (fields);
+
+            map.read (dis);
+            total.merge (map);
+
+            if (stubs [ii] != null)
+                stubs [ii].setZoneMap (map);
+        }
+
+        zoneMap = total;
+    }
+
     //
     //  INTERNALS
     //
@@ -1009,6 +1629,12 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         return true;
     }
 
+    private void    invalidateBlockCache() {
+        OffHeapBlockCache blockCache = root.getCache().getBlockCache();
+        if (blockCache != null)
+            blockCache.invalidate(this);
+    }
+
     private void    addToWriteQueue(PDSImpl cache) {
         assert Thread.holdsLock(this);
 
@@ -1023,6 +1649,21 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         super.destroy(force);
 
         state = null;
+        mapping = null;
+        releaseDecompressor ();
+        walReleased();
+    }
+
+    /**
+     *  Closes decompressor, which holds native context for Zstandard.
+     */
+    private void                    releaseDecompressor () {
+        assert Thread.holdsLock (this);
+
+        if (decompressor != null) {
+            decompressor.close ();
+            decompressor = null;
+        }
     }
 
 //    private boolean                 isCheckedOut () {
@@ -1090,7 +1731,7 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
             root.acquireSharedLock();
             try {
-                in.open(getPath(), toOffset);
+                in.open(getPath(), getMapping(), toOffset);
             } catch (IOException ex) {
                 root.releaseSharedLock();
                 throw ex;
@@ -1100,11 +1741,11 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
             long skip = toOffset - in.getOffsetInFile();
             long reopenOnSeekThreshold = root.getFS().getReopenOnSeekThreshold();
 
-            // Check if the "hole" is too big to use "seek"
-            if (skip > reopenOnSeekThreshold) {
+            // Check if the "hole" is too big to use "seek" (mapped files are positioned directly)
+            if (!in.isMapped() && skip > reopenOnSeekThreshold) {
                 // Reopen the stream
                 in.close();
-                in.open(getPath(), toOffset);
+                in.open(getPath(), null, toOffset);
             } else {
                 // Use "skip"
                 in.seek(toOffset);
@@ -1112,6 +1753,28 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         }
     }
 
+    /**
+     *  Returns memory mapping of the stored file, when it should be read using mapping.
+     *  File is mapped once and the mapping is reused until the file is deactivated or changed on disk.
+     */
+    @Nullable
+    synchronized MappedByteBuffer   getMapping () throws IOException {
+        if (mapping == null && !isNew && state != null && root.getCache().isMappedReads() &&
+            root.getFS().isMappingSupported())
+        {
+            AbstractPath    path = getPath();
+
+            if (path.length() <= Integer.MAX_VALUE)
+                mapping = path.map();
+        }
+
+        return (mapping);
+    }
+
+    synchronized boolean            isMapped () {
+        return (mapping != null);
+    }
+
     private void                    close(FileInput in) {
         if (in != null && in.close()) {
             if (LOGGER.isDebugEnabled())
@@ -1138,8 +1801,6 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
             db = (DataBlock) dbi;
         else {        
             DataBlockStub       dbx = (DataBlockStub) dbi;
-            
-            openOrSeek (in, dbx.getOffsetInFile ());
 
             if (bp != null)
                 db = bp.allocate(); //TODO: @ALLOCATION
@@ -1147,11 +1808,19 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                 db = new DataBlock();
 
             db.init (this, dbi.getEntity (), dbi.getDataLength (), dbi.getStartTime (), dbi.getEndTime ());
+            db.setZoneMap (dbi.getZoneMap ());
+
+            OffHeapBlockCache blockCache = root.getCache().getBlockCache();
 
-            if (compressedOnDisk && decompressor == null)
-                decompressor = root.createDecompressor(compressionCode);
+            if (blockCache == null || !blockCache.load(this, db)) {
+                openOrSeek (in, dbx.getOffsetInFile ());
+
+                if (compressedOnDisk && decompressor == null)
+                    decompressor = root.createDecompressor(compressionCode);
+
+                in.read(db, dbx.getLengthOnDisk(), decompressor);
+            }
 
-            in.read(db, dbx.getLengthOnDisk(), decompressor);
             dbs.set (pos, db);
         }
 
@@ -1169,9 +1838,18 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         EntityFilter                    filter,
         BlockProcessor                  bp
     ) 
+    {
+        return (ensureIndexAndDataLoadedCatchIOX (filter, null, bp));
+    }
+
+    private DataBlock               ensureIndexAndDataLoadedCatchIOX (
+        EntityFilter                    filter,
+        ZoneMapFilter                   zoneFilter,
+        BlockProcessor                  bp
+    )
     {
         try {
-            return (ensureIndexAndDataLoaded (filter, bp));
+            return (ensureIndexAndDataLoaded (filter, zoneFilter, bp));
         } catch (IOException iox) {
             throw new com.epam.deltix.util.io.UncheckedIOException(iox);        
         }
@@ -1213,6 +1891,25 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
     private DataBlock           ensureIndexAndDataLoaded (
         EntityFilter                    filter,
         BlockProcessor                  bp
+    )
+        throws IOException
+    {
+        return (ensureIndexAndDataLoaded (filter, null, bp));
+    }
+
+    private static boolean      mayMatch (ZoneMapFilter zoneFilter, DataBlockInfo info) {
+        return (zoneFilter == null || zoneFilter.mayMatch (info.getZoneMap ()));
+    }
+
+    /**
+     *  Loads data of blocks accepted by the entity filter and passes them
+     *  to the block processor. Blocks (or the whole file) whose zone maps
+     *  do not match the zone filter are neither loaded nor processed.
+     */
+    private DataBlock           ensureIndexAndDataLoaded (
+        EntityFilter                    filter,
+        ZoneMapFilter                   zoneFilter,
+        BlockProcessor                  bp
     ) 
         throws IOException
     {     
@@ -1237,6 +1934,11 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                 synchronized (this) {
                     int pos = find(entity);
 
+                    if (pos >= 0 && !mayMatch(zoneFilter, dbs.getObjectNoRangeCheck(pos))) {
+                        root.getCache().blocksSkipped(1);
+                        pos = -1;
+                    }
+
                     if (pos >= 0) {
                         DataBlockInfo info = dbs.getObjectNoRangeCheck(pos);
                         if (info instanceof DataBlockStub) {
@@ -1256,7 +1958,7 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
                 synchronized (this) {
                     int pos = find(entity);
-                    if (pos >= 0)
+                    if (pos >= 0 && mayMatch(zoneFilter, dbs.getObjectNoRangeCheck(pos)))
                         lastDB = processEntity(input, pos, dbs.getObjectNoRangeCheck(pos), bp);
 
                     if (bp != null)
@@ -1266,6 +1968,11 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                 int startOffset = -1;
                 int pos = 0;
 
+                int skipped = 0;
+
+                // whole file can be skipped by its statistics
+                boolean skip = zoneFilter != null && !zoneFilter.mayMatch(zoneMap);
+
                 // first - find not loaded entity
                 synchronized (this) {
                     int numEntities = dbs.size();
@@ -1273,7 +1980,12 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                     for (pos = 0; pos < numEntities; pos++) {
                         DataBlockInfo test = dbs.getObjectNoRangeCheck(pos);
 
-                        if (filter.accept(test.getEntity())) {
+                        if (!filter.accept(test.getEntity()))
+                            continue;
+
+                        if (skip || !mayMatch(zoneFilter, test)) {
+                            skipped++;
+                        } else {
                             if (test instanceof DataBlockStub) {
                                 startOffset = ((DataBlockStub) test).getOffsetInFile();
                                 break;
@@ -1294,13 +2006,21 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                     for (; pos < numEntities; pos++) {
                         DataBlockInfo test = dbs.getObjectNoRangeCheck(pos);
 
-                        if (filter.accept(test.getEntity()))
+                        if (!filter.accept(test.getEntity()))
+                            continue;
+
+                        if (mayMatch(zoneFilter, test))
                             lastDB = processEntity(input, pos, test, bp);
+                        else
+                            skipped++;
                     }
 
                     if (bp != null)
                         bp.complete();
                 }
+
+                if (skipped > 0)
+                    root.getCache().blocksSkipped(skipped);
             }
             
             return (lastDB);
@@ -1323,6 +2043,24 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
         
         int                 flags = dis.readInt ();
         int                 numEntities = flags & TSFFormat.NUM_ENTS_MASK;
+        int                 zoneMapsLength = formatVersion >= ZONE_MAP_FORMAT_VERSION ? dis.readInt () : 0;
+
+        walPosition = WriteAheadLog.NO_POSITION;
+        walLimit = Long.MAX_VALUE;
+
+        if (formatVersion >= LOG_POSITION_FORMAT_VERSION) {
+            long            walId = dis.readLong ();
+            long            position = dis.readLong ();
+            long            limit = dis.readLong ();
+
+            // positions of another log are not comparable
+            WriteAheadLog   wal = root.getCache ().getWriteAheadLog ();
+
+            if (wal != null && wal.getId () == walId) {
+                walPosition = position;
+                walLimit = limit;
+            }
+        }
 
         compressedOnDisk = (flags & TSFFormat.COMPRESSED_FLAG) != 0;
 
@@ -1330,13 +2068,17 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
             compressionCode = TSFFormat.getAlgorithmCode(flags);
         else if (compressedOnDisk)
             compressionCode = BlockCompressorFactory.getCode(Algorithm.LZ4);
+
+        // file may be re-written using another algorithm or dictionary
+        releaseDecompressor ();
         
-        int                 indexBlockSize = computeIndexBlockSize (compressedOnDisk, numEntities, formatVersion);
+        int                 indexBlockSize = computeIndexBlockSize (compressedOnDisk, numEntities, formatVersion) + zoneMapsLength;
 
         uncompressedSize = indexBlockSize;
         
         int                 blockOffsetOnDisk = indexBlockSize;        
         DataBlockStub       prevStub = null;
+        DataBlockStub []    stubs = zoneMapsLength > 0 ? new DataBlockStub [numEntities] : null;
 
         for (int ii = 0; ii < numEntities; ii++) {
             int             entity = dis.readInt ();
@@ -1370,6 +2112,9 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
 
             dbs.add (dbx);
 
+            if (stubs != null)
+                stubs [ii] = dbx;
+
             prevStub = dbx;
 
             uncompressedSize += dataLength;
@@ -1379,6 +2124,11 @@ final class TSFile extends TSFolderEntry implements TimeSlice {
                 setLastTimestamp(endTime);
         }
 
+        zoneMap = null;
+
+        if (stubs != null)
+            readZoneMaps (dis, stubs);
+
         input.setOffset(indexBlockSize);
     }
     
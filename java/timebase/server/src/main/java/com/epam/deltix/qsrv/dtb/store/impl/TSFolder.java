@@ -518,6 +518,60 @@ abstract class TSFolder extends TSFolderEntry {
         return (newFile);
     }
     
+    /**
+     *  Creates a new file, which is not linked to this folder yet.
+     *  See {@link #replaceChildren}.
+     */
+    final TSFile                    createFileToReplace (long ts) {
+        return (new TSFile (this, root.getSequence(), nextId (), ts, true));
+    }
+
+    /**
+     *  Replaces two adjacent files with the file, having data of both.
+     *  Entity index keeps the same entities, so it is updated in place.
+     */
+    final void                      replaceChildren (TSFile first, TSFile second, TSFile merged)
+        throws IOException
+    {
+        assert root.currentThreadHoldsWriteLock ();
+
+        IntegerArrayList        entities = cache != null ? merged.getEntities () : null;
+
+        synchronized (this) {
+            int                 index = first.getIdxInParent ();
+
+            if (first.getParent () != this || second.getParent () != this || merged.getParent () != this ||
+                    children.getObjectNoRangeCheck (index) != first || getChildOrNull (index + 1) != second)
+                throw new IllegalArgumentException (
+                    first + " and " + second + " are not adjacent children of " + this
+                );
+
+            children.set (index, merged);
+            children.remove (index + 1);
+
+            for (int ii = index, size = children.size (); ii < size; ii++)
+                children.getObjectNoRangeCheck (ii).setIdxInParent (ii);
+
+            for (int ii = 0, numEntries = entityIndex.size (); ii < numEntries; ii++) {
+                EntityIndexEntry    ee = entityIndex.getObjectNoRangeCheck (ii);
+
+                if (ee.first == first || ee.first == second)
+                    ee.first = merged;
+
+                if (ee.last == first || ee.last == second)
+                    ee.last = merged;
+            }
+
+            if (cache != null) {
+                cache.remove (first);
+                cache.remove (second);
+                cache.put (merged, entities);
+            }
+
+            setDirty ();
+        }
+    }
+
     final TSIntermediateFolder      createChildFolder (long ts) {
         TSIntermediateFolder    f = new TSIntermediateFolder (this, root.getSequence(), nextId (), ts);
         TreeOps.use (f);
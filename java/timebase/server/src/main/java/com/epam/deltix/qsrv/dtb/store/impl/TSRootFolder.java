@@ -18,11 +18,13 @@ package com.epam.deltix.qsrv.dtb.store.impl;
 
 import com.epam.deltix.gflog.api.LogLevel;
 import com.epam.deltix.qsrv.dtb.fs.pub.*;
+import com.epam.deltix.qsrv.dtb.fs.tiered.TieredFileSystem;
 import com.epam.deltix.qsrv.dtb.store.codecs.*;
 import com.epam.deltix.qsrv.dtb.store.dataacc.*;
 import com.epam.deltix.qsrv.dtb.store.pub.*;
 import com.epam.deltix.qsrv.hf.pub.TimeInterval;
 import com.epam.deltix.qsrv.hf.tickdb.impl.PDStreamSpaceIndexManager;
+import com.epam.deltix.util.collections.ByteArray;
 import com.epam.deltix.util.collections.generated.ByteArrayList;
 import com.epam.deltix.util.concurrent.*;
 import com.epam.deltix.util.lang.*;
@@ -54,12 +56,17 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
     private int maxFileSize = MAX_FILE_SIZE_DEF;
     private int maxFolderSize = MAX_FOLDER_SIZE_DEF;
     private String compression = COMPRESSION_DEF;
+    private ZstdDigestedDictionary dictionary;
+    private ZstdDictionary dictionarySamples;
+    private boolean dictionaryTraining;
+    private volatile ZoneMapCollector zoneMapCollector;
     private boolean configIsDirty;
     private final AbstractFileSystem fs;
     private final String path;
     private String space;
     private int spaceIndex = PDStreamSpaceIndexManager.NO_INDEX;
     private final PDSImpl cache;
+    private final int writerIndex; // defines writer thread storing files of this root
     private final SymbolRegistryImpl symRegistry = new SymbolRegistryImpl();
     private final ReentrantReadWriteLock rwl = new ReentrantReadWriteLock();
 
@@ -69,13 +76,14 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
     // global structure index
     private final AtomicLong sequence = new AtomicLong(0);
 
-    TSRootFolder(PDSImpl cache, AbstractFileSystem fs, String path, @Nullable String space) {
+    TSRootFolder(PDSImpl cache, AbstractFileSystem fs, String path, @Nullable String space, int writerIndex) {
         super();
 
         this.path = path;
         this.fs = fs;
         this.cache = cache;
         this.space = space;
+        this.writerIndex = writerIndex;
     }
 
     //
@@ -103,11 +111,22 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
 
             symRegistry.load(path);
             loadProperties(path);
+            loadDictionary(path);
         } catch (IOException iox) {
             throw new com.epam.deltix.util.io.UncheckedIOException("Failed to read symbols from [" + path + "]", iox);
         } finally {
             releaseSharedLock();
         }
+
+        WriteAheadLog wal = cache.getWriteAheadLog();
+
+        if (wal != null && !readOnly) {
+            try {
+                Restorer.replay(this, wal);
+            } catch (IOException iox) {
+                throw new com.epam.deltix.util.io.UncheckedIOException("Failed to replay write-ahead log for [" + path + "]", iox);
+            }
+        }
     }
 
     @Override
@@ -116,10 +135,12 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
     }
 
     public void delete() {
+        logReset();
 
         acquireWriteLock();
         try {
             isOpen = false;
+            invalidateBlockCache();
 
             super.format();
             FSUtils.removeRecursive(getPath(), true, null);
@@ -135,9 +156,12 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         isOpen = true;
         readOnly = false;
 
+        logReset();
+
         acquireWriteLock();
 
         try {
+            invalidateBlockCache();
             super.format();
             FSUtils.removeRecursive(getPath(), false, null);
 
@@ -188,6 +212,7 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
             if (!isActive()) {
                 storeRegistry();
                 symRegistry.close();
+                invalidateBlockCache();
                 isOpen = false;
                 return;
             }
@@ -297,15 +322,92 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         }
     }
 
-    public BlockCompressor createCompressor(ByteArrayList buffer) {
+    @Override
+    public void setZoneMapCollector(ZoneMapCollector collector) {
+        this.zoneMapCollector = collector;
+    }
+
+    @Override
+    public ZoneMapCollector getZoneMapCollector() {
+        return zoneMapCollector;
+    }
+
+    public synchronized BlockCompressor createCompressor(ByteArrayList buffer) {
         if (compression == null || compression.isEmpty())
             return null;
 
-        return BlockCompressorFactory.createCompressor(compression, buffer);
+        return BlockCompressorFactory.createCompressor(compression, dictionary, buffer);
+    }
+
+    public synchronized BlockDecompressor createDecompressor(byte compressionCode) {
+        return BlockCompressorFactory.createDecompressor(compressionCode, dictionary);
+    }
+
+    /**
+     * @return trained compression dictionary, digested once for all codecs of this root,
+     * or null if compression does not use dictionary
+     */
+    public synchronized ZstdDigestedDictionary getCompressionDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * @return true, if compression requires dictionary which is not trained yet
+     */
+    synchronized boolean isDictionaryTrainingRequired() {
+        return dictionary == null && !readOnly && BlockCompressorFactory.usesDictionary(compression);
     }
 
-    public BlockDecompressor createDecompressor(byte compressionCode) {
-        return BlockCompressorFactory.createDecompressor(compressionCode);
+    /**
+     * Samples data block to train compression dictionary. When enough samples are collected, trains
+     * dictionary and stores it next to the root index. Called by writer thread holding shared lock.
+     *
+     * @return true, when dictionary is trained
+     */
+    boolean sampleForDictionary(DataBlock block) {
+        ZstdDictionary samples;
+
+        synchronized (this) {
+            if (!isDictionaryTrainingRequired() || dictionaryTraining)
+                return false;
+
+            if (dictionarySamples == null)
+                dictionarySamples = new ZstdDictionary();
+
+            ByteArray data = block.getData();
+            if (!dictionarySamples.addSamples(data.getArray(), data.getOffset(), block.getDataLength()))
+                return false;
+
+            samples = dictionarySamples;
+            dictionarySamples = null;
+            dictionaryTraining = true;
+        }
+
+        // training may take a while - do not hold root monitor
+        try {
+            byte[] trained = samples.train();
+
+            // files must not refer to the dictionary, which is not saved
+            storeDictionary(getPath(), trained);
+
+            ZstdDigestedDictionary digested = new ZstdDigestedDictionary(trained);
+
+            synchronized (this) {
+                dictionary = digested;
+            }
+
+            LOGGER.info().append("Compression dictionary (").append(trained.length).append(" bytes) is trained for [").append(this).append("]").commit();
+
+            return true;
+        } catch (IOException | RuntimeException x) {
+            LOGGER.warn().append("Failed to train compression dictionary for [").append(this).append("]: ").append(x).append(". Data is compressed without dictionary.").commit();
+
+            return false;
+        } finally {
+            synchronized (this) {
+                dictionaryTraining = false;
+            }
+        }
     }
 
     @Override
@@ -538,6 +640,8 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         long from = range != null ? range.from : Long.MIN_VALUE;
         long to = range != null ? range.to : Long.MAX_VALUE;
 
+        logDelete(null, from, to, null);
+
         acquireWriteLock();
 
         sequence.incrementAndGet();
@@ -584,6 +688,192 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         }
     }
 
+    @Override
+    public long compact(long from, CompactionOptions options, CompactionStats stats) {
+
+        BlockCompressor compressor;
+
+        if (options.compression != null) {
+            ZstdDigestedDictionary dict = BlockCompressorFactory.usesDictionary(options.compression) ? getCompressionDictionary() : null;
+            compressor = BlockCompressorFactory.createCompressor(options.compression, dict, new ByteArrayList());
+        } else {
+            compressor = createCompressor(new ByteArrayList());
+        }
+
+        try {
+            return compact(from, options, stats, compressor);
+        } finally {
+            if (compressor != null)
+                compressor.close();
+        }
+    }
+
+    private long compact(long from, CompactionOptions options, CompactionStats stats, BlockCompressor compressor) {
+        int maxSize = options.maxFileSize > 0 ? options.maxFileSize : getMaxFileSize();
+
+        acquireWriteLock();
+
+        sequence.incrementAndGet();
+
+        try {
+            TSFile tsf = findTSFForRead(this, from);
+
+            if (tsf == null)
+                return Long.MAX_VALUE;
+
+            TSFile next = null;
+
+            try {
+                next = getNextFile(tsf, null);
+
+                // last file is never cold
+                long limit = next != null ? next.getStartTimestamp() : Long.MAX_VALUE;
+                if (limit == Long.MAX_VALUE || limit > options.coldTime)
+                    return Long.MAX_VALUE;
+
+                // files of different folders are not merged: index of each folder is stored separately
+                if (tsf.getParent() == next.getParent() && tsf.isIdle() && next.isIdle()) {
+                    long nextLimit = getLimitTimestamp(next);
+
+                    if (nextLimit != Long.MAX_VALUE && nextLimit <= options.coldTime &&
+                            tsf.getDataSize() + next.getDataSize() <= maxSize) {
+
+                        if (LOGGER.isDebugEnabled())
+                            LOGGER.debug().append("Merging ").append(next).append(" into ").append(tsf).commit();
+
+                        stats.bytesReclaimed += tsf.merge(next, compressor);
+                        stats.filesMerged++;
+
+                        // merged file may be merged with the next one again
+                        return from;
+                    }
+                }
+
+                if (options.compression != null && tsf.isIdle() && !tsf.isCompressedWith(compressor)) {
+                    if (LOGGER.isDebugEnabled())
+                        LOGGER.debug().append("Recompressing ").append(tsf).append(" using ").append(options.compression).commit();
+
+                    stats.bytesReclaimed += tsf.recompress(compressor);
+                    stats.filesRecompressed++;
+                }
+
+                return limit;
+            } finally {
+                unuse(tsf);
+
+                if (next != null)
+                    unuse(next);
+            }
+        } catch (IOException iox) {
+            throw new com.epam.deltix.util.io.UncheckedIOException(iox);
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    @Override
+    public long migrate(long from, long coldTime, CompactionStats stats) {
+        if (!(fs instanceof TieredFileSystem))
+            return Long.MAX_VALUE;
+
+        TieredFileSystem tiered = (TieredFileSystem) fs;
+
+        TSFile tsf;
+        AbstractPath path;
+        int storeCount;
+        long limit;
+
+        acquireSharedLock();
+
+        try {
+            tsf = findTSFForRead(this, from);
+
+            if (tsf == null)
+                return Long.MAX_VALUE;
+
+            TSFile next = null;
+
+            try {
+                next = getNextFile(tsf, null);
+
+                // last file is never cold
+                limit = next != null ? next.getStartTimestamp() : Long.MAX_VALUE;
+                if (limit == Long.MAX_VALUE || limit > coldTime)
+                    return Long.MAX_VALUE;
+
+                if (!tsf.isIdle())
+                    return limit;
+
+                path = tsf.getPath();
+                storeCount = tsf.getStoreCount();
+            } finally {
+                unuse(tsf);
+
+                if (next != null)
+                    unuse(next);
+            }
+        } catch (IOException iox) {
+            throw new com.epam.deltix.util.io.UncheckedIOException(iox);
+        } finally {
+            releaseSharedLock();
+        }
+
+        try {
+            // copying is done without lock, so that writers are not blocked
+            AbstractPath copy = tiered.copyToSecondary(path);
+
+            if (copy != null) {
+                long size = completeMigration(tiered, from, tsf, storeCount, copy);
+
+                if (size > 0) {
+                    if (LOGGER.isDebugEnabled())
+                        LOGGER.debug().append("Moved ").append(path).append(" to secondary storage").commit();
+
+                    stats.bytesMigrated += size;
+                    stats.filesMigrated++;
+                }
+            }
+
+            return limit;
+        } catch (IOException iox) {
+            throw new com.epam.deltix.util.io.UncheckedIOException(iox);
+        }
+    }
+
+    /**
+     *  Replaces the file with its copy on the secondary storage, if the file
+     *  is still idle and was not stored again while copying.
+     *  Otherwise, the copy is deleted.
+     *
+     *  @return the number of moved bytes, or 0 if file is changed
+     */
+    private long completeMigration(TieredFileSystem tiered, long from, TSFile tsf, int storeCount, AbstractPath copy)
+            throws IOException
+    {
+        acquireWriteLock();
+
+        try {
+            TSFile current = findTSFForRead(this, from);
+
+            try {
+                if (current == tsf && tsf.isIdle() && tsf.getStoreCount() == storeCount)
+                    return tiered.completeMigration(tsf.getPath(), copy);
+            } finally {
+                if (current != null)
+                    unuse(current);
+            }
+
+            if (LOGGER.isDebugEnabled())
+                LOGGER.debug().append(tsf).append(" was changed while copying to secondary storage").commit();
+
+            copy.deleteIfExists();
+
+            return 0;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
     @Override
     public TSRef associate(String path) {
         acquireSharedLock();
@@ -813,6 +1103,29 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         return file;
     }
 
+    @Override
+    public void logMessage(TimeSlice slice, int entity, long timestamp, int type, byte[] body, int offset, int length) {
+        WriteAheadLog wal = cache.getWriteAheadLog();
+
+        if (wal != null)
+            wal.logMessage(this, (TSFile) slice, entity, timestamp, type, body, offset, length);
+    }
+
+    @Override
+    public void logDelete(@Nullable TimeSlice slice, long from, long to, @Nullable int[] entities) {
+        WriteAheadLog wal = cache.getWriteAheadLog();
+
+        if (wal != null)
+            wal.logDelete(this, (TSFile) slice, from, to, entities);
+    }
+
+    private void logReset() {
+        WriteAheadLog wal = cache.getWriteAheadLog();
+
+        if (wal != null)
+            wal.logReset(this);
+    }
+
     public final ArrayList<SliceListener> sliceListeners = new ArrayList<SliceListener>(5);
 
     @Override
@@ -951,6 +1264,12 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         return (cache);
     }
 
+    private void invalidateBlockCache() {
+        OffHeapBlockCache blockCache = cache.getBlockCache();
+        if (blockCache != null)
+            blockCache.invalidate(this);
+    }
+
     boolean tryAcquireSharedLock() {
         boolean result = (rwl.readLock().tryLock());
         if (result)
@@ -1116,6 +1435,27 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         configIsDirty = false;
     }
 
+    private void loadDictionary(AbstractPath folder)
+            throws IOException {
+        byte[] content = ZstdDictionary.read(folder.append(TSNames.ZSTD_DICTIONARY_NAME));
+        ZstdDigestedDictionary digested = content != null ? new ZstdDigestedDictionary(content) : null;
+
+        synchronized (this) {
+            dictionary = digested;
+        }
+    }
+
+    private void storeDictionary(AbstractPath folder, byte[] content)
+            throws IOException {
+        AbstractPath tmp = TreeOps.makeTempPath(folder, TSNames.ZSTD_DICTIONARY_NAME);
+
+        try (OutputStream os = tmp.openOutput(content.length)) {
+            os.write(content);
+        }
+
+        TreeOps.finalize(tmp);
+    }
+
     private void storePropertiesIfDirty(AbstractPath folder)
             throws IOException {
         if (!configIsDirty)
@@ -1162,6 +1502,10 @@ final class TSRootFolder extends TSFolder implements TSRoot, TimeSliceStore {
         space = name;
     }
 
+    int getWriterIndex() {
+        return writerIndex;
+    }
+
     public long getSequence() {
         return sequence.get();
     }
@@ -0,0 +1,951 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.impl;
+
+import com.epam.deltix.gflog.api.Log;
+import com.epam.deltix.util.concurrent.UncheckedInterruptedException;
+
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.CRC32;
+
+/**
+ *  Append-only log of changes, made by data writers, which are not stored in time slice files yet.
+ *  Records are accumulated in memory and committed to disk by a single thread:
+ *  concurrent writers share one fsync per commit interval (group commit).
+ *  <p>
+ *  The log consists of segments. A segment is deleted, when all time slices
+ *  having changes logged in it (or in previous segments) are stored.
+ *  Segments left after abnormal termination are replayed by {@link Restorer}
+ *  when roots are opened.
+ *  </p>
+ *  <p>
+ *  Each record has a position: sequence of the segment and offset within it.
+ *  Time slices store the position of the last change they contain, together
+ *  with the id of the log, so that replay skips changes, which are already stored.
+ *  The id is kept while the log has segments, and generated again, when the log
+ *  is empty on start, because positions of the new log begin from zero.
+ *  </p>
+ *  Lock ordering: this, then TSFile.
+ */
+final class WriteAheadLog {
+    private static final Log                LOGGER = PDSImpl.LOGGER;
+
+    static final String                     FILE_PREFIX = "wal.";
+    static final String                     FILE_EXTENSION = ".log";
+
+    // Size of a segment, after which the log switches to the next one. Offsets within segment must fit 32 bits
+    private static final long               MAX_SEGMENT_SIZE = Math.min (Long.getLong("TimeBase.storage.wal.segmentSize", 64L << 20), 1L << 30);
+
+    private static final int                MAX_RECORD_SIZE = 1 << 30;
+    private static final int                HEADER_SIZE = 8; // length, crc32
+    private static final int                INITIAL_BUFFER_SIZE = 1 << 16;
+
+    static final byte                       ROOT = 1;
+    static final byte                       ENTITY = 2;
+    static final byte                       MESSAGE = 3;
+    static final byte                       DELETE = 4;
+    static final byte                       RESET = 5;
+    static final byte                       LOG = 6;
+
+    /**
+     *  Position of a change, which is not logged.
+     */
+    static final long                       NO_POSITION = -1;
+
+    /**
+     *  Single file of the log.
+     */
+    static final class Segment {
+        final long                          sequence;
+        final File                          file;
+
+        long                                logId;
+
+        /**
+         *  Number of time slices having unsaved changes logged in this segment,
+         *  plus number of recovered roots, which are not replayed yet.
+         */
+        private final AtomicInteger         pins = new AtomicInteger ();
+
+        // roots defined in this segment, guarded by log
+        private final Map<TSRootFolder, RootInfo> roots = new IdentityHashMap<> ();
+
+        private long                        size;       // bytes logged, guarded by log
+        private long                        written;    // bytes written, guarded by log
+        private FileChannel                 channel;    // used by committer
+
+        private Segment (File folder, long sequence) {
+            this.sequence = sequence;
+            this.file = new File (folder, String.format ("%s%019d%s", FILE_PREFIX, sequence, FILE_EXTENSION));
+        }
+
+        void                                pin () {
+            pins.incrementAndGet ();
+        }
+
+        void                                unpin () {
+            int         count = pins.decrementAndGet ();
+
+            assert count >= 0 : this + " is unpinned " + (-count) + " times more than pinned";
+        }
+
+        @Override
+        public String                       toString () {
+            return (file.getName ());
+        }
+    }
+
+    private static final class RootInfo {
+        final int                           id;
+        final BitSet                        entities = new BitSet ();
+
+        RootInfo (int id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Chunk {
+        final Segment                       segment;
+        ByteBuffer                          data;
+
+        Chunk (Segment segment, ByteBuffer data) {
+            this.segment = segment;
+            this.data = data;
+        }
+    }
+
+    /**
+     *  Recovered record. Entities are identified by symbols, because ids
+     *  may be not stored in the symbol registry of the root.
+     */
+    static final class Record {
+        final byte                          type;
+        final Segment                       segment;
+        final long                          position;
+
+        String                              symbol;         // MESSAGE
+        String                              entityData;     // MESSAGE
+        long                                time;           // MESSAGE or start of the DELETE range
+        long                                endTime;        // DELETE, inclusive
+        int                                 messageType;    // MESSAGE
+        byte []                             body;           // MESSAGE
+        String []                           symbols;        // DELETE, null means all entities
+
+        int                                 entity;         // MESSAGE, resolved by Restorer
+        int []                              entities;       // DELETE, resolved by Restorer
+
+        Record (byte type, Segment segment, long offset) {
+            this.type = type;
+            this.segment = segment;
+            this.position = position (segment, offset);
+        }
+    }
+
+    private interface RecordVisitor {
+        void                                visit (byte type, long offset, ByteBuffer payload);
+    }
+
+    private final File                      folder;
+    private final long                      commitInterval; // nanoseconds
+    private final ArrayDeque<Segment>       segments = new ArrayDeque<> ();
+    private final ArrayDeque<ByteBuffer>    buffers = new ArrayDeque<> ();
+    private final CRC32                     crc = new CRC32 ();
+
+    // paths of roots having records in the recovered segments, which are not replayed yet
+    private final Map<String, List<Segment>> recovered = new HashMap<> ();
+
+    // record being replayed by current thread
+    private final ThreadLocal<Record>       replaying = new ThreadLocal<> ();
+
+    private final Thread                    committer = new Thread ("WAL Committer") {
+        @Override
+        public void                         run () {
+            commitLoop ();
+        }
+    };
+
+    private Segment                         current;
+    private long                            id;
+    private ArrayList<Chunk>                pending = new ArrayList<> ();
+    private ArrayList<Chunk>                spare = new ArrayList<> ();
+
+    private long                            appended = 0;   // bytes logged
+    private long                            taken = 0;      // bytes taken by committer
+    private long                            committed = 0;  // bytes forced to disk
+    private boolean                         cleanupRequested = false;
+    private boolean                         closed = false;
+    private IOException                     failure;
+
+    WriteAheadLog (File folder, int commitInterval) {
+        this.folder = folder;
+        this.commitInterval = TimeUnit.MILLISECONDS.toNanos (commitInterval);
+    }
+
+    File                                    getFolder () {
+        return (folder);
+    }
+
+    /**
+     *  Id of the log, which qualifies positions of records.
+     */
+    synchronized long                       getId () {
+        return (id);
+    }
+
+    /**
+     *  Recovers segments left by the previous run and starts committing.
+     */
+    synchronized void                       open () throws IOException {
+        if (!folder.isDirectory () && !folder.mkdirs ())
+            throw new IOException ("Failed to create write-ahead log folder: " + folder);
+
+        long        sequence = recover ();
+
+        if (segments.isEmpty ())
+            id = new Random ().nextLong ();
+        else
+            id = segments.peekLast ().logId;
+
+        startSegment (sequence);
+
+        committer.setDaemon (true);
+        committer.start ();
+    }
+
+    private long                            recover () throws IOException {
+        File []             files = folder.listFiles ();
+        TreeMap<Long, File> sorted = new TreeMap<> ();
+
+        for (int ii = 0; files != null && ii < files.length; ii++) {
+            String      name = files [ii].getName ();
+
+            if (!name.startsWith (FILE_PREFIX) || !name.endsWith (FILE_EXTENSION))
+                continue;
+
+            try {
+                sorted.put (Long.parseLong (name.substring (FILE_PREFIX.length (), name.length () - FILE_EXTENSION.length ())), files [ii]);
+            } catch (NumberFormatException x) {
+                LOGGER.warn ("Unknown file in write-ahead log: %s").with (files [ii]);
+            }
+        }
+
+        long        next = 0;
+
+        for (Map.Entry<Long, File> e : sorted.entrySet ()) {
+            Segment             segment = new Segment (folder, e.getKey ());
+            final Set<String>   paths = new HashSet<> ();
+
+            segment.size = segment.written = segment.file.length ();
+
+            scan (segment.file, (type, offset, payload) -> {
+                if (type == LOG) {
+                    segment.logId = payload.getLong ();
+                } else if (type == ROOT) {
+                    payload.getInt ();
+                    paths.add (readString (payload));
+                }
+            });
+
+            for (String path : paths) {
+                recovered.computeIfAbsent (path, p -> new ArrayList<> ()).add (segment);
+                segment.pin ();
+            }
+
+            segments.add (segment);
+            next = e.getKey () + 1;
+        }
+
+        if (!recovered.isEmpty ())
+            LOGGER.warn ("Write-ahead log %s contains unsaved data of %s roots").with (folder).with (recovered.size ());
+
+        return (next);
+    }
+
+    /**
+     *  Reads records related to the specified root from the recovered segments.
+     *  Records preceding the last RESET are omitted.
+     */
+    List<Record>                            read (final String path) throws IOException {
+        List<Segment>           list;
+
+        synchronized (this) {
+            list = recovered.get (path);
+
+            if (list == null)
+                return (Collections.emptyList ());
+
+            list = new ArrayList<> (list);
+        }
+
+        final ArrayList<Record> records = new ArrayList<> ();
+
+        for (final Segment segment : list) {
+            final Set<Integer>          ids = new HashSet<> ();
+            final Map<Long, String []>  entities = new HashMap<> ();
+
+            scan (segment.file, (type, offset, in) -> {
+                if (type == LOG)
+                    return;
+
+                int         id = in.getInt ();
+
+                if (type == ROOT) {
+                    if (path.equals (readString (in)))
+                        ids.add (id);
+
+                    return;
+                }
+
+                if (!ids.contains (id))
+                    return;
+
+                switch (type) {
+                    case ENTITY: {
+                        int         entity = in.getInt ();
+                        String      symbol = readString (in);
+
+                        entities.put (key (id, entity), new String [] { symbol, readString (in) });
+                        break;
+                    }
+
+                    case MESSAGE: {
+                        String []   def = entities.get (key (id, in.getInt ()));
+                        Record      r = new Record (type, segment, offset);
+
+                        r.time = in.getLong ();
+                        r.messageType = in.get () & 0xFF;
+                        r.body = new byte [in.getInt ()];
+                        in.get (r.body);
+
+                        if (def != null) {
+                            r.symbol = def [0];
+                            r.entityData = def [1];
+                            records.add (r);
+                        } else {
+                            LOGGER.warn ("%s: message of undefined entity is skipped").with (segment);
+                        }
+                        break;
+                    }
+
+                    case DELETE: {
+                        Record      r = new Record (type, segment, offset);
+
+                        r.time = in.getLong ();
+                        r.endTime = in.getLong ();
+
+                        int         count = in.getInt ();
+
+                        if (count >= 0) {
+                            r.symbols = new String [count];
+
+                            for (int ii = 0; ii < count; ii++) {
+                                String []   def = entities.get (key (id, in.getInt ()));
+                                r.symbols [ii] = def != null ? def [0] : null;
+                            }
+                        }
+
+                        records.add (r);
+                        break;
+                    }
+
+                    case RESET:
+                        records.clear ();
+                        break;
+                }
+            });
+        }
+
+        return (records);
+    }
+
+    /**
+     *  Releases recovered segments holding records of the specified root.
+     */
+    synchronized void                       replayed (String path) {
+        List<Segment>   list = recovered.remove (path);
+
+        if (list != null) {
+            for (Segment segment : list)
+                segment.unpin ();
+
+            requestCleanup ();
+        }
+    }
+
+    /**
+     *  Discards records of roots, which were not opened after recovery.
+     */
+    synchronized void                       completeRecovery () {
+        for (Map.Entry<String, List<Segment>> e : recovered.entrySet ()) {
+            LOGGER.warn ("Discarding write-ahead log records of %s: root is not opened").with (e.getKey ());
+
+            for (Segment segment : e.getValue ())
+                segment.unpin ();
+        }
+
+        recovered.clear ();
+        requestCleanup ();
+    }
+
+    /**
+     *  Sets the record being replayed by current thread: replayed changes
+     *  pin its segment and take its position instead of being logged again.
+     */
+    void                                    setReplayRecord (@Nullable Record record) {
+        if (record != null)
+            replaying.set (record);
+        else
+            replaying.remove ();
+    }
+
+    //
+    //  LOGGING
+    //
+    void                                    logMessage (
+        TSRootFolder                            root,
+        TSFile                                  tsf,
+        int                                     entity,
+        long                                    nstime,
+        int                                     type,
+        byte []                                 body,
+        int                                     offset,
+        int                                     length
+    )
+    {
+        Record          replay = replaying.get ();
+
+        if (replay != null) {
+            tsf.walPin (replay.segment, replay.position);
+            return;
+        }
+
+        synchronized (this) {
+            if (!prepare ())
+                return;
+
+            RootInfo        info = defineRoot (root);
+
+            defineEntity (root, info, entity);
+
+            long            position = position (current, current.size);
+            ByteBuffer      out = beginRecord (MESSAGE, 21 + length);
+
+            out.putInt (info.id);
+            out.putInt (entity);
+            out.putLong (nstime);
+            out.put ((byte) type);
+            out.putInt (length);
+            out.put (body, offset, length);
+
+            endRecord (out);
+
+            tsf.walPin (current, position);
+        }
+    }
+
+    void                                    logDelete (
+        TSRootFolder                            root,
+        @Nullable TSFile                        tsf,
+        long                                    from,
+        long                                    to,
+        @Nullable int []                        entities
+    )
+    {
+        Record          replay = replaying.get ();
+
+        if (replay != null) {
+            if (tsf != null)
+                tsf.walPin (replay.segment, replay.position);
+            return;
+        }
+
+        synchronized (this) {
+            if (!prepare ())
+                return;
+
+            RootInfo        info = defineRoot (root);
+
+            if (entities != null) {
+                for (int entity : entities)
+                    defineEntity (root, info, entity);
+            }
+
+            int             count = entities != null ? entities.length : -1;
+            long            position = position (current, current.size);
+            ByteBuffer      out = beginRecord (DELETE, 24 + Math.max (count, 0) * 4);
+
+            out.putInt (info.id);
+            out.putLong (from);
+            out.putLong (to);
+            out.putInt (count);
+
+            for (int ii = 0; ii < count; ii++)
+                out.putInt (entities [ii]);
+
+            endRecord (out);
+
+            if (tsf != null)
+                tsf.walPin (current, position);
+        }
+    }
+
+    /**
+     *  Logs that all data of the root is removed.
+     */
+    void                                    logReset (TSRootFolder root) {
+        replayed (root.getPathString ());
+
+        synchronized (this) {
+            if (!prepare ())
+                return;
+
+            RootInfo        info = defineRoot (root);
+            ByteBuffer      out = beginRecord (RESET, 4);
+
+            out.putInt (info.id);
+
+            endRecord (out);
+        }
+    }
+
+    /**
+     *  Waits until all records logged so far are forced to disk.
+     */
+    synchronized boolean                    waitUntilCommitted (int timeout) {
+        long            lsn = appended;
+        long            limit =
+            timeout <= 0 ?
+                Long.MAX_VALUE :
+                System.currentTimeMillis () + timeout;
+
+        while (committed < lsn) {
+            if (failure != null)
+                throw new com.epam.deltix.util.io.UncheckedIOException (failure);
+
+            if (closed && !committer.isAlive ())
+                return (false);
+
+            long    ttw = limit - System.currentTimeMillis ();
+
+            if (ttw <= 0)
+                return (false);
+
+            try {
+                wait (ttw);
+            } catch (InterruptedException x) {
+                throw new UncheckedInterruptedException (x);
+            }
+        }
+
+        return (true);
+    }
+
+    /**
+     *  Commits remaining records and stops the log.
+     *  Segments holding unsaved changes are left for recovery.
+     */
+    void                                    close () {
+        synchronized (this) {
+            if (closed)
+                return;
+
+            closed = true;
+            notifyAll ();
+        }
+
+        try {
+            committer.join ();
+        } catch (InterruptedException x) {
+            throw new UncheckedInterruptedException (x);
+        }
+
+        synchronized (this) {
+            deleteSegments (true);
+
+            for (Segment segment : segments)
+                closeChannel (segment);
+
+            if (!segments.isEmpty ())
+                LOGGER.warn ("Write-ahead log %s is closed with unsaved data").with (folder);
+        }
+    }
+
+    //
+    //  INTERNALS
+    //
+    private boolean                         prepare () {
+        assert Thread.holdsLock (this);
+
+        if (closed || failure != null)
+            return (false);
+
+        if (current.size >= MAX_SEGMENT_SIZE)
+            startSegment (current.sequence + 1);
+
+        return (true);
+    }
+
+    /**
+     *  Starts the segment with the record, defining id of the log.
+     */
+    private void                            startSegment (long sequence) {
+        current = new Segment (folder, sequence);
+        current.logId = id;
+        segments.add (current);
+        pending.add (new Chunk (current, allocate ()));
+
+        ByteBuffer      out = beginRecord (LOG, 8);
+
+        out.putLong (id);
+
+        endRecord (out);
+    }
+
+    private RootInfo                        defineRoot (TSRootFolder root) {
+        RootInfo        info = current.roots.get (root);
+
+        if (info == null) {
+            info = new RootInfo (current.roots.size ());
+            current.roots.put (root, info);
+
+            byte []     path = root.getPathString ().getBytes (StandardCharsets.UTF_8);
+            ByteBuffer  out = beginRecord (ROOT, 8 + path.length);
+
+            out.putInt (info.id);
+            writeString (out, path);
+
+            endRecord (out);
+        }
+
+        return (info);
+    }
+
+    private void                            defineEntity (TSRootFolder root, RootInfo info, int entity) {
+        if (info.entities.get (entity))
+            return;
+
+        SymbolRegistryImpl  registry = root.getSymbolRegistry ();
+        String              data = registry.getEntityData (entity);
+        byte []             symbol = registry.idToSymbol (entity).getBytes (StandardCharsets.UTF_8);
+        byte []             entityData = data != null ? data.getBytes (StandardCharsets.UTF_8) : null;
+
+        ByteBuffer          out = beginRecord (
+            ENTITY,
+            16 + symbol.length + (entityData != null ? entityData.length : 0)
+        );
+
+        out.putInt (info.id);
+        out.putInt (entity);
+        writeString (out, symbol);
+        writeString (out, entityData);
+
+        endRecord (out);
+
+        info.entities.set (entity);
+    }
+
+    private ByteBuffer                      beginRecord (byte type, int payloadSize) {
+        Chunk           chunk = pending.get (pending.size () - 1);
+        ByteBuffer      out = chunk.data;
+        int             size = HEADER_SIZE + 1 + payloadSize;
+
+        if (out.remaining () < size) {
+            ByteBuffer  bigger = ByteBuffer.allocate (Math.max (out.capacity () * 2, out.position () + size));
+
+            out.flip ();
+            bigger.put (out);
+            chunk.data = out = bigger;
+        }
+
+        out.mark ();
+        out.position (out.position () + HEADER_SIZE);
+        out.put (type);
+
+        return (out);
+    }
+
+    private void                            endRecord (ByteBuffer out) {
+        int             end = out.position ();
+
+        out.reset ();
+
+        int             start = out.position ();
+        int             length = end - start - HEADER_SIZE;
+
+        crc.reset ();
+        crc.update (out.array (), out.arrayOffset () + start + HEADER_SIZE, length);
+
+        out.putInt (length);
+        out.putInt ((int) crc.getValue ());
+        out.position (end);
+
+        boolean         wakeup = appended == taken;
+
+        appended += end - start;
+        current.size += end - start;
+
+        if (wakeup)
+            notifyAll ();
+    }
+
+    private ByteBuffer                      allocate () {
+        ByteBuffer      buffer = buffers.poll ();
+
+        return (buffer != null ? buffer : ByteBuffer.allocate (INITIAL_BUFFER_SIZE));
+    }
+
+    private void                            requestCleanup () {
+        assert Thread.holdsLock (this);
+
+        cleanupRequested = true;
+        notifyAll ();
+    }
+
+    private void                            commitLoop () {
+        long            lastCommit = System.nanoTime () - commitInterval;
+
+        for (;;) {
+            synchronized (this) {
+                try {
+                    while (appended == taken && !closed && !cleanupRequested)
+                        wait ();
+                } catch (InterruptedException x) {
+                    return;
+                }
+
+                if (appended == taken) {
+                    cleanupRequested = false;
+                    deleteSegments (false);
+
+                    if (closed)
+                        return;
+
+                    continue;
+                }
+            }
+
+            // let more writers join this commit
+            long                delay = lastCommit + commitInterval - System.nanoTime ();
+
+            if (delay > 0)
+                LockSupport.parkNanos (delay);
+
+            ArrayList<Chunk>    chunks;
+            long                lsn;
+
+            synchronized (this) {
+                chunks = pending;
+                pending = spare;
+                spare = chunks;
+
+                pending.add (new Chunk (current, allocate ()));
+                lsn = taken = appended;
+            }
+
+            lastCommit = System.nanoTime ();
+
+            try {
+                for (int ii = 0; ii < chunks.size (); ii++)
+                    write (chunks.get (ii));
+
+                synchronized (this) {
+                    committed = lsn;
+                    notifyAll ();
+
+                    deleteSegments (false);
+                }
+            } catch (IOException x) {
+                LOGGER.error ().append ("Failed to write ").append (folder).append (". Write-ahead log is disabled: ").append (x).commit ();
+
+                synchronized (this) {
+                    failure = x;
+                    notifyAll ();
+                }
+
+                return;
+            } finally {
+                synchronized (this) {
+                    for (int ii = 0; ii < chunks.size (); ii++) {
+                        ByteBuffer  data = chunks.get (ii).data;
+
+                        if (data.capacity () == INITIAL_BUFFER_SIZE) {
+                            data.clear ();
+                            buffers.add (data);
+                        }
+                    }
+                }
+
+                chunks.clear ();
+            }
+        }
+    }
+
+    private void                            write (Chunk chunk) throws IOException {
+        Segment         segment = chunk.segment;
+        ByteBuffer      data = chunk.data;
+
+        data.flip ();
+
+        int             length = data.remaining ();
+
+        if (length > 0) {
+            if (segment.channel == null)
+                segment.channel = FileChannel.open (
+                    segment.file.toPath (),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND
+                );
+
+            while (data.hasRemaining ())
+                segment.channel.write (data);
+
+            segment.channel.force (false);
+        }
+
+        synchronized (this) {
+            segment.written += length;
+
+            // no more records will be appended
+            if (segment != current)
+                closeChannel (segment);
+        }
+    }
+
+    /**
+     *  Deletes the oldest segments, which do not hold unsaved changes.
+     *  Called by committer, or after it is stopped.
+     */
+    private void                            deleteSegments (boolean includeCurrent) {
+        assert Thread.holdsLock (this);
+
+        while (!segments.isEmpty ()) {
+            Segment     segment = segments.peekFirst ();
+
+            if (segment == current && !includeCurrent)
+                break;
+
+            if (segment.pins.get () > 0 || segment.written < segment.size)
+                break;
+
+            segments.removeFirst ();
+            closeChannel (segment);
+
+            if (segment.file.exists () && !segment.file.delete ())
+                LOGGER.warn ("Failed to delete %s").with (segment.file);
+        }
+    }
+
+    private void                            closeChannel (Segment segment) {
+        if (segment.channel != null) {
+            try {
+                segment.channel.close ();
+            } catch (IOException x) {
+                LOGGER.warn ("Error closing %s: %s").with (segment.file).with (x);
+            }
+
+            segment.channel = null;
+        }
+    }
+
+    //
+    //  FORMAT
+    //
+    private static long                     position (Segment segment, long offset) {
+        return ((segment.sequence << 32) | offset);
+    }
+
+    private static long                     key (int root, int entity) {
+        return (((long) root << 32) | (entity & 0xFFFFFFFFL));
+    }
+
+    private static void                     writeString (ByteBuffer out, @Nullable byte [] s) {
+        if (s == null) {
+            out.putInt (-1);
+        } else {
+            out.putInt (s.length);
+            out.put (s);
+        }
+    }
+
+    @Nullable
+    private static String                   readString (ByteBuffer in) {
+        int             length = in.getInt ();
+
+        if (length < 0)
+            return (null);
+
+        String          s = new String (in.array (), in.arrayOffset () + in.position (), length, StandardCharsets.UTF_8);
+
+        in.position (in.position () + length);
+
+        return (s);
+    }
+
+    /**
+     *  Visits valid records of the segment file. Stops at the first damaged
+     *  record, which is a result of interrupted write.
+     */
+    private static void                     scan (File file, RecordVisitor visitor) throws IOException {
+        CRC32           crc = new CRC32 ();
+        byte []         payload = new byte [INITIAL_BUFFER_SIZE];
+
+        long            offset = 0;
+
+        try (DataInputStream in = new DataInputStream (new BufferedInputStream (new FileInputStream (file)))) {
+            for (;;) {
+                int         length;
+                int         checksum;
+
+                try {
+                    length = in.readInt ();
+                    checksum = in.readInt ();
+
+                    if (length <= 0 || length > MAX_RECORD_SIZE)
+                        break;
+
+                    if (payload.length < length)
+                        payload = new byte [length];
+
+                    in.readFully (payload, 0, length);
+                } catch (EOFException x) {
+                    break;
+                }
+
+                crc.reset ();
+                crc.update (payload, 0, length);
+
+                if ((int) crc.getValue () != checksum)
+                    break;
+
+                ByteBuffer  record = ByteBuffer.wrap (payload, 0, length);
+                byte        type = record.get ();
+
+                visitor.visit (type, offset, record);
+
+                offset += HEADER_SIZE + length;
+            }
+        }
+    }
+}
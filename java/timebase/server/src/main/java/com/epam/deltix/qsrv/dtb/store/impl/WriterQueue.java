@@ -0,0 +1,131 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.impl;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ *  Lock-free queue of dirty files owned by the single {@link TSFWriterThread}.
+ *  Owner takes files from the head, other writers steal from the tail.
+ */
+final class WriterQueue {
+    final int                               index;
+
+    private final ConcurrentLinkedDeque<TSFile> files = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger             size = new AtomicInteger(0);
+
+    private volatile Thread                 owner;
+    private volatile boolean                idle;
+
+    // statistics
+    private final AtomicLong                numStored = new AtomicLong(0);
+    private final AtomicLong                numStolen = new AtomicLong(0);
+    private volatile long                   lastFlushLatency;   // nanoseconds
+
+    WriterQueue(int index) {
+        this.index = index;
+    }
+
+    void                    setOwner(Thread owner) {
+        this.owner = owner;
+    }
+
+    void                    add(TSFile tsf) {
+        files.addLast(tsf);
+        size.incrementAndGet();
+    }
+
+    TSFile                  poll() {
+        TSFile tsf = files.pollFirst();
+        if (tsf != null)
+            size.decrementAndGet();
+
+        return tsf;
+    }
+
+    TSFile                  steal() {
+        TSFile tsf = files.pollLast();
+        if (tsf != null) {
+            size.decrementAndGet();
+            numStolen.incrementAndGet();
+        }
+
+        return tsf;
+    }
+
+    boolean                 remove(TSFile tsf) {
+        boolean removed = files.removeFirstOccurrence(tsf);
+        if (removed)
+            size.decrementAndGet();
+
+        return removed;
+    }
+
+    boolean                 contains(TSFile tsf) {
+        return files.contains(tsf);
+    }
+
+    int                     size() {
+        return size.get();
+    }
+
+    boolean                 isIdle() {
+        return idle;
+    }
+
+    /**
+     *  Parks owner thread until {@link #wakeup()} is called or timeout elapsed.
+     */
+    void                    park(long nanos) throws InterruptedException {
+        idle = true;
+        try {
+            if (files.isEmpty())
+                LockSupport.parkNanos(this, nanos);
+        } finally {
+            idle = false;
+        }
+
+        if (Thread.interrupted())
+            throw new InterruptedException();
+    }
+
+    void                    wakeup() {
+        Thread thread = owner;
+        if (thread != null)
+            LockSupport.unpark(thread);
+    }
+
+    void                    fileStored(long latency) {
+        numStored.incrementAndGet();
+        lastFlushLatency = latency;
+    }
+
+    long                    getNumStored() {
+        return numStored.get();
+    }
+
+    long                    getNumStolen() {
+        return numStolen.get();
+    }
+
+    long                    getLastFlushLatency() {
+        return lastFlushLatency;
+    }
+}
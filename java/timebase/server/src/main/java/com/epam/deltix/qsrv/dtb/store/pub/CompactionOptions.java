@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.pub;
+
+/**
+ *  Parameters of time slice compaction. See {@link TSRoot#compact}.
+ */
+public class CompactionOptions {
+    /**
+     *  Only time slices that entirely end at or before this time (nanoseconds)
+     *  are compacted. The last time slice of the root is never touched.
+     */
+    public long             coldTime = Long.MIN_VALUE;
+
+    /**
+     *  Max uncompressed size of a merged time slice. When zero,
+     *  the max file size of the root is used.
+     */
+    public int              maxFileSize = 0;
+
+    /**
+     *  Compression to rewrite cold time slices with, for example "ZSTD(9)".
+     *  When null, slices are not recompressed, and merged slices
+     *  are stored using compression of the root.
+     */
+    public String           compression;
+
+    public CompactionOptions () {
+    }
+
+    public CompactionOptions (long coldTime, String compression) {
+        this.coldTime = coldTime;
+        this.compression = compression;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.pub;
+
+/**
+ *  Accumulates results of time slice compaction and migration.
+ */
+public class CompactionStats {
+    public int              filesMerged;
+    public int              filesRecompressed;
+
+    /**
+     *  Difference between the size on disk of processed time slices
+     *  before and after compaction. May be negative.
+     */
+    public long             bytesReclaimed;
+
+    /**
+     *  Number and total size of time slices moved to the secondary storage tier.
+     */
+    public int              filesMigrated;
+    public long             bytesMigrated;
+
+    public void             add (CompactionStats that) {
+        this.filesMerged += that.filesMerged;
+        this.filesRecompressed += that.filesRecompressed;
+        this.bytesReclaimed += that.bytesReclaimed;
+        this.filesMigrated += that.filesMigrated;
+        this.bytesMigrated += that.bytesMigrated;
+    }
+
+    @Override
+    public String           toString () {
+        return (
+            "merged: " + filesMerged + "; recompressed: " + filesRecompressed +
+            "; reclaimed: " + bytesReclaimed + " bytes" +
+            "; migrated: " + filesMigrated + " (" + bytesMigrated + " bytes)"
+        );
+    }
+}
@@ -21,7 +21,7 @@ import com.epam.deltix.util.concurrent.IntermittentlyAvailableResource;
 /**
  *  A reusable object for reading TimeBase messages.
  */
-public interface DataReader extends DataAccessor, IntermittentlyAvailableResource {
+public interface DataReader extends DataAccessor, IntermittentlyAvailableResource, ZoneMapFilterable {
     /**
      *  
      *  Resets this accessor to focus on the first message in the specified 
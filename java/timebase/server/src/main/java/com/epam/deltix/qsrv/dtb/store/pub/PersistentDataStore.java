@@ -17,13 +17,15 @@
 package com.epam.deltix.qsrv.dtb.store.pub;
 
 import com.epam.deltix.qsrv.dtb.fs.pub.*;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.PropertyMonitorHandler;
 
 import javax.annotation.Nullable;
+import java.io.File;
 
 /**
  *
  */
-public interface PersistentDataStore { 
+public interface PersistentDataStore extends PropertyMonitorHandler {
     public boolean          isStarted ();
     
     public boolean          isReadOnly ();
@@ -33,6 +35,28 @@ public interface PersistentDataStore {
     public void             startShutdown ();
     
     public boolean          waitUntilDataStored (int timeout);
+
+    /**
+     *  Enables the write-ahead log of unsaved changes. Must be called before {@link #start()}.
+     *  Changes left in the log after abnormal termination are replayed,
+     *  when corresponding roots are opened.
+     *
+     *  @param folder           location of the log, null to disable it
+     *  @param commitInterval   interval (milliseconds) between group commits of the log
+     */
+    public void             setWriteAheadLog (@Nullable File folder, int commitInterval);
+
+    /**
+     *  Waits until all changes written so far are committed to the write-ahead log.
+     *  Returns true immediately, when the log is disabled.
+     */
+    public boolean          waitUntilDataLogged (int timeout);
+
+    /**
+     *  Notifies that all roots are opened. Changes left in the write-ahead log
+     *  for roots, which were not opened, are discarded.
+     */
+    public void             completeRecovery ();
     
     public void             setNumWriterThreads (int n);
     
@@ -51,7 +51,15 @@ public interface TSRoot {
     public String                   getCompression();
 
     public void                     setCompression(String compression);
-    
+
+    /**
+     *  Sets collector of field statistics (zone maps) written into the index
+     *  of every stored time slice. Pass null to store slices without statistics.
+     */
+    public void                     setZoneMapCollector(ZoneMapCollector collector);
+
+    public ZoneMapCollector         getZoneMapCollector();
+
     public void                     getTimeRange (int id, TimeRange out);
 
     public void                     getTimeRange (TimeRange out);
@@ -84,6 +92,32 @@ public interface TSRoot {
 
     public  void                    iterate(TimeRange range, EntityFilter filter, TimeSliceIterator it);
 
+    /**
+     *  Performs a single compaction step on the time slice containing the specified
+     *  timestamp: merges it with the next slice, when both are cold, idle and small enough,
+     *  or recompresses it, when another compression is requested.
+     *  Slices used by readers or writers are skipped.
+     *
+     *  @param from     timestamp (nanoseconds) to start from
+     *  @param options  compaction parameters
+     *  @param stats    results of the step are added to it
+     *  @return timestamp to continue from, or Long.MAX_VALUE, when there are no more cold slices
+     */
+    public long                     compact(long from, CompactionOptions options, CompactionStats stats);
+
+    /**
+     *  Performs a single migration step on the time slice containing the specified
+     *  timestamp: moves it to the secondary storage tier, when it is cold and idle.
+     *  Does nothing, unless the root is located on a
+     *  {@link com.epam.deltix.qsrv.dtb.fs.tiered.TieredFileSystem}.
+     *
+     *  @param from     timestamp (nanoseconds) to start from
+     *  @param coldTime only time slices that end at or before this time (nanoseconds) are moved
+     *  @param stats    results of the step are added to it
+     *  @return timestamp to continue from, or Long.MAX_VALUE, when there are no more cold slices
+     */
+    public long                     migrate(long from, long coldTime, CompactionStats stats);
+
     public TSRef                    associate(String path);
 
     int MAX_FILE_SIZE_DEF          =  1 << 23;
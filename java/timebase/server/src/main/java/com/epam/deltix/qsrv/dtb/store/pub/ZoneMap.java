@@ -0,0 +1,191 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.pub;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ *  Minimum, maximum and null count of selected numeric fields over a range
+ *  of messages (a data block or a whole time slice). Values are kept as doubles;
+ *  long values that cannot be represented exactly are widened, so that
+ *  the range always contains every value seen.
+ */
+public final class ZoneMap {
+    /**
+     *  Size of a single serialized field entry.
+     */
+    public static final int         FIELD_SIZE_ON_DISK = 20;
+
+    private static final long       MAX_EXACT_LONG = 1L << 53;
+
+    private final String []         fields;
+    private final double []         min;
+    private final double []         max;
+    private final int []            nulls;
+
+    public ZoneMap (String [] fields) {
+        this.fields = fields;
+        this.min = new double [fields.length];
+        this.max = new double [fields.length];
+        this.nulls = new int [fields.length];
+
+        reset ();
+    }
+
+    public void                     reset () {
+        Arrays.fill (min, Double.POSITIVE_INFINITY);
+        Arrays.fill (max, Double.NEGATIVE_INFINITY);
+        Arrays.fill (nulls, 0);
+    }
+
+    public String []                getFields () {
+        return (fields);
+    }
+
+    public int                      getFieldCount () {
+        return (fields.length);
+    }
+
+    public int                      indexOf (String field) {
+        for (int ii = 0; ii < fields.length; ii++)
+            if (fields [ii].equals (field))
+                return (ii);
+
+        return (-1);
+    }
+
+    /**
+     *  Largest double not greater than the specified value.
+     */
+    public static double            lowerBound (long value) {
+        double      d = value;
+
+        return (Math.abs (value) <= MAX_EXACT_LONG ? d : Math.nextDown (d));
+    }
+
+    /**
+     *  Smallest double not less than the specified value.
+     */
+    public static double            upperBound (long value) {
+        double      d = value;
+
+        return (Math.abs (value) <= MAX_EXACT_LONG ? d : Math.nextUp (d));
+    }
+
+    public void                     update (int field, double value) {
+        if (Double.isNaN (value)) {
+            nulls [field]++;
+            return;
+        }
+
+        if (value < min [field])
+            min [field] = value;
+
+        if (value > max [field])
+            max [field] = value;
+    }
+
+    public void                     update (int field, long value) {
+        double      lo = lowerBound (value);
+        double      hi = upperBound (value);
+
+        if (lo < min [field])
+            min [field] = lo;
+
+        if (hi > max [field])
+            max [field] = hi;
+    }
+
+    public void                     updateNull (int field) {
+        nulls [field]++;
+    }
+
+    /**
+     *  Extends this map to cover all values of the specified one.
+     *  Both maps should be built for the same fields.
+     */
+    public void                     merge (ZoneMap that) {
+        for (int ii = 0; ii < fields.length; ii++) {
+            if (that.min [ii] < min [ii])
+                min [ii] = that.min [ii];
+
+            if (that.max [ii] > max [ii])
+                max [ii] = that.max [ii];
+
+            nulls [ii] += that.nulls [ii];
+        }
+    }
+
+    /**
+     *  Returns true if at least one non-null value of the field was seen.
+     */
+    public boolean                  hasValues (int field) {
+        return (min [field] <= max [field]);
+    }
+
+    public double                   getMin (int field) {
+        return (min [field]);
+    }
+
+    public double                   getMax (int field) {
+        return (max [field]);
+    }
+
+    public int                      getNullCount (int field) {
+        return (nulls [field]);
+    }
+
+    public void                     write (DataOutput out) throws IOException {
+        for (int ii = 0; ii < fields.length; ii++) {
+            out.writeDouble (min [ii]);
+            out.writeDouble (max [ii]);
+            out.writeInt (nulls [ii]);
+        }
+    }
+
+    public void                     read (DataInput in) throws IOException {
+        for (int ii = 0; ii < fields.length; ii++) {
+            min [ii] = in.readDouble ();
+            max [ii] = in.readDouble ();
+            nulls [ii] = in.readInt ();
+        }
+    }
+
+    @Override
+    public String                   toString () {
+        StringBuilder   sb = new StringBuilder ("ZoneMap{");
+
+        for (int ii = 0; ii < fields.length; ii++) {
+            if (ii > 0)
+                sb.append (", ");
+
+            sb.append (fields [ii]).append (": ");
+
+            if (hasValues (ii))
+                sb.append ('[').append (min [ii]).append (", ").append (max [ii]).append (']');
+            else
+                sb.append ("[]");
+
+            sb.append (" nulls=").append (nulls [ii]);
+        }
+
+        return (sb.append ('}').toString ());
+    }
+}
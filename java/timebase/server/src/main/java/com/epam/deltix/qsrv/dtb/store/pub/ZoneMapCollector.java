@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.pub;
+
+/**
+ *  Extracts values of the zone map fields from message bodies. Store itself
+ *  knows nothing about message layout, so collector is supplied by the owner
+ *  of the root. Calls are made by TSF writer threads, one at a time.
+ */
+public interface ZoneMapCollector {
+    /**
+     *  @return names of fields the statistics are collected for.
+     */
+    public String []                getFields ();
+
+    /**
+     *  Updates zone map with values of a single message.
+     *
+     *  @param type     message type code
+     *  @param data     array containing message body
+     *  @param offset   body offset
+     *  @param length   body length
+     *  @param out      zone map created for {@link #getFields()}
+     */
+    public void                     collect (
+        int                             type,
+        byte []                         data,
+        int                             offset,
+        int                             length,
+        ZoneMap                         out
+    );
+}
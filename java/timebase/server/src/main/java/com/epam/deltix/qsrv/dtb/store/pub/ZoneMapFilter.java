@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.pub;
+
+import java.util.Arrays;
+
+/**
+ *  Inclusive value ranges of fields that a reader is interested in. Data blocks
+ *  and time slices whose {@link ZoneMap} shows no value within the range
+ *  of every listed field can be skipped without being loaded. Fields missing
+ *  from a zone map do not restrict anything.
+ */
+public final class ZoneMapFilter {
+    private final String []         fields;
+    private final double []         lower;
+    private final double []         upper;
+
+    public ZoneMapFilter (String [] fields, double [] lower, double [] upper) {
+        if (fields.length != lower.length || fields.length != upper.length)
+            throw new IllegalArgumentException ("Lengths of fields and bounds differ");
+
+        this.fields = fields;
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    public String []                getFields () {
+        return (fields);
+    }
+
+    /**
+     *  Returns false only if none of the messages described by the specified
+     *  zone map can have field values within the ranges of this filter.
+     *
+     *  @param map      zone map, or null, if statistics are unknown.
+     */
+    public boolean                  mayMatch (ZoneMap map) {
+        if (map == null)
+            return (true);
+
+        for (int ii = 0; ii < fields.length; ii++) {
+            int         idx = map.indexOf (fields [ii]);
+
+            if (idx < 0)
+                continue;
+
+            if (!map.hasValues (idx) ||
+                map.getMax (idx) < lower [ii] ||
+                map.getMin (idx) > upper [ii])
+                return (false);
+        }
+
+        return (true);
+    }
+
+    @Override
+    public String                   toString () {
+        StringBuilder   sb = new StringBuilder ();
+
+        for (int ii = 0; ii < fields.length; ii++) {
+            if (ii > 0)
+                sb.append (" and ");
+
+            sb.append (fields [ii]).append (" in [").append (lower [ii]).append (", ").append (upper [ii]).append (']');
+        }
+
+        return (sb.toString ());
+    }
+
+    @Override
+    public boolean                  equals (Object o) {
+        if (this == o)
+            return (true);
+
+        if (!(o instanceof ZoneMapFilter))
+            return (false);
+
+        ZoneMapFilter   that = (ZoneMapFilter) o;
+
+        return (
+            Arrays.equals (fields, that.fields) &&
+            Arrays.equals (lower, that.lower) &&
+            Arrays.equals (upper, that.upper)
+        );
+    }
+
+    @Override
+    public int                      hashCode () {
+        return (Arrays.hashCode (fields) * 31 + Arrays.hashCode (lower));
+    }
+}
@@ -49,6 +49,19 @@ public class RawTSF extends RawNode {
         this.path = path;                        
     }
 
+    private BlockDecompressor     createDecompressor () throws IOException {
+        if (BlockCompressorFactory.getAlgorithm (algorithm) == Algorithm.ZSTD) {
+            byte []     dictionary = ZstdDictionary.find (path);
+
+            return BlockCompressorFactory.createDecompressor (
+                algorithm,
+                dictionary != null ? new ZstdDigestedDictionary (dictionary) : null
+            );
+        }
+
+        return BlockCompressorFactory.createDecompressor (algorithm);
+    }
+
     protected BufferedInputStream open () throws IOException {
         return (new BufferedInputStream (path.openInput (0)));
     }   
@@ -87,7 +100,7 @@ public class RawTSF extends RawNode {
         DataInputStream dis = new DataInputStream (is);
         formatVersion = dis.readShort ();
 
-        if (formatVersion < 0 || formatVersion > 3) {
+        if (formatVersion < 0 || formatVersion > TSFFormat.LOG_POSITION_FORMAT_VERSION) {
             dlnr.unknownFormat (this, formatVersion);
             return;
         }
@@ -100,6 +113,12 @@ public class RawTSF extends RawNode {
         }
 
         int             flags = dis.readInt ();
+        // zone maps (block statistics) follow the index entries
+        int             zoneMapsLength = formatVersion >= TSFFormat.ZONE_MAP_FORMAT_VERSION ? dis.readInt () : 0;
+
+        // write-ahead log id, position and limit
+        if (formatVersion >= TSFFormat.LOG_POSITION_FORMAT_VERSION)
+            dis.skipBytes (24);
         
         numEntities = flags & TSFFormat.NUM_ENTS_MASK;
         compressed = (flags & TSFFormat.COMPRESSED_FLAG) != 0;
@@ -107,7 +126,9 @@ public class RawTSF extends RawNode {
 
         ArrayList<RawDataBlock> blocks = new ArrayList<RawDataBlock>();
 
-        blockOffset = numEntities * (compressed ? 28 : 24) + (formatVersion >= 3 ? 14 : 10);
+        blockOffset = numEntities * (compressed ? 28 : 24) + zoneMapsLength +
+            (formatVersion >= TSFFormat.LOG_POSITION_FORMAT_VERSION ? 42 :
+                formatVersion >= TSFFormat.ZONE_MAP_FORMAT_VERSION ? 18 : formatVersion >= 3 ? 14 : 10);
 
         if (blockOffset > physicalLength) {
             dlnr.fileTooShortForIndex (this, blockOffset, physicalLength);
@@ -221,26 +242,31 @@ public class RawTSF extends RawNode {
             readIndex (is, startTimestamp, limitTimestamp);
 
             BlockDecompressor decomp =
-                    isCompressed () ? BlockCompressorFactory.createDecompressor(algorithm) : null;
+                    isCompressed () ? createDecompressor () : null;
 
-            for (int ient = 0; ient < numEntities; ient++) {
-                RawDataBlock            db = getBlock (ient);
-                int                     length = db.getDataLength ();
-                int                     readLength = 0;
-
-                if (buffer.length < length)
-                    buffer = new byte [Util.doubleUntilAtLeast (buffer.length, length)];
-
-                if (decomp == null)
-                    readLength = IOUtil.readFully (is, buffer, 0, length);
-                else
-                    decomp.inflate (is, db.getLengthOnDisk (), buffer, 0, length);
-
-                mdi.setBytes (buffer, 0, length);
-                if (isVerify)
-                    verifyBlock (mdi, db);
-
-                db.setData(buffer, 0 , length);
+            try {
+                for (int ient = 0; ient < numEntities; ient++) {
+                    RawDataBlock            db = getBlock (ient);
+                    int                     length = db.getDataLength ();
+                    int                     readLength = 0;
+
+                    if (buffer.length < length)
+                        buffer = new byte [Util.doubleUntilAtLeast (buffer.length, length)];
+
+                    if (decomp == null)
+                        readLength = IOUtil.readFully (is, buffer, 0, length);
+                    else
+                        decomp.inflate (is, db.getLengthOnDisk (), buffer, 0, length);
+
+                    mdi.setBytes (buffer, 0, length);
+                    if (isVerify)
+                        verifyBlock (mdi, db);
+
+                    db.setData(buffer, 0 , length);
+                }
+            } finally {
+                if (decomp != null)
+                    decomp.close ();
             }
         }
     }
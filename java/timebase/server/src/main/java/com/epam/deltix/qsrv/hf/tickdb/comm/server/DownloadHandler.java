@@ -44,6 +44,11 @@ public class DownloadHandler {
     public static final boolean    DEBUG_COMM = Boolean.getBoolean("TimeBase.debugComm");
     public static final boolean    DEBUG_COMM_EVERY_MSG = Boolean.getBoolean("TimeBase.debugCommEveryMsg");
 
+    // Maximum number of messages read from cursor per lock acquisition (1 disables batching)
+    static final int               MAX_BATCH_SIZE = Math.max(1, Integer.getInteger("TimeBase.download.batchSize", 256));
+    // Maximum number of bytes encoded per batch
+    static final int               MAX_BATCH_BYTES = Integer.getInteger("TimeBase.download.batchBytes", 64 * 1024);
+
     static class QueryCompilationFailed extends RuntimeException {
         @Override
         public synchronized Throwable fillInStackTrace () {
@@ -57,6 +62,18 @@ public class DownloadHandler {
     private final MemoryDataOutput          mdo = new MemoryDataOutput (256);
     private final VSOutputStream            bout;
     private final DataInputStream           din;
+    //
+    //  Current destination of send methods: either channel streams or batch frame
+    //
+    private OutputStream                    out;
+    private DataOutputStream                dataOut;
+    //
+    //  Reusable frame for batched messages, guarded by the download thread
+    //
+    private final ByteArrayOutputStream     batch;
+    private final DataOutputStream          batchOut;
+    private int                             batchLimit = 1;
+
     private final TypeSet.TypeSender        typeSender =
         new TypeSet.TypeSender () {
             public DataOutputStream         begin () throws IOException {
@@ -64,8 +81,8 @@ public class DownloadHandler {
                     TickDBServer.LOGGER.info ("SERVER: " + cursor + " SEND CURRESP_LOAD_TYPE");
                 }
 
-                bout.write (CURRESP_LOAD_TYPE);
-                return (dout);
+                out.write (CURRESP_LOAD_TYPE);
+                return (dataOut);
             }
 
             public void                     end () {
@@ -118,6 +135,11 @@ public class DownloadHandler {
 
         @Override
         public void         run () {
+            if (batch != null) {
+                runBatched ();
+                return;
+            }
+
             try {
                 for (;;) {
                     bout.disableFlushing ();
@@ -198,6 +220,128 @@ public class DownloadHandler {
                 closeAll ();
             }
         }
+
+        /**
+         *  Reads up to batchLimit messages (or MAX_BATCH_BYTES bytes)
+         *  under single cursor lock acquisition, encoding them into the batch frame,
+         *  then writes the whole frame to the channel outside of the lock.
+         */
+        private void        runBatched () {
+            try {
+                for (;;) {
+                    boolean         hasNext = false;
+                    boolean         unavailable = false;
+                    Throwable       exception = null;
+
+                    batch.reset ();
+                    out = batchOut;
+                    dataOut = batchOut;
+
+                    try {
+                        synchronized (cursorLock) {
+                            for (int count = 0; count < batchLimit && batch.size () < MAX_BATCH_BYTES; count++) {
+                                try {
+                                    hasNext = cursor.next ();
+
+                                    // filter message
+                                    if (hasNext && filter != null) {
+                                        try {
+                                            if (!filter.accept((RawMessage)cursor.getMessage()))
+                                                continue;
+                                        } catch (Throwable ex) {
+                                            TickDBServer.LOGGER.warning ("Error while filtering message:" + ex);
+                                        }
+                                    }
+                                } catch (CursorIsClosedException x) {
+                                    // cursor closes async without using 'cursorLock' to allow returns
+                                    return;
+                                } catch (UnavailableResourceException x) {
+                                    unavailable = true;
+                                    break;
+                                } catch (CursorException x) {
+                                    hasNext = true;
+                                    exception = x;
+                                    break;
+                                } catch (Throwable x) {
+                                    // fatal: stop pumping, like the unbatched loop does
+                                    hasNext = false;
+                                    exception = x;
+                                    break;
+                                }
+
+                                if (lastCommandSerial > lastAcknowledgedSerial) {
+                                    lastAcknowledgedSerial = lastCommandSerial;
+                                    sendAck ();
+                                }
+
+                                if (!hasNext)
+                                    break;
+
+                                sendMessage ();
+                            }
+                        }
+                    } finally {
+                        out = bout;
+                        dataOut = dout;
+                    }
+
+                    final int       size = batch.size ();
+
+                    bout.disableFlushing ();
+
+                    try {
+                        batch.writeTo (bout);
+
+                        if (exception != null)
+                            sendError (exception);
+                        else if (!hasNext && !unavailable)
+                            sendEndOfCursor ();
+                    } finally {
+                        bout.enableFlushing ();
+                    }
+
+                    adaptBatchLimit (size);
+
+                    if (unavailable)
+                        break;
+
+                    if (!hasNext) {
+                        bout.flush ();
+                        break;
+                    }
+                }
+            } catch (ChannelClosedException x) {
+                TickDBServer.LOGGER.log (Level.FINE, DownloadHandler.this.cursor + ": client disconnect", x);
+                unschedule();
+            } catch (ConnectionAbortedException e) {
+
+                UserLogger.warn(user, ds.getRemoteAddress(), ds.getRemoteApplication(), cursor + " connection dropped unexpectedly", e);
+
+                closeAll ();
+
+            } catch (IOException iox) {
+
+                UserLogger.warn(user, ds.getRemoteAddress(), ds.getRemoteApplication(), cursor + " has an error: ", iox);
+
+                closeAll ();
+            }
+        }
+
+        /**
+         *  Grows batch while remote side accepts data faster than we produce it,
+         *  and shrinks it under backpressure, so that cursor lock is released more often
+         *  and messages are not held in the frame while the channel is blocked.
+         */
+        private void        adaptBatchLimit (int written) {
+            final int       capacity = bout.getAvailableCapacity ();
+
+            if (capacity < 0)   // unknown
+                batchLimit = MAX_BATCH_SIZE;
+            else if (capacity < written)
+                batchLimit = Math.max (1, batchLimit >> 1);
+            else if (capacity > written * 2)
+                batchLimit = Math.min (MAX_BATCH_SIZE, batchLimit << 1);
+        }
     }
 
     private final class ControlTask extends QuickExecutor.QuickTask {
@@ -290,6 +434,18 @@ public class DownloadHandler {
         this.din = ds.getDataInputStream();
         this.binary = binary;
 
+        this.out = bout;
+        this.dataOut = dout;
+
+        // low latency channels should deliver every message as soon as it is available
+        if (MAX_BATCH_SIZE > 1 && !options.channelPerformance.isLowLatency()) {
+            this.batch = new ByteArrayOutputStream (MAX_BATCH_BYTES + 1024);
+            this.batchOut = new DataOutputStream (batch);
+        } else {
+            this.batch = null;
+            this.batchOut = null;
+        }
+
         this.cursor = cursor;
 
         this.commandProcessor = new CursorCommandProcessor(cursor, tcursor, user, ds.getRemoteAddress(), ds.getRemoteApplication());
@@ -416,9 +572,9 @@ public class DownloadHandler {
 
     private void        writeException (Throwable x) throws IOException {
         if (binary)
-            TDBProtocol.writeBinary(dout, x);
+            TDBProtocol.writeBinary(dataOut, x);
         else
-            TDBProtocol.writeError(dout, x);
+            TDBProtocol.writeError(dataOut, x);
     }
 
     private void        processCommand () throws IOException {
@@ -703,14 +859,14 @@ public class DownloadHandler {
                 TickDBServer.LOGGER.info ("SERVER: " + cursor + " SEND CURRESP_LOAD_STREAM");
             }
 
-            bout.write (CURRESP_LOAD_STREAM);
+            out.write (CURRESP_LOAD_STREAM);
 
             String  csk = cursor.getCurrentStreamKey ();
 
             if (csk == null)
                 throw new RuntimeException ("null csk");
 
-            dout.writeUTF (csk);
+            dataOut.writeUTF (csk);
 
             lastLoadedStreamIndex = streamIndex;
         }
@@ -727,8 +883,8 @@ public class DownloadHandler {
                 TickDBServer.LOGGER.info ("SERVER: " + cursor + " SEND CURRESP_LOAD_ENTITY: " + entityIndex);
             }
 
-            bout.write (CURRESP_LOAD_ENTITY);
-            writeIdentityKey (msg, dout);
+            out.write (CURRESP_LOAD_ENTITY);
+            writeIdentityKey (msg, dataOut);
 
             lastLoadedEntityIndex = entityIndex;
         }
@@ -765,22 +921,22 @@ public class DownloadHandler {
 
         final int         size = mdo.getSize ();
 
-        MessageSizeCodec.write (size, bout);
+        MessageSizeCodec.write (size, out);
 
         if (USE_MAGIC) {
-            bout.write (35);
-            bout.write (214);
+            out.write (35);
+            out.write (214);
         }
 
         if (SEND_SEQUENCE) {
-            dout.writeLong(++sequence);
+            dataOut.writeLong(++sequence);
         }
 
         if (DEBUG_COMM && DEBUG_COMM_EVERY_MSG) {
             TickDBServer.LOGGER.info("SERVER: " + cursor + " SEND MESSAGE size=" + size + " #" + lastAcknowledgedSerial + " SEQ #" + sequence + "; ts=" + msg.getTimeStampMs());
         }
 
-        bout.write (mdo.getBuffer (), 0, size);
+        out.write (mdo.getBuffer (), 0, size);
     }
 
     private void            sendEndOfCursor () throws IOException {
@@ -788,7 +944,7 @@ public class DownloadHandler {
             TickDBServer.LOGGER.info ("SERVER: " + cursor + " SENDING EOC at #" + lastAcknowledgedSerial);
         }
 
-        bout.write (CURRESP_END_OF_CURSOR);
+        out.write (CURRESP_END_OF_CURSOR);
     }
 
     private void            sendAck () throws IOException {
@@ -796,8 +952,8 @@ public class DownloadHandler {
             TickDBServer.LOGGER.info ("SERVER: " + cursor + " SENDING CURRESP_ACK_SERIAL #" + lastAcknowledgedSerial);
         }
 
-        bout.write (CURRESP_ACK_SERIAL);
-        dout.writeLong (lastAcknowledgedSerial);
+        out.write (CURRESP_ACK_SERIAL);
+        dataOut.writeLong (lastAcknowledgedSerial);
     }
 
     private void            sendError (Throwable x) throws IOException {
@@ -807,7 +963,7 @@ public class DownloadHandler {
 
         TickDBServer.LOGGER.log(Level.WARNING, "Error while reading " + cursor, x);
 
-        bout.write (CURRESP_ERROR);
+        out.write (CURRESP_ERROR);
         writeException(x);
     }
 
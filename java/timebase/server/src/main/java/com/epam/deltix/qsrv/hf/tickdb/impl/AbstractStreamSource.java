@@ -27,6 +27,7 @@ abstract class AbstractStreamSource implements StreamSource {
 
     static int UNIQUE_READER = 0;
     static int VERSIONS_READER = 1;
+    static int LAST_VALUES_READER = 2;
 
     private final IntegerToObjectHashMap<MessageSource<InstrumentMessage>> specialReaders =
             new IntegerToObjectHashMap<MessageSource<InstrumentMessage>>();
@@ -44,6 +45,7 @@ abstract class AbstractStreamSource implements StreamSource {
     protected void                addSpecialReaders (DXTickStream stream, long time) {
         addSpecialReader(stream, time, UNIQUE_READER);
         addSpecialReader(stream, time, VERSIONS_READER);
+        addSpecialReader(stream, time, LAST_VALUES_READER);
     }
 
     protected void                addSpecialReader (DXTickStream stream, long time, int type) {
@@ -71,6 +73,18 @@ abstract class AbstractStreamSource implements StreamSource {
                     }
                 }
             }
+
+            // snapshot is limited by the reset time: later messages are read from the stream itself
+            if (options.lastValues && !options.reversed && type == LAST_VALUES_READER) {
+                if (!specialReaders.containsKey(LAST_VALUES_READER)) {
+                    LastValueReader reader = ss.createLastValueReader(time, options);
+
+                    if (reader != null) {
+                        specialReaders.put(LAST_VALUES_READER, reader);
+                        mx.add(reader);
+                    }
+                }
+            }
         }
     }
 
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl;
+
+import com.epam.deltix.qsrv.hf.pub.codec.CodecFactory;
+import com.epam.deltix.qsrv.hf.pub.codec.TimeCodec;
+import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
+import com.epam.deltix.timebase.messages.IdentityKey;
+import com.epam.deltix.timebase.messages.InstrumentMessage;
+import com.epam.deltix.util.collections.CharSequenceToObjectMapQuick;
+import com.epam.deltix.util.collections.generated.ObjectArrayList;
+import com.epam.deltix.util.io.IOUtil;
+import com.epam.deltix.util.io.UncheckedIOException;
+import com.epam.deltix.util.lang.Util;
+import com.epam.deltix.util.memory.MemoryDataInput;
+import com.epam.deltix.util.memory.MemoryDataOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *  Keeps last N encoded messages for each entity and message type.
+ *  Message bodies are stored off-heap, in direct buffers (one per entity and type),
+ *  so that large caches do not add to the GC load.
+ *  <p>
+ *  Entities are kept separately for each stream space. Writers lock only the entity
+ *  they put message into, so loaders of different entities do not contend.
+ */
+class LastValueCache extends MessageContainer {
+
+    private static final int        MIN_SLOT_SIZE = 64;
+
+    /**
+     *  Ring of the last messages of single entity and type. Each message takes
+     *  a slot of fixed size (power of two), slots grow together with the largest message.
+     */
+    static final class Entry {
+        private ByteBuffer          data;
+        private int                 slotSize;
+        private final int []        sizes;
+        private final long []       times;
+        private int                 next;   // slot to write
+        private int                 count;  // number of valid slots
+
+        Entry(int depth) {
+            sizes = new int[depth];
+            times = new long[depth];
+        }
+
+        private int                 slot(int i) {
+            return (next - count + i + sizes.length) % sizes.length;
+        }
+
+        void                        put(byte[] bytes, int offset, int length, long nstime) {
+            if (length > slotSize)
+                grow(length);
+
+            ByteBuffer dst = data.duplicate();
+            dst.position(next * slotSize);
+            dst.put(bytes, offset, length);
+
+            sizes[next] = length;
+            times[next] = nstime;
+
+            next = (next + 1) % sizes.length;
+            if (count < sizes.length)
+                count++;
+        }
+
+        /**
+         *  Removes messages with time in the [from, to] range, keeping order of the others.
+         */
+        void                        drop(long from, long to) {
+            int kept = 0;
+
+            for (int i = 0; i < count; i++) {
+                int src = slot(i);
+                if (times[src] >= from && times[src] <= to)
+                    continue;
+
+                if (kept != i) {
+                    int dst = slot(kept);
+
+                    ByteBuffer in = data.duplicate();
+                    in.position(src * slotSize).limit(src * slotSize + sizes[src]);
+                    ByteBuffer out = data.duplicate();
+                    out.position(dst * slotSize);
+                    out.put(in);
+
+                    sizes[dst] = sizes[src];
+                    times[dst] = times[src];
+                }
+                kept++;
+            }
+
+            next = (next - count + kept + sizes.length) % sizes.length;
+            count = kept;
+        }
+
+        private void                grow(int length) {
+            int size = Math.max(MIN_SLOT_SIZE, Integer.highestOneBit(length - 1) << 1);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(size * sizes.length);
+
+            if (data != null) {
+                for (int i = 0; i < sizes.length; i++) {
+                    ByteBuffer in = data.duplicate();
+                    in.position(i * slotSize).limit(i * slotSize + sizes[i]);
+                    ByteBuffer out = buffer.duplicate();
+                    out.position(i * size);
+                    out.put(in);
+                }
+            }
+
+            data = buffer;
+            slotSize = size;
+        }
+
+        void                        copyTo(long limit, String symbol, int type, Snapshot snapshot) {
+            for (int i = 0; i < count; i++) {
+                int index = slot(i);
+                if (times[index] >= limit)
+                    continue;
+
+                ByteBuffer in = data.duplicate();
+                in.position(index * slotSize);
+                snapshot.add(symbol, type, in, sizes[index], times[index]);
+            }
+        }
+
+        int                         capacity() {
+            return data != null ? data.capacity() : 0;
+        }
+    }
+
+    /**
+     *  Messages of single entity in single space, guarded by the entity itself.
+     */
+    static final class Entity {
+        private final LastValueCache        owner;
+        private final String                space;
+        private final String                symbol;
+        private Entry []                    types;
+
+        Entity(LastValueCache owner, String space, String symbol) {
+            this.owner = owner;
+            this.space = space;
+            this.symbol = symbol;
+            this.types = new Entry[owner.descriptors.length];
+        }
+
+        /**
+         *  @return true, if this entity is cached by the given cache for the given symbol
+         */
+        boolean                     isOf(LastValueCache cache, CharSequence symbol) {
+            return owner == cache && Util.equals(this.symbol, symbol);
+        }
+
+        /**
+         *  Puts encoded message body.
+         *  @param type index of the message type in cache descriptors
+         */
+        synchronized void           put(int type, byte[] body, int offset, int length, long nstime) {
+            if (type >= types.length)
+                types = Arrays.copyOf(types, type + 1);
+
+            Entry entry = types[type];
+            if (entry == null)
+                entry = types[type] = new Entry(owner.depth);
+
+            int capacity = entry.capacity();
+            entry.put(body, offset, length, nstime);
+
+            if (entry.capacity() != capacity)
+                owner.capacity.addAndGet(entry.capacity() - capacity);
+        }
+
+        synchronized void           drop(long from, long to) {
+            for (Entry entry : types) {
+                if (entry != null)
+                    entry.drop(from, to);
+            }
+        }
+
+        synchronized void           copyTo(long limit, Snapshot snapshot) {
+            for (int type = 0; type < types.length; type++) {
+                if (types[type] != null)
+                    types[type].copyTo(limit, symbol, type, snapshot);
+            }
+        }
+    }
+
+    /**
+     *  Heap copy of the cache content, ordered by time. Messages are restored
+     *  in the format of {@link MessageContainer}: time, symbol, type and body.
+     */
+    static final class Snapshot {
+        private final ArrayList<long[]>     items = new ArrayList<>(); // {time, offset, size}
+        private final MemoryDataOutput      header = new MemoryDataOutput(64);
+        private byte []                     bytes = new byte[4096];
+        private int                         length;
+
+        private static final Comparator<long[]> BY_TIME = new Comparator<long[]>() {
+            @Override
+            public int compare(long[] o1, long[] o2) {
+                return Long.compare(o1[0], o2[0]);
+            }
+        };
+
+        void                        add(String symbol, int type, ByteBuffer in, int size, long nstime) {
+            header.reset();
+
+            try {
+                TimeCodec.writeNanoTime(nstime, header);
+                header.writeByte(0); // instrument type
+                IOUtil.writeUTF(symbol, header);
+                header.writeUnsignedByte(type);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            int total = header.getSize() + size;
+            if (length + total > bytes.length)
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + total));
+
+            System.arraycopy(header.getBuffer(), 0, bytes, length, header.getSize());
+            in.get(bytes, length + header.getSize(), size);
+
+            items.add(new long[] { nstime, length, total });
+            length += total;
+        }
+
+        void                        sort() {
+            Collections.sort(items, BY_TIME); // stable: keeps order of messages of single entity
+        }
+
+        public int                  size() {
+            return items.size();
+        }
+
+        public long                 getNanoTime(int index) {
+            return items.get(index)[0];
+        }
+
+        public byte[]               getBytes() {
+            return bytes;
+        }
+
+        public int                  getOffset(int index) {
+            return (int) items.get(index)[1];
+        }
+
+        public int                  getLength(int index) {
+            return (int) items.get(index)[2];
+        }
+    }
+
+    private final int                                       depth;
+
+    // entities by space, guarded by itself
+    private final HashMap<String, CharSequenceToObjectMapQuick<Entity>> spaces = new HashMap<>();
+    private final ObjectArrayList<Entity>                   entities = new ObjectArrayList<>();
+
+    private final MemoryDataInput                           in = new MemoryDataInput();
+    private final StringBuilder                             symbol = new StringBuilder();
+    private final AtomicLong                                capacity = new AtomicLong();
+
+    LastValueCache(CodecFactory factory, int depth, RecordClassDescriptor... descriptors) {
+        super(factory, descriptors);
+
+        if (depth <= 0)
+            throw new IllegalArgumentException("Depth should be positive: " + depth);
+
+        this.depth = depth;
+    }
+
+    public int                      getDepth() {
+        return depth;
+    }
+
+    /**
+     *  @return total size (in bytes) of the off-heap memory held by this cache
+     */
+    public long                     getCapacity() {
+        return capacity.get();
+    }
+
+    /**
+     *  Returns cached messages of the given entity, creating them if needed.
+     *  Writers may keep the result while {@link Entity#isOf} holds.
+     *  @param space stream space, or null
+     */
+    Entity                          getEntity(String space, CharSequence symbol) {
+        synchronized (spaces) {
+            CharSequenceToObjectMapQuick<Entity> map = spaces.get(space);
+            if (map == null)
+                spaces.put(space, map = new CharSequenceToObjectMapQuick<>(1024));
+
+            Entity entity = map.get(symbol, null);
+            if (entity == null) {
+                String key = symbol.toString();
+                map.put(key, entity = new Entity(this, space, key));
+                entities.add(entity);
+            }
+
+            return entity;
+        }
+    }
+
+    private Entity []               getEntities() {
+        synchronized (spaces) {
+            Entity[] result = new Entity[entities.size()];
+            for (int i = 0; i < result.length; i++)
+                result[i] = entities.getObjectNoRangeCheck(i);
+
+            return result;
+        }
+    }
+
+    /**
+     *  Encodes and puts message, written into a stream without spaces.
+     */
+    public void                     put(InstrumentMessage msg, long nstime) {
+        // encoder and buffers are shared
+        synchronized (buffer) {
+            int type;
+            try {
+                encode(msg, buffer);
+
+                in.setBytes(buffer.getBuffer(), 0, buffer.getSize());
+                TimeCodec.skipTime(in);
+                in.readUnsignedByte(); // instrument type
+                symbol.setLength(0);
+                IOUtil.readUTF(in, symbol);
+                type = in.readUnsignedByte();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            int offset = in.getCurrentOffset();
+            getEntity(null, msg.getSymbol()).put(type, buffer.getBuffer(), offset, buffer.getSize() - offset, nstime);
+        }
+    }
+
+    /**
+     *  Removes cached messages of the given space with time in the [from, to] range (nanoseconds).
+     *  @param space stream space, or null
+     *  @param ids entities to process; all entities if empty
+     */
+    public void                     drop(String space, long from, long to, IdentityKey... ids) {
+        if (ids == null || ids.length == 0) {
+            for (Entity entity : getEntities()) {
+                if (Util.xequals(entity.space, space))
+                    entity.drop(from, to);
+            }
+        } else {
+            for (IdentityKey id : ids) {
+                Entity entity;
+                synchronized (spaces) {
+                    CharSequenceToObjectMapQuick<Entity> map = spaces.get(space);
+                    entity = map != null ? map.get(id.getSymbol(), null) : null;
+                }
+
+                if (entity != null)
+                    entity.drop(from, to);
+            }
+        }
+    }
+
+    /**
+     *  Copies all cached messages having time less than given limit.
+     *  Copy is consistent for each entity, but not across entities.
+     *  @param limit time limit (nanoseconds), exclusive
+     */
+    public Snapshot                 snapshot(long limit) {
+        Snapshot snapshot = new Snapshot();
+
+        for (Entity entity : getEntities())
+            entity.copyTo(limit, snapshot);
+
+        snapshot.sort();
+        return snapshot;
+    }
+}
@@ -38,6 +38,7 @@ abstract class MessageQueue implements TransientMessageQueue {
 
     static TransientMessageQueue forStream(TransientStreamImpl stream) {
         boolean lossless = stream.getBufferOptions().lossless;
+        // disruptor queue is opt-in: it ignores initialBufferSize and maxBufferTimeDepth of the buffer options
         boolean useDisruptor = Boolean.parseBoolean(System.getProperty(TickStreamImpl.USE_DISRUPTOR_QUEUE_PROPERTY_NAME, "false"));
         if (useDisruptor) {
             return new DisruptorMessageQueue(stream, lossless);
@@ -103,6 +103,9 @@ abstract class MessageQueueWriter <Q extends MessageQueue>
             TimeCodec.writeTime (msg, buffer);
         
         encoder.encode (msg, buffer);
+
+        stream.cacheLastValue (msg,
+            timestamp == TimeStampedMessage.TIMESTAMP_UNKNOWN ? TimeKeeper.currentTimeNanos : msg.getNanoTime ());
         
         return (true);
     }
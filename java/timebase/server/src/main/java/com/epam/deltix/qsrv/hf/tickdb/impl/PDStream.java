@@ -24,10 +24,13 @@ import com.epam.deltix.qsrv.dtb.fs.pub.AbstractFileSystem;
 import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
 import com.epam.deltix.qsrv.dtb.fs.pub.FSFactory;
 import com.epam.deltix.qsrv.dtb.fs.pub.FSUtils;
+import com.epam.deltix.qsrv.dtb.fs.tiered.TieredFileSystem;
 import com.epam.deltix.qsrv.dtb.store.dataacc.DataAccessorBase;
 import com.epam.deltix.qsrv.dtb.store.dataacc.TimeSlice;
 import com.epam.deltix.qsrv.dtb.store.impl.Restorer;
 import com.epam.deltix.qsrv.dtb.store.impl.WriterChannel;
+import com.epam.deltix.qsrv.dtb.store.pub.CompactionOptions;
+import com.epam.deltix.qsrv.dtb.store.pub.CompactionStats;
 import com.epam.deltix.qsrv.dtb.store.pub.DataAccessor;
 import com.epam.deltix.qsrv.dtb.store.pub.DataReader;
 import com.epam.deltix.qsrv.dtb.store.pub.DataWriter;
@@ -37,6 +40,7 @@ import com.epam.deltix.qsrv.dtb.store.pub.TSRef;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
 import com.epam.deltix.qsrv.dtb.store.pub.TimeRange;
 import com.epam.deltix.qsrv.dtb.store.pub.TimeSliceIterator;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
 import com.epam.deltix.qsrv.hf.pub.ChannelQualityOfService;
 import com.epam.deltix.timebase.messages.ConstantIdentityKey;
 import com.epam.deltix.timebase.messages.IdentityKey;
@@ -47,11 +51,13 @@ import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
 import com.epam.deltix.qsrv.hf.tickdb.pub.BackgroundProcessInfo;
 import com.epam.deltix.qsrv.hf.tickdb.pub.DXTickDB;
 import com.epam.deltix.qsrv.hf.tickdb.pub.DXTickStream;
+import com.epam.deltix.qsrv.hf.tickdb.pub.FSOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.LoadingOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.SelectionOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.StreamOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.TickCursor;
 import com.epam.deltix.qsrv.hf.tickdb.pub.TickLoader;
+import com.epam.deltix.qsrv.hf.tickdb.pub.task.CompactionTask;
 import com.epam.deltix.qsrv.hf.tickdb.pub.task.SchemaChangeTask;
 import com.epam.deltix.qsrv.hf.tickdb.pub.task.SchemaUpdateTask;
 import com.epam.deltix.qsrv.hf.tickdb.pub.task.StreamChangeTask;
@@ -91,6 +97,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
 
 @XmlRootElement(name = "pdstream")
 public class PDStream extends TickStreamImpl {
@@ -104,6 +112,8 @@ public class PDStream extends TickStreamImpl {
     private static final String                 CONSISTENCY_CHECK_PROP = "TimeBase.consistencyCheck";
     private static final boolean                CONSISTENCY_CHECK = Boolean.parseBoolean(System.getProperty(CONSISTENCY_CHECK_PROP, "true"));
 
+    private static final long                   TIERING_INTERVAL = Long.getLong("TimeBase.fileSystem.tieringInterval", 60000);
+
     private volatile TSRoot                     root;
 
     @GuardedBy("this")
@@ -121,6 +131,19 @@ public class PDStream extends TickStreamImpl {
 
     protected final ArrayList<TSRoot>           roots = new ArrayList<>();
 
+    @XmlElement(name = "zoneMapFields")
+    private final ArrayList<String>             zoneMapFields = new ArrayList<>();
+
+    private volatile StreamZoneMapCollector     zoneMapCollector;
+
+    @XmlElement(name = "tieringAge")
+    private long                                tieringAge;
+
+    private TieredFileSystem                    tieredFS;
+
+    @GuardedBy("this")
+    private TimerTask                           tieringJob;
+
     private final PDStreamSpaceIndexManager     spaceIndexManager = new PDStreamSpaceIndexManager();
 
     private final SchemaChangeMessageBuilder    schemaChangeMessageBuilder = new SchemaChangeMessageBuilder();
@@ -153,6 +176,8 @@ public class PDStream extends TickStreamImpl {
         isReadOnly = false;
 
         writeMetadata(true);
+
+        scheduleTiering();
     }
 
     public synchronized void        rename (String key) {
@@ -237,6 +262,123 @@ public class PDStream extends TickStreamImpl {
         return isFixedType() ? new RecordClassDescriptor[] {getFixedType()} : getPolymorphicDescriptors();
     }
 
+    /**
+     * Enables block-level statistics (zone maps) for the given numeric fields.
+     * Statistics are written when time slices are stored next time; queries use them
+     * to skip blocks that cannot match conditions on these fields.
+     *
+     * @param fields field names; empty to disable zone maps.
+     */
+    public synchronized void                   setZoneMapFields(String ... fields) {
+        assertWritable();
+
+        zoneMapFields.clear();
+        zoneMapFields.addAll(Arrays.asList(fields));
+
+        updateZoneMapCollector();
+        setDirty();
+    }
+
+    public synchronized String[]               getZoneMapFields() {
+        return zoneMapFields.toArray(new String[zoneMapFields.size()]);
+    }
+
+    /**
+     * Sets age of data to be moved to the secondary storage tier,
+     * when it is configured for the database (see {@link FSOptions#secondaryLocation}).
+     * Time slices are moved in background, when their data gets older than the given age.
+     *
+     * @param age age in milliseconds; 0 to use default of the database ({@link FSOptions#tieringAge}),
+     *            negative value disables migration.
+     */
+    public synchronized void                   setTieringAge(long age) {
+        assertWritable();
+
+        if (age != tieringAge) {
+            tieringAge = age;
+
+            scheduleTiering();
+            setDirty();
+        }
+    }
+
+    public synchronized long                   getTieringAge() {
+        return tieringAge;
+    }
+
+    private synchronized long                  getEffectiveTieringAge() {
+        return tieringAge != 0 ? tieringAge : getDBImpl().fs.tieringAge;
+    }
+
+    private synchronized void                  scheduleTiering() {
+        cancelTiering();
+
+        Timer timer = getDBImpl().tieringTimer;
+
+        if (timer == null || tieredFS == null || isReadOnly || getEffectiveTieringAge() <= 0)
+            return;
+
+        tieringJob = new TimerTask() {
+            @Override
+            public void run() {
+                migrateColdData();
+            }
+        };
+
+        timer.schedule(tieringJob, TIERING_INTERVAL, TIERING_INTERVAL);
+    }
+
+    private synchronized void                  cancelTiering() {
+        if (tieringJob != null) {
+            tieringJob.cancel();
+            tieringJob = null;
+        }
+    }
+
+    /**
+     * Moves time slices older than tiering age to the secondary storage tier.
+     * Time slices in use by readers or writers are skipped until the next run.
+     */
+    public CompactionStats                     migrateColdData() {
+        CompactionStats stats = new CompactionStats();
+
+        long age = getEffectiveTieringAge();
+        if (age <= 0)
+            return stats;
+
+        long coldTime = TimeStamp.getNanoTime(System.currentTimeMillis() - age);
+
+        try {
+            for (TSRoot tsr : getActiveRoots()) {
+                for (long time = Long.MIN_VALUE; time != Long.MAX_VALUE && isOpen(); )
+                    time = tsr.migrate(time, coldTime, stats);
+            }
+        } catch (Throwable e) {
+            LOGGER.warn("[%s] failed to move data to secondary storage: %s").with(getKey()).with(e);
+        }
+
+        if (stats.filesMigrated > 0)
+            LOGGER.info("[%s] moved to secondary storage: %s").with(getKey()).with(stats);
+
+        return stats;
+    }
+
+    @Override
+    protected void                             onMetaDataUpdated() {
+        super.onMetaDataUpdated();
+
+        updateZoneMapCollector();
+    }
+
+    private void                               updateZoneMapCollector() {
+        zoneMapCollector = zoneMapFields.isEmpty() || root == null ?
+                null : StreamZoneMapCollector.create(getTypes(), zoneMapFields);
+
+        for (TSRoot tsr : getActiveRoots())
+            if (tsr != null)
+                tsr.setZoneMapCollector(zoneMapCollector);
+    }
+
     @Override
     public int                      getFormatVersion() {
         return 5;
@@ -404,6 +546,8 @@ public class PDStream extends TickStreamImpl {
         if (from > to)
             throw new IllegalArgumentException("Start time (" + GMT.formatNanos(from) + ") > End Time (" + GMT.formatNanos(to) + ")");
 
+        dropLastValues(root.getSpace(), from, to, ids);
+
         if (ids == null || ids.length == 0) {
             // drop files first
             root.drop(new com.epam.deltix.qsrv.dtb.store.pub.TimeRange(from, to));
@@ -807,13 +951,15 @@ public class PDStream extends TickStreamImpl {
                 spaceIndexManager.resetAll(root, roots);
             }
 
+            updateZoneMapCollector();
+
         } catch (IOException e) {
             throw new com.epam.deltix.util.io.UncheckedIOException(e);
         }
     }
 
     private TSRoot createRoot(String dataLocation, boolean isMainRoot) throws IOException {
-        AbstractFileSystem fs = FSFactory.create(dataLocation);
+        AbstractFileSystem fs = getDataFileSystem(dataLocation);
         AbstractPath path = fs.createPath(dataLocation);
 
         String space = isMainRoot ? null : getSpaceNameFormPath(path);
@@ -821,6 +967,28 @@ public class PDStream extends TickStreamImpl {
         return createRoot(path, space);
     }
 
+    /**
+     * Returns file system for the given data location. When secondary storage is configured,
+     * data located within the stream folder is kept on {@link TieredFileSystem},
+     * that maps stream folder to the folder of the same name at the secondary location.
+     */
+    private AbstractFileSystem getDataFileSystem(String dataLocation) throws IOException {
+        AbstractFileSystem fs = FSFactory.create(dataLocation);
+
+        String secondaryLocation = getDBImpl().fs.secondaryLocation;
+        if (secondaryLocation == null || isRemoteMetadata())
+            return fs;
+
+        if (tieredFS == null) {
+            File folder = file.getParentFile();
+            AbstractPath secondary = FSFactory.createPath(secondaryLocation).append(folder.getName());
+
+            tieredFS = new TieredFileSystem(fs.createPath(folder.getAbsolutePath()), secondary);
+        }
+
+        return tieredFS.getNestedInstance() == fs ? tieredFS : fs;
+    }
+
     private TSRoot createRoot(AbstractPath path, @Nullable String space) throws IOException {
         boolean exists = path.exists();
         path.makeFolderRecursive();
@@ -837,6 +1005,8 @@ public class PDStream extends TickStreamImpl {
             r.open(isReadOnly);
         }
 
+        r.setZoneMapCollector(zoneMapCollector);
+
         return r;
     }
 
@@ -863,6 +1033,8 @@ public class PDStream extends TickStreamImpl {
 
         if (versioning)
             enableVersioning();
+
+        scheduleTiering();
     }
 
     @Override
@@ -902,6 +1074,14 @@ public class PDStream extends TickStreamImpl {
 //    }
 
     public PDStreamReader               createReader(TSRoot tsr, long time, SelectionOptions options, final EntityFilter filter) {
+        return createReader(tsr, time, options, filter, null);
+    }
+
+    /**
+     * Creates reader that skips time slice blocks whose zone maps do not match the given filter.
+     */
+    public PDStreamReader               createReader(TSRoot tsr, long time, SelectionOptions options, final EntityFilter filter,
+                                                     ZoneMapFilter zoneFilter) {
         assertOpen();
 
         final RegistryCache cache = new RegistryCache(tsr.getSymbolRegistry());
@@ -909,6 +1089,7 @@ public class PDStream extends TickStreamImpl {
         final DataReader reader = getDBImpl().store.createReader (options.live);
         reader.associate (tsr);
         readerCreated(reader);
+        reader.setZoneMapFilter (zoneFilter);
         reader.open (time, !options.reversed, filter);
 
         return new PDStreamReader(this, tsr, reader, options.raw ?
@@ -997,6 +1178,8 @@ public class PDStream extends TickStreamImpl {
             copyTask.invalidate(db);
 
             transform(copyTask);
+        } else if (task instanceof CompactionTask) {
+            transform(task);
         }
 //        else if (task instanceof MapReduceTask) {
 //            transform(task);
@@ -1085,6 +1268,9 @@ public class PDStream extends TickStreamImpl {
             });
         } else if (task instanceof StreamCopyTask) {
             transformImpl((StreamCopyTask) task, monitor);
+        } else if (task instanceof CompactionTask) {
+            // does not lock stream: time slices used by readers and writers are skipped
+            transformImpl((CompactionTask) task, monitor);
         }
 //        else if (task instanceof MapReduceTask) {
 //            transformImpl((MapReduceTask) task, monitor);
@@ -1449,6 +1635,55 @@ public class PDStream extends TickStreamImpl {
 
 
 
+    private void transformImpl(CompactionTask task, ExecutionMonitorImpl monitor) {
+        monitor.start();
+
+        CompactionOptions options = new CompactionOptions(TimeStamp.getNanoTime(task.coldTime), task.compression);
+        options.maxFileSize = task.maxFileSize;
+
+        CompactionStats stats = new CompactionStats();
+
+        String key = getKey();
+        long startTime = System.currentTimeMillis();
+        LOGGER.info("Compaction for stream %s using time=%s started ...").with(key).with(GMT.formatDateTimeMillis(task.coldTime));
+
+        try {
+            TSRoot[] active = getActiveRoots();
+
+            for (int i = 0; i < active.length; i++) {
+                TSRoot tsr = active[i];
+
+                TimeRange range = new TimeRange();
+                tsr.getTimeRange(range);
+
+                for (long time = Long.MIN_VALUE; time != Long.MAX_VALUE; ) {
+                    if (monitor.getStatus() == ExecutionStatus.Aborted)
+                        return;
+
+                    time = tsr.compact(time, options, stats);
+
+                    double progress = 1;
+                    if (time != Long.MAX_VALUE && time > range.from && range.from < options.coldTime)
+                        progress = Math.min(1, ((double) time - range.from) / ((double) options.coldTime - range.from));
+
+                    monitor.setProgress((i + progress) / active.length);
+
+                    // throttle
+                    if (task.pause > 0)
+                        Thread.sleep(task.pause);
+                }
+            }
+
+            monitor.setComplete();
+        } catch (Throwable e) {
+            monitor.abort(e);
+            throw new com.epam.deltix.util.io.UncheckedIOException(e);
+        } finally {
+            long endTime = System.currentTimeMillis();
+            LOGGER.info("Compaction for stream %s was finished in %s ms (%s)").with(key).with(endTime - startTime).with(stats);
+        }
+    }
+
     @Override
     public long                 getSizeOnDisk() {
 
@@ -1591,6 +1826,7 @@ public class PDStream extends TickStreamImpl {
         assertWritable();
 
         abortBackgroundProcess();
+        cancelTiering();
 
         if (deleteFiles) {
             // Delete data files
@@ -1623,6 +1859,7 @@ public class PDStream extends TickStreamImpl {
         TickDBImpl.LOG.trace("Closing writers/readers for the stream: %s").with(getKey());
 
         abortBackgroundProcess();
+        cancelTiering();
         // wait until stopped?
 
         synchronized (readers) {
@@ -1732,6 +1969,7 @@ public class PDStream extends TickStreamImpl {
             locations.add(location);
         }
         spaceIndexManager.resetAll(root, roots);
+        updateZoneMapCollector();
     }
 
     @Override
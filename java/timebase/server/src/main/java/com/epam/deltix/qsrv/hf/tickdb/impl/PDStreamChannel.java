@@ -19,6 +19,7 @@ package com.epam.deltix.qsrv.hf.tickdb.impl;
 import com.epam.deltix.streaming.MessageChannel;
 import com.epam.deltix.qsrv.dtb.store.pub.DataWriter;
 import com.epam.deltix.qsrv.dtb.store.pub.IllegalMessageAppend;
+import com.epam.deltix.qsrv.dtb.store.pub.TSMessageProducer;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
 import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sem.PredicateCompiler;
@@ -28,8 +29,10 @@ import com.epam.deltix.qsrv.hf.tickdb.pub.LoadingOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.OutOfSequenceMessageException;
 import com.epam.deltix.qsrv.hf.tickdb.pub.WriterClosedException;
 import com.epam.deltix.timebase.messages.TimeStamp;
+import com.epam.deltix.util.collections.generated.ObjectArrayList;
 import com.epam.deltix.util.lang.StringUtils;
 import com.epam.deltix.util.lang.Util;
+import com.epam.deltix.util.memory.MemoryDataOutput;
 import com.epam.deltix.util.time.TimeKeeper;
 import org.apache.commons.lang3.mutable.MutableBoolean;
 
@@ -51,18 +54,27 @@ class PDStreamChannel implements MessageChannel<InstrumentMessage>, Flushable {
     private boolean                                     opened = false;
     private final MutableBoolean                        exists = new MutableBoolean(false);
     private MessagePredicate                            filter;
+    private final String                                space;
+
+    // message body, encoded once for both the writer and the last-value cache
+    private final MemoryDataOutput                      body = new MemoryDataOutput(4096);
+    private final TSMessageProducer                     encoded = out -> out.write(body.getBuffer(), 0, body.getSize());
+
+    // last-value cache entities by symbol index
+    private final ObjectArrayList<LastValueCache.Entity> lastValues = new ObjectArrayList<>();
 
     PDStreamChannel(PDStream stream, TSRoot root, DataWriter writer,
                     MessageProducer<? extends InstrumentMessage> producer,
                     LoadingOptions options) {
-        this(stream, writer, producer, options, new RegistryCache(root.getSymbolRegistry()));
+        this(stream, writer, producer, options, new RegistryCache(root.getSymbolRegistry()), root.getSpace());
     }
 
     PDStreamChannel(PDStream stream, DataWriter writer,
                     MessageProducer<? extends InstrumentMessage> producer,
-                    LoadingOptions options, RegistryCache cache)
+                    LoadingOptions options, RegistryCache cache, String space)
     {
         this.writer = writer;
+        this.space = space;
         this.stream = stream;
         this.mode = options.writeMode;
         this.producer = producer;
@@ -119,16 +131,44 @@ class PDStreamChannel implements MessageChannel<InstrumentMessage>, Flushable {
         if (!exists.booleanValue())
             stream.firePropertyChanged(TickStreamProperties.ENTITIES);
 
+        LastValueCache lastValueCache = stream.getLastValueCache();
+        TSMessageProducer source = producer;
+
+        if (lastValueCache != null) {
+            body.reset();
+            producer.writeBody(body);
+            source = encoded;
+        }
+
         try {
             if (undefined)
-                writer.insertMessage(index, nstime, type, producer);
+                writer.insertMessage(index, nstime, type, source);
             else if (mode == LoadingOptions.WriteMode.INSERT)
-                writer.insertMessage(index, nstime, type, producer);
+                writer.insertMessage(index, nstime, type, source);
             else
-                writer.appendMessage(index, nstime, type, producer, false);
+                writer.appendMessage(index, nstime, type, source, false);
         } catch (IllegalMessageAppend e) {
             throw new OutOfSequenceMessageException(msg, nstime, stream.getKey(), e.getLastWrittenNanos());
         }
+
+        if (lastValueCache != null)
+            getLastValues(lastValueCache, index, msg).put(type, body.getBuffer(), 0, body.getSize(), nstime);
+    }
+
+    private LastValueCache.Entity       getLastValues(LastValueCache cache, int index, InstrumentMessage msg) {
+        LastValueCache.Entity entity = index < lastValues.size() ? lastValues.getObjectNoRangeCheck(index) : null;
+
+        // cache is replaced on schema change; symbol index may be reused after clear()
+        if (entity == null || !entity.isOf(cache, msg.getSymbol())) {
+            entity = cache.getEntity(space, msg.getSymbol());
+
+            while (lastValues.size() <= index)
+                lastValues.add(null);
+
+            lastValues.set(index, entity);
+        }
+
+        return entity;
     }
 
     @Override
@@ -149,5 +189,9 @@ class PDStreamChannel implements MessageChannel<InstrumentMessage>, Flushable {
         // we need just close writer, because it will be reopened on next send()
         Util.close(writer);
         opened = false;
+
+        // written data is durable, when it is committed to the write-ahead log
+        if (!stream.getDBImpl().store.waitUntilDataLogged(0))
+            throw new IOException(this + ": failed to commit data to the write-ahead log");
     }
 }
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.epam.deltix.qsrv.dtb.store.pub.DataReader;
 import com.epam.deltix.qsrv.dtb.store.pub.EntityFilter;
 import com.epam.deltix.qsrv.dtb.store.pub.SymbolRegistry;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
 import com.epam.deltix.timebase.messages.TimeStamp;
 import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
@@ -124,6 +125,10 @@ class PDStreamReader implements TickStreamReader {
         reader.setLimitTimestamp(timestamp);
     }
 
+    public void                 setZoneMapFilter(ZoneMapFilter filter) {
+        reader.setZoneMapFilter(filter);
+    }
+
     public void                 setDisposableListener(DisposableListener<PDStreamReader> listener) {
         this.listener = listener;
     }
@@ -21,6 +21,7 @@ import com.epam.deltix.qsrv.hf.tickdb.impl.multiplexer.PrioritizedMessageSourceM
 import com.epam.deltix.qsrv.dtb.store.pub.EntityFilter;
 import com.epam.deltix.qsrv.dtb.store.pub.SymbolRegistry;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
 import com.epam.deltix.timebase.messages.IdentityKey;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
 import com.epam.deltix.timebase.messages.TimeStamp;
@@ -184,12 +185,28 @@ class PDStreamSource extends AbstractStreamSource implements DisposableListener<
     // tmp for new subscriptions
     private final ArrayList<IdentityKey> temp = new ArrayList<IdentityKey>();
 
+    private ZoneMapFilter           zoneMapFilter;
+
     PDStreamSource(PDStream stream, PrioritizedMessageSourceMultiplexer<InstrumentMessage> mx, SelectionOptions options) {
         super(mx, options);
 
         this.stream = stream;
     }
 
+    void                        setZoneMapFilter(ZoneMapFilter filter) {
+        assert Thread.holdsLock(mx);
+
+        zoneMapFilter = filter;
+
+        ElementsEnumeration<SourceSubscription> e = sources.elements();
+        KeyEntry<PDStreamReader> keys = (KeyEntry<PDStreamReader>) e;
+
+        while (e.hasMoreElements()) {
+            keys.key().setZoneMapFilter(filter);
+            e.nextElement();
+        }
+    }
+
     @Override
     public boolean              subscribeToAllEntities(final long timestamp) {
         assert Thread.holdsLock(mx);
@@ -270,7 +287,7 @@ class PDStreamSource extends AbstractStreamSource implements DisposableListener<
                     if (filter.restrictAll())
                         continue;
 
-                    PDStreamReader reader = stream.createReader(root, nstime, options, filter);
+                    PDStreamReader reader = stream.createReader(root, nstime, options, filter, zoneMapFilter);
                     reader.setDisposableListener(this);
                     reader.setLimitTimestamp(limit);
                     sources.put(reader, sub);
@@ -301,7 +318,7 @@ class PDStreamSource extends AbstractStreamSource implements DisposableListener<
                     if (filter.restrictAll())
                         continue;
 
-                    PDStreamReader reader = stream.createReader(root, nstime, options, filter);
+                    PDStreamReader reader = stream.createReader(root, nstime, options, filter, zoneMapFilter);
                     reader.setDisposableListener(this);
                     reader.setLimitTimestamp(limit);
                     sources.put(reader, sub);
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl;
+
+import com.epam.deltix.gflog.api.Log;
+import com.epam.deltix.gflog.api.LogFactory;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMap;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapCollector;
+import com.epam.deltix.qsrv.hf.pub.codec.CodecFactory;
+import com.epam.deltix.qsrv.hf.pub.codec.NonStaticFieldInfo;
+import com.epam.deltix.qsrv.hf.pub.codec.UnboundDecoder;
+import com.epam.deltix.qsrv.hf.pub.md.DataType;
+import com.epam.deltix.qsrv.hf.pub.md.EnumDataType;
+import com.epam.deltix.qsrv.hf.pub.md.FloatDataType;
+import com.epam.deltix.qsrv.hf.pub.md.IntegerDataType;
+import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
+import com.epam.deltix.util.memory.MemoryDataInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *  Collects zone maps of numeric (integer, binary float and enum) fields of stream messages.
+ *  Fields are looked up by name in every message type; types without such fields are ignored.
+ */
+final class StreamZoneMapCollector implements ZoneMapCollector {
+    private static final Log LOGGER = LogFactory.getLog(StreamZoneMapCollector.class);
+
+    private final String []             fields;
+    private final UnboundDecoder []     decoders;   // by type code
+    private final int [][]              slots;      // by type code: field index -> zone map field or -1
+    private final boolean [][]          floats;     // by type code: field index -> read as double
+    private final int []                last;       // by type code: index of the last field to read
+
+    private final MemoryDataInput       in = new MemoryDataInput();
+
+    private StreamZoneMapCollector(String[] fields, RecordClassDescriptor[] types) {
+        this.fields = fields;
+        this.decoders = new UnboundDecoder[types.length];
+        this.slots = new int[types.length][];
+        this.floats = new boolean[types.length][];
+        this.last = new int[types.length];
+
+        for (int type = 0; type < types.length; type++) {
+            UnboundDecoder          decoder = CodecFactory.INTERPRETED.createFixedUnboundDecoder(types[type]);
+            NonStaticFieldInfo []   nsfs = decoder.getClassInfo().getNonStaticFields();
+
+            slots[type] = new int[nsfs.length];
+            floats[type] = new boolean[nsfs.length];
+            last[type] = -1;
+
+            for (int ii = 0; ii < nsfs.length; ii++) {
+                int slot = indexOf(fields, nsfs[ii].getName());
+
+                slots[type][ii] = slot;
+                floats[type][ii] = nsfs[ii].getType() instanceof FloatDataType;
+
+                if (slot >= 0)
+                    last[type] = ii;
+            }
+
+            if (last[type] >= 0)
+                decoders[type] = decoder;
+        }
+    }
+
+    /**
+     *  Creates collector for the given fields of the stream schema.
+     *
+     *  @return null if none of the fields is suitable for zone maps.
+     */
+    static StreamZoneMapCollector   create(RecordClassDescriptor[] types, List<String> names) {
+        ArrayList<String>   fields = new ArrayList<>();
+
+        for (String name : names) {
+            boolean found = false;
+            boolean supported = true;
+
+            for (RecordClassDescriptor rcd : types) {
+                NonStaticFieldInfo [] nsfs = CodecFactory.INTERPRETED.createFixedUnboundDecoder(rcd).getClassInfo().getNonStaticFields();
+
+                for (NonStaticFieldInfo nsf : nsfs) {
+                    if (name.equals(nsf.getName())) {
+                        found = true;
+                        supported &= isSupported(nsf.getType());
+                    }
+                }
+            }
+
+            if (found && supported)
+                fields.add(name);
+            else
+                LOGGER.warn("Zone maps are not supported for field \"%s\": %s").with(name).with(found ? "unsupported type" : "no such field");
+        }
+
+        if (fields.isEmpty())
+            return null;
+
+        return new StreamZoneMapCollector(fields.toArray(new String[fields.size()]), types);
+    }
+
+    static boolean                  isSupported(DataType type) {
+        return type instanceof IntegerDataType ||
+                type instanceof EnumDataType ||
+                type instanceof FloatDataType && !((FloatDataType) type).isDecimal64();
+    }
+
+    private static int              indexOf(String[] fields, String name) {
+        for (int ii = 0; ii < fields.length; ii++)
+            if (fields[ii].equals(name))
+                return ii;
+
+        return -1;
+    }
+
+    @Override
+    public String[]                 getFields() {
+        return fields;
+    }
+
+    @Override
+    public void                     collect(int type, byte[] data, int offset, int length, ZoneMap out) {
+        UnboundDecoder decoder = type < decoders.length ? decoders[type] : null;
+
+        if (decoder == null)
+            return;
+
+        int []      slots = this.slots[type];
+        boolean []  floats = this.floats[type];
+        int         last = this.last[type];
+
+        in.setBytes(data, offset, length);
+        decoder.beginRead(in);
+
+        for (int ii = 0; ii <= last && decoder.nextField(); ii++) {
+            int slot = slots[ii];
+
+            if (slot < 0)
+                continue;
+
+            if (decoder.isNull())
+                out.updateNull(slot);
+            else if (floats[ii])
+                out.update(slot, decoder.getDouble());
+            else
+                out.update(slot, decoder.getLong());
+        }
+    }
+
+    @Override
+    public String                   toString() {
+        return "StreamZoneMapCollector" + Arrays.toString(fields);
+    }
+}
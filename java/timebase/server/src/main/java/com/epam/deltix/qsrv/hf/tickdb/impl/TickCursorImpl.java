@@ -16,6 +16,8 @@
  */
 package com.epam.deltix.qsrv.hf.tickdb.impl;
 
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilterable;
 import com.epam.deltix.qsrv.hf.blocks.InstrumentIndex4;
 import com.epam.deltix.qsrv.hf.blocks.InstrumentToObjectMap;
 import com.epam.deltix.qsrv.hf.pub.*;
@@ -48,7 +50,8 @@ class TickCursorImpl implements
     TickCursor,
     TBCursor,
     SubscriptionManager,
-        SymbolAndTypeSubscriptionControllerClient
+        SymbolAndTypeSubscriptionControllerClient,
+    ZoneMapFilterable
 {
     //
     //  Immutable objects initialized in the constructor
@@ -162,6 +165,8 @@ class TickCursorImpl implements
 
     protected boolean                             isSubscribedToAllEntities = false;
     protected Set <String>                        subscribedTypeNames = null;
+
+    private ZoneMapFilter                         zoneMapFilter = null;
     
     //
     //  Current message data, guarded by the virtual query thread
@@ -297,6 +302,17 @@ class TickCursorImpl implements
         mx.setAvailabilityListener (lnr == null ? null : avlnrScheduler);
     }
 
+    @Override
+    public void                 setZoneMapFilter (ZoneMapFilter filter) {
+        synchronized (mx) {
+            zoneMapFilter = filter;
+
+            for (StreamSource ss : subscribedStreams)
+                if (ss instanceof PDStreamSource)
+                    ((PDStreamSource) ss).setZoneMapFilter (filter);
+        }
+    }
+
     private long                getNewSubscriptionTime () {
         if (newSubscriptionTime == TimeConstants.USE_CURSOR_TIME)
             return (mx.getCurrentTime ());
@@ -1187,7 +1203,9 @@ class TickCursorImpl implements
 //            return new DurableStreamSource(mx, (DurableStreamImpl) stream, options);
 //        } else
         if (stream instanceof PDStream) {
-            return new PDStreamSource((PDStream) stream, mx,  options);
+            PDStreamSource source = new PDStreamSource((PDStream) stream, mx,  options);
+            source.setZoneMapFilter(zoneMapFilter);
+            return source;
         } else if (stream instanceof SingleChannelStream){
             return new SingleStreamSource(mx, stream, options);
         }
@@ -16,6 +16,8 @@
  */
 package com.epam.deltix.qsrv.hf.tickdb.impl;
 
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilterable;
 import com.epam.deltix.timebase.messages.IdentityKey;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
 import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
@@ -30,7 +32,7 @@ import java.util.ArrayList;
 /**
  *
  */
-public class TickCursorWrapper implements Wrapper<TickCursor>, TickCursor, SymbolAndTypeSubscriptionControllerAdapter {
+public class TickCursorWrapper implements Wrapper<TickCursor>, TickCursor, SymbolAndTypeSubscriptionControllerAdapter, ZoneMapFilterable {
 
     private final TickCursor                delegate;
     private final AuthorizationContext      context;
@@ -222,6 +224,12 @@ public class TickCursorWrapper implements Wrapper<TickCursor>, TickCursor, Symbo
         return delegate;
     }
 
+    @Override
+    public void             setZoneMapFilter(ZoneMapFilter filter) {
+        if (delegate instanceof ZoneMapFilterable)
+            ((ZoneMapFilterable) delegate).setZoneMapFilter(filter);
+    }
+
     @Override
     public String           toString() {
         return "TickCursorWrapper (" + super.toString() + ")";
@@ -25,8 +25,10 @@ import com.epam.deltix.qsrv.dtb.fs.lock.atomicfs.FsLock;
 import com.epam.deltix.qsrv.dtb.fs.pub.AbstractFileSystem;
 import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
 import com.epam.deltix.qsrv.dtb.fs.pub.FSFactory;
+import com.epam.deltix.qsrv.dtb.store.dataacc.DataReaderPrefetcher;
 import com.epam.deltix.qsrv.dtb.store.impl.PDSFactory;
 import com.epam.deltix.qsrv.dtb.store.pub.PersistentDataStore;
+import com.epam.deltix.qsrv.hf.codec.CodecClassCache;
 import com.epam.deltix.qsrv.hf.pub.ChannelQualityOfService;
 import com.epam.deltix.qsrv.hf.pub.md.*;
 import com.epam.deltix.timebase.messages.ConstantIdentityKey;
@@ -75,6 +77,7 @@ import com.epam.deltix.util.parsers.Element;
 import com.epam.deltix.util.runtime.Shutdown;
 import com.epam.deltix.util.text.SimpleStringCodec;
 import com.epam.deltix.util.time.Periodicity;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.jcip.annotations.GuardedBy;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -84,6 +87,11 @@ import javax.annotation.Nullable;
 import javax.xml.bind.JAXBException;
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.logging.Level;
@@ -122,6 +130,15 @@ public class TickDBImpl
     private static final boolean ENABLE_RAMDISK_CACHE = Boolean.valueOf(System.getProperty("TimeBase.fileSystem.cache.enableRamDisk", "true"));
     private static final int MAX_RAM_DISK_SIZE = 128 << 20; // 128MB max
 
+    // Number of threads used to open stream catalog on startup (1 = sequential)
+    private static final int OPEN_PARALLELISM = Math.max(1, Integer.getInteger("TimeBase.openParallelism",
+            Math.min(Runtime.getRuntime().availableProcessors(), 8)));
+    // Streams opening longer than this (in ms) are reported on startup
+    private static final long SLOW_OPEN_THRESHOLD = Long.getLong("TimeBase.openParallelism.slowStreamMs", 1000);
+
+    // File with queries (one per line) to compile in background after the database is opened
+    private static final String QUERY_CACHE_WARM_UP = System.getProperty("TimeBase.queryCache.warmUp");
+
     public static final String                  VERSION_PROPERTY = "TimeBase.version";
     public static final String                  SAFE_MODE_PROPERTY = "TimeBase.safeMode";
     public static final String                  OLD_DATA_FORMAT_VERSION = "4.3";
@@ -149,8 +166,9 @@ public class TickDBImpl
     private final File []                       dbDirs;
     private final LockFile[]                    locks;
     private File []                             expandedDbDirs;
-    private boolean                             isOpen = false;
-    private boolean                             isReadOnly;
+    // not guarded by "this": read by stream open workers while opening thread holds the lock
+    private volatile boolean                    isOpen = false;
+    private volatile boolean                    isReadOnly;
 
     private String                              uid;
     
@@ -186,6 +204,7 @@ public class TickDBImpl
 
     private TickLoader                          logLoader; // loader for the event stream
     Timer                                       streamSaver = null;
+    Timer                                       tieringTimer = null;  // migrates cold data to the secondary storage
     ThrottlingExecutor                          saver;
     private PQCache                             pqCache = new PQCache (this);
 
@@ -463,11 +482,11 @@ public class TickDBImpl
         isOpen = true;
     }
 
-    public synchronized boolean             isOpen () {
+    public boolean                          isOpen () {
         return (isOpen);
     }
 
-    public synchronized boolean             isReadOnly () {
+    public boolean                          isReadOnly () {
         return (isReadOnly);
     }
 
@@ -595,6 +614,8 @@ public class TickDBImpl
 
                     openLocked(readOnly);
 
+                    warmUpQueryCache();
+
                 } catch (IllegalStateException e) {
                     unlock(true);
                     throw e;
@@ -638,6 +659,38 @@ public class TickDBImpl
 //        }
 //    }
 
+    private void                            warmUpQueryCache() {
+        if (QUERY_CACHE_WARM_UP == null)
+            return;
+
+        final List<String> queries = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new FileReader(QUERY_CACHE_WARM_UP))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+
+                if (!line.isEmpty() && !line.startsWith("#"))
+                    queries.add(line);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Cannot read queries to warm up from " + QUERY_CACHE_WARM_UP, e);
+            return;
+        }
+
+        Thread thread = new Thread(() -> {
+            long start = System.currentTimeMillis();
+            int prepared = pqCache.warmUp(queries);
+
+            LOGGER.info("Prepared " + prepared + " of " + queries.size() + " queries in " +
+                    (System.currentTimeMillis() - start) + " ms");
+        }, "query-cache-warm-up");
+
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     private static boolean                  isSafeMode() {
         return Boolean.getBoolean(SAFE_MODE_PROPERTY);
     }
@@ -660,6 +713,11 @@ public class TickDBImpl
 
         lock(readOnly);
 
+        // compiled codecs are persisted next to the database, unless configured explicitly
+        File dbParent = dbDirs[0].getAbsoluteFile().getParentFile();
+        if (dbParent != null)
+            CodecClassCache.INSTANCE.setDefaultDirectory(new File(dbParent, "codecs"));
+
         if (fs != null && fs.url != null)
             this.locator = new FSLocator(fs.url + "/" + uid);
 
@@ -757,8 +815,23 @@ public class TickDBImpl
 
         addRemoteStreams(streamFiles);
 
-        for (FileLocation sf : streamFiles.values ()) {
-            boolean isLocal = sf.isLocal();
+        final boolean safeMode = isSafeMode();
+        final List<StreamOpenTask> tasks = openStreams(streamFiles.values (), readOnly);
+
+        for (int i = 0; i < tasks.size(); i++) {
+            StreamOpenTask task = tasks.get(i);
+            FileLocation sf = task.location;
+
+            if (task.error != null) {
+                if (!task.opening || !safeMode) {
+                    closeStreams(tasks, i + 1);
+                    ExceptionUtils.rethrow(task.error);
+                }
+
+                LOGGER.log(Level.WARNING, "Disabling broken stream [" + task.stream.getKey() + "] according to 'SAVE MODE'", task.error);
+                continue;
+            }
+
             // TODO: Implement version upgrade for remote files
 //            if (isLocal) {
 //                File streamFile = sf.getFile();
@@ -778,28 +851,10 @@ public class TickDBImpl
 //                }
 //            }
 
-            DXTickStream  tickStream = TickStreamImpl.read (sf.getPath());
+            DXTickStream  tickStream = task.stream;
             if (tickStream instanceof TickStreamImpl) {
                 TickStreamImpl stream = (TickStreamImpl)tickStream;
 
-                // TODO: Implement version upgrade for remote files
-                if (isLocal) {
-                    File streamFile = sf.getFile();
-                    assert streamFile != null;
-
-                    try {
-                        if (!TickStreamImpl.VERSION.equals(stream.getVersion())) { // backup file
-                            String name = streamFile.getName() + "." + stream.getVersion() + ".bak";
-                            File backup = new File(streamFile.getParent(), name);
-                            IOUtil.copyFile1(streamFile, backup);
-                        }
-                    } catch (IOException ex) {
-                        LOGGER.log(Level.WARNING, "Cannot backup file: " + streamFile, ex);
-                    }
-                }
-
-                stream.init (this, sf);
-
                 // securities in general may have periodic data
 
 //                //securities stream must have static periodicity
@@ -811,17 +866,6 @@ public class TickDBImpl
                     stream.open (false);
                     stream.delete();
                     continue;
-                } else {
-                    try {
-                        stream.open (readOnly);
-                        stream.getSizeOnDisk(); // will fail in case of stream errors
-                    } catch (Throwable e) {
-                        if (!isSafeMode())
-                            throw e;
-
-                        LOGGER.log(Level.WARNING, "Disabling broken stream [" + stream.getKey() + "] according to 'SAVE MODE'", e);
-                        continue;
-                    }
                 }
 
 //                // TODO: Implement upgrade for remote files
@@ -931,6 +975,11 @@ public class TickDBImpl
         
         // now we can set read-only flag
         isReadOnly = readOnly;
+
+        // all streams are opened - unsaved changes of the others cannot be replayed
+        if (store != null && !readOnly)
+            store.completeRecovery();
+
         // restore stream background processes - now we have deleted all unused files and can run any process
         for (ServerStreamImpl tickStream : streams.values())
             tickStream.onDBOpen ();
@@ -938,6 +987,163 @@ public class TickDBImpl
         if (REMOTE_STREAMS) {
             remoteStreamSyncChecker.start();
         }
+
+        CodecClassCache codecs = CodecClassCache.INSTANCE;
+        if (codecs.isEnabled())
+            LOGGER.info (
+                String.format (
+                    "Codec cache (%s): %,d hits, %,d misses, compile time: %,d ms, load time: %,d ms.",
+                    codecs.getDirectory(), codecs.getHits(), codecs.getMisses(), codecs.getCompileTime(), codecs.getLoadTime()
+                )
+            );
+    }
+
+    /**
+     *  Result of reading and opening single stream of the catalog.
+     */
+    private static final class StreamOpenTask {
+        final FileLocation          location;
+
+        DXTickStream                stream;
+        Throwable                   error;
+        boolean                     opening;    // true, if error was raised by stream.open()
+        long                        time;       // nanoseconds
+
+        StreamOpenTask(FileLocation location) {
+            this.location = location;
+        }
+
+        String                      getName() {
+            return stream != null ? stream.getKey() : location.getPath().getPathString();
+        }
+    }
+
+    /**
+     *  Reads and opens given stream files using up to {@link #OPEN_PARALLELISM} threads.
+     *  Registration of opened streams is left to the caller, which processes results in catalog order.
+     */
+    private List<StreamOpenTask>            openStreams (Collection<FileLocation> files, boolean readOnly) {
+        final ArrayList<StreamOpenTask> tasks = new ArrayList<>(files.size());
+        for (FileLocation sf : files)
+            tasks.add(new StreamOpenTask(sf));
+
+        final long start = System.nanoTime();
+        final int parallelism = Math.min(OPEN_PARALLELISM, tasks.size());
+
+        if (parallelism <= 1) {
+            for (StreamOpenTask task : tasks)
+                openStream(task, readOnly);
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism,
+                    new ThreadFactoryBuilder().setNameFormat("stream-open-%d").setDaemon(true).build());
+
+            try {
+                ArrayList<Future<?>> futures = new ArrayList<>(tasks.size());
+                for (StreamOpenTask task : tasks)
+                    futures.add(executor.submit(() -> openStream(task, readOnly)));
+
+                // all tasks should be completed before processing results, so wait uninterruptibly
+                boolean interrupted = false;
+                for (Future<?> future : futures) {
+                    for (;;) {
+                        try {
+                            future.get();
+                            break;
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        } catch (ExecutionException e) {
+                            throw new RuntimeException(e.getCause()); // openStream() never throws
+                        }
+                    }
+                }
+
+                if (interrupted)
+                    Thread.currentThread().interrupt();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        for (StreamOpenTask task : tasks) {
+            long ms = TimeUnit.NANOSECONDS.toMillis(task.time);
+            if (ms >= SLOW_OPEN_THRESHOLD)
+                LOG.info("Stream [%s] opened in %s ms").with(task.getName()).with(ms);
+            else if (LOG.isDebugEnabled())
+                LOG.debug("Stream [%s] opened in %s ms").with(task.getName()).with(ms);
+        }
+
+        LOG.info("Opened %s stream(s) in %s ms using %s thread(s)")
+                .with(tasks.size())
+                .with(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .with(Math.max(parallelism, 1));
+
+        return tasks;
+    }
+
+    /**
+     *  Reads and opens single stream. May be called concurrently from several threads,
+     *  while the opening thread holds the lock on <code>this</code>. So it should not use
+     *  any database methods synchronized on <code>this</code> ({@link #isOpen()} and
+     *  {@link #isReadOnly()} are lock-free).
+     */
+    private void                            openStream (StreamOpenTask task, boolean readOnly) {
+        final long start = System.nanoTime();
+        final FileLocation sf = task.location;
+
+        try {
+            DXTickStream tickStream = TickStreamImpl.read (sf.getPath());
+            task.stream = tickStream;
+
+            if (tickStream instanceof TickStreamImpl) {
+                TickStreamImpl stream = (TickStreamImpl) tickStream;
+
+                // TODO: Implement version upgrade for remote files
+                if (sf.isLocal()) {
+                    File streamFile = sf.getFile();
+                    assert streamFile != null;
+
+                    try {
+                        if (!TickStreamImpl.VERSION.equals(stream.getVersion())) { // backup file
+                            String name = streamFile.getName() + "." + stream.getVersion() + ".bak";
+                            File backup = new File(streamFile.getParent(), name);
+                            IOUtil.copyFile1(streamFile, backup);
+                        }
+                    } catch (IOException ex) {
+                        LOGGER.log(Level.WARNING, "Cannot backup file: " + streamFile, ex);
+                    }
+                }
+
+                stream.init (this, sf);
+
+                // events stream will be deleted by caller
+                if (!EVENTS_STREAM_NAME.equals(stream.getKey())) {
+                    task.opening = true;
+                    stream.open (readOnly);
+                    stream.getSizeOnDisk(); // will fail in case of stream errors
+                }
+            }
+        } catch (Throwable e) {
+            task.error = e;
+        } finally {
+            task.time = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     *  Closes streams successfully opened by {@link #openStreams}, starting from given index.
+     */
+    private static void                     closeStreams (List<StreamOpenTask> tasks, int from) {
+        for (int i = from; i < tasks.size(); i++) {
+            StreamOpenTask task = tasks.get(i);
+
+            if (task.error == null && task.stream instanceof TickStreamImpl && !EVENTS_STREAM_NAME.equals(task.stream.getKey())) {
+                try {
+                    ((TickStreamImpl) task.stream).close();
+                } catch (Throwable e) {
+                    LOGGER.log(Level.WARNING, "Failed to close stream [" + task.getName() + "]", e);
+                }
+            }
+        }
     }
 
     private void addRemoteStreams(Map<String, FileLocation> streamFiles) throws IOException {
@@ -988,6 +1194,9 @@ public class TickDBImpl
         this.contextContainer.getQuickExecutor().reuseInstance();
 
         streamSaver = new Timer ("Stream Saver", true);
+
+        if (fs.secondaryLocation != null)
+            tieringTimer = new Timer ("Storage Tiering", true);
         
         saver = new ThrottlingExecutor("Timebase auto-save thread", 0.1);
         saver.setMaxSleepInterval (2000);
@@ -996,8 +1205,10 @@ public class TickDBImpl
 
         ramdisk.start();
 
-        if (store != null)
+        if (store != null) {
+            store.setWriteAheadLog(fs.walLocation != null ? new File(fs.walLocation) : null, fs.walCommitInterval);
             store.start();
+        }
     }
 
     public QuickExecutor                    getQuickExecutor() {
@@ -1051,6 +1262,11 @@ public class TickDBImpl
             streamSaver = null;
         }
 
+        if (tieringTimer != null) {
+            tieringTimer.cancel ();
+            tieringTimer = null;
+        }
+
         if (saver != null) {
             saver.interrupt();
             saver = null;
@@ -2002,6 +2218,12 @@ public class TickDBImpl
     public void                 addPropertyMonitor(String component, PropertyMonitor listener) {
         if ("RAMDisk".equals(component))
             ramdisk.addPropertyMonitor(listener);
+        else if ("Storage".equals(component))
+            store.addPropertyMonitor(listener);
+        else if ("Prefetch".equals(component))
+            DataReaderPrefetcher.HANDLER.addPropertyMonitor(listener);
+        else if ("QueryCache".equals(component))
+            pqCache.addPropertyMonitor(listener);
     }
 
     @Override
@@ -22,6 +22,7 @@ import com.epam.deltix.streaming.MessageChannel;
 import com.epam.deltix.streaming.MessageSource;
 import com.epam.deltix.timebase.messages.IdentityKey;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
+import com.epam.deltix.timebase.messages.TimeStamp;
 import com.epam.deltix.qsrv.hf.pub.RawMessage;
 import com.epam.deltix.qsrv.hf.pub.codec.CachingCodecMetaFactory;
 import com.epam.deltix.qsrv.hf.pub.codec.CodecFactory;
@@ -194,8 +195,14 @@ public abstract class TickStreamImpl extends ServerStreamImpl
     @XmlElement (name = "versioning")
     protected boolean                           versioning;
 
+    @GuardedBy ("this")
+    @XmlElement (name = "lastValueCacheDepth")
+    private int                                 lastValueCacheDepth;
+
     UniqueMessageContainer                      accumulator;
 
+    volatile LastValueCache                     lastValues;
+
     @GuardedBy ("openCursors")
     private final Set <TickCursor>              openCursors = new HashSet <> ();
 
@@ -510,6 +517,31 @@ public abstract class TickStreamImpl extends ServerStreamImpl
         invalidateUniqueContainer();
     }
 
+    public final synchronized int         getLastValueCacheDepth() {
+        return lastValueCacheDepth;
+    }
+
+    /**
+     *  Enables in-memory cache of the last messages written into this stream.
+     *  Cursors opened with {@link SelectionOptions#lastValues} receive content
+     *  of this cache before regular data.
+     *
+     *  @param depth number of messages to keep for each entity and message type;
+     *               0 disables cache.
+     */
+    public final synchronized void        setLastValueCacheDepth(int depth) {
+        assertFinal();
+
+        if (depth < 0)
+            throw new IllegalArgumentException("Depth should be non-negative: " + depth);
+
+        if (depth != lastValueCacheDepth) {
+            this.lastValueCacheDepth = depth;
+            invalidateLastValueCache();
+            setDirty();
+        }
+    }
+
     @Override
     public synchronized RecordClassDescriptor[] getTypes() {
         return isFixedType() ? new RecordClassDescriptor[] {getFixedType()} : getPolymorphicDescriptors();
@@ -587,6 +619,7 @@ public abstract class TickStreamImpl extends ServerStreamImpl
         compFactoryCache.clearCache ();
 
         invalidateUniqueContainer();
+        invalidateLastValueCache();
 
         firePropertyChanged(TickStreamProperties.SCHEMA);
 
@@ -608,6 +641,22 @@ public abstract class TickStreamImpl extends ServerStreamImpl
             ) : null;
         }
     }
+
+    protected void                        invalidateLastValueCache() {
+        assert Thread.holdsLock(this);
+
+        if (md.getNumTopTypes() == 0 || lastValueCacheDepth <= 0) {
+            lastValues = null;
+        } else {
+            lastValues = new LastValueCache(
+                    getCodecFactory(false),
+                    lastValueCacheDepth,
+                    isFixedType() ?
+                            new RecordClassDescriptor[]{getFixedType()} :
+                            getPolymorphicDescriptors()
+            );
+        }
+    }
     
     public final void               init (TickDBImpl db, File file) {
         this.db = db;
@@ -916,6 +965,7 @@ public abstract class TickStreamImpl extends ServerStreamImpl
         }
 
         invalidateUniqueContainer();
+        invalidateLastValueCache();
 
         try {
             readCache();
@@ -1484,6 +1534,45 @@ public abstract class TickStreamImpl extends ServerStreamImpl
         return false;
     }
 
+    /**
+     *  Puts written message into the last-value cache, if enabled.
+     *  @param nstime message time (nanoseconds), assigned by writer if message time is undefined
+     */
+    public final void               cacheLastValue (InstrumentMessage msg, long nstime) {
+        LastValueCache cache = lastValues;
+
+        if (cache != null)
+            cache.put(msg, nstime);
+    }
+
+    /**
+     *  @return last-value cache, or null if disabled
+     */
+    final LastValueCache            getLastValueCache () {
+        return lastValues;
+    }
+
+    /**
+     *  Removes messages of the given space with time in [from, to] range from the last-value cache.
+     */
+    protected final void            dropLastValues (String space, long from, long to, IdentityKey ... ids) {
+        LastValueCache cache = lastValues;
+
+        if (cache != null)
+            cache.drop(space, from, to, ids);
+    }
+
+    LastValueReader                 createLastValueReader(long timestamp, SelectionOptions options) {
+        LastValueCache cache = lastValues;
+
+        if (cache != null) {
+            long limit = timestamp == Long.MAX_VALUE ? Long.MAX_VALUE : TimeStamp.getNanoTime(timestamp);
+            return new LastValueReader(cache, limit, options, this);
+        }
+
+        return null;
+    }
+
     @Override
     public void             disposed(Disposable resource) {
         if (resource instanceof VSDispatcher) {
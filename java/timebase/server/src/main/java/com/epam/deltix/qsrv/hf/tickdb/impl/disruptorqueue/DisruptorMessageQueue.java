@@ -16,8 +16,8 @@
  */
 package com.epam.deltix.qsrv.hf.tickdb.impl.disruptorqueue;
 
-import com.lmax.disruptor.BlockingWaitStrategy;
 import com.lmax.disruptor.Sequence;
+import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.util.Util;
 import com.epam.deltix.qsrv.hf.tickdb.pub.Messages;
 import com.epam.deltix.streaming.MessageChannel;
@@ -39,7 +39,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Message queue for {@link TransientStreamImpl} based on LMAX Disruptor.
  * <p>
- * <b>WARNING</b>: Lossless version for this queue has major issue. See {@link DisruptorQueueWriterLossless}.
+ * Single writer (guarded by {@link #writeLock}), multiple readers. Each reader tracks own sequence, so readers never
+ * take a lock. Synchronous readers wait according to {@link WaitStrategy} (see {@link DisruptorQueueWaitMode}),
+ * asynchronous readers are notified only when they have declared that they are waiting for data.
  * </p>
  *
  * @author Alexei Osipov
@@ -64,6 +66,10 @@ public class DisruptorMessageQueue implements TransientMessageQueue {
     private final QuickExecutor.QuickTask notifier;
 
     public DisruptorMessageQueue(TransientStreamImpl stream, boolean lossless) {
+        this(stream, lossless, DisruptorQueueWaitMode.createConfigured());
+    }
+
+    public DisruptorMessageQueue(TransientStreamImpl stream, boolean lossless, WaitStrategy waitStrategy) {
         this.stream = stream;
         this.lossless = lossless;
         int ringBufferSize = getRingBufferSize(stream.getBufferOptions());
@@ -81,7 +87,7 @@ public class DisruptorMessageQueue implements TransientMessageQueue {
         };
 
         // Get the ring buffer from the Disruptor to be used for publishing.
-        this.ringBuffer = ByteRingBuffer.createSingleProducer(ringBufferSize, new DisruptorQueueWaitStrategy(this, new BlockingWaitStrategy()));
+        this.ringBuffer = ByteRingBuffer.createSingleProducer(ringBufferSize, new DisruptorQueueWaitStrategy(this, waitStrategy));
     }
 
     private int getRingBufferSize(BufferOptions bufferOptions) {
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl.disruptorqueue;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.LiteBlockingWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+/**
+ * Defines how synchronous readers of {@link DisruptorMessageQueue} wait for new data.
+ * <p>
+ * Asynchronous readers (with availability listener) are always notified via {@link com.epam.deltix.util.concurrent.QuickExecutor}
+ * and only when they have no data to read.
+ * </p>
+ * Strategy is selected by system property {@link #PROPERTY_NAME}. Value is either one of the constants of this enum
+ * or a fully qualified name of a class that implements {@link WaitStrategy} and has public no-arg constructor.
+ */
+public enum DisruptorQueueWaitMode {
+    /**
+     * Reader blocks on lock condition. Lowest CPU usage, writer has to take the lock to wake up readers.
+     */
+    BLOCKING {
+        @Override
+        public WaitStrategy     create() {
+            return new BlockingWaitStrategy();
+        }
+    },
+
+    /**
+     * Same as {@link #BLOCKING} but writer takes the lock only if some reader is actually blocked.
+     */
+    LITE_BLOCKING {
+        @Override
+        public WaitStrategy     create() {
+            return new LiteBlockingWaitStrategy();
+        }
+    },
+
+    /**
+     * Reader spins, then yields, then sleeps. Writer never takes a lock.
+     */
+    SLEEPING {
+        @Override
+        public WaitStrategy     create() {
+            return new SleepingWaitStrategy();
+        }
+    },
+
+    /**
+     * Reader spins and then yields. Low latency, each waiting reader uses CPU.
+     */
+    YIELDING {
+        @Override
+        public WaitStrategy     create() {
+            return new YieldingWaitStrategy();
+        }
+    },
+
+    /**
+     * Reader busy spins. Lowest latency, each waiting reader occupies a CPU core.
+     */
+    BUSY_SPIN {
+        @Override
+        public WaitStrategy     create() {
+            return new BusySpinWaitStrategy();
+        }
+    };
+
+    public static final String  PROPERTY_NAME = "deltix.tickdb.disruptorQueue.waitStrategy";
+
+    public abstract WaitStrategy create();
+
+    /**
+     * @return wait strategy configured by {@link #PROPERTY_NAME} system property, {@link #BLOCKING} by default
+     */
+    public static WaitStrategy  createConfigured() {
+        return create(System.getProperty(PROPERTY_NAME, BLOCKING.name()));
+    }
+
+    public static WaitStrategy  create(String value) {
+        for (DisruptorQueueWaitMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value))
+                return mode.create();
+        }
+
+        try {
+            Class<?> cls = Class.forName(value);
+            if (!WaitStrategy.class.isAssignableFrom(cls))
+                throw new IllegalArgumentException(value + " is not a " + WaitStrategy.class.getName());
+
+            return (WaitStrategy) cls.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unknown wait strategy: " + value, e);
+        }
+    }
+}
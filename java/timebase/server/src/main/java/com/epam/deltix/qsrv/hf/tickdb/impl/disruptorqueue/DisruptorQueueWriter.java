@@ -19,9 +19,11 @@ package com.epam.deltix.qsrv.hf.tickdb.impl.disruptorqueue;
 import com.epam.deltix.streaming.MessageChannel;
 import com.epam.deltix.data.stream.MessageEncoder;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
+import com.epam.deltix.timebase.messages.TimeStampedMessage;
 import com.epam.deltix.qsrv.hf.tickdb.impl.bytedisruptor.ByteRingBuffer;
 import com.epam.deltix.qsrv.hf.tickdb.pub.WriterAbortedException;
 import com.epam.deltix.qsrv.hf.tickdb.pub.WriterClosedException;
+import com.epam.deltix.util.time.TimeKeeper;
 
 /**
  * @author Alexei Osipov
@@ -54,10 +56,17 @@ abstract class DisruptorQueueWriter implements MessageChannel<InstrumentMessage>
 
         int length = writer.prepare(msg);
         writeDataToRingBuffer(length);
+
+        queue.stream.cacheLastValue(msg,
+                msg.getTimeStampMs() == TimeStampedMessage.TIMESTAMP_UNKNOWN ? TimeKeeper.currentTimeNanos : msg.getNanoTime());
     }
 
     protected abstract void writeDataToRingBuffer(int length);
 
+    protected boolean isOpen() {
+        return isOpen;
+    }
+
     @Override
     public void close() {
         isOpen = false;
@@ -19,30 +19,72 @@ package com.epam.deltix.qsrv.hf.tickdb.impl.disruptorqueue;
 import com.epam.deltix.data.stream.MessageEncoder;
 import com.epam.deltix.timebase.messages.InstrumentMessage;
 import com.epam.deltix.qsrv.hf.tickdb.impl.bytedisruptor.ByteRingBuffer;
+import com.epam.deltix.qsrv.hf.tickdb.pub.WriterAbortedException;
+import com.epam.deltix.qsrv.hf.tickdb.pub.WriterClosedException;
+import com.epam.deltix.util.concurrent.UncheckedInterruptedException;
+import com.lmax.disruptor.InsufficientCapacityException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Writer for lossless queue. Before using read notes below.
+ * Writer for lossless queue.
  * <p>
- * <p><b>WARNING</b>: This writer will do busy spin with Thread.yield() in case of full queue.
- * <b>Thread will NOT react to {@link Thread#interrupt()}.
- * Thread will NOT react to {@link #close()}.
- * It will spin till it writes message to the queue.</b>
+ * If queue is full, writer waits (spin, then yield, then park) till the slowest reader frees enough space.
+ * Write lock is not held while waiting, so new readers still can subscribe.
+ * Waiting is aborted if queue is closed, writer is closed or thread is interrupted.
  * </p>
  *
  * @author Alexei Osipov
  */
 final class DisruptorQueueWriterLossless extends DisruptorQueueWriter {
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     DisruptorQueueWriterLossless(DisruptorMessageQueue queue, ByteRingBuffer ringBuffer, MessageEncoder<InstrumentMessage> encoder) {
         super(queue, ringBuffer, encoder);
     }
 
     @Override
     protected void writeDataToRingBuffer(int length) {
-        // We have to synchronize because we use Disruptor in SingleProducer mode
-        synchronized (queue.writeLock) {
-            // WARNING: This #next call may loop lndifinitely on Thread.yield()
-            long hi = ringBuffer.next(length); // Inclusive
-            ringBuffer.writeToAllocatedRange(writer, hi, length);
+        int attempt = 0;
+        long parkNanos = 1000;
+
+        while (true) {
+            // We have to synchronize because we use Disruptor in SingleProducer mode
+            synchronized (queue.writeLock) {
+                try {
+                    long hi = ringBuffer.tryNext(length); // Inclusive
+                    ringBuffer.writeToAllocatedRange(writer, hi, length);
+                    return;
+                } catch (InsufficientCapacityException e) {
+                    // wait for readers outside of lock
+                }
+            }
+
+            checkCanWait();
+
+            attempt++;
+            if (attempt <= SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (attempt <= SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+                parkNanos = Math.min(parkNanos * 2, MAX_PARK_NANOS);
+            }
         }
     }
+
+    private void checkCanWait() {
+        if (Thread.interrupted())
+            throw new UncheckedInterruptedException();
+
+        if (!isOpen())
+            throw new WriterClosedException(this + " is closed");
+
+        if (queue.closed)
+            throw new WriterAbortedException(queue.stream + " is closed");
+    }
 }
@@ -26,7 +26,7 @@ import java.util.Comparator;
 /**
  * Modified version of {@link PriorityQueue} that works with {@link PrioritizedSource} instead of {@link MessageSource}.
  */
-final class MSPriorityQueue<T> {
+final class MSPriorityQueue<T> implements MSQueue<T> {
     /**
      *  Number of elements in the heap.
      */
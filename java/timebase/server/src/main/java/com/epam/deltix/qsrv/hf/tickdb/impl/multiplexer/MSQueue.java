@@ -0,0 +1,42 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl.multiplexer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Ordered set of {@link PrioritizedSource}s used by {@link PrioritizedMessageSourceMultiplexer}.
+ * Sources are ordered by the current message (using provided comparator) and then by the source priority.
+ */
+interface MSQueue<T> {
+
+    void                        offer (PrioritizedSource<T> obj);
+
+    @Nullable
+    PrioritizedSource<T>        poll ();
+
+    @Nullable
+    PrioritizedSource<T>        peek ();
+
+    boolean                     remove (PrioritizedSource<T> obj);
+
+    int                         size ();
+
+    boolean                     isEmpty ();
+
+    void                        clear ();
+}
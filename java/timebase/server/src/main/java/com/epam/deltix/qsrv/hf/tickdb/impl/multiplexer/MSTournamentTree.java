@@ -0,0 +1,290 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl.multiplexer;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+
+/**
+ * Tournament tree over a fixed number of leaf slots (power of 2), drop-in replacement for {@link MSPriorityQueue}.
+ * <p>
+ * Each internal node keeps the index of the slot that won the match between its children, so the root is the
+ * current head. Replaying a slot costs exactly one comparison per level (log2 of the capacity), unlike the binary
+ * heap which needs up to two comparisons per level on removal of the head plus the sift-up on re-insertion.
+ * <p>
+ * The typical multiplexer cycle is {@code poll()}, advance the source, {@code offer()} of the same source.
+ * To make it a single replay, {@link #poll()} does not detach the head from the tree immediately: the slot is
+ * remembered as "pending" and {@link #offer} of the same source simply replays that slot.
+ * Any other operation detaches the pending slot first.
+ * <p>
+ * Arbitrary slots may be added or removed at any time (empty slot always loses the match), which keeps
+ * dynamic addition and removal of sources at O(log k).
+ */
+final class MSTournamentTree<T> implements MSQueue<T> {
+    private static final int        NO_SLOT = -1;
+
+    /**
+     *  Every level costs a comparison even for unused slots, so the tree starts small
+     *  and doubles on demand instead of pre-allocating the requested capacity.
+     */
+    private static final int        INITIAL_CAPACITY = 16;
+
+    private final Comparator<T>     comparator;
+    private final byte              direction; // 1 for ascending and -1 for descending
+
+    /**
+     *  Number of leaf slots. Always power of 2.
+     */
+    private int                     capacity;
+
+    /**
+     *  Leaf slots. Null for unused slot.
+     */
+    private PrioritizedSource<T>[]  leaves;
+
+    /**
+     *  Match winners (slot indexes). Root has the index of 1. Children of node A are at A &lt;&lt; 1 and
+     *  A &lt;&lt; 1 + 1. Children of nodes in [capacity / 2, capacity) are leaf slots.
+     */
+    private int[]                   tree;
+
+    /**
+     *  Stack of unused slots.
+     */
+    private int[]                   freeSlots;
+    private int                     numFree;
+
+    /**
+     *  Slots of attached sources, so that {@link #remove} does not scan the leaves.
+     *  Not touched on the main poll/offer path, where the slot is already known.
+     */
+    private final HashMap<PrioritizedSource<T>, Integer> slots = new HashMap<>();
+
+    /**
+     *  Number of sources, excluding the pending one.
+     */
+    private int                     mSize;
+
+    /**
+     *  Slot of the last polled source, which is still attached to the tree.
+     */
+    private int                     pendingSlot = NO_SLOT;
+
+    public MSTournamentTree(int capacity, boolean ascending, Comparator<T> c) {
+        this.comparator = c;
+        this.direction = (byte) (ascending ? 1 : -1);
+        init (Math.min (capacity, INITIAL_CAPACITY));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void                init (int numObjects) {
+        capacity = 2;
+        while (capacity < numObjects)
+            capacity <<= 1;
+
+        leaves = new PrioritizedSource [capacity];
+        tree = new int [capacity];
+        freeSlots = new int [capacity];
+        clear ();
+    }
+
+    @Override
+    public void                 clear () {
+        Arrays.fill (leaves, null);
+        Arrays.fill (tree, 0);
+        slots.clear ();
+
+        numFree = 0;
+        for (int slot = capacity - 1; slot >= 0; slot--)
+            freeSlots [numFree++] = slot;
+
+        mSize = 0;
+        pendingSlot = NO_SLOT;
+    }
+
+    @Override
+    public int                  size () {
+        return (mSize);
+    }
+
+    @Override
+    public boolean              isEmpty () {
+        return (mSize == 0);
+    }
+
+    @Override
+    public void                 offer (PrioritizedSource<T> obj) {
+        final int           pending = pendingSlot;
+
+        if (pending != NO_SLOT) {
+            pendingSlot = NO_SLOT;
+
+            if (leaves [pending] == obj) {
+                // Main path: head was polled, advanced and returned back
+                mSize++;
+                replay (pending);
+                return;
+            }
+
+            release (pending);
+        }
+
+        if (numFree == 0)
+            extendCapacity ();
+
+        final int           slot = freeSlots [--numFree];
+
+        leaves [slot] = obj;
+        slots.put (obj, slot);
+        mSize++;
+        replay (slot);
+    }
+
+    @Override
+    @Nullable
+    public PrioritizedSource<T> peek () {
+        detachPending ();
+
+        if (mSize == 0)
+            return (null);
+
+        return (leaves [tree [1]]);
+    }
+
+    @Override
+    @Nullable
+    public PrioritizedSource<T> poll () {
+        detachPending ();
+
+        if (mSize == 0)
+            return (null);
+
+        final int           slot = tree [1];
+
+        pendingSlot = slot;
+        mSize--;
+        return (leaves [slot]);
+    }
+
+    @Override
+    public boolean              remove (PrioritizedSource<T> obj) {
+        detachPending ();
+
+        final Integer       slot = slots.get (obj);
+
+        if (slot == null)
+            return (false);
+
+        release (slot);
+        mSize--;
+        return (true);
+    }
+
+    private void                detachPending () {
+        if (pendingSlot != NO_SLOT) {
+            release (pendingSlot);
+            pendingSlot = NO_SLOT;
+        }
+    }
+
+    private void                release (int slot) {
+        slots.remove (leaves [slot], slot);
+        leaves [slot] = null;
+        freeSlots [numFree++] = slot;
+        replay (slot);
+    }
+
+    /**
+     *  Replays all matches on the path from the given slot to the root.
+     */
+    private void                replay (int slot) {
+        // Cache fields
+        final int[]         tree = this.tree;
+
+        int                 node = (slot + capacity) >> 1;
+        int                 sibling = slot ^ 1;
+        int                 winner = precedes (sibling, slot) ? sibling : slot;
+
+        tree [node] = winner;
+
+        while (node > 1) {
+            int             rival = tree [node ^ 1];
+
+            node >>= 1;
+
+            if (precedes (rival, winner))
+                winner = rival;
+
+            tree [node] = winner;
+        }
+    }
+
+    /**
+     *  @return true if source in slot <code>a</code> should be returned before source in slot <code>b</code>.
+     *  Unused slot never precedes.
+     */
+    private boolean             precedes (int a, int b) {
+        final PrioritizedSource<T>  x = leaves [a];
+        if (x == null)
+            return (false);
+
+        final PrioritizedSource<T>  y = leaves [b];
+        if (y == null)
+            return (true);
+
+        int                 val = comparator.compare (x.getMessage (), y.getMessage ());
+        if (val == 0)
+            val = Integer.compare (x.getPriority (), y.getPriority ());
+
+        return (val * direction < 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void                extendCapacity () {
+        final int           oldCapacity = capacity;
+
+        capacity = oldCapacity << 1;
+        leaves = Arrays.copyOf (leaves, capacity);
+        tree = new int [capacity];
+        freeSlots = new int [capacity];
+
+        numFree = 0;
+        for (int slot = capacity - 1; slot >= oldCapacity; slot--)
+            freeSlots [numFree++] = slot;
+
+        rebuild ();
+    }
+
+    private void                rebuild () {
+        for (int node = capacity - 1; node > 0; node--) {
+            int             left = node << 1;
+            int             right = left + 1;
+
+            if (left >= capacity) {
+                left -= capacity;
+                right -= capacity;
+            } else {
+                left = tree [left];
+                right = tree [right];
+            }
+
+            tree [node] = precedes (right, left) ? right : left;
+        }
+    }
+}
@@ -70,6 +70,11 @@ public class PrioritizedMessageSourceMultiplexer<T extends TimeStampedMessage>
 
     static final Log LOGGER = LogFactory.getLog("deltix.tickdb.msm");
 
+    /**
+     *  Use {@link MSTournamentTree} instead of binary heap to order sources.
+     */
+    static final boolean USE_TOURNAMENT_TREE = Boolean.parseBoolean(System.getProperty("TimeBase.multiplexer.tournamentTree", "true"));
+
     //
     //  Immutable properties
     //
@@ -83,7 +88,7 @@ public class PrioritizedMessageSourceMultiplexer<T extends TimeStampedMessage>
     //
     //  Essentially final members, but set to null in close ()
     //
-    protected MSPriorityQueue<T> queue;
+    protected MSQueue<T>                        queue;
     //
     //  Multiplexer state variables, guarded by "this"
     //
@@ -130,7 +135,9 @@ public class PrioritizedMessageSourceMultiplexer<T extends TimeStampedMessage>
     private PrioritizedMessageSourceMultiplexer(int capacity, boolean ascending, boolean realTimeNotification, Comparator<T> c) {
         this.ascending = ascending;
         this.realTimeNotification = realTimeNotification;
-        this.queue = new MSPriorityQueue<>(capacity, ascending, c);
+        this.queue = USE_TOURNAMENT_TREE ?
+            new MSTournamentTree<>(capacity, ascending, c) :
+            new MSPriorityQueue<>(capacity, ascending, c);
     }
 
     public PrioritizedMessageSourceMultiplexer(boolean ascending, boolean realTimeNotification, Comparator<T> c) {
@@ -122,6 +122,8 @@ class FilterGenerator {
         newClassMethod.body ().add (stateClass.newExpr ().returnStmt ());
         
         generateLimitCheck ();
+        generateEntityLimits ();
+        generateFieldLimits ();
         generateFirstOnlyCheck ();
         
         JLocalVariable          typedState =
@@ -315,7 +317,11 @@ class FilterGenerator {
         
         filterBody.add (returnAccept);
         
-        if (aggregate)             
+        if (compFilter.window != null) {
+            generateWindow ();
+            overrideNext ("nextWindowed");
+        }
+        else if (aggregate)             
             overrideNext ("nextAggregated");                        
     }
 
@@ -392,13 +398,91 @@ class FilterGenerator {
             );                    
     }
     
+    private void                generateEntityLimits () {
+        EntityLimits                limits = compFilter.entityLimits;
+
+        if (limits == null)
+            return;
+
+        String []                   symbols = limits.getSymbols ();
+        JExpr []                    literals = new JExpr [symbols.length];
+
+        for (int ii = 0; ii < symbols.length; ii++)
+            literals [ii] = CTXT.stringLiteral (symbols [ii]);
+
+        msic.body ().add (
+            msiClass.callSuperMethod ("setEntityLimits", CTXT.newArrayExpr (String.class, literals))
+        );
+    }
+
+    private void                generateFieldLimits () {
+        FieldLimits                 limits = compFilter.fieldLimits;
+
+        if (limits == null)
+            return;
+
+        String []                   fields = limits.getFields ();
+        double []                   lower = limits.getLowerBounds ();
+        double []                   upper = limits.getUpperBounds ();
+        int                         n = fields.length;
+        JExpr []                    names = new JExpr [n];
+        JExpr []                    lowerLiterals = new JExpr [n];
+        JExpr []                    upperLiterals = new JExpr [n];
+
+        for (int ii = 0; ii < n; ii++) {
+            names [ii] = CTXT.stringLiteral (fields [ii]);
+            lowerLiterals [ii] = boundLiteral (lower [ii]);
+            upperLiterals [ii] = boundLiteral (upper [ii]);
+        }
+
+        msic.body ().add (
+            msiClass.callSuperMethod (
+                "setFieldLimits",
+                CTXT.newArrayExpr (String.class, names),
+                CTXT.newArrayExpr (double.class, lowerLiterals),
+                CTXT.newArrayExpr (double.class, upperLiterals)
+            )
+        );
+    }
+
+    private static JExpr        boundLiteral (double value) {
+        if (value == Double.POSITIVE_INFINITY)
+            return (CTXT.staticVarRef (Double.class, "POSITIVE_INFINITY"));
+
+        if (value == Double.NEGATIVE_INFINITY)
+            return (CTXT.staticVarRef (Double.class, "NEGATIVE_INFINITY"));
+
+        return (CTXT.doubleLiteral (value));
+    }
+
+    /**
+     *  QQLExpressionCompiler produces windows of supported kinds only.
+     */
+    private void                generateWindow () {
+        WindowSpec                  window = compFilter.window;
+
+        switch (window.kind) {
+            case TIME:
+                msic.body ().add (
+                    msiClass.callSuperMethod ("setTimeWindow", CTXT.longLiteral (window.size))
+                );
+                break;
+
+            case COUNT:
+                msic.body ().add (
+                    msiClass.callSuperMethod ("setCountWindow", CTXT.intLiteral ((int) window.size))
+                );
+                break;
+        }
+    }
+
     private void                overrideNext (String delegateTo) {
         JMethod     next = msiClass.addMethod (Modifier.PUBLIC, boolean.class, "next"); 
         
         next.body ().add (msiClass.callSuperMethod (delegateTo).returnStmt ());
     }
 
-    PreparedQuery               finish (JavaCompilerHelper helper, PreparedQuery source) {
+    PreparedQuery               finish (JClassCompiler helper, PreparedQuery source) {
         StringBuilder       buf = new StringBuilder ();
         SourceCodePrinter   p = new SourceCodePrinter (buf);
 
@@ -91,7 +91,7 @@ public class PredicateGenerator {
         );
     }
     
-    public MessagePredicate   finish (JavaCompilerHelper helper) {
+    public MessagePredicate   finish (JClassCompiler helper) {
         StringBuilder       buf = new StringBuilder ();
         SourceCodePrinter   p = new SourceCodePrinter (buf);
 
@@ -21,7 +21,6 @@ import com.epam.deltix.qsrv.hf.tickdb.lang.runtime.BasicStreamSelector;
 import com.epam.deltix.qsrv.hf.tickdb.lang.runtime.msgsrcs.SingleMessagePreparedQuery;
 import com.epam.deltix.qsrv.hf.tickdb.pub.query.PreparedQuery;
 import com.epam.deltix.util.jcg.*;
-import com.epam.deltix.util.lang.JavaCompilerHelper;
 
 /**
  *
@@ -43,7 +42,7 @@ public abstract class QCodeGenerator {
         if (cq instanceof CompiledFilter) {
             CompiledFilter  cf = (CompiledFilter) cq;
             PreparedQuery   source = createQuery (cf.source);
-            JavaCompilerHelper helper = new JavaCompilerHelper (CompiledFilter.class.getClassLoader ());
+            JClassCompiler helper = JClassCompiler.create (CompiledFilter.class.getClassLoader ());
             return (new FilterGenerator ((CompiledFilter) cq).finish (helper, source));
         }
 
@@ -16,39 +16,82 @@
  */
 package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.qcache;
 
+import com.epam.deltix.gflog.api.Log;
+import com.epam.deltix.gflog.api.LogFactory;
 import com.epam.deltix.util.parsers.Element;
 import com.epam.deltix.util.time.TimeKeeper;
 import com.epam.deltix.util.parsers.CompilationException;
 import com.epam.deltix.qsrv.hf.tickdb.lang.pub.*;
 import com.epam.deltix.qsrv.hf.tickdb.pub.*;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.NotificationHandler;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.PropertyMonitor;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.PropertyMonitorHandler;
 import com.epam.deltix.qsrv.hf.tickdb.pub.query.*;
-import com.epam.deltix.util.collections.QuickList;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- *
+ *  Cache of prepared queries. Each key is compiled once, by the first thread
+ *  asking for it; threads asking for other keys are never blocked by a
+ *  compilation in progress. Entries are evicted when idle for longer than
+ *  <code>maxAge</code>, and least recently used entries are evicted when
+ *  there are more than <code>maxCount</code>.
  */
-public class PQCache {
-    private final Map <PQKey, PQEntry>              map =
-        new HashMap <PQKey, PQEntry> ();
-    
-    private final QuickList <PQEntry>               lifo =
-        new QuickList <PQEntry> ();
+public class PQCache implements PropertyMonitorHandler {
+    private static final Log LOG = LogFactory.getLog (PQCache.class);
+
+    public enum Properties {
+        queryCacheSize,
+        queryCacheHits,
+        queryCacheMisses,
+        queryCacheCompileTime,
+        queryCacheEvicted
+    }
+
+    private static final int                        PUBLISH_INTERVAL = 1000;
+
+    private final ConcurrentHashMap <PQKey, PQEntry> map =
+        new ConcurrentHashMap <PQKey, PQEntry> ();
     
-    private int                                     count = 0;
     private final DXTickDB                          db;
-    private int                                     maxCount = 1000;
-    private long                                    maxAge = 3600000;
-    
+    private final int                               maxCount;
+    private final long                              maxAge;
+
+    private final ReentrantLock                     cleanupLock = new ReentrantLock ();
+    private final AtomicLong                        generation = new AtomicLong ();
+
+    private final LongAdder                         hits = new LongAdder ();
+    private final LongAdder                         misses = new LongAdder ();
+    private final LongAdder                         compileTime = new LongAdder ();
+    private final LongAdder                         evicted = new LongAdder ();
+
+    private final NotificationHandler               handler =
+        new NotificationHandler ("QueryCache", Properties.values (), PUBLISH_INTERVAL);
+    private volatile long                           lastPublishTime = 0;
+
     public PQCache (DXTickDB db) {
+        this (
+            db,
+            Integer.getInteger ("TimeBase.queryCache.maxCount", 1000),
+            Long.getLong ("TimeBase.queryCache.maxAge", 3600000)
+        );
+    }
+
+    public PQCache (DXTickDB db, int maxCount, long maxAge) {
         this.db = db;
+        this.maxCount = maxCount;
+        this.maxAge = maxAge;
     }
         
     private boolean                     shouldCache (Element qql) {
         return (qql instanceof SelectExpression);
     }
     
-    public synchronized PreparedQuery   prepareQuery (
+    public PreparedQuery                prepareQuery (
         Element                             qql, 
         ParamSignature []                   paramSignature
     )
@@ -61,53 +104,171 @@ public class PQCache {
         PQEntry         e = map.get (key);
         
         if (e == null) {
-            PreparedQuery   pq = CompilerUtil.prepareQuery (db, qql, paramSignature);
-                        
-            e = new PQEntry (key, pq);
-            count++;
-            lifo.linkLast (e);
-            map.put (key, e);
-            
-            syncCleanup ();            
+            PQEntry     ne = new PQEntry (key, generation.get ());
+
+            e = map.putIfAbsent (key, ne);
+
+            if (e == null)
+                return (compile (ne));
         }
-        else {
-            e.unlink ();
-            lifo.linkLast (e);
-            e.timestamp = TimeKeeper.currentTime;
+
+        PreparedQuery   pq;
+
+        try {
+            pq = e.get ();
+        } catch (RuntimeException | Error x) {
+            //  The compilation we waited for has failed
+            misses.increment ();
+            throw x;
         }
-        
-        return (e.query);
+
+        hits.increment ();
+        e.timestamp = TimeKeeper.currentTime;
+        publish ();
+
+        return (pq);
+    }
+
+    private PreparedQuery               compile (PQEntry e) {
+        misses.increment ();
+
+        long            start = System.nanoTime ();
+        PreparedQuery   pq;
+
+        try {
+            pq = CompilerUtil.prepareQuery (db, e.key.select, e.key.paramSignature);
+        } catch (RuntimeException | Error x) {
+            //  Do not cache failures; waiting threads get the same exception
+            map.remove (e.key, e);
+            e.query.completeExceptionally (x);
+            throw x;
+        } finally {
+            compileTime.add (System.nanoTime () - start);
+        }
+
+        e.timestamp = TimeKeeper.currentTime;
+        e.query.complete (pq);
+
+        //  Compiled against metadata that has been invalidated meanwhile
+        if (e.generation != generation.get ())
+            map.remove (e.key, e);
+
+        cleanup ();
+        publish ();
+
+        return (pq);
+    }
+
+    /**
+     *  Compiles the specified queries ahead of time, so that first
+     *  executions do not pay for compilation.
+     *
+     *  @return number of queries successfully prepared.
+     */
+    public int                          warmUp (Collection <String> queries) {
+        int             count = 0;
+
+        for (String qql : queries) {
+            try {
+                prepareQuery (CompilerUtil.parse (qql), null);
+                count++;
+            } catch (RuntimeException x) {
+                LOG.warn ("Failed to prepare query %s: %s").with (qql).with (x);
+            }
+        }
+
+        return (count);
     }
     
-    private void                        syncCleanup () {
-        while (count > maxCount) 
-            remove (lifo.getFirst ());        
-        
-        long            minTimestamp = TimeKeeper.currentTime - maxAge;
-        
-        for (;;) {
-            PQEntry     e = lifo.getFirst ();
-            
-            if (e == null || e.timestamp >= minTimestamp)
-                break;
-            
-            remove (e);
+    private void                        cleanup () {
+        //  One thread cleans up at a time, others simply go on
+        if (!cleanupLock.tryLock ())
+            return;
+
+        try {
+            long            minTimestamp = TimeKeeper.currentTime - maxAge;
+
+            for (PQEntry e : map.values ())
+                if (e.isDone () && e.timestamp < minTimestamp)
+                    remove (e);
+
+            int             excess = map.size () - maxCount;
+
+            if (excess <= 0)
+                return;
+
+            ArrayList <PQEntry> lru = new ArrayList <PQEntry> ();
+
+            for (PQEntry e : map.values ())
+                if (e.isDone ())
+                    lru.add (e);
+
+            lru.sort (Comparator.comparingLong (e -> e.timestamp));
+
+            for (int ii = 0; ii < excess && ii < lru.size (); ii++)
+                remove (lru.get (ii));
+        } finally {
+            cleanupLock.unlock ();
         }
     }
 
     private void                        remove (PQEntry e) {
-        e.unlink ();
-        
-        PQEntry     check = map.remove (e.key);
-        
-        assert check == e;
-        
-        count--;
+        if (map.remove (e.key, e))
+            evicted.increment ();
     }
     
-    public synchronized void            clear () {
-        count = 0;
-        lifo.clear ();
+    public void                         clear () {
+        generation.incrementAndGet ();
         map.clear ();
     }
+
+    public int                          size () {
+        return (map.size ());
+    }
+
+    public long                         getHits () {
+        return (hits.sum ());
+    }
+
+    public long                         getMisses () {
+        return (misses.sum ());
+    }
+
+    /**
+     *  @return total time spent compiling queries, in milliseconds.
+     */
+    public long                         getCompileTime () {
+        return (TimeUnit.NANOSECONDS.toMillis (compileTime.sum ()));
+    }
+
+    public long                         getEvicted () {
+        return (evicted.sum ());
+    }
+
+    private void                        publish () {
+        long            now = TimeKeeper.currentTime;
+
+        if (!handler.hasListeners () || now - lastPublishTime < PUBLISH_INTERVAL)
+            return;
+
+        lastPublishTime = now;
+
+        handler.propertyChanged (Properties.queryCacheSize, size ());
+        handler.propertyChanged (Properties.queryCacheHits, getHits ());
+        handler.propertyChanged (Properties.queryCacheMisses, getMisses ());
+        handler.propertyChanged (Properties.queryCacheCompileTime, getCompileTime ());
+        handler.propertyChanged (Properties.queryCacheEvicted, getEvicted ());
+    }
+
+    @Override
+    public void                         addPropertyMonitor (PropertyMonitor listener) {
+        handler.addPropertyMonitor (listener);
+        lastPublishTime = 0;
+        publish ();
+    }
+
+    @Override
+    public void                         removePropertyMonitor (PropertyMonitor listener) {
+        handler.removePropertyMonitor (listener);
+    }
 }
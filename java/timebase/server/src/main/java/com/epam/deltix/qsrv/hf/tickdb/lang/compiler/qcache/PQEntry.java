@@ -17,20 +17,55 @@
 package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.qcache;
 
 import com.epam.deltix.qsrv.hf.tickdb.pub.query.PreparedQuery;
-import com.epam.deltix.util.collections.QuickList;
 import com.epam.deltix.util.time.TimeKeeper;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 /**
- *
+ *  Cache entry. The query is compiled by the thread that created the entry;
+ *  other threads asking for the same key wait for the result.
  */
-class PQEntry extends QuickList.Entry <PQEntry> {
-    final PQKey                         key;
-    final PreparedQuery                 query;
-    long                                timestamp;
+class PQEntry {
+    final PQKey                                 key;
+    final long                                  generation;
+    final CompletableFuture <PreparedQuery>     query =
+        new CompletableFuture <PreparedQuery> ();
+    volatile long                               timestamp;
     
-    PQEntry (PQKey key, PreparedQuery query) {
+    PQEntry (PQKey key, long generation) {
         this.key = key;
-        this.query = query;
+        this.generation = generation;
         this.timestamp = TimeKeeper.currentTime;
-    }        
+    }
+
+    boolean                             isDone () {
+        return (query.isDone () && !query.isCompletedExceptionally ());
+    }
+
+    PreparedQuery                       get () {
+        boolean         interrupted = false;
+
+        try {
+            for (;;) {
+                try {
+                    return (query.get ());
+                } catch (InterruptedException x) {
+                    interrupted = true;
+                } catch (ExecutionException x) {
+                    Throwable   cause = x.getCause ();
+
+                    if (cause instanceof RuntimeException)
+                        throw (RuntimeException) cause;
+
+                    if (cause instanceof Error)
+                        throw (Error) cause;
+
+                    throw new RuntimeException (cause);
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread ().interrupt ();
+        }
+    }
 }
@@ -21,7 +21,7 @@ import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.cg.*;
 import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sx.CompiledExpression;
 import com.epam.deltix.qsrv.hf.tickdb.lang.pub.*;
 import com.epam.deltix.qsrv.hf.tickdb.lang.runtime.*;
-import com.epam.deltix.util.lang.*;
+import com.epam.deltix.util.jcg.JClassCompiler;
 
 /**
  *
@@ -45,8 +45,8 @@ public class PredicateCompiler {
         
         PredicateGenerator      pg = new PredicateGenerator (inputTypes, ce);
         
-        JavaCompilerHelper      helper = 
-            new JavaCompilerHelper (MessagePredicate.class.getClassLoader ());
+        JClassCompiler          helper =
+            JClassCompiler.create (MessagePredicate.class.getClassLoader ());
         
         return (pg.finish (helper));        
     }
@@ -956,6 +956,8 @@ public class QQLExpressionCompiler {
             CompiledExpression          cond = null;
             TupleConstructor            compiledSelector = null;
             TimestampLimits             tslimits = null;
+            EntityLimits                entityLimits = null;
+            FieldLimits                 fieldLimits = null;
             
             try {
                 setUpQueryEnv (q);
@@ -968,6 +970,16 @@ public class QQLExpressionCompiler {
                     
                     tslimits = 
                         QQLPostProcessingPatterns.extractTimestampLimits (flatCond);
+
+                    //  Symbols of a stream selector are the symbols of subscription,
+                    //  so symbol tests can be turned into subscription limits
+                    if (q instanceof StreamSelector) {
+                        entityLimits =
+                            QQLPostProcessingPatterns.extractEntityLimits (flatCond);
+
+                        fieldLimits =
+                            QQLPostProcessingPatterns.extractFieldLimits (flatCond);
+                    }
                     
                     cond = QQLPostProcessingPatterns.reconstructConjunction (flatCond);
                 }
@@ -1008,13 +1020,45 @@ public class QQLExpressionCompiler {
                     aggregate, 
                     QQLPreProcessingPatterns.processGroupBy (e.groupBy), 
                     compiledSelector,
-                    tslimits
+                    tslimits,
+                    entityLimits,
+                    fieldLimits,
+                    compileWindow (e.over, aggregate)
                 );
         }
+        else if (e.over != null)
+            throw new IllegalWindowException (e.over, "aggregate query expected");
         
         return (q);
     }
 
+    private static WindowSpec       compileWindow (OverClause over, boolean aggregate) {
+        if (over == null)
+            return (null);
+
+        if (!aggregate)
+            throw new IllegalWindowException (over, "aggregate query expected");
+
+        long                size = over.getSize ();
+
+        if (size <= 0)
+            throw new IllegalWindowException (over, "window size must be positive");
+
+        switch (over.kind) {
+            case TIME:
+                return (new WindowSpec (WindowSpec.Kind.TIME, size));
+
+            case COUNT:
+                if (size > Integer.MAX_VALUE)
+                    throw new IllegalWindowException (over, "window size is too large");
+
+                return (new WindowSpec (WindowSpec.Kind.COUNT, size));
+
+            default:
+                throw new IllegalWindowException (over, "unsupported window kind");
+        }
+    }
+
     private CompiledExpression      compileIdentifier (Identifier id) {
         final String    text = id.id;
         
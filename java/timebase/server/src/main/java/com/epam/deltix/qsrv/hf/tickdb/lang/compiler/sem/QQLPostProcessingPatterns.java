@@ -17,6 +17,12 @@
 package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sem;
 
 import java.util.*;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMap;
+import com.epam.deltix.qsrv.hf.pub.md.DataType;
+import com.epam.deltix.qsrv.hf.pub.md.EnumDataType;
+import com.epam.deltix.qsrv.hf.pub.md.FloatDataType;
+import com.epam.deltix.qsrv.hf.pub.md.IntegerDataType;
+import com.epam.deltix.qsrv.hf.pub.md.VarcharDataType;
 import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sx.*;
 
 /**
@@ -139,4 +145,193 @@ abstract class QQLPostProcessingPatterns {
         
         return (range);
     }
+
+    private static boolean      isSymbolConstant (CompiledExpression e) {
+        return (
+            e instanceof CompiledConstant &&
+            !((CompiledConstant) e).isNull () &&
+            e.type instanceof VarcharDataType
+        );
+    }
+
+    /**
+     *  Returns symbols listed by <code>symbol == 'X'</code> or
+     *  <code>symbol in ('X', 'Y')</code>, or null, if expression is not
+     *  one of these forms.
+     */
+    private static List <String>    getSymbolSet (CompiledExpression e) {
+        if (isSimpleFunction (e, SimpleFunctionCode.VARCHAR_EQ)) {
+            SimpleFunction          sf = (SimpleFunction) e;
+            CompiledExpression      left = sf.args [0];
+            CompiledExpression      right = sf.args [1];
+
+            if (left instanceof SymbolSelector && isSymbolConstant (right))
+                return (Collections.singletonList (((CompiledConstant) right).getString ()));
+
+            if (right instanceof SymbolSelector && isSymbolConstant (left))
+                return (Collections.singletonList (((CompiledConstant) left).getString ()));
+        }
+        else if (e instanceof ConnectiveExpression) {
+            ConnectiveExpression    ce = (ConnectiveExpression) e;
+            CompiledExpression []   args = ce.args;
+
+            // symbol in (...) is compiled as disjunction with tested argument first
+            if (ce.isConjunction () || !(args [0] instanceof SymbolSelector))
+                return (null);
+
+            List <String>           symbols = new ArrayList <String> (args.length - 1);
+
+            for (int ii = 1; ii < args.length; ii++) {
+                if (!isSymbolConstant (args [ii]))
+                    return (null);
+
+                symbols.add (((CompiledConstant) args [ii]).getString ());
+            }
+
+            return (symbols);
+        }
+
+        return (null);
+    }
+
+    /**
+     *  Removes constant symbol tests from the flattened conjunction and returns
+     *  them as entity limits, which are applied to cursor subscription instead.
+     *  Should only be used when filter source is a stream, so that subscription
+     *  is made on the same symbols the condition tests.
+     */
+    public static EntityLimits  extractEntityLimits (
+        List <CompiledExpression>       condition
+    )
+    {
+        EntityLimits        limits = null;
+
+        for (int ii = 0; ii < condition.size (); ) {
+            List <String>   symbols = getSymbolSet (condition.get (ii));
+
+            if (symbols != null) {
+                if (limits == null)
+                    limits = new EntityLimits ();
+
+                limits.update (symbols);
+                condition.remove (ii);
+            }
+            else
+                ii++;
+        }
+
+        return (limits);
+    }
+
+    private static boolean      isRangeField (CompiledExpression e) {
+        if (!(e instanceof FieldSelector))
+            return (false);
+
+        DataType            type = ((FieldSelector) e).fieldRef.field.getType ();
+
+        return (
+            type instanceof IntegerDataType ||
+            type instanceof EnumDataType ||
+            type instanceof FloatDataType && !((FloatDataType) type).isDecimal64 ()
+        );
+    }
+
+    private static boolean      isNumericConstant (CompiledExpression e) {
+        return (
+            e instanceof CompiledConstant &&
+            ((CompiledConstant) e).value instanceof Number
+        );
+    }
+
+    /**
+     *  Returns value ranges of numeric fields compared with constants,
+     *  such as <code>price > 10</code>. Unlike entity limits, conditions
+     *  are kept in the filter: ranges are only used to skip stored blocks
+     *  that cannot contain matching messages.
+     */
+    public static FieldLimits   extractFieldLimits (
+        List <CompiledExpression>       condition
+    )
+    {
+        FieldLimits         limits = null;
+
+        for (CompiledExpression e : condition) {
+            if (!(e instanceof SimpleFunction))
+                continue;
+
+            SimpleFunction      sf = (SimpleFunction) e;
+            boolean             isFloat;
+            boolean             less;
+            boolean             greater;
+
+            switch (sf.code) {
+                case INTEGER_LT:
+                case INTEGER_LE:    isFloat = false;    less = true;    greater = false;    break;
+                case INTEGER_GE:
+                case INTEGER_GT:    isFloat = false;    less = false;   greater = true;     break;
+                case INTEGER_EQ:    isFloat = false;    less = false;   greater = false;    break;
+                case FLOAT_LT:
+                case FLOAT_LE:      isFloat = true;     less = true;    greater = false;    break;
+                case FLOAT_GE:
+                case FLOAT_GT:      isFloat = true;     less = false;   greater = true;     break;
+                case FLOAT_EQ:      isFloat = true;     less = false;   greater = false;    break;
+                default:            continue;
+            }
+
+            CompiledExpression  left = sf.args [0];
+            CompiledExpression  right = sf.args [1];
+            FieldSelector       field;
+            CompiledConstant    value;
+
+            if (isRangeField (left) && isNumericConstant (right)) {
+                field = (FieldSelector) left;
+                value = (CompiledConstant) right;
+            }
+            else if (isRangeField (right) && isNumericConstant (left)) {
+                field = (FieldSelector) right;
+                value = (CompiledConstant) left;
+
+                boolean     tmp = less;
+                less = greater;
+                greater = tmp;
+            }
+            else
+                continue;
+
+            double              lower;
+            double              upper;
+
+            if (isFloat) {
+                double      v = value.getDouble ();
+
+                if (Double.isNaN (v))
+                    continue;
+
+                //  Float fields may be compared in single precision
+                double      ulp = Double.isInfinite (v) ? 0 : Math.ulp ((float) v);
+
+                lower = v - ulp;
+                upper = v + ulp;
+            }
+            else {
+                long        v = value.getLong ();
+
+                lower = ZoneMap.lowerBound (v);
+                upper = ZoneMap.upperBound (v);
+            }
+
+            if (less)
+                lower = Double.NEGATIVE_INFINITY;
+
+            if (greater)
+                upper = Double.POSITIVE_INFINITY;
+
+            if (limits == null)
+                limits = new FieldLimits ();
+
+            limits.update (field.fieldRef.field.getName (), lower, upper);
+        }
+
+        return (limits);
+    }
 }
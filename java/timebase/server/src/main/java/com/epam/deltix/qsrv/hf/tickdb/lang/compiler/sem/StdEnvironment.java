@@ -73,8 +73,28 @@ public class StdEnvironment extends EnvironmentFrame {
         
         registerFunction (Count.class);      
         
+        registerFunction (SumInteger.class);
+        registerFunction (SumFloat.class);
+        
+        registerFunction (AvgInteger.class);
+        registerFunction (AvgFloat.class);
+        
+        registerFunction (VarianceInteger.class);
+        registerFunction (VarianceFloat.class);
+        
+        registerFunction (StdevInteger.class);
+        registerFunction (StdevFloat.class);
+        
+        registerFunction (VwapInteger.class);
+        registerFunction (VwapIntegerFloat.class);
+        registerFunction (VwapFloat.class);
+        registerFunction (VwapFloatInteger.class);
+        
+        //  FIRST (this) is recognized syntactically, see QQLPreProcessingPatterns
+        registerFunction (FirstInteger.class);
+        registerFunction (FirstFloat.class);
+        
         bindPseudoFunction (QQLCompiler.KEYWORD_LAST);
-        bindPseudoFunction (QQLCompiler.KEYWORD_FIRST);
         bindPseudoFunction (QQLCompiler.KEYWORD_REVERSE);
         bindPseudoFunction (QQLCompiler.KEYWORD_LIVE);
         bindPseudoFunction (QQLCompiler.KEYWORD_HYBRID);        
@@ -36,6 +36,9 @@ public class CompiledFilter extends CompiledQuery {
     public final GroupBySpec                    groupBy;
     public final TupleConstructor               selector;
     public final TimestampLimits                tslimits;
+    public final EntityLimits                   entityLimits;
+    public final FieldLimits                    fieldLimits;
+    public final WindowSpec                     window;
 
     public CompiledFilter (
         CompiledQuery                   source,
@@ -44,7 +47,10 @@ public class CompiledFilter extends CompiledQuery {
         boolean                         aggregate,
         GroupBySpec                     groupBy,
         TupleConstructor                selector,
-        TimestampLimits                 tslimits
+        TimestampLimits                 tslimits,
+        EntityLimits                    entityLimits,
+        FieldLimits                     fieldLimits,
+        WindowSpec                      window
     )
     {
         super (
@@ -60,6 +66,9 @@ public class CompiledFilter extends CompiledQuery {
         this.groupBy = groupBy;
         this.selector = selector;
         this.tslimits = tslimits;
+        this.entityLimits = entityLimits;
+        this.fieldLimits = fieldLimits;
+        this.window = window;
     }
 
     @Override
@@ -107,5 +116,10 @@ public class CompiledFilter extends CompiledQuery {
             out.append (" ");
             out.append (groupBy);
         }
+
+        if (window != null) {
+            out.append (" ");
+            out.append (window);
+        }
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sx;
+
+import java.util.*;
+
+/**
+ *  Set of symbols a filter can possibly accept, extracted from conditions
+ *  like <code>symbol == 'X'</code> or <code>symbol in ('X', 'Y')</code>.
+ *  Several conditions are combined by intersection.
+ */
+public class EntityLimits {
+    private Set <String>        symbols = null;
+
+    public void                 update (Collection <String> allowed) {
+        if (symbols == null)
+            symbols = new TreeSet <String> (allowed);
+        else
+            symbols.retainAll (allowed);
+    }
+
+    /**
+     *  @return sorted array of symbols; empty array means that filter cannot accept any message.
+     */
+    public String []            getSymbols () {
+        return (symbols == null ? new String [0] : symbols.toArray (new String [symbols.size ()]));
+    }
+
+    @Override
+    public String               toString () {
+        return ("symbol in " + symbols);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sx;
+
+import java.util.*;
+
+/**
+ *  Inclusive value ranges of numeric fields a filter can possibly accept,
+ *  extracted from conditions like <code>price > 10</code>. Several conditions
+ *  on the same field are combined by intersection. Ranges are conservative:
+ *  they may include values the filter rejects, but never exclude accepted ones.
+ */
+public class FieldLimits {
+    private final Map <String, double []>   ranges = new TreeMap <String, double []> ();
+
+    public void                 update (String field, double lower, double upper) {
+        double []       range = ranges.get (field);
+
+        if (range == null)
+            ranges.put (field, new double [] { lower, upper });
+        else {
+            range [0] = Math.max (range [0], lower);
+            range [1] = Math.min (range [1], upper);
+        }
+    }
+
+    /**
+     *  @return sorted array of field names.
+     */
+    public String []            getFields () {
+        return (ranges.keySet ().toArray (new String [ranges.size ()]));
+    }
+
+    /**
+     *  @return lower bounds, in order of {@link #getFields()}.
+     */
+    public double []            getLowerBounds () {
+        return (getBounds (0));
+    }
+
+    /**
+     *  @return upper bounds, in order of {@link #getFields()}.
+     */
+    public double []            getUpperBounds () {
+        return (getBounds (1));
+    }
+
+    private double []           getBounds (int idx) {
+        double []       out = new double [ranges.size ()];
+        int             ii = 0;
+
+        for (double [] range : ranges.values ())
+            out [ii++] = range [idx];
+
+        return (out);
+    }
+
+    @Override
+    public String               toString () {
+        StringBuilder   sb = new StringBuilder ();
+
+        for (Map.Entry <String, double []> e : ranges.entrySet ()) {
+            if (sb.length () > 0)
+                sb.append (" and ");
+
+            sb.append (e.getKey ()).append (" in [").append (e.getValue () [0])
+                .append (", ").append (e.getValue () [1]).append ("]");
+        }
+
+        return (sb.toString ());
+    }
+}
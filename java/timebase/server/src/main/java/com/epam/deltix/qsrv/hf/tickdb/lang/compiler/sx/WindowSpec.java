@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sx;
+
+/**
+ *  Window of an aggregate query: aggregation state is reset and
+ *  results are emitted every time the window closes.
+ */
+public final class WindowSpec {
+    public enum Kind {
+        /**
+         *  Tumbling time window, aligned on multiples of size (in milliseconds).
+         */
+        TIME,
+        /**
+         *  Every size messages accepted per group.
+         */
+        COUNT
+    }
+
+    public final Kind           kind;
+    public final long           size;
+
+    public WindowSpec (Kind kind, long size) {
+        this.kind = kind;
+        this.size = size;
+    }
+
+    @Override
+    public String               toString () {
+        return ("over " + kind.name ().toLowerCase () + " (" + size + ")");
+    }
+}
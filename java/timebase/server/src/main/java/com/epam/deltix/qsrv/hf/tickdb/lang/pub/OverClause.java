@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.pub;
+
+import com.epam.deltix.util.parsers.Element;
+
+/**
+ *  Windowing clause of a select expression:
+ *  <code>OVER TIME (interval)</code> or <code>OVER COUNT (n)</code>.
+ */
+public final class OverClause extends Element {
+    public enum Kind {
+        TIME,
+        COUNT
+    }
+
+    public final Kind                   kind;
+    public final Constant               size;
+
+    public OverClause (long location, Kind kind, Constant size) {
+        super (location);
+        this.kind = kind;
+        this.size = size;
+    }
+
+    /**
+     *  @return window size: milliseconds for TIME windows, number of messages for COUNT windows.
+     */
+    public long                         getSize () {
+        if (size instanceof TimeConstant)
+            return (((TimeConstant) size).nanoseconds / 1000000);
+
+        return (((IntegerConstant) size).value);
+    }
+
+    @Override
+    public void                         print (StringBuilder s) {
+        s.append ("OVER ");
+        s.append (kind.name ());
+        s.append (" (");
+        size.print (s);
+        s.append (")");
+    }
+
+    @Override
+    @SuppressWarnings ("EqualsWhichDoesntCheckParameterClass")
+    public boolean                  equals (Object obj) {
+        return (
+            super.equals (obj) &&
+            kind == ((OverClause) obj).kind &&
+            size.equals (((OverClause) obj).size)
+        );
+    }
+
+    @Override
+    public int                      hashCode () {
+        return ((super.hashCode () * 41 + kind.hashCode ()) * 31 + size.hashCode ());
+    }
+}
@@ -17,6 +17,7 @@
 package com.epam.deltix.qsrv.hf.tickdb.lang.pub;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  *
@@ -27,6 +28,7 @@ public final class SelectExpression extends ComplexExpression {
     
     private final int                   mode;
     public final FieldIdentifier []     groupBy;
+    public final OverClause             over;
     
     private static Expression []    cat (Expression source, Expression filter, Expression ... selectors) {
         int             n = selectors == null ? 0 : selectors.length;
@@ -49,10 +51,24 @@ public final class SelectExpression extends ComplexExpression {
         FieldIdentifier []      groupBy,
         Expression ...          selectors
     )
+    {
+        this (location, source, filter, mode, groupBy, null, selectors);
+    }
+
+    public SelectExpression (
+        long                    location,
+        Expression              source,
+        Expression              filter,
+        int                     mode,
+        FieldIdentifier []      groupBy,
+        OverClause              over,
+        Expression ...          selectors
+    )
     {
         super (location, cat (source, filter, selectors));
         this.mode = mode;
         this.groupBy = groupBy;
+        this.over = over;
     }
 
     public SelectExpression (
@@ -125,6 +141,11 @@ public final class SelectExpression extends ComplexExpression {
                 groupBy [ii].print (s);
             } 
         }
+
+        if (over != null) {
+            s.append (" ");
+            over.print (s);
+        }
     }
     
     @Override
@@ -133,12 +154,13 @@ public final class SelectExpression extends ComplexExpression {
         return (
             super.equals (obj) &&
             mode == ((SelectExpression) obj).mode &&
-            Arrays.equals (groupBy, ((SelectExpression) obj).groupBy)
+            Arrays.equals (groupBy, ((SelectExpression) obj).groupBy) &&
+            Objects.equals (over, ((SelectExpression) obj).over)
         );
     }
 
     @Override
     public int                      hashCode () {
-        return ((super.hashCode () * 41 + mode) * 31 + Arrays.hashCode (groupBy));
+        return (((super.hashCode () * 41 + mode) * 31 + Arrays.hashCode (groupBy)) * 31 + Objects.hashCode (over));
     }
 }
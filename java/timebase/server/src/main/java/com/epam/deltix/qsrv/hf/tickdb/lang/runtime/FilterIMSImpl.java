@@ -16,13 +16,20 @@
  */
 package com.epam.deltix.qsrv.hf.tickdb.lang.runtime;
 
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilter;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapFilterable;
 import com.epam.deltix.qsrv.hf.blocks.InstrumentIndex;
 import com.epam.deltix.qsrv.hf.pub.*;
 import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
 import com.epam.deltix.qsrv.hf.tickdb.pub.query.*;
+import com.epam.deltix.timebase.messages.IdentityKey;
 import com.epam.deltix.util.collections.IndexedArrayList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  *
@@ -50,6 +57,16 @@ public abstract class FilterIMSImpl
 
     protected RawMessage                        outMsg;
     private Enumeration <FilterState>           aggregateEnum = null;
+
+    private String []                           entityLimits = null;
+    private Set <String>                        entityLimitsSet = null;
+
+    private long                                timeWindow = 0;
+    private int                                 countWindow = 0;
+    private long                                windowStart = Long.MIN_VALUE;
+    private boolean                             windowsDone = false;
+    private final ArrayDeque <FilterState>      closedStates =
+        new ArrayDeque <FilterState> ();
     
     protected FilterIMSImpl (
         InstrumentMessageSource             source,
@@ -68,6 +85,142 @@ public abstract class FilterIMSImpl
         Arrays.fill (inputTypeIndexMap, -1);
     }
 
+    /**
+     *  Restricts subscription of the source cursor to the given symbols,
+     *  extracted from the filter condition at compile time.
+     */
+    protected final void                    setEntityLimits (String ... symbols) {
+        entityLimits = symbols;
+        entityLimitsSet = new HashSet <String> (Arrays.asList (symbols));
+    }
+
+    /**
+     *  Passes value ranges of numeric fields, extracted from the filter condition
+     *  at compile time, to the source cursor, so that it can skip stored blocks
+     *  whose statistics do not intersect them. Condition is still evaluated.
+     */
+    protected final void                    setFieldLimits (
+        String []                               fields,
+        double []                               lower,
+        double []                               upper
+    )
+    {
+        if (source instanceof ZoneMapFilterable)
+            ((ZoneMapFilterable) source).setZoneMapFilter (new ZoneMapFilter (fields, lower, upper));
+    }
+
+    /**
+     *  Makes aggregation restart every <code>size</code> milliseconds,
+     *  with windows aligned on multiples of size.
+     */
+    protected final void                    setTimeWindow (long size) {
+        timeWindow = size;
+    }
+
+    /**
+     *  Makes aggregation restart after every <code>size</code> accepted
+     *  messages of a group.
+     */
+    protected final void                    setCountWindow (int size) {
+        countWindow = size;
+    }
+
+    private boolean                         isAllowed (CharSequence symbol) {
+        return (entityLimitsSet == null || entityLimitsSet.contains (symbol.toString ()));
+    }
+
+    private IdentityKey []                  limit (IdentityKey [] ids, int offset, int length) {
+        ArrayList <IdentityKey>     out = new ArrayList <IdentityKey> (length);
+
+        for (int ii = offset; ii < offset + length; ii++)
+            if (isAllowed (ids [ii].getSymbol ()))
+                out.add (ids [ii]);
+
+        return (out.toArray (new IdentityKey [out.size ()]));
+    }
+
+    private CharSequence []                 limit (CharSequence [] symbols, int offset, int length) {
+        ArrayList <CharSequence>    out = new ArrayList <CharSequence> (length);
+
+        for (int ii = offset; ii < offset + length; ii++)
+            if (isAllowed (symbols [ii]))
+                out.add (symbols [ii]);
+
+        return (out.toArray (new CharSequence [out.size ()]));
+    }
+
+    @Override
+    public void                             subscribeToAllEntities () {
+        if (entityLimits == null) {
+            source.subscribeToAllEntities ();
+        } else {
+            source.clearAllEntities ();
+            source.addSymbols (entityLimits, 0, entityLimits.length);
+        }
+    }
+
+    @Override
+    public void                             subscribeToAllSymbols () {
+        subscribeToAllEntities ();
+    }
+
+    @Override
+    public void                             addEntity (IdentityKey id) {
+        if (isAllowed (id.getSymbol ()))
+            source.addEntity (id);
+    }
+
+    @Override
+    public void                             addEntities (IdentityKey [] ids, int offset, int length) {
+        if (entityLimits == null) {
+            source.addEntities (ids, offset, length);
+        } else {
+            IdentityKey []  allowed = limit (ids, offset, length);
+
+            if (allowed.length > 0)
+                source.addEntities (allowed, 0, allowed.length);
+        }
+    }
+
+    @Override
+    public void                             add (IdentityKey [] ids, String [] types) {
+        if (entityLimits == null || ids == null)
+            source.add (ids, types);
+        else
+            source.add (limit (ids, 0, ids.length), types);
+    }
+
+    @Override
+    public void                             addSymbol (CharSequence symbol) {
+        if (isAllowed (symbol))
+            source.addSymbol (symbol);
+    }
+
+    @Override
+    public void                             addSymbols (CharSequence [] symbols, int offset, int length) {
+        if (entityLimits == null) {
+            source.addSymbols (symbols, offset, length);
+        } else {
+            CharSequence [] allowed = limit (symbols, offset, length);
+
+            if (allowed.length > 0)
+                source.addSymbols (allowed, 0, allowed.length);
+        }
+    }
+
+    @Override
+    public void                             addSymbols (CharSequence [] symbols) {
+        addSymbols (symbols, 0, symbols.length);
+    }
+
+    @Override
+    public void                             add (CharSequence [] symbols, String [] types) {
+        if (entityLimits == null || symbols == null)
+            source.add (symbols, types);
+        else
+            source.add (limit (symbols, 0, symbols.length), types);
+    }
+
     protected abstract FilterState          newState ();
 
     protected abstract FilterState          getState (RawMessage msg);
@@ -141,6 +294,17 @@ public abstract class FilterIMSImpl
     }
 
     protected abstract Enumeration <FilterState>  getStates ();
+
+    /**
+     *  Forgets all states, so that new ones are created for subsequent
+     *  messages. Detached states must stay intact until they are emitted.
+     */
+    protected abstract void             detachStates ();
+
+    /**
+     *  Forgets the state returned by the last call to {@link #getState}.
+     */
+    protected abstract void             detachCurrentState ();
    
     /**
      *  Aggregate queries override next() to call this method.
@@ -159,13 +323,94 @@ public abstract class FilterIMSImpl
 
             FilterState     state = aggregateEnum.nextElement ();
             
-            if (state.accepted) {                
+            if (state != null && state.accepted) {                
                 outMsg = state.getLastMessage ();
                 return (true);
             }
         }
     }
     
+    /**
+     *  Windowed aggregate queries override next() to call this method.
+     *  Results of a window are returned as soon as the window closes,
+     *  instead of after the source is exhausted. Every result is stamped
+     *  with the start of its window: the aligned window boundary for
+     *  TIME windows, or the first accepted message of the group for
+     *  COUNT windows.
+     */
+    protected boolean                   nextWindowed () {
+        for (;;) {
+            FilterState     closed = closedStates.pollFirst ();
+
+            if (closed != null) {
+                outMsg = closed.getLastMessage ();
+                outMsg.setTimeStampMs (Math.floorDiv (closed.windowStart, 1000000L));
+                outMsg.setNanoTime (closed.windowStart);
+                return (true);
+            }
+
+            if (windowsDone)
+                return (false);
+
+            if (!source.next ()) {
+                atEnd = true;
+                closeAllWindows ();
+                windowsDone = true;
+                continue;
+            }
+
+            final RawMessage    inMsg = (RawMessage) source.getMessage ();
+
+            if (timeWindow > 0) {
+                long            start =
+                    Math.floorDiv (inMsg.getTimeStampMs (), timeWindow) * timeWindow;
+
+                if (start != windowStart) {
+                    closeAllWindows ();
+                    windowStart = start;
+                }
+            }
+
+            final FilterState   state = getState (inMsg);
+            final int           status = accept (inMsg, state);
+
+            switch (status) {
+                case ACCEPT:
+                    if (!state.accepted) {
+                        state.accepted = true;
+                        state.windowStart =
+                            timeWindow > 0 ?
+                                windowStart * 1000000L :
+                                inMsg.getNanoTime ();
+                    }
+
+                    if (countWindow > 0 && ++state.count >= countWindow) {
+                        closedStates.addLast (state);
+                        detachCurrentState ();
+                    }
+                    break;
+
+                case ABORT:
+                    closeAllWindows ();
+                    windowsDone = true;
+                    break;
+            }
+        }
+    }
+
+    private void                        closeAllWindows () {
+        Enumeration <FilterState>   e = getStates ();
+
+        while (e.hasMoreElements ()) {
+            FilterState     state = e.nextElement ();
+
+            if (state != null && state.accepted)
+                closedStates.addLast (state);
+        }
+
+        detachStates ();
+    }
+
     @Override
     public boolean                      next () {
         for (;;) {
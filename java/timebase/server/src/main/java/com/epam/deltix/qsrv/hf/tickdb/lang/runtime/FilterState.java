@@ -23,6 +23,8 @@ import com.epam.deltix.qsrv.hf.pub.RawMessage;
  */
 public abstract class FilterState {
     boolean                 accepted = false;
+    int                     count = 0;
+    long                    windowStart;
     
     public boolean          isAccepted () {
         return (accepted);
@@ -52,5 +52,13 @@ public abstract class FlatFilterIMS extends FilterIMSImpl {
                 new EmptyEnumeration <FilterState> () : 
                 new ArrayEnumeration <FilterState> (state)
         );
-    }        
+    }
+
+    protected void                      detachStates () {
+        state = null;
+    }
+
+    protected void                      detachCurrentState () {
+        state = null;
+    }
 }
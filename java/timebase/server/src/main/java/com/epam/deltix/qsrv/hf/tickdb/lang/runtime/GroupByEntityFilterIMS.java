@@ -21,6 +21,7 @@ import com.epam.deltix.qsrv.hf.pub.md.*;
 import com.epam.deltix.qsrv.hf.tickdb.pub.query.*;
 import com.epam.deltix.util.collections.ArrayEnumeration;
 import com.epam.deltix.util.lang.Util;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 /**
@@ -56,15 +57,17 @@ public abstract class GroupByEntityFilterIMS extends FilterIMSImpl {
             System.arraycopy (old, 0, states, 0, curLength);
 
             currentState = states [currentEntityIdx] = newState ();
+            numStates = currentEntityIdx + 1;
         }
         else {
             currentState = states [currentEntityIdx];
 
             if (currentState == null) {
-                assert currentEntityIdx == numStates;
-                
+                //  Slot is either new, or was detached when its window closed
                 currentState = states [currentEntityIdx] = newState ();
-                numStates = currentEntityIdx + 1;
+
+                if (currentEntityIdx >= numStates)
+                    numStates = currentEntityIdx + 1;
             }
         }
 
@@ -74,4 +77,16 @@ public abstract class GroupByEntityFilterIMS extends FilterIMSImpl {
     protected Enumeration <FilterState>  getStates () { 
         return (new ArrayEnumeration <FilterState> (states, 0, numStates));
     }
+
+    protected void                      detachStates () {
+        Arrays.fill (states, 0, numStates, null);
+        currentState = null;
+    }
+
+    protected void                      detachCurrentState () {
+        if (currentState != null && states [currentEntityIdx] == currentState)
+            states [currentEntityIdx] = null;
+
+        currentState = null;
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.runtime.std;
+
+import com.epam.deltix.qsrv.hf.tickdb.lang.pub.*;
+
+/**
+ *  Aggregate STDEV (FLOAT): sample standard deviation, computed in a single pass
+ *  (Welford's method). Null values are ignored.
+ */
+@Aggregate @FunctionInfo (id = "STDEV", returns = "FLOAT?", args = { "FLOAT?" })
+public final class StdevFloat {
+    private long        n = 0;
+    private double      mean = 0;
+    private double      m2 = 0;
+
+    public double       get () {
+        return (n < 2 ? Double.NaN : Math.sqrt (m2 / (n - 1)));
+    }
+
+    public void         set1 (double v) {
+        if (Double.isNaN (v))
+            return;
+
+        n++;
+
+        double          delta = v - mean;
+
+        mean += delta / n;
+        m2 += delta * (v - mean);
+    }
+}
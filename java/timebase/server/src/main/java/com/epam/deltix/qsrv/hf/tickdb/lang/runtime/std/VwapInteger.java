@@ -0,0 +1,52 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.runtime.std;
+
+import com.epam.deltix.qsrv.hf.pub.md.IntegerDataType;
+import com.epam.deltix.qsrv.hf.tickdb.lang.pub.*;
+
+/**
+ *  Aggregate VWAP (INTEGER, INTEGER): average of the first argument,
+ *  weighted by the second one. Rows with a null argument are ignored.
+ */
+@Aggregate @FunctionInfo (id = "VWAP", returns = "FLOAT?", args = { "INTEGER?", "INTEGER?" })
+public final class VwapInteger {
+    private long        price;
+    private long        size;
+    private double      sumValue = 0;
+    private double      sumWeight = 0;
+
+    public double       get () {
+        return (sumWeight == 0 ? Double.NaN : sumValue / sumWeight);
+    }
+
+    public void         set1 (long v) {
+        price = v;
+    }
+
+    public void         set2 (long v) {
+        size = v;
+    }
+
+    public void         update () {
+        if (price == IntegerDataType.INT64_NULL || size == IntegerDataType.INT64_NULL)
+            return;
+
+        sumValue += (double) price * size;
+        sumWeight += size;
+    }
+}
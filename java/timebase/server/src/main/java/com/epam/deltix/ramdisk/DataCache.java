@@ -22,6 +22,7 @@ import com.epam.deltix.util.collections.generated.LongToObjectHashMap;
 import com.epam.deltix.util.time.TimeKeeper;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.PriorityQueue;
 import java.util.logging.Level;
@@ -59,6 +60,9 @@ final class DataCache {
 
     private final QuickList <PageContainer>   pool = new QuickList <PageContainer> ();
 
+    // off-heap page memory, null when pages are allocated on heap
+    private final PageArena             arena;
+
     // Pages mapping (FD + Index) -> Page
     final LongToObjectHashMap<Page>     pages = new LongToObjectHashMap<Page>();
 
@@ -66,12 +70,21 @@ final class DataCache {
     NotificationHandler                 handler;
 
     DataCache (long numPages, long initial) {
+        this (numPages, initial, null);
+    }
+
+    DataCache (long numPages, long initial, PageArena arena) {
+        this.arena = arena;
+
         pagesCanAllocate = numPages;
 
         initial = Math.min(numPages, initial);
 
         for (int i = 0; i < initial; i++) {
-            Page page = new Page (PAGE_SIZE);
+            Page page = newPage ();
+            if (page == null)
+                break;
+
             numAllocatedPages++;
             pagesCanAllocate--;
 
@@ -80,6 +93,28 @@ final class DataCache {
         }
     }
 
+    boolean                     isOffHeap () {
+        return (arena != null);
+    }
+
+    /**
+     *  Creates a new page or returns null if the off-heap arena
+     *  cannot provide more memory. In the latter case the cache stops growing.
+     */
+    private Page                newPage () {
+        if (arena == null)
+            return (new Page (PAGE_SIZE));
+
+        ByteBuffer      memory = arena.allocate ();
+
+        if (memory == null) {
+            pagesCanAllocate = 0;
+            return (null);
+        }
+
+        return (new Page (memory));
+    }
+
     void                        setHandler(NotificationHandler handler) {
         this.handler = handler;
 
@@ -181,8 +216,7 @@ final class DataCache {
             return (page);
         }
 
-        if (pagesCanAllocate > 0) {
-            page = new Page (PAGE_SIZE);
+        if (pagesCanAllocate > 0 && (page = newPage ()) != null) {
             numAllocatedPages++;
             pagesCanAllocate--;
 
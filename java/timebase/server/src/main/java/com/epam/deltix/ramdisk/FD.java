@@ -18,6 +18,7 @@ package com.epam.deltix.ramdisk;
 
 import com.epam.deltix.util.lang.*;
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.logging.Level;
 
@@ -33,6 +34,9 @@ public class FD implements Disposable  {
 
     private static final long       PHYSICAL_LENGTH_UNKNOWN = -1;
 
+    private static final ThreadLocal<byte []> LOAD_BUFFER =
+        ThreadLocal.withInitial (() -> new byte [DataCache.PAGE_SIZE]);
+
     private boolean                 isOpen = false;
     private boolean                 isReadOnly;
     private final RAMDisk           ramdisk;
@@ -337,6 +341,29 @@ public class FD implements Disposable  {
         }
     }
 
+    /**
+     *  Reads up to {@code length} bytes into the off-heap {@code dest} buffer,
+     *  starting at its position 0. Data is staged through a per-thread array:
+     *  positional channel reads would be cheaper, but an interrupt would close
+     *  the channel shared through {@link RAFCache}.
+     */
+    protected final int         directRead (
+        long                        srcOffset,
+        ByteBuffer                  dest,
+        int                         length
+    )
+        throws IOException
+    {
+        byte []         buffer = LOAD_BUFFER.get ();
+        int             n = directRead (srcOffset, buffer, 0, length);
+
+        dest.clear ();
+        dest.put (buffer, 0, n);
+        dest.clear ();
+
+        return (n);
+    }
+
     /**
      *  This method is critical in order to enforce the specified growth policy,
      *  rather than grow the length by tiny increments.
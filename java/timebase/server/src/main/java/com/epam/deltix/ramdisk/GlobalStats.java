@@ -56,7 +56,7 @@ public class GlobalStats {
     }
 
     /**
-     *  Approximate amount of heap consumed by the cache.
+     *  Approximate amount of memory (heap or off-heap) consumed by the cache.
      */
     public long                 getUsedMemory () {
         return (numAllocPages * DataCache.PAGE_SIZE_WITH_OVERHEAD);
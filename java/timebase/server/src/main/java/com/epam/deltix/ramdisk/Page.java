@@ -21,7 +21,7 @@ import com.epam.deltix.util.memory.MemorySizeEstimator;
 import com.epam.deltix.util.time.TimeKeeper;
 
 import java.io.*;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
 
 /**
  *
@@ -33,8 +33,8 @@ final class Page extends QuickList.Entry <Page> {
 
     static final long           OVERHEAD =
         MemorySizeEstimator.ARRAY_OVERHEAD +
-        MemorySizeEstimator.OBJECT_OVERHEAD +
-        MemorySizeEstimator.SIZE_OF_POINTER * 6 + 16;
+        MemorySizeEstimator.OBJECT_OVERHEAD * 2 +
+        MemorySizeEstimator.SIZE_OF_POINTER * 7 + 40;
 
     /**
      *  Value for validLength meaning that this page is not loaded.
@@ -95,7 +95,12 @@ final class Page extends QuickList.Entry <Page> {
 
     FD                          fd = null;
     private long                startAddress = UNMAPPED;
-    private final byte []       data;
+    /**
+     *  Page content: either a wrapped heap array or a slice of {@link PageArena}.
+     *  Only absolute access and position/limit of this page's own buffer are used,
+     *  under the same rules that guard the rest of the page state.
+     */
+    private final ByteBuffer    data;
     private long                index = UNMAPPED_IDX;
     int                         validLength = UNLOADED;
     private byte                state = NEW;
@@ -106,7 +111,13 @@ final class Page extends QuickList.Entry <Page> {
     public Page (int length) {
         //assert length <= Short.MAX_VALUE : "length is too large: " + length;
 
-        data = new byte [length];
+        this (ByteBuffer.wrap (new byte [length]));
+    }
+
+    Page (ByteBuffer data) {
+        assert data.position () == 0 && data.limit () == data.capacity ();
+
+        this.data = data;
     }
 
     byte                        getState () {
@@ -140,7 +151,7 @@ final class Page extends QuickList.Entry <Page> {
         assert state != FREE : this + " is unmapped";
         assert fd != null;
 
-        return (data [getOffsetForRead (srcAddress)]);
+        return (data.get (getOffsetForRead (srcAddress)));
     }
 
     int                         read (
@@ -159,7 +170,8 @@ final class Page extends QuickList.Entry <Page> {
         if (length > avail)
             length = avail;
 
-        System.arraycopy (data, offset, dest, destOffset, length);        
+        data.position (offset);
+        data.get (dest, destOffset, length);
         return (length);
     }
 
@@ -179,7 +191,7 @@ final class Page extends QuickList.Entry <Page> {
 
         int     offset = getOffsetForWrite (destAddress);
 
-        data [offset] = b;
+        data.put (offset, b);
 
         if (offset < dirtyOffset)
             this.dirtyOffset = offset;
@@ -211,7 +223,7 @@ final class Page extends QuickList.Entry <Page> {
         assert fd != null;
         
         final int     offset = getOffsetForWrite (destAddress);
-        int     avail = data.length - offset;
+        int     avail = data.capacity () - offset;
 
         if (avail < 1)
             throw new IllegalStateException ("Can't write even 1 byte to " + this + " at " + destAddress);
@@ -219,7 +231,8 @@ final class Page extends QuickList.Entry <Page> {
         if (length > avail)
             length = avail;
 
-        System.arraycopy (src, srcOffset, data, offset, length);
+        data.position (offset);
+        data.put (src, srcOffset, length);
         
         int     end = offset + length;
         
@@ -426,7 +439,8 @@ final class Page extends QuickList.Entry <Page> {
 
         job.address = startAddress + dirtyOffset;
         job.length = validLength - dirtyOffset;
-        System.arraycopy (data, dirtyOffset, job.data, 0, job.length);
+        data.position (dirtyOffset);
+        data.get (job.data, 0, job.length);
 
         dirtyOffset = validLength;
 
@@ -512,7 +526,8 @@ final class Page extends QuickList.Entry <Page> {
         modified = Long.MIN_VALUE;
 
         if (RAMDisk.ASSERTIONS_ENABLED)
-            Arrays.fill (data, (byte) -1);
+            for (int i = 0; i < data.capacity (); i++)
+                data.put (i, (byte) -1);
 
         state = targetState;
     }
@@ -543,7 +558,13 @@ final class Page extends QuickList.Entry <Page> {
                 (int) available :
                 DataCache.PAGE_SIZE;
 
-        int         numRead = validLength > 0 ? fd.directRead (startAddress, data, 0, validLength) : 0;
+        int         numRead = 0;
+
+        if (validLength > 0)
+            numRead =
+                data.hasArray () ?
+                    fd.directRead (startAddress, data.array (), data.arrayOffset (), validLength) :
+                    fd.directRead (startAddress, data, validLength);
         
         this.dirtyOffset = validLength;
         this.modified = Long.MIN_VALUE;
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.ramdisk;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+
+/**
+ *  Off-heap memory for cache pages. The arena is split into chunks of up to
+ *  {@link #CHUNK_SIZE} bytes, allocated on demand either as direct buffers
+ *  or, when a directory is given, as shared mappings of an unlinked file
+ *  in that directory (e.g. /dev/shm or a hugetlbfs mount).
+ *  Pages are addressed by an integer handle: chunk number in the high bits and
+ *  page slot within the chunk in the low bits.
+ *
+ *  Handles are never returned: pages are recycled by {@link DataCache}
+ *  as objects, together with their memory.
+ */
+final class PageArena {
+    static final int            CHUNK_SIZE_LOG2 = 30; // 1G
+    static final int            CHUNK_SIZE = 1 << CHUNK_SIZE_LOG2;
+    static final int            PAGES_PER_CHUNK_LOG2 = CHUNK_SIZE_LOG2 - DataCache.PAGE_SIZE_LOG2;
+    static final int            PAGES_PER_CHUNK = 1 << PAGES_PER_CHUNK_LOG2;
+
+    private final long          numPages;
+    private final File          directory;
+    private final ByteBuffer [] chunks;
+    private int                 numHandles = 0;
+    private boolean             exhausted = false;
+
+    /**
+     * @param numPages      Maximum number of pages in the arena.
+     * @param directory     Directory for the mapped file or null to use direct buffers.
+     */
+    PageArena (long numPages, File directory) {
+        if (numPages > ((long) Integer.MAX_VALUE))
+            throw new IllegalArgumentException ("Too many pages: " + numPages);
+
+        this.numPages = numPages;
+        this.directory = directory;
+        this.chunks = new ByteBuffer [(int) ((numPages + PAGES_PER_CHUNK - 1) >> PAGES_PER_CHUNK_LOG2)];
+    }
+
+    /**
+     *  Allocates memory for the next page.
+     *
+     *  @return page memory, positioned at 0 with limit equal to
+     *          {@link DataCache#PAGE_SIZE}, or null if arena is out of memory.
+     */
+    synchronized ByteBuffer     allocate () {
+        if (exhausted || numHandles >= numPages)
+            return (null);
+
+        int         handle = numHandles;
+        int         chunkIndex = handle >>> PAGES_PER_CHUNK_LOG2;
+        ByteBuffer  chunk = chunks [chunkIndex];
+
+        if (chunk == null) {
+            long    pages = Math.min (PAGES_PER_CHUNK, numPages - ((long) chunkIndex << PAGES_PER_CHUNK_LOG2));
+
+            try {
+                chunk = chunks [chunkIndex] = allocateChunk ((int) (pages << DataCache.PAGE_SIZE_LOG2));
+            } catch (OutOfMemoryError | IOException x) {
+                exhausted = true;
+
+                RAMDisk.LOGGER.log (
+                    Level.WARNING,
+                    "Failed to allocate off-heap page chunk #" + chunkIndex +
+                    ". Data cache is limited to " + numHandles + " pages.",
+                    x
+                );
+
+                return (null);
+            }
+        }
+
+        numHandles++;
+
+        return (slice (chunk, handle & (PAGES_PER_CHUNK - 1)));
+    }
+
+    private ByteBuffer          allocateChunk (int size) throws IOException {
+        if (directory == null)
+            return (ByteBuffer.allocateDirect (size)); // @ALLOCATION (once per chunk)
+
+        File                tmp = File.createTempFile ("ramdisk", ".pages", directory);
+
+        try (RandomAccessFile raf = new RandomAccessFile (tmp, "rw")) {
+            raf.setLength (size);
+
+            // mapping stays valid after the file is closed and unlinked
+            return (raf.getChannel ().map (FileChannel.MapMode.READ_WRITE, 0, size));
+        } finally {
+            if (!tmp.delete ())
+                tmp.deleteOnExit ();
+        }
+    }
+
+    private static ByteBuffer   slice (ByteBuffer chunk, int slot) {
+        ByteBuffer      dup = chunk.duplicate ();
+        int             offset = slot << DataCache.PAGE_SIZE_LOG2;
+
+        dup.limit (offset + DataCache.PAGE_SIZE).position (offset);
+
+        return (dup.slice ());
+    }
+}
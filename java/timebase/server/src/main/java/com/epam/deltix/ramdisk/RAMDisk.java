@@ -16,6 +16,7 @@
  */
 package com.epam.deltix.ramdisk;
 
+import java.io.File;
 import java.util.logging.Logger;
 
 import com.epam.deltix.qsrv.hf.tickdb.pub.mon.NotificationHandler;
@@ -57,6 +58,19 @@ public class RAMDisk implements PropertyMonitorHandler {
 
     static final boolean        ASSERTIONS_ENABLED = Assertions.ENABLED;
 
+    /**
+     *  When true, {@link #createCached(int, long, long)} keeps page data
+     *  outside of the Java heap.
+     */
+    public static final boolean OFF_HEAP = Boolean.getBoolean ("RAMDisk.offHeap");
+
+    /**
+     *  Optional directory (e.g. /dev/shm or a hugetlbfs mount) used to map
+     *  off-heap page memory from. By default direct buffers are used,
+     *  which are limited by -XX:MaxDirectMemorySize.
+     */
+    public static final String  OFF_HEAP_DIRECTORY = System.getProperty ("RAMDisk.offHeapDirectory");
+
     public static final String  LOGGER_NAME = "deltix.ramdisk";
     public static final Logger  LOGGER = Logger.getLogger (LOGGER_NAME);
 
@@ -86,6 +100,27 @@ public class RAMDisk implements PropertyMonitorHandler {
         long                    preallocateSize
     )
     {
+        return (createCached (maxNumOpenFiles, memorySize, preallocateSize, OFF_HEAP));
+    }
+
+    /**
+     *  Creates cached RAMDisk.
+     *
+     *  @param memorySize       Cache size in bytes.
+     *  @param preallocateSize  Amount of cache to allocate upfront, in bytes.
+     *  @param offHeap          Whether page data is kept outside of the Java heap.
+     *                          In this case memorySize is not limited by the heap size.
+     */
+    public static RAMDisk   createCached (
+        int                     maxNumOpenFiles,
+        long                    memorySize,
+        long                    preallocateSize,
+        boolean                 offHeap
+    )
+    {
+        if (offHeap)
+            return (createOffHeap (maxNumOpenFiles, memorySize, preallocateSize));
+
         if (memorySize < DataCache.PAGE_SIZE_WITH_OVERHEAD)
             throw new IllegalArgumentException (
                 "Cache size too small: " + memorySize +
@@ -116,6 +151,35 @@ public class RAMDisk implements PropertyMonitorHandler {
         return (createCacheByNumPages (maxNumOpenFiles, numPages, initial));
     }
 
+    private static RAMDisk  createOffHeap (
+        int                     maxNumOpenFiles,
+        long                    memorySize,
+        long                    preallocateSize
+    )
+    {
+        if (memorySize < DataCache.PAGE_SIZE)
+            throw new IllegalArgumentException (
+                "Cache size too small: " + memorySize +
+                "; minimum: " + DataCache.PAGE_SIZE
+            );
+
+        File        directory = OFF_HEAP_DIRECTORY != null ? new File (OFF_HEAP_DIRECTORY) : null;
+
+        if (directory != null && !directory.isDirectory ())
+            throw new IllegalArgumentException ("Off-heap directory does not exist: " + directory);
+
+        long        numPages = Math.min (memorySize / DataCache.PAGE_SIZE, Integer.MAX_VALUE);
+        long        initial = preallocateSize / DataCache.PAGE_SIZE;
+
+        RAMDisk.LOGGER.info ("Initializing RAMDisk. Off-heap data cache size = " + memorySize / (1024*1024) + "MB" +
+                (directory != null ? " mapped from " + directory + "." : ".") +
+                (preallocateSize > 0 ? " Initial Cache allocation = " + preallocateSize / (1024*1024) + "MB.": ""));
+
+        PageArena   arena = new PageArena (numPages, directory);
+
+        return (new RAMDisk (maxNumOpenFiles, new DataCache (numPages, initial, arena)));
+    }
+
     public static RAMDisk   createCacheByNumPages (
         int                     maxNumOpenFiles,
         long                    numPages,
@@ -156,6 +220,13 @@ public class RAMDisk implements PropertyMonitorHandler {
         }
     }
 
+    /**
+     *  Returns true if cached page data is kept outside of the Java heap.
+     */
+    public boolean          isOffHeap () {
+        return (dataCache != null && dataCache.isOffHeap ());
+    }
+
     boolean                 register (FD fd) {
         boolean result;
         synchronized (fds) {
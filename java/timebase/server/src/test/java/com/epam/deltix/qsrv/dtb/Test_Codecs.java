@@ -29,6 +29,11 @@ public class Test_Codecs {
         Codecs.compressDecompress ();
     }
     
+    @Test
+    public void         compressDecompressZstd () {
+        Codecs.compressDecompressZstd ();
+    }
+
     @Test
     public void         testMessageSizeCodec () {
         Codecs.testMessageSizeCodec ();
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb;
+
+import com.epam.deltix.qsrv.dtb.store.pub.*;
+import com.epam.deltix.qsrv.dtb.test.*;
+import java.io.*;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class Test_Compaction {
+    private TestConfig      CONFIG = new TestConfig ();
+    private DTBCreator      CREATOR = new DTBCreator (CONFIG);
+
+    @Test
+    public void         mergeAndRecompress () throws IOException {
+        TSRoot      root = CREATOR.format ();
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+        root.getStore ().waitUntilDataStored (0);
+
+        CompactionOptions   options = new CompactionOptions (CONFIG.baseTime + CONFIG.numMessages, "ZSTD(9)");
+        options.maxFileSize = root.getMaxFileSize () * 4;
+
+        CompactionStats     stats = compact (root, options);
+
+        assertTrue (stats.toString (), stats.filesMerged > 0);
+
+        // data is readable while root is open
+        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+        // nothing left to do
+        stats = compact (root, options);
+
+        assertEquals (stats.toString (), 0, stats.filesMerged);
+        assertEquals (stats.toString (), 0, stats.filesRecompressed);
+
+        CREATOR.close (root);
+
+        CREATOR.verifyFullDB ();
+    }
+
+    @Test
+    public void         readerOnSkippedSlice () throws IOException {
+        TSRoot      root = CREATOR.format ();
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+        root.getStore ().waitUntilDataStored (0);
+
+        CompactionOptions   options = new CompactionOptions (CONFIG.baseTime + CONFIG.numMessages, null);
+        options.maxFileSize = root.getMaxFileSize () * 4;
+
+        MessageGenerator    msgen = new MessageGenerator (CONFIG);
+
+        try (DataReader reader = root.getStore ().createReader (false)) {
+            reader.associate (root);
+            reader.open (CONFIG.baseTime, true, EntityFilter.ALL);
+
+            int             seqNo = 0;
+
+            // reader keeps the first slice checked out, so it is not idle
+            for (; seqNo < CONFIG.numEntities; seqNo++) {
+                msgen.setSeqNo (seqNo);
+                assertTrue ("seqNo=" + seqNo, reader.readNext (msgen));
+            }
+
+            CompactionStats     stats = compact (root, options);
+
+            assertTrue (stats.toString (), stats.filesMerged > 0);
+
+            // reader continues from its position into merged slices
+            for (; seqNo < CONFIG.numMessages; seqNo++) {
+                msgen.setSeqNo (seqNo);
+                assertTrue ("seqNo=" + seqNo, reader.readNext (msgen));
+            }
+
+            msgen.setSeqNo (MessageGenerator.NO_MORE);
+            assertFalse (reader.readNext (msgen));
+        }
+
+        CREATOR.close (root);
+
+        CREATOR.verifyFullDB ();
+    }
+
+    private static CompactionStats  compact (TSRoot root, CompactionOptions options) {
+        CompactionStats     stats = new CompactionStats ();
+
+        for (long time = Long.MIN_VALUE; time != Long.MAX_VALUE; )
+            time = root.compact (time, options, stats);
+
+        return (stats);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb;
+
+import com.epam.deltix.qsrv.dtb.fs.pub.*;
+import com.epam.deltix.qsrv.dtb.fs.tiered.TieredFileSystem;
+import com.epam.deltix.qsrv.dtb.store.pub.*;
+import com.epam.deltix.qsrv.dtb.test.*;
+import com.epam.deltix.util.io.Home;
+import java.io.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class Test_TieredStorage {
+    private TestConfig      CONFIG = new TestConfig ();
+    private DTBCreator      CREATOR = new DTBCreator (CONFIG);
+
+    private AbstractPath    secondary;
+
+    @Before
+    public void         setUp () throws IOException {
+        AbstractFileSystem  local = FSFactory.getLocalFS ();
+        AbstractPath        primary = CONFIG.path;
+
+        secondary = local.createPath (Home.getPath ("temp/testdtb_secondary"));
+        FSUtils.removeRecursive (secondary, false, null);
+
+        CONFIG.path = new TieredFileSystem (primary, secondary).createPath (primary.getPathString ());
+    }
+
+    @Test
+    public void         migrateColdSlices () throws IOException {
+        TSRoot      root = CREATOR.format ();
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+        root.getStore ().waitUntilDataStored (0);
+
+        long                coldTime = CONFIG.baseTime + CONFIG.numMessages / 2;
+        CompactionStats     stats = migrate (root, coldTime);
+
+        assertTrue (stats.toString (), stats.filesMigrated > 0);
+        assertEquals (stats.filesMigrated, countFiles (secondary));
+
+        // data is readable while root is open
+        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+        // nothing left to do
+        stats = migrate (root, coldTime);
+
+        assertEquals (stats.toString (), 0, stats.filesMigrated);
+
+        CREATOR.close (root);
+
+        // reading from both tiers
+        CREATOR.verifyFullDB ();
+
+        // all data is removed from both tiers
+        CREATOR.close (CREATOR.format ());
+
+        assertEquals (0, countFiles (secondary));
+    }
+
+    @Test
+    public void         writeWhileMigrating () throws Exception {
+        TSRoot      root = CREATOR.format ();
+        int         half = CONFIG.numMessages / 2;
+
+        CREATOR.insertMessages (root, 0, half, 1);
+        root.getStore ().waitUntilDataStored (0);
+
+        long                        coldTime = CONFIG.baseTime + half;
+        CompactionStats             stats = new CompactionStats ();
+        AtomicBoolean               writing = new AtomicBoolean (true);
+        AtomicReference <Throwable> error = new AtomicReference <> ();
+
+        Thread      migrator = new Thread ("migrator") {
+            @Override
+            public void run () {
+                try {
+                    // keep migrating, until writer is done
+                    do {
+                        for (long time = Long.MIN_VALUE; time != Long.MAX_VALUE; )
+                            time = root.migrate (time, coldTime, stats);
+                    } while (writing.get ());
+                } catch (Throwable x) {
+                    error.set (x);
+                }
+            }
+        };
+
+        migrator.start ();
+
+        try {
+            CREATOR.insertMessages (root, half, CONFIG.numMessages, 1);
+        } finally {
+            writing.set (false);
+            migrator.join ();
+        }
+
+        if (error.get () != null)
+            throw new AssertionError (error.get ());
+
+        assertTrue (stats.toString (), stats.filesMigrated > 0);
+        assertEquals (stats.filesMigrated, countFiles (secondary));
+
+        CREATOR.close (root);
+
+        // data written during migration is stored on the primary tier
+        CREATOR.verifyFullDB ();
+    }
+
+    private static CompactionStats  migrate (TSRoot root, long coldTime) {
+        CompactionStats     stats = new CompactionStats ();
+
+        for (long time = Long.MIN_VALUE; time != Long.MAX_VALUE; )
+            time = root.migrate (time, coldTime, stats);
+
+        return (stats);
+    }
+
+    private static int              countFiles (AbstractPath path) throws IOException {
+        if (!path.exists ())
+            return (0);
+
+        if (path.isFile ())
+            return (1);
+
+        int         count = 0;
+
+        for (String name : path.listFolder ())
+            count += countFiles (path.append (name));
+
+        return (count);
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb;
+
+import com.epam.deltix.qsrv.dtb.store.impl.PDSFactory;
+import com.epam.deltix.qsrv.dtb.store.pub.*;
+import com.epam.deltix.qsrv.dtb.test.*;
+import com.epam.deltix.util.io.Home;
+import com.epam.deltix.util.memory.MemoryDataInput;
+import java.io.*;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class Test_WriteAheadLog {
+    private TestConfig      CONFIG = new TestConfig ();
+    private DTBCreator      CREATOR = new DTBCreator (CONFIG);
+
+    private File            walFolder = new File (Home.getPath ("temp/testdtb_wal"));
+    private File            backup = new File (Home.getPath ("temp/testdtb_wal_backup"));
+    private File            dbBackup = new File (Home.getPath ("temp/testdtb_backup"));
+
+    @Before
+    public void         setUp () throws IOException {
+        clear (walFolder);
+        clear (backup);
+        removeTree (dbBackup);
+    }
+
+    @Test
+    public void         replayUnsavedData () throws IOException {
+        PersistentDataStore     store = createStore ();
+        TSRoot                  root = CREATOR.format (store);
+
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+
+        assertTrue (store.waitUntilDataLogged (0));
+
+        // the log contains all changes, whether they are stored or not
+        copy (walFolder, backup);
+
+        CREATOR.close (root);
+
+        // all changes are stored, so log is not needed anymore
+        assertEquals (0, count (walFolder));
+
+        // lose stored data
+        CREATOR.close (CREATOR.format ());
+        copy (backup, walFolder);
+
+        CREATOR.close (CREATOR.open (createStore (), false));
+
+        assertEquals (0, count (walFolder));
+        CREATOR.verifyFullDB ();
+
+        // stored messages are not replayed again
+        copy (backup, walFolder);
+
+        CREATOR.close (CREATOR.open (createStore (), false));
+
+        assertEquals (0, count (walFolder));
+        CREATOR.verifyFullDB ();
+    }
+
+    @Test
+    public void         replayIdenticalMessages () throws IOException {
+        PersistentDataStore     store = createStore ();
+        TSRoot                  root = CREATOR.format (store);
+
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+        CREATOR.close (root);
+
+        File                    db = new File (CONFIG.path.getPathString ());
+        copyTree (db, dbBackup);
+
+        // the same messages again
+        store = createStore ();
+        root = CREATOR.open (store, false);
+
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+
+        assertTrue (store.waitUntilDataLogged (0));
+        copy (walFolder, backup);
+
+        CREATOR.close (root);
+
+        // lose the second copy of messages
+        copyTree (dbBackup, db);
+        copy (backup, walFolder);
+
+        CREATOR.close (CREATOR.open (createStore (), false));
+
+        // messages are replayed, although identical ones are stored
+        assertEquals (0, count (walFolder));
+        assertEquals (2 * CONFIG.numMessages, countMessages ());
+
+        // replayed messages are not replayed again
+        copy (backup, walFolder);
+
+        CREATOR.close (CREATOR.open (createStore (), false));
+
+        assertEquals (2 * CONFIG.numMessages, countMessages ());
+    }
+
+    private PersistentDataStore     createStore () {
+        PersistentDataStore     store = PDSFactory.create ();
+
+        store.setWriteAheadLog (walFolder, 1);
+
+        return (store);
+    }
+
+    private int                     countMessages () {
+        TSRoot          root = CREATOR.open (true);
+        int []          count = new int [1];
+
+        try (DataReader reader = root.getStore ().createReader (false)) {
+            reader.associate (root);
+            reader.open (Long.MIN_VALUE, true, EntityFilter.ALL);
+
+            TSMessageConsumer   counter = new TSMessageConsumer () {
+                @Override
+                public void process (int entity, long timestampNanos, int type, int bodyLength, MemoryDataInput mdi) {
+                    count [0]++;
+                }
+
+                @Override
+                public boolean processRealTime (long timestampNanos) {
+                    return false;
+                }
+
+                @Override
+                public boolean isRealTime () {
+                    return false;
+                }
+
+                @Override
+                public boolean realTimeAvailable () {
+                    return false;
+                }
+            };
+
+            while (reader.readNext (counter)) ;
+        }
+
+        CREATOR.close (root);
+
+        return (count [0]);
+    }
+
+    private static int              count (File folder) {
+        String []   names = folder.list ();
+
+        return (names != null ? names.length : 0);
+    }
+
+    private static void             copy (File from, File to) throws IOException {
+        clear (to);
+        Files.createDirectories (to.toPath ());
+
+        File []     files = from.listFiles ();
+
+        for (int ii = 0; files != null && ii < files.length; ii++)
+            Files.copy (files [ii].toPath (), new File (to, files [ii].getName ()).toPath ());
+    }
+
+    private static void             copyTree (File from, File to) throws IOException {
+        removeTree (to);
+
+        Path            source = from.toPath ();
+
+        try (Stream<Path> paths = Files.walk (source)) {
+            for (Path path : (Iterable<Path>) paths::iterator)
+                Files.copy (path, to.toPath ().resolve (source.relativize (path)));
+        }
+    }
+
+    private static void             removeTree (File folder) throws IOException {
+        if (!folder.exists ())
+            return;
+
+        try (Stream<Path> paths = Files.walk (folder.toPath ())) {
+            for (Path path : (Iterable<Path>) paths.sorted (Comparator.reverseOrder ())::iterator)
+                Files.delete (path);
+        }
+    }
+
+    private static void             clear (File folder) throws IOException {
+        File []     files = folder.listFiles ();
+
+        for (int ii = 0; files != null && ii < files.length; ii++)
+            Files.delete (files [ii].toPath ());
+    }
+}
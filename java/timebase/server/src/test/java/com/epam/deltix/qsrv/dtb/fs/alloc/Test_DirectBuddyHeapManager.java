@@ -0,0 +1,58 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.fs.alloc;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class Test_DirectBuddyHeapManager {
+
+    private final DirectBuddyHeapManager heap = new DirectBuddyHeapManager(32, 128);
+
+    @Test
+    public void writeRead () {
+        byte[] data = { 1, 2, 3, 4, 5 };
+
+        int block = heap.allocate(data.length);
+        assertNotEquals(DirectBuddyHeapManager.NOT_AVAILABLE, block);
+
+        heap.write(block, data, 0, data.length);
+
+        byte[] copy = new byte[data.length];
+        heap.read(block, copy, 0, copy.length);
+        assertArrayEquals(data, copy);
+
+        heap.deallocate(block, data.length);
+        assertEquals(0, heap.getUtilization());
+    }
+
+    @Test
+    public void outOfMemory () {
+        int block1 = heap.allocate(64);
+        int block2 = heap.allocate(64);
+        assertNotEquals(block1, block2);
+        assertEquals(100, heap.getUtilization());
+
+        assertEquals(DirectBuddyHeapManager.NOT_AVAILABLE, heap.allocate(1));
+
+        heap.deallocate(block1, 64);
+        assertNotEquals(DirectBuddyHeapManager.NOT_AVAILABLE, heap.allocate(1));
+    }
+}
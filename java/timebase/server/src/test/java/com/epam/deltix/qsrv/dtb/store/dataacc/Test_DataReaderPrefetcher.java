@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.dataacc;
+
+import com.epam.deltix.util.concurrent.QuickExecutor;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class Test_DataReaderPrefetcher {
+
+    private static final QuickExecutor executor = QuickExecutor.createNewInstance("Test_DataReaderPrefetcher", null);
+
+    @Test
+    public void depthFollowsLoadToConsumeRatio() {
+        long ms = TimeUnit.MILLISECONDS.toNanos(1);
+
+        // loading is much faster than consuming: one slice in flight is enough
+        assertEquals(2, DataReaderPrefetcher.targetDepth(ms, 100 * ms, 16));
+        assertEquals(1, DataReaderPrefetcher.targetDepth(0, 100 * ms, 16));
+
+        // slice is consumed while next one is loading
+        assertEquals(2, DataReaderPrefetcher.targetDepth(10 * ms, 10 * ms, 16));
+
+        // slow loading: keep enough slices in flight to cover load latency
+        assertEquals(6, DataReaderPrefetcher.targetDepth(50 * ms, 10 * ms, 16));
+        assertEquals(4, DataReaderPrefetcher.targetDepth(25 * ms, 10 * ms, 16));
+
+        // never above hard limit, even for infinitely fast consumer
+        assertEquals(16, DataReaderPrefetcher.targetDepth(1000 * ms, ms, 16));
+        assertEquals(16, DataReaderPrefetcher.targetDepth(ms, 0, 16));
+    }
+
+    @Test
+    public void singleReaderTakesAllLeases() {
+        assertEquals(20, DataReaderPrefetcher.leaseLimit(0, 1, 20));
+        assertEquals(20, DataReaderPrefetcher.leaseLimit(19, 1, 20));
+        assertEquals(0, DataReaderPrefetcher.leaseLimit(20, 1, 20));
+    }
+
+    @Test
+    public void readerAboveFairShareLeavesShareForOthers() {
+        // 4 readers, fair share is 5
+        assertEquals(20, DataReaderPrefetcher.leaseLimit(4, 4, 20));
+        assertEquals(15, DataReaderPrefetcher.leaseLimit(5, 4, 20));
+        assertEquals(15, DataReaderPrefetcher.leaseLimit(12, 4, 20));
+
+        // more readers than leases: everyone may have one lease
+        assertEquals(20, DataReaderPrefetcher.leaseLimit(0, 30, 20));
+        assertEquals(19, DataReaderPrefetcher.leaseLimit(1, 30, 20));
+    }
+
+    @Test
+    public void greedyReaderDoesNotStarveOthers() {
+        int total = 20;
+        int[] held = new int[2];
+        int leases = 0;
+
+        // first reader asks for as many leases as it can get
+        while (leases < DataReaderPrefetcher.leaseLimit(held[0], 2, total)) {
+            held[0]++;
+            leases++;
+        }
+
+        assertEquals(total / 2, held[0]);
+
+        // second reader still gets its fair share
+        while (leases < DataReaderPrefetcher.leaseLimit(held[1], 2, total)) {
+            held[1]++;
+            leases++;
+        }
+
+        assertEquals(total / 2, held[1]);
+    }
+
+    @Test
+    public void closedReaderLeavesSharing() {
+        DataReaderPrefetcher prefetcher = new DataReaderPrefetcher(new DataReaderImpl(executor), 4);
+        int before = DataReaderPrefetcher.getActivePrefetchers();
+
+        prefetcher.register();
+        assertEquals(before + 1, DataReaderPrefetcher.getActivePrefetchers());
+
+        prefetcher.deregister();
+        assertEquals(before, DataReaderPrefetcher.getActivePrefetchers());
+    }
+
+    @Test(timeout = 30000)
+    public void abandonedReaderReturnsLeases() throws InterruptedException {
+        int readers = DataReaderPrefetcher.getActivePrefetchers();
+        int leases = DataReaderPrefetcher.getPrefetchLeases();
+
+        abandon();
+
+        assertEquals(readers + 1, DataReaderPrefetcher.getActivePrefetchers());
+        assertEquals(leases + 2, DataReaderPrefetcher.getPrefetchLeases());
+
+        while (DataReaderPrefetcher.getActivePrefetchers() > readers || DataReaderPrefetcher.getPrefetchLeases() > leases) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertEquals(readers, DataReaderPrefetcher.getActivePrefetchers());
+        assertEquals(leases, DataReaderPrefetcher.getPrefetchLeases());
+    }
+
+    private static void abandon() {
+        DataReaderPrefetcher prefetcher = new DataReaderPrefetcher(new DataReaderImpl(executor), 4);
+
+        prefetcher.register();
+        assertTrue(prefetcher.acquireLease());
+        assertTrue(prefetcher.acquireLease());
+    }
+}
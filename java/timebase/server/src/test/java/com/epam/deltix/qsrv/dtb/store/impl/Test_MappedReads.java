@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.impl;
+
+import com.epam.deltix.qsrv.dtb.fs.pub.FSFactory;
+import com.epam.deltix.qsrv.dtb.store.pub.*;
+import com.epam.deltix.qsrv.dtb.test.*;
+import com.epam.deltix.util.io.Home;
+import com.epam.deltix.util.memory.MemoryDataInput;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *  Tests reading of memory-mapped TSF files.
+ */
+public class Test_MappedReads {
+    private TestConfig      CONFIG = new TestConfig ();
+    private DTBCreator      CREATOR = new DTBCreator (CONFIG);
+
+    @Before
+    public void         setUp () {
+        CONFIG.path = FSFactory.getLocalFS ().createPath (Home.getPath ("temp/testdtb_mapped"));
+    }
+
+    @Test
+    public void         readUncompressed () throws IOException {
+        CONFIG.compression = "";
+        readAll ();
+    }
+
+    @Test
+    public void         readCompressed () throws IOException {
+        CONFIG.compression = "LZ4";
+        readAll ();
+    }
+
+    @Test
+    public void         mappingIsReleasedOnStore () throws IOException {
+        createDB ();
+
+        TSRoot          root = CREATOR.open (createStore (), false);
+        TSFile          tsf = useFirstFile (root);
+
+        try {
+            CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+            MappedByteBuffer    mapping = tsf.getMapping ();
+
+            assertNotNull (mapping);
+
+            // content of the file is changed
+            CREATOR.insertMessages (root, 0, 10, 1);
+            assertTrue (root.getStore ().waitUntilDataStored (0));
+
+            assertFalse (tsf.isMapped ());
+            assertNotSame (mapping, tsf.getMapping ());
+            assertEquals (CONFIG.numMessages + 10, count (root));
+        } finally {
+            TreeOps.unuse (tsf);
+        }
+
+        CREATOR.close (root);
+    }
+
+    private void        readAll () throws IOException {
+        createDB ();
+
+        TSRoot          root = CREATOR.open (createStore (), true);
+        TSFile          tsf = useFirstFile (root);
+
+        try {
+            CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+            MappedByteBuffer    mapping = tsf.getMapping ();
+
+            assertNotNull (mapping);
+
+            CREATOR.readMessages (root, CONFIG.baseTime + CONFIG.numMessages, EntityFilter.ALL, false);
+
+            try (DataReader reader = root.getStore ().createReader (false)) {
+                MessageGenerator    msgen = new MessageGenerator (CONFIG);
+
+                reader.associate (root);
+
+                for (int ii = 0; ii < CONFIG.numMessages; ii += 97)
+                    CREATOR.testOneRandomMessageSelection (reader, msgen, true, ii);
+            }
+
+            // the file is mapped once while it is active
+            assertSame (mapping, tsf.getMapping ());
+        } finally {
+            TreeOps.unuse (tsf);
+        }
+
+        CREATOR.close (root);
+    }
+
+    private void        createDB () throws IOException {
+        TSRoot          root = CREATOR.format ();
+
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+        CREATOR.close (root);
+    }
+
+    private static PersistentDataStore  createStore () {
+        PDSImpl         store = (PDSImpl) PDSFactory.create ();
+
+        store.setMappedReads (true);
+
+        return (store);
+    }
+
+    private TSFile      useFirstFile (TSRoot root) throws IOException {
+        TSRootFolder    folder = (TSRootFolder) root;
+
+        folder.acquireSharedLock ();
+        try {
+            return (TreeOps.findTSFForRead (folder, CONFIG.baseTime));
+        } finally {
+            folder.releaseSharedLock ();
+        }
+    }
+
+    private static int  count (TSRoot root) {
+        Counter     counter = new Counter ();
+
+        try (DataReader reader = root.getStore ().createReader (false)) {
+            reader.associate (root);
+            reader.open (Long.MIN_VALUE, true, EntityFilter.ALL);
+
+            while (reader.readNext (counter))
+                ;
+        }
+
+        return (counter.count);
+    }
+
+    private static final class Counter implements TSMessageConsumer {
+        int         count;
+
+        @Override
+        public void     process (int entity, long timestampNanos, int type, int bodyLength, MemoryDataInput mdi) {
+            count++;
+        }
+
+        @Override
+        public boolean  processRealTime (long timestampNanos) {
+            return (false);
+        }
+
+        @Override
+        public boolean  isRealTime () {
+            return (false);
+        }
+
+        @Override
+        public boolean  realTimeAvailable () {
+            return (false);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.impl;
+
+import com.epam.deltix.qsrv.dtb.fs.pub.FSFactory;
+import com.epam.deltix.qsrv.dtb.store.pub.*;
+import com.epam.deltix.qsrv.dtb.test.*;
+import com.epam.deltix.util.io.Home;
+import com.epam.deltix.util.memory.MemoryDataInput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *  Tests off-heap cache of clean deactivated TSF files.
+ */
+public class Test_OffHeapBlockCache {
+    private TestConfig          CONFIG = new TestConfig ();
+    private DTBCreator          CREATOR = new DTBCreator (CONFIG);
+
+    private OffHeapBlockCache   cache;
+
+    @Before
+    public void         setUp () throws IOException {
+        CONFIG.path = FSFactory.getLocalFS ().createPath (Home.getPath ("temp/testdtb_offheap"));
+
+        TSRoot          root = CREATOR.format ();
+
+        CREATOR.insertMessages (root, 0, CONFIG.numMessages, 1);
+        CREATOR.close (root);
+
+        cache = new OffHeapBlockCache (64 << 20);
+    }
+
+    @After
+    public void         tearDown () {
+        cache.clear ();
+    }
+
+    @Test
+    public void         storeAndHit () throws IOException {
+        TSRoot          root = CREATOR.open (createStore (), true);
+
+        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+        // deactivated files are kept in cache
+        assertTrue (cache.size () > 0);
+        assertEquals (0, cache.getHits ());
+
+        long            misses = cache.getMisses ();
+
+        // all blocks are restored from cache, with the same content
+        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+        assertTrue (cache.getHits () > 0);
+        assertEquals (misses, cache.getMisses ());
+
+        CREATOR.close (root);
+    }
+
+    @Test
+    public void         invalidateOnDirty () throws IOException {
+        TSRoot          root = CREATOR.open (createStore (), false);
+
+        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+        TSFile          tsf = useFile (root, CONFIG.baseTime);
+
+        try {
+            assertTrue (cache.contains (tsf));
+
+            // content of the file is changed
+            CREATOR.insertMessages (root, 0, 10, 1);
+
+            assertFalse (cache.contains (tsf));
+            assertTrue (root.getStore ().waitUntilDataStored (0));
+        } finally {
+            TreeOps.unuse (tsf);
+        }
+
+        // new content is read, not the cached one
+        assertEquals (CONFIG.numMessages + 10, count (root));
+        assertEquals (CONFIG.numMessages + 10, count (root));
+
+        CREATOR.close (root);
+    }
+
+    @Test
+    public void         invalidateOnDrop () throws IOException {
+        TSRoot          root = CREATOR.open (createStore (), false);
+
+        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+
+        TSFile          tsf = useFile (root, CONFIG.baseTime + CONFIG.numMessages / 2);
+        long            from = tsf.getStartTimestamp () - 1;
+
+        try {
+            assertFalse (tsf.isFirst ());
+            assertTrue (cache.contains (tsf));
+
+            root.drop (new TimeRange (from, Long.MAX_VALUE));
+
+            assertFalse (cache.contains (tsf));
+        } finally {
+            TreeOps.unuse (tsf);
+        }
+
+        assertTrue (root.getStore ().waitUntilDataStored (0));
+        assertTrue (count (root) < CONFIG.numMessages);
+
+        CREATOR.close (root);
+    }
+
+    @Test
+    public void         concurrentReadersWithEviction () throws Exception {
+        // cache is smaller than data, so that slices are evicted while being read
+        cache.clear ();
+        cache = new OffHeapBlockCache (64 << 10);
+
+        TSRoot                      root = CREATOR.open (createStore (), true);
+        Thread []                   readers = new Thread [4];
+        AtomicReference<Throwable>  failure = new AtomicReference<> ();
+
+        for (int ii = 0; ii < readers.length; ii++) {
+            readers [ii] = new Thread (() -> {
+                try {
+                    // content of every message is verified
+                    for (int jj = 0; jj < 5; jj++)
+                        CREATOR.readMessages (root, CONFIG.baseTime, EntityFilter.ALL, true);
+                } catch (Throwable x) {
+                    failure.compareAndSet (null, x);
+                }
+            });
+
+            readers [ii].start ();
+        }
+
+        for (Thread reader : readers)
+            reader.join ();
+
+        if (failure.get () != null)
+            throw new AssertionError (failure.get ());
+
+        assertTrue (cache.getEvicted () > 0);
+
+        CREATOR.close (root);
+    }
+
+    private PersistentDataStore     createStore () {
+        PDSImpl         store = (PDSImpl) PDSFactory.create ();
+
+        store.setBlockCache (cache);
+
+        return (store);
+    }
+
+    private static TSFile   useFile (TSRoot root, long timestamp) throws IOException {
+        TSRootFolder    folder = (TSRootFolder) root;
+
+        folder.acquireSharedLock ();
+        try {
+            return (TreeOps.findTSFForRead (folder, timestamp));
+        } finally {
+            folder.releaseSharedLock ();
+        }
+    }
+
+    private static int      count (TSRoot root) {
+        Counter     counter = new Counter ();
+
+        try (DataReader reader = root.getStore ().createReader (false)) {
+            reader.associate (root);
+            reader.open (Long.MIN_VALUE, true, EntityFilter.ALL);
+
+            while (reader.readNext (counter))
+                ;
+        }
+
+        return (counter.count);
+    }
+
+    private static final class Counter implements TSMessageConsumer {
+        int         count;
+
+        @Override
+        public void     process (int entity, long timestampNanos, int type, int bodyLength, MemoryDataInput mdi) {
+            count++;
+        }
+
+        @Override
+        public boolean  processRealTime (long timestampNanos) {
+            return (false);
+        }
+
+        @Override
+        public boolean  isRealTime () {
+            return (false);
+        }
+
+        @Override
+        public boolean  realTimeAvailable () {
+            return (false);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.impl;
+
+import com.epam.deltix.qsrv.dtb.fs.pub.FSFactory;
+import com.epam.deltix.qsrv.dtb.store.pub.*;
+import com.epam.deltix.qsrv.dtb.test.*;
+import com.epam.deltix.util.io.Home;
+import java.io.IOException;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *  Tests partitioning of dirty files between writer threads.
+ */
+public class Test_WriterQueues {
+    private static final int    NUM_WRITERS = 4;
+
+    private PDSImpl             store;
+
+    @Before
+    public void         setUp () {
+        store = (PDSImpl) PDSFactory.create ();
+        store.setNumWriterThreads (NUM_WRITERS);
+        store.start ();
+    }
+
+    @After
+    public void         tearDown () {
+        store.shutdown ();
+        store.waitForShutdown (0);
+    }
+
+    @Test
+    public void         eachRootHasSingleQueue () {
+        WriterQueue []      queues = store.getQueues ();
+        int []              numRoots = new int [NUM_WRITERS];
+
+        assertEquals (NUM_WRITERS, queues.length);
+
+        for (int ii = 0; ii < NUM_WRITERS * 5; ii++) {
+            TSRootFolder    root = (TSRootFolder) store.createRoot (null, createConfig (ii).path);
+            WriterQueue     queue = store.getQueue (root);
+            int             matches = 0;
+
+            for (WriterQueue q : queues) {
+                if (q == queue)
+                    matches++;
+            }
+
+            assertEquals (1, matches);
+            assertSame (queue, store.getQueue (root));
+
+            numRoots [queue.index]++;
+        }
+
+        // roots are assigned round-robin
+        for (int n : numRoots)
+            assertEquals (5, n);
+    }
+
+    @Test
+    public void         flushWaitsForAllQueues () throws IOException {
+        TestConfig []       configs = new TestConfig [NUM_WRITERS];
+        DTBCreator []       creators = new DTBCreator [NUM_WRITERS];
+        TSRoot []           roots = new TSRoot [NUM_WRITERS];
+        boolean []          used = new boolean [NUM_WRITERS];
+
+        for (int ii = 0; ii < NUM_WRITERS; ii++) {
+            configs [ii] = createConfig (ii);
+            creators [ii] = new DTBCreator (configs [ii]);
+            roots [ii] = creators [ii].formatRoot (store);
+
+            used [store.getQueue ((TSRootFolder) roots [ii]).index] = true;
+        }
+
+        for (boolean u : used)
+            assertTrue (u);
+
+        for (int ii = 0; ii < NUM_WRITERS; ii++)
+            creators [ii].insertMessages (roots [ii], 0, configs [ii].numMessages, 1);
+
+        assertTrue (store.waitUntilDataStored (0));
+
+        long                numStored = 0;
+
+        for (WriterQueue queue : store.getQueues ()) {
+            assertEquals (0, queue.size ());
+            numStored += queue.getNumStored ();
+        }
+
+        assertTrue (numStored >= NUM_WRITERS);
+
+        for (int ii = 0; ii < NUM_WRITERS; ii++) {
+            roots [ii].close ();
+            creators [ii].verifyFullDB ();
+        }
+    }
+
+    private static TestConfig   createConfig (int index) {
+        TestConfig      config = new TestConfig ();
+
+        config.path = FSFactory.getLocalFS ().createPath (Home.getPath ("temp/testdtb_shard" + index));
+
+        return (config);
+    }
+}
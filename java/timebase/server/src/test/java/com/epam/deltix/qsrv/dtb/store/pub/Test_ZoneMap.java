@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.dtb.store.pub;
+
+import java.io.*;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class Test_ZoneMap {
+    private static final String []  FIELDS = { "price", "size" };
+
+    @Test
+    public void         updateAndMerge () {
+        ZoneMap         a = new ZoneMap (FIELDS);
+        ZoneMap         b = new ZoneMap (FIELDS);
+
+        assertFalse (a.hasValues (0));
+
+        a.update (0, 10.5);
+        a.update (0, 2.0);
+        a.update (0, Double.NaN);
+        a.updateNull (1);
+
+        b.update (1, 100L);
+        b.update (0, 20.0);
+
+        assertEquals (2.0, a.getMin (0), 0);
+        assertEquals (10.5, a.getMax (0), 0);
+        assertEquals (1, a.getNullCount (0));
+        assertFalse (a.hasValues (1));
+
+        a.merge (b);
+
+        assertEquals (2.0, a.getMin (0), 0);
+        assertEquals (20.0, a.getMax (0), 0);
+        assertEquals (100.0, a.getMin (1), 0);
+        assertEquals (100.0, a.getMax (1), 0);
+        assertEquals (1, a.getNullCount (1));
+    }
+
+    @Test
+    public void         longBounds () {
+        long            big = (1L << 60) + 1;
+
+        assertTrue (ZoneMap.lowerBound (big) <= big);
+        assertTrue (ZoneMap.upperBound (big) >= big);
+        assertTrue (ZoneMap.lowerBound (big) < ZoneMap.upperBound (big));
+        assertEquals (42.0, ZoneMap.lowerBound (42), 0);
+        assertEquals (42.0, ZoneMap.upperBound (42), 0);
+    }
+
+    @Test
+    public void         mayMatch () {
+        ZoneMap         map = new ZoneMap (FIELDS);
+
+        map.update (0, 10.0);
+        map.update (0, 20.0);
+
+        assertTrue (filter ("price", 15, 15).mayMatch (map));
+        assertTrue (filter ("price", 20, Double.POSITIVE_INFINITY).mayMatch (map));
+        assertFalse (filter ("price", 20.5, Double.POSITIVE_INFINITY).mayMatch (map));
+        assertFalse (filter ("price", Double.NEGATIVE_INFINITY, 9).mayMatch (map));
+
+        // no values of "size" in the block
+        assertFalse (filter ("size", 0, 0).mayMatch (map));
+
+        // unknown fields and missing statistics never skip data
+        assertTrue (filter ("volume", 0, 0).mayMatch (map));
+        assertTrue (filter ("price", 100, 200).mayMatch (null));
+    }
+
+    @Test
+    public void         writeRead () throws IOException {
+        ZoneMap                 map = new ZoneMap (FIELDS);
+
+        map.update (0, -1.5);
+        map.update (1, 7L);
+        map.updateNull (1);
+
+        ByteArrayOutputStream   bos = new ByteArrayOutputStream ();
+
+        map.write (new DataOutputStream (bos));
+
+        assertEquals (FIELDS.length * ZoneMap.FIELD_SIZE_ON_DISK, bos.size ());
+
+        ZoneMap                 copy = new ZoneMap (FIELDS);
+
+        copy.read (new DataInputStream (new ByteArrayInputStream (bos.toByteArray ())));
+
+        assertEquals (map.toString (), copy.toString ());
+        assertEquals (1, copy.getNullCount (1));
+    }
+
+    private static ZoneMapFilter    filter (String field, double lower, double upper) {
+        return (new ZoneMapFilter (new String [] { field }, new double [] { lower }, new double [] { upper }));
+    }
+}
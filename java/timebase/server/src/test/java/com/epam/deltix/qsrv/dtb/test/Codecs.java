@@ -21,6 +21,7 @@ import com.epam.deltix.util.collections.generated.*;
 import com.epam.deltix.util.io.*;
 import com.epam.deltix.util.memory.*;
 import java.io.*;
+import java.util.Random;
 import org.junit.*;
 
 import static org.junit.Assert.*;
@@ -70,6 +71,79 @@ public class Codecs {
         Assert.assertArrayEquals (data, inflated);        
     }
     
+    public static void  compressDecompressZstd () {
+        Random              rnd = new Random (2021);
+        byte []             block = new byte [1 << 16];
+
+        ZstdDictionary      samples = new ZstdDictionary ();
+
+        while (!samples.isComplete ()) {
+            generateMessages (rnd, block);
+            samples.addSamples (block, 0, block.length);
+        }
+
+        ZstdDigestedDictionary  dictionary = new ZstdDigestedDictionary (samples.train ());
+
+        generateMessages (rnd, block);
+
+        compressDecompress (
+            BlockCompressorFactory.createCompressor ("ZSTD(3)", new ByteArrayList ()),
+            BlockCompressorFactory.createDecompressor (BlockCompressorFactory.getCode (Algorithm.ZSTD)),
+            block
+        );
+
+        compressDecompress (
+            BlockCompressorFactory.createCompressor ("ZSTD(3, DICT)", dictionary, new ByteArrayList ()),
+            BlockCompressorFactory.createDecompressor (BlockCompressorFactory.getCode (Algorithm.ZSTD), dictionary),
+            block
+        );
+
+        // blocks compressed without dictionary are readable by the decompressor having dictionary
+        compressDecompress (
+            BlockCompressorFactory.createCompressor ("ZSTD", new ByteArrayList ()),
+            BlockCompressorFactory.createDecompressor (BlockCompressorFactory.getCode (Algorithm.ZSTD), dictionary),
+            block
+        );
+
+        assertTrue (BlockCompressorFactory.usesDictionary ("ZSTD(3, DICT)"));
+        assertFalse (BlockCompressorFactory.usesDictionary ("ZSTD(3)"));
+        assertFalse (BlockCompressorFactory.usesDictionary ("LZ4(5)"));
+    }
+
+    private static int  compressDecompress (BlockCompressor comp, BlockDecompressor decomp, byte [] data) {
+        ByteArrayList       app = new ByteArrayList ();
+        int                 defLength = comp.deflate (data, 0, data.length, app);
+
+        assertEquals (defLength, app.size ());
+
+        byte []             inflated = new byte [data.length];
+
+        decomp.inflate (app.getInternalBuffer (), 0, defLength, inflated, 0, data.length);
+
+        Assert.assertArrayEquals (data, inflated);
+
+        return defLength;
+    }
+
+    private static void generateMessages (Random rnd, byte [] block) {
+        MemoryDataOutput    out = new MemoryDataOutput (block.length);
+        long                timestamp = 1600000000000L;
+        double              price = 100.0;
+
+        while (out.getSize () < block.length - 64) {
+            timestamp += rnd.nextInt (1000);
+            price += (rnd.nextInt (21) - 10) * 0.01;
+
+            out.writeLong (timestamp);
+            out.writeString ("AAPL");
+            out.writeDouble (price);
+            out.writeInt (100 * (1 + rnd.nextInt (10)));
+            out.writeByte (rnd.nextBoolean () ? 1 : 0);
+        }
+
+        System.arraycopy (out.getBuffer (), 0, block, 0, out.getSize ());
+    }
+
     private static void    testMessageSizeCodec (int v, int expSize) {
         assertEquals (
             "For value " + v + ": requiredFieldSize()",
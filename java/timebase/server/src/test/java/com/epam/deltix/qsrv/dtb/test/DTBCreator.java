@@ -43,11 +43,20 @@ public class DTBCreator {
     }
         
     public TSRoot    format () throws IOException {
-        FSUtils.removeRecursive (config.path, false, null);
-        
-        PersistentDataStore         store = PDSFactory.create ();
-        
+        return (format (PDSFactory.create ()));
+    }
+
+    public TSRoot    format (PersistentDataStore store) throws IOException {
         store.start ();
+
+        return (formatRoot (store));
+    }
+
+    /**
+     *  Formats root in the store, which is already started.
+     */
+    public TSRoot    formatRoot (PersistentDataStore store) throws IOException {
+        FSUtils.removeRecursive (config.path, false, null);
         
         TSRoot      root = store.createRoot (null, config.path);
         
@@ -71,8 +80,10 @@ public class DTBCreator {
     }
     
     public TSRoot    open (boolean readOnly) {
-        PersistentDataStore         store = PDSFactory.create ();
-        
+        return (open (PDSFactory.create (), readOnly));
+    }
+
+    public TSRoot    open (PersistentDataStore store, boolean readOnly) {
         store.start ();
 
         TSRoot      root = store.createRoot (null, config.path);
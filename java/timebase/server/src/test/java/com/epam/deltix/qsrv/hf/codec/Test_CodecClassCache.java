@@ -0,0 +1,165 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.codec;
+
+import com.epam.deltix.util.io.Home;
+import org.junit.*;
+
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests persistent cache of compiled classes.
+ */
+public class Test_CodecClassCache {
+    private static final String KEY = "Test-0123456789abcdef";
+    private static final String CLASS = "com.epam.deltix.qsrv.hf.codec.generated.CachedSupplier";
+
+    private final File directory = new File(Home.getPath("temp/test_codec_cache"));
+    private final File file = new File(directory, KEY + ".classes");
+
+    @Before
+    public void setUp() throws IOException {
+        Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+
+        File[] files = directory.listFiles();
+        for (int i = 0; files != null && i < files.length; i++)
+            Files.delete(files[i].toPath());
+    }
+
+    @Test
+    public void hitAfterRestart() throws Exception {
+        CodecClassCache cache = new CodecClassCache(directory, CodecClassCache.SCHEMA);
+
+        assertEquals(1, load(cache, 1));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertTrue(file.exists());
+
+        CodecClassCache restarted = new CodecClassCache(directory, CodecClassCache.SCHEMA);
+
+        assertEquals(1, load(restarted, 1));
+        assertEquals(1, restarted.getHits());
+        assertEquals(0, restarted.getMisses());
+    }
+
+    @Test
+    public void staleSchema() throws Exception {
+        CodecClassCache old = new CodecClassCache(directory, "1/11/old");
+
+        assertEquals(1, load(old, 1));
+
+        // entry of other version is compiled again and replaced
+        CodecClassCache cache = new CodecClassCache(directory, CodecClassCache.SCHEMA);
+
+        assertEquals(1, load(cache, 1));
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        assertEquals(1, load(cache, 1));
+        assertEquals(1, cache.getHits());
+
+        assertEquals(1, load(old, 1));
+        assertEquals(0, old.getHits());
+        assertEquals(2, old.getMisses());
+    }
+
+    @Test
+    public void staleSources() throws Exception {
+        CodecClassCache cache = new CodecClassCache(directory, CodecClassCache.SCHEMA);
+
+        assertEquals(1, load(cache, 1));
+
+        // same layout key, but generator produces different code
+        assertEquals(2, load(cache, 2));
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        assertEquals(2, load(cache, 2));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void corruptedFile() throws Exception {
+        CodecClassCache cache = new CodecClassCache(directory, CodecClassCache.SCHEMA);
+
+        assertEquals(1, load(cache, 1));
+
+        // damage bytecode
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long position = raf.length() - 20;
+            raf.seek(position);
+            int b = raf.read();
+            raf.seek(position);
+            raf.write(b ^ 0xFF);
+        }
+
+        assertEquals(1, load(cache, 1));
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        // entry is stored again
+        assertEquals(1, load(cache, 1));
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void truncatedFile() throws Exception {
+        CodecClassCache cache = new CodecClassCache(directory, CodecClassCache.SCHEMA);
+
+        assertEquals(1, load(cache, 1));
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() / 2);
+        }
+
+        assertEquals(1, load(cache, 1));
+        assertEquals(0, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        assertEquals(1, load(cache, 1));
+        assertEquals(1, cache.getHits());
+    }
+
+    private static int load(CodecClassCache cache, int value) throws Exception {
+        Class<?> cls = cache.load(KEY, CLASS, sources(value), Test_CodecClassCache.class.getClassLoader());
+
+        assertNotNull(cls);
+
+        return ((IntSupplier) cls.getDeclaredConstructor().newInstance()).getAsInt();
+    }
+
+    private static Map<String, String> sources(int value) {
+        Map<String, String> sources = new LinkedHashMap<>();
+
+        sources.put(CLASS,
+            "package com.epam.deltix.qsrv.hf.codec.generated;\n" +
+            "public final class CachedSupplier implements java.util.function.IntSupplier {\n" +
+            "    public int getAsInt() { return " + value + "; }\n" +
+            "}\n");
+
+        return sources;
+    }
+}
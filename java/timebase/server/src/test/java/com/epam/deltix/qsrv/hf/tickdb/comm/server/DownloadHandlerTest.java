@@ -0,0 +1,525 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.comm.server;
+
+import com.epam.deltix.qsrv.hf.codec.MessageSizeCodec;
+import com.epam.deltix.qsrv.hf.pub.ChannelPerformance;
+import com.epam.deltix.qsrv.hf.pub.RawMessage;
+import com.epam.deltix.qsrv.hf.pub.md.Introspector;
+import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
+import com.epam.deltix.qsrv.hf.tickdb.comm.TDBProtocol;
+import com.epam.deltix.qsrv.hf.tickdb.comm.TypeSet;
+import com.epam.deltix.qsrv.hf.tickdb.pub.CursorException;
+import com.epam.deltix.qsrv.hf.tickdb.pub.SelectionOptions;
+import com.epam.deltix.qsrv.hf.tickdb.pub.query.InstrumentMessageSource;
+import com.epam.deltix.timebase.messages.InstrumentMessage;
+import com.epam.deltix.util.concurrent.QuickExecutor;
+import com.epam.deltix.util.concurrent.UnavailableResourceException;
+import com.epam.deltix.util.security.DataFilter;
+import com.epam.deltix.util.vsocket.VSChannel;
+import com.epam.deltix.util.vsocket.VSOutputStream;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Matchers;
+import org.mockito.Mockito;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.epam.deltix.qsrv.hf.tickdb.comm.TDBProtocol.*;
+import static org.junit.Assert.*;
+
+/**
+ * Checks that batched pump of {@link DownloadHandler} delivers the same
+ * message/ack/error/end-of-cursor sequence as the unbatched one.
+ */
+public class DownloadHandlerTest {
+    private static final RecordClassDescriptor  TYPE = getDescriptorForInstrumentMessage();
+
+    private static final int                    COUNT = 1000;
+    private static final long                   BASE_TIME = 1600000000000L;
+    private static final long                   SERIAL = 7;
+
+    private static RecordClassDescriptor getDescriptorForInstrumentMessage() {
+        Introspector ix = Introspector.createEmptyMessageIntrospector();
+        try {
+            return ix.introspectRecordClass("Get RD for DownloadHandlerTest", InstrumentMessage.class);
+        } catch (Introspector.IntrospectionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private enum Mode {
+        UNBATCHED (ChannelPerformance.LOW_LATENCY, -1),  // low latency channels are not batched
+        SINGLE (ChannelPerformance.MIN_CPU_USAGE, 0),    // no capacity: batch limit stays 1
+        BATCHED (ChannelPerformance.MIN_CPU_USAGE, -1);  // unknown capacity: batch limit grows to MAX_BATCH_SIZE
+
+        final ChannelPerformance    performance;
+        final int                   capacity;
+
+        Mode(ChannelPerformance performance, int capacity) {
+            this.performance = performance;
+            this.capacity = capacity;
+        }
+    }
+
+    private final QuickExecutor executor = QuickExecutor.createNewInstance("DownloadHandlerTest", null);
+
+    @After
+    public void tearDown() {
+        executor.shutdownInstance();
+    }
+
+    @Test
+    public void plainStream() throws Exception {
+        List<String> expected = new ArrayList<>();
+        addMessages(expected, 0, COUNT, false);
+        expected.add("EOC");
+
+        List<String> unbatched = run(Mode.UNBATCHED, new ScriptedCursor(), null, "EOC");
+        assertEquals(expected, withoutLoads(unbatched));
+
+        assertEquals(unbatched, run(Mode.SINGLE, new ScriptedCursor(), null, "EOC"));
+        assertEquals(unbatched, run(Mode.BATCHED, new ScriptedCursor(), null, "EOC"));
+    }
+
+    @Test
+    public void filterRejectsMessages() throws Exception {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < COUNT; i += 2)
+            expected.add(message(i, false));
+        expected.add("EOC");
+
+        List<String> unbatched = run(Mode.UNBATCHED, new ScriptedCursor(), evenOnly(), "EOC");
+        assertEquals(expected, withoutLoads(unbatched));
+
+        assertEquals(unbatched, run(Mode.SINGLE, new ScriptedCursor(), evenOnly(), "EOC"));
+        assertEquals(unbatched, run(Mode.BATCHED, new ScriptedCursor(), evenOnly(), "EOC"));
+    }
+
+    @Test
+    public void subscriptionChangeInTheMiddleOfBatch() throws Exception {
+        // batches of the BATCHED mode are [0], [1..256], [257..512], ... - 300 is in the middle of the third one
+        int position = 300;
+
+        List<String> expected = new ArrayList<>();
+        addMessages(expected, 0, position, false);
+        expected.add("ACK #" + SERIAL);
+        addMessages(expected, position, COUNT, true);
+        expected.add("EOC");
+
+        List<String> unbatched = run(Mode.UNBATCHED, new ScriptedCursor().subscribeAt(position), null, "EOC");
+        assertEquals(expected, withoutLoads(unbatched));
+
+        assertEquals(unbatched, run(Mode.SINGLE, new ScriptedCursor().subscribeAt(position), null, "EOC"));
+        assertEquals(unbatched, run(Mode.BATCHED, new ScriptedCursor().subscribeAt(position), null, "EOC"));
+    }
+
+    @Test
+    public void cursorErrorInTheMiddleOfBatch() throws Exception {
+        int position = 300;
+
+        List<String> expected = new ArrayList<>();
+        addMessages(expected, 0, position, false);
+        expected.add("ERROR broken block");
+        addMessages(expected, position, COUNT, false);
+        expected.add("EOC");
+
+        List<String> unbatched = run(Mode.UNBATCHED, new ScriptedCursor().failAt(position, new BrokenBlockException()), null, "EOC");
+        assertEquals(expected, withoutLoads(unbatched));
+
+        assertEquals(unbatched, run(Mode.SINGLE, new ScriptedCursor().failAt(position, new BrokenBlockException()), null, "EOC"));
+        assertEquals(unbatched, run(Mode.BATCHED, new ScriptedCursor().failAt(position, new BrokenBlockException()), null, "EOC"));
+    }
+
+    @Test
+    public void fatalErrorStopsPump() throws Exception {
+        int position = 300;
+
+        List<String> expected = new ArrayList<>();
+        addMessages(expected, 0, position, false);
+        expected.add("ERROR fatal");
+
+        for (Mode mode : Mode.values()) {
+            ScriptedCursor cursor = new ScriptedCursor().failAt(position, new IllegalStateException("fatal"));
+
+            assertEquals(mode.name(), expected, withoutLoads(run(mode, cursor, null, "ERROR fatal")));
+            assertFalse(mode + ": cursor is read after fatal error", cursor.readAfterFatal);
+        }
+    }
+
+    @Test
+    public void batchSize() throws Exception {
+        assertTrue(DownloadHandler.MAX_BATCH_SIZE > 1);
+
+        CapturingOutput single = new CapturingOutput(Mode.SINGLE.capacity);
+        run(Mode.SINGLE, single, new ScriptedCursor(), null, "EOC");
+        // every message is a frame of its own
+        assertTrue(single.frames >= COUNT);
+
+        CapturingOutput batched = new CapturingOutput(Mode.BATCHED.capacity);
+        run(Mode.BATCHED, batched, new ScriptedCursor(), null, "EOC");
+        // first frame has a single message, then frames of MAX_BATCH_SIZE (and the last one, which may be empty)
+        assertTrue(batched.frames <= 2 + COUNT / DownloadHandler.MAX_BATCH_SIZE);
+    }
+
+    private List<String> run(Mode mode, ScriptedCursor cursor, DataFilter<RawMessage> filter, String last) throws Exception {
+        return run(mode, new CapturingOutput(mode.capacity), cursor, filter, last);
+    }
+
+    private List<String> run(Mode mode, CapturingOutput out, ScriptedCursor cursor, DataFilter<RawMessage> filter, String last)
+        throws Exception
+    {
+        ControlInput in = new ControlInput();
+        AtomicReference<Runnable> controlListener = new AtomicReference<>();
+
+        VSChannel ds = Mockito.mock(VSChannel.class);
+        Mockito.when(ds.getOutputStream()).thenReturn(out);
+        Mockito.when(ds.getDataOutputStream()).thenReturn(new DataOutputStream(out));
+        Mockito.when(ds.getDataInputStream()).thenReturn(new DataInputStream(in));
+        Mockito.doAnswer(invocation -> {
+            controlListener.set((Runnable) invocation.getArguments()[0]);
+            return null;
+        }).when(ds).setAvailabilityListener(Matchers.any(Runnable.class));
+
+        // client changes subscription while server reads cursor
+        byte[] command = subscribeToAllEntities();
+        cursor.onSubscribe = () -> {
+            in.send(command);
+            controlListener.get().run();
+        };
+
+        SelectionOptions options = new SelectionOptions();
+        options.channelPerformance = mode.performance;
+
+        DownloadHandler.createAndStart(options, null, ds, null, executor, TDBProtocol.VERSION, filter,
+                ds.getDataOutputStream(), false, cursor.source, null);
+
+        return out.await(last);
+    }
+
+    private static byte[] subscribeToAllEntities() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeShort(CURREQ_ALL_ENTITIES);
+        out.writeLong(SERIAL);
+        out.writeLong(Long.MIN_VALUE);
+
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataFilter<RawMessage> evenOnly() {
+        DataFilter<RawMessage> filter = Mockito.mock(DataFilter.class);
+        Mockito.when(filter.accept(Matchers.any(RawMessage.class))).thenAnswer(
+            invocation -> index((RawMessage) invocation.getArguments()[0]) % 2 == 0
+        );
+        return filter;
+    }
+
+    private static int index(RawMessage msg) {
+        return ByteBuffer.wrap(msg.data, msg.offset, msg.length).getInt(msg.offset);
+    }
+
+    private static void addMessages(List<String> events, int from, int to, boolean subscribed) {
+        for (int i = from; i < to; i++)
+            events.add(message(i, subscribed));
+    }
+
+    private static String message(int index, boolean subscribed) {
+        return "MSG #" + index + (subscribed ? " (subscribed)" : "");
+    }
+
+    private static List<String> withoutLoads(List<String> events) {
+        List<String> result = new ArrayList<>();
+        for (String event : events)
+            if (!event.startsWith("LOAD"))
+                result.add(event);
+        return result;
+    }
+
+    /**
+     *  Cursor over COUNT messages, which may fail or change subscription once at the given positions.
+     */
+    private static final class ScriptedCursor {
+        final InstrumentMessageSource   source = Mockito.mock(InstrumentMessageSource.class);
+        final RawMessage                message = new RawMessage(TYPE);
+        final byte[]                    data = new byte[5];
+
+        int                             position = 0;
+        int                             subscribeAt = -1;
+        int                             failAt = -1;
+        RuntimeException                error;
+        boolean                         fatal = false;
+        volatile boolean                readAfterFatal = false;
+        volatile boolean                subscribed = false;
+        Runnable                        onSubscribe;
+
+        ScriptedCursor() {
+            message.setSymbol("AAPL");
+
+            Mockito.when(source.next()).thenAnswer(invocation -> next());
+            Mockito.when(source.getMessage()).thenReturn(message);
+            Mockito.when(source.getCurrentStreamIndex()).thenReturn(0);
+            Mockito.when(source.getCurrentEntityIndex()).thenReturn(0);
+            Mockito.when(source.getCurrentStreamKey()).thenReturn("test");
+            Mockito.doAnswer(invocation -> {
+                subscribed = true;
+                return null;
+            }).when(source).subscribeToAllEntities();
+        }
+
+        ScriptedCursor subscribeAt(int position) {
+            this.subscribeAt = position;
+            return this;
+        }
+
+        ScriptedCursor failAt(int position, RuntimeException error) {
+            this.failAt = position;
+            this.error = error;
+            return this;
+        }
+
+        // called by the pump under cursor lock
+        private boolean next() {
+            if (fatal) {
+                readAfterFatal = true;
+                return false;
+            }
+
+            if (position == subscribeAt) {
+                subscribeAt = -1;
+                onSubscribe.run();
+                throw UnavailableResourceException.INSTANCE;
+            }
+
+            if (position == failAt) {
+                failAt = -1;
+                fatal = !(error instanceof CursorException);
+                throw error;
+            }
+
+            if (position == COUNT)
+                return false;
+
+            ByteBuffer.wrap(data).putInt(0, position).put(4, (byte) (subscribed ? 1 : 0));
+            message.setBytes(data, 0, data.length);
+            message.setTimeStampMs(BASE_TIME + position);
+            position++;
+
+            return true;
+        }
+    }
+
+    private static final class BrokenBlockException extends CursorException {
+        BrokenBlockException() {
+            super("broken block");
+        }
+    }
+
+    /**
+     *  Control channel of the client: commands become available when sent.
+     */
+    private static final class ControlInput extends InputStream {
+        private byte[]  buffer = new byte[0];
+        private int     position = 0;
+
+        synchronized void send(byte[] command) {
+            byte[] result = Arrays.copyOf(buffer, buffer.length + command.length);
+            System.arraycopy(command, 0, result, buffer.length, command.length);
+            buffer = result;
+        }
+
+        @Override
+        public synchronized int available() {
+            return buffer.length - position;
+        }
+
+        @Override
+        public synchronized int read() {
+            return position < buffer.length ? buffer[position++] & 0xFF : -1;
+        }
+    }
+
+    /**
+     *  Data channel of the client: collects everything sent by the server.
+     */
+    private static final class CapturingOutput extends VSOutputStream {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final int                   capacity;
+        private int                         frames = 0;
+
+        CapturingOutput(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            bytes.write(b, off, len);
+            frames++;
+        }
+
+        @Override
+        public void enableFlushing() {
+        }
+
+        @Override
+        public void disableFlushing() {
+        }
+
+        @Override
+        public void flushAvailable() {
+        }
+
+        @Override
+        public int getAvailableCapacity() {
+            return capacity;
+        }
+
+        synchronized byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+
+        /**
+         *  Waits until the given event is received, then makes sure nothing follows it.
+         */
+        List<String> await(String last) throws Exception {
+            long deadline = System.currentTimeMillis() + 10000;
+
+            for (;;) {
+                List<String> events = new ArrayList<>();
+                boolean complete = parse(toByteArray(), events);
+
+                if (complete && !events.isEmpty() && last.equals(events.get(events.size() - 1))) {
+                    Thread.sleep(100);
+
+                    List<String> result = new ArrayList<>();
+                    parse(toByteArray(), result);
+                    return result;
+                }
+
+                if (System.currentTimeMillis() > deadline)
+                    fail("Timed out waiting for " + last + ": " + withoutLoads(events));
+
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    /**
+     *  Decodes the server response the way the client does.
+     *  @return false, if data ends in the middle of response
+     */
+    private static boolean parse(byte[] data, List<String> events) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        TypeSet types = new TypeSet(new TypeSet.TypeSender() {
+            public DataOutputStream begin() {
+                throw new UnsupportedOperationException();
+            }
+
+            public void end() {
+                throw new UnsupportedOperationException();
+            }
+
+            public int version() {
+                return 0;
+            }
+        });
+
+        try {
+            assertTrue(in.readBoolean());
+            in.readByte(); // transport
+
+            for (;;) {
+                in.mark(data.length);
+                int code = in.read();
+
+                switch (code) {
+                    case -1:
+                        return true;
+
+                    case CURRESP_END_OF_CURSOR:
+                        events.add("EOC");
+                        break;
+
+                    case CURRESP_ACK_SERIAL:
+                        events.add("ACK #" + in.readLong());
+                        break;
+
+                    case CURRESP_ERROR:
+                        events.add("ERROR " + readErrorMessage(in));
+                        break;
+
+                    case CURRESP_LOAD_TYPE:
+                        types.readTypes(in);
+                        events.add("LOAD_TYPE");
+                        break;
+
+                    case CURRESP_LOAD_ENTITY:
+                        events.add("LOAD_ENTITY " + in.readUTF());
+                        break;
+
+                    case CURRESP_LOAD_STREAM:
+                        events.add("LOAD_STREAM " + in.readUTF());
+                        break;
+
+                    default: {
+                        // message size, which starts with the byte just read
+                        in.reset();
+                        int length = MessageSizeCodec.read((DataInput) in);
+
+                        byte[] body = new byte[length];
+                        in.readFully(body);
+
+                        ByteBuffer payload = ByteBuffer.wrap(body, length - 5, 5);
+                        events.add(message(payload.getInt(), payload.get() != 0));
+                    }
+                }
+            }
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static String readErrorMessage(DataInputStream in) throws IOException {
+        in.readUTF(); // class name
+        String message = in.readUTF();
+
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            in.readUTF();
+            in.readUTF();
+            in.readUTF();
+            in.readInt();
+        }
+
+        if (in.readBoolean())
+            readErrorMessage(in);
+
+        return message;
+    }
+}
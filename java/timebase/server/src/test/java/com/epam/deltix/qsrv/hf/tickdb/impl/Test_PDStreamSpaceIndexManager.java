@@ -19,6 +19,8 @@ package com.epam.deltix.qsrv.hf.tickdb.impl;
 import com.google.common.base.Joiner;
 import com.epam.deltix.qsrv.dtb.fs.pub.AbstractFileSystem;
 import com.epam.deltix.qsrv.dtb.fs.pub.AbstractPath;
+import com.epam.deltix.qsrv.dtb.store.pub.CompactionOptions;
+import com.epam.deltix.qsrv.dtb.store.pub.CompactionStats;
 import com.epam.deltix.qsrv.dtb.store.pub.EntityFilter;
 import com.epam.deltix.qsrv.dtb.store.pub.PersistentDataStore;
 import com.epam.deltix.qsrv.dtb.store.pub.SymbolRegistry;
@@ -26,6 +28,7 @@ import com.epam.deltix.qsrv.dtb.store.pub.TSRef;
 import com.epam.deltix.qsrv.dtb.store.pub.TSRoot;
 import com.epam.deltix.qsrv.dtb.store.pub.TimeRange;
 import com.epam.deltix.qsrv.dtb.store.pub.TimeSliceIterator;
+import com.epam.deltix.qsrv.dtb.store.pub.ZoneMapCollector;
 import com.epam.deltix.qsrv.hf.pub.TimeInterval;
 import com.epam.deltix.util.lang.StringUtils;
 import org.junit.Assert;
@@ -205,6 +208,16 @@ public class Test_PDStreamSpaceIndexManager {
 
         }
 
+        @Override
+        public void setZoneMapCollector(ZoneMapCollector collector) {
+
+        }
+
+        @Override
+        public ZoneMapCollector getZoneMapCollector() {
+            return null;
+        }
+
         @Override
         public void getTimeRange(int id, TimeRange out) {
 
@@ -260,6 +273,16 @@ public class Test_PDStreamSpaceIndexManager {
 
         }
 
+        @Override
+        public long compact(long from, CompactionOptions options, CompactionStats stats) {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public long migrate(long from, long coldTime, CompactionStats stats) {
+            return Long.MAX_VALUE;
+        }
+
         @Override
         public TSRef associate(String path) {
             return null;
@@ -26,12 +26,15 @@ import com.epam.deltix.qsrv.hf.tickdb.impl.TransientStreamImpl;
 import com.epam.deltix.qsrv.hf.tickdb.impl.queue.QueueMessageReader;
 import com.epam.deltix.qsrv.hf.tickdb.pub.BufferOptions;
 import com.epam.deltix.qsrv.hf.tickdb.pub.StreamOptions;
+import com.epam.deltix.qsrv.hf.tickdb.pub.WriterAbortedException;
 import com.epam.deltix.timebase.messages.service.DataLossMessage;
 import com.epam.deltix.util.concurrent.UnavailableResourceException;
 import com.epam.deltix.util.concurrent.UncheckedInterruptedException;
 import com.epam.deltix.util.memory.MemoryDataInput;
 import com.epam.deltix.util.memory.MemoryDataOutput;
 import com.epam.deltix.util.time.TimeKeeper;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -207,6 +210,46 @@ public class Test_DisruptorMessageQueue {
         }
     }
 
+    @Test(timeout = 10000)
+    public void testLosslessWriterAbortedOnClose() throws InterruptedException {
+        StreamOptions options = new StreamOptions();
+        options.bufferOptions = new BufferOptions();
+        options.bufferOptions.maxBufferSize = 1024;
+        options.bufferOptions.lossless = true;
+
+        TransientStreamImpl stream = new TransientStreamImpl(null, null, options);
+        DisruptorMessageQueue queue = new DisruptorMessageQueue(stream, true, DisruptorQueueWaitMode.SLEEPING.create());
+
+        MessageChannel<InstrumentMessage> writer = queue.getWriter(new TwoByteMessageEncoder());
+        queue.getMessageReader(null, false, false); // never reads, so writer will get blocked
+
+        Future<?> producer = executor.submit(new FixedMessageCountProducer(writer, 1000));
+
+        Thread.sleep(100);
+        Assert.assertFalse(producer.isDone());
+
+        queue.close();
+        try {
+            producer.get();
+            Assert.fail("Writer is not aborted");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof WriterAbortedException);
+        }
+    }
+
+    @Test
+    public void testWaitModeParsing() {
+        Assert.assertTrue(DisruptorQueueWaitMode.create("busy_spin") instanceof BusySpinWaitStrategy);
+        Assert.assertTrue(DisruptorQueueWaitMode.create(YieldingWaitStrategy.class.getName()) instanceof YieldingWaitStrategy);
+
+        try {
+            DisruptorQueueWaitMode.create(String.class.getName());
+            Assert.fail("No exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
     private static final String MESSAGE_LOSS_RCD_NAME = DataLossMessage.class.getName();
 
     private static boolean isMessageLossSignal(RawMessage msg) {
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl.multiplexer;
+
+import com.epam.deltix.qsrv.hf.tickdb.impl.streamqueue.MiltiplexingQueueBenchmark;
+import com.epam.deltix.qsrv.hf.tickdb.impl.streamqueue.utilityclasses.TimeStampedMessageMessageSource;
+import com.epam.deltix.timebase.messages.TimeStampedMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link MSPriorityQueue} (binary heap) with {@link MSTournamentTree} on the main multiplexer path:
+ * poll the head source, advance it and return it back.
+ * <p>
+ * Placed into multiplexer package because both queues are package-private.
+ * See also {@link MiltiplexingQueueBenchmark}.
+ */
+@Warmup(time = 10, timeUnit = TimeUnit.SECONDS, iterations = 2)
+@Measurement(time = 30, timeUnit = TimeUnit.SECONDS, iterations = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Threads(1)
+public class MSQueueBenchmark {
+
+    @Benchmark
+    public PrioritizedSource<TimeStampedMessage> benchPriorityQueue(PriorityQueueState state) {
+        return pollAndOffer(state.queue);
+    }
+
+    @Benchmark
+    public PrioritizedSource<TimeStampedMessage> benchTournamentTree(TournamentTreeState state) {
+        return pollAndOffer(state.queue);
+    }
+
+    private static PrioritizedSource<TimeStampedMessage> pollAndOffer(MSQueue<TimeStampedMessage> queue) {
+        PrioritizedSource<TimeStampedMessage> source = queue.poll();
+        source.getSrc().next();
+        queue.offer(source);
+        return source;
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkSettings {
+        @Param({"10", "1000", "100000"})
+        int messageSourceCount;
+
+        @Param({"10"})
+        int step;
+
+        List<PrioritizedSource<TimeStampedMessage>> sources = new ArrayList<>();
+
+        @Setup
+        public void prepare() {
+            Random random = new Random(0);
+
+            long baseTimestamp = 1000000000000L; // ~2001.09.09
+            for (int i = 0; i < messageSourceCount; i++) {
+                long baseTimestampForSource = baseTimestamp + random.nextInt((messageSourceCount * 2 + 1) / 2);
+                TimeStampedMessageMessageSource source = new TimeStampedMessageMessageSource(baseTimestampForSource, random, step, 1);
+                source.next();
+                sources.add(new PrioritizedSource<>(source, i));
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class PriorityQueueState {
+        MSQueue<TimeStampedMessage> queue;
+
+        @Setup
+        public void prepare(BenchmarkSettings settings) {
+            queue = new MSPriorityQueue<>(256, true, new PrioritizedMessageSourceMultiplexer.TimeComparator<>());
+            for (PrioritizedSource<TimeStampedMessage> source : settings.sources)
+                queue.offer(source);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class TournamentTreeState {
+        MSQueue<TimeStampedMessage> queue;
+
+        @Setup
+        public void prepare(BenchmarkSettings settings) {
+            queue = new MSTournamentTree<>(256, true, new PrioritizedMessageSourceMultiplexer.TimeComparator<>());
+            for (PrioritizedSource<TimeStampedMessage> source : settings.sources)
+                queue.offer(source);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String simpleName = MSQueueBenchmark.class.getSimpleName();
+        Options opt = new OptionsBuilder()
+                .include(simpleName)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .result(simpleName + "_report.json")
+                .resultFormat(ResultFormatType.JSON)
+                .build();
+
+        Collection<RunResult> runResults = new Runner(opt).run();
+        System.out.println(runResults);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.impl.multiplexer;
+
+import com.epam.deltix.qsrv.hf.tickdb.impl.streamqueue.utilityclasses.TimeStampedMessageMessageSource;
+import com.epam.deltix.timebase.messages.TimeStampedMessage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Checks that {@link MSTournamentTree} returns sources in the same order as {@link MSPriorityQueue}.
+ */
+public class Test_MSTournamentTree {
+
+    @Test
+    public void sameTimestampsOrderedByPriority() {
+        MSTournamentTree<TimeStampedMessage> tree = new MSTournamentTree<>(4, true, new PrioritizedMessageSourceMultiplexer.TimeComparator<>());
+
+        Random random = new Random(0);
+        for (int priority : new int[] {5, 1, 3, 0, 4, 2}) // forces capacity extension
+            tree.offer(new PrioritizedSource<>(new TimeStampedMessageMessageSource(1000, random, 1, 1), priority));
+
+        for (int i = 0; i < 6; i++)
+            Assert.assertEquals(i, tree.poll().getPriority());
+
+        Assert.assertTrue(tree.isEmpty());
+        Assert.assertNull(tree.poll());
+    }
+
+    @Test
+    public void removeAttachedSourcesOnly() {
+        MSTournamentTree<TimeStampedMessage> tree = new MSTournamentTree<>(4, true, new PrioritizedMessageSourceMultiplexer.TimeComparator<>());
+
+        Random random = new Random(0);
+        List<PrioritizedSource<TimeStampedMessage>> sources = new ArrayList<>();
+        for (int priority = 0; priority < 3; priority++) {
+            PrioritizedSource<TimeStampedMessage> source = new PrioritizedSource<>(new TimeStampedMessageMessageSource(1000, random, 1, 1), priority);
+            sources.add(source);
+            tree.offer(source);
+        }
+
+        // polled source is detached by any following operation
+        Assert.assertSame(sources.get(0), tree.poll());
+        Assert.assertFalse(tree.remove(sources.get(0)));
+
+        Assert.assertTrue(tree.remove(sources.get(2)));
+        Assert.assertFalse(tree.remove(sources.get(2)));
+
+        Assert.assertEquals(1, tree.size());
+        Assert.assertSame(sources.get(1), tree.poll());
+        Assert.assertTrue(tree.isEmpty());
+    }
+
+    @Test
+    public void matchesHeapAscending() {
+        compareWithHeap(true, 1000);
+    }
+
+    @Test
+    public void matchesHeapDescending() {
+        compareWithHeap(false, 1000);
+    }
+
+    @Test
+    public void matchesHeapSingleSource() {
+        compareWithHeap(true, 1);
+    }
+
+    private static void compareWithHeap(boolean ascending, int count) {
+        PrioritizedMessageSourceMultiplexer.TimeComparator<TimeStampedMessage> c = new PrioritizedMessageSourceMultiplexer.TimeComparator<>();
+        MSTournamentTree<TimeStampedMessage> tree = new MSTournamentTree<>(16, ascending, c);
+        MSPriorityQueue<TimeStampedMessage> heap = new MSPriorityQueue<>(16, ascending, c);
+
+        Random random = new Random(42);
+        List<PrioritizedSource<TimeStampedMessage>> removed = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            // Unique priorities make order fully determined
+            PrioritizedSource<TimeStampedMessage> source = new PrioritizedSource<>(
+                    new TimeStampedMessageMessageSource(1000 + random.nextInt(100), random, 10, ascending ? 1 : -1), i);
+            tree.offer(source);
+            heap.offer(source);
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            int op = random.nextInt(100);
+
+            if (op < 2 && !removed.isEmpty()) {
+                // re-add previously removed source
+                PrioritizedSource<TimeStampedMessage> source = removed.remove(removed.size() - 1);
+                tree.offer(source);
+                heap.offer(source);
+            } else if (op < 4 && !heap.isEmpty()) {
+                // remove arbitrary source
+                PrioritizedSource<TimeStampedMessage> source = heap.get(random.nextInt(heap.size()));
+                Assert.assertTrue(heap.remove(source));
+                Assert.assertTrue(tree.remove(source));
+                removed.add(source);
+            } else if (!heap.isEmpty()) {
+                // poll, advance and return back
+                PrioritizedSource<TimeStampedMessage> expected = heap.poll();
+                PrioritizedSource<TimeStampedMessage> actual = tree.poll();
+                Assert.assertSame(expected, actual);
+
+                actual.getSrc().next();
+                heap.offer(actual);
+                tree.offer(actual);
+            }
+
+            Assert.assertEquals(heap.size(), tree.size());
+        }
+
+        while (!heap.isEmpty())
+            Assert.assertSame(heap.poll(), tree.poll());
+
+        Assert.assertTrue(tree.isEmpty());
+    }
+}
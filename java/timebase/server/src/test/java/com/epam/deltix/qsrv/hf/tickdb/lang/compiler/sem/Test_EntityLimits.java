@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sem;
+
+import com.epam.deltix.qsrv.hf.pub.md.StandardTypes;
+import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sx.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class Test_EntityLimits {
+
+    private static CompiledConstant symbol(String value) {
+        return new CompiledConstant(StandardTypes.CLEAN_VARCHAR, value);
+    }
+
+    private static CompiledExpression in(String ... values) {
+        CompiledExpression[] args = new CompiledExpression[values.length + 1];
+        args[0] = new SymbolSelector();
+        for (int i = 0; i < values.length; i++)
+            args[i + 1] = symbol(values[i]);
+
+        return new ConnectiveExpression(false, StandardTypes.CLEAN_BOOLEAN, args);
+    }
+
+    @Test
+    public void equality () {
+        CompiledExpression other = new SimpleFunction(SimpleFunctionCode.BOOLEAN_EQ,
+                CompiledConstant.B_True, CompiledConstant.B_True);
+
+        List<CompiledExpression> condition = new ArrayList<>(Arrays.asList(
+                new SimpleFunction(SimpleFunctionCode.VARCHAR_EQ, new SymbolSelector(), symbol("AAPL")),
+                other
+        ));
+
+        EntityLimits limits = QQLPostProcessingPatterns.extractEntityLimits(condition);
+
+        assertArrayEquals(new String[] { "AAPL" }, limits.getSymbols());
+        assertEquals(1, condition.size());
+        assertEquals(other, condition.get(0));
+    }
+
+    @Test
+    public void intersection () {
+        List<CompiledExpression> condition = new ArrayList<>(Arrays.asList(
+                in("AAPL", "IBM", "MSFT"),
+                new SimpleFunction(SimpleFunctionCode.VARCHAR_EQ, symbol("IBM"), new SymbolSelector()),
+                in("IBM", "ORCL")
+        ));
+
+        EntityLimits limits = QQLPostProcessingPatterns.extractEntityLimits(condition);
+
+        assertArrayEquals(new String[] { "IBM" }, limits.getSymbols());
+        assertEquals(0, condition.size());
+
+        condition.add(in("AAPL"));
+        condition.add(in("IBM"));
+
+        assertEquals(0, QQLPostProcessingPatterns.extractEntityLimits(condition).getSymbols().length);
+    }
+
+    @Test
+    public void notExtracted () {
+        List<CompiledExpression> condition = new ArrayList<>(Arrays.asList(
+                new SimpleFunction(SimpleFunctionCode.VARCHAR_NEQ, new SymbolSelector(), symbol("AAPL")),
+                new ConnectiveExpression(true, StandardTypes.CLEAN_BOOLEAN, new SymbolSelector(), symbol("AAPL"))
+        ));
+
+        assertNull(QQLPostProcessingPatterns.extractEntityLimits(condition));
+        assertEquals(2, condition.size());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.parser;
+
+import com.epam.deltix.qsrv.hf.tickdb.lang.pub.OverClause;
+import com.epam.deltix.qsrv.hf.tickdb.lang.pub.SelectExpression;
+import com.epam.deltix.util.parsers.SyntaxErrorException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class Test_OverClause {
+
+    private static SelectExpression select(String text) {
+        return (SelectExpression) QQLParser.parse(text, null);
+    }
+
+    @Test
+    public void countWindow() {
+        SelectExpression e = select("select max (price) from trades over count (10)");
+
+        assertNotNull(e.over);
+        assertEquals(OverClause.Kind.COUNT, e.over.kind);
+        assertEquals(10, e.over.getSize());
+    }
+
+    @Test
+    public void timeWindow() {
+        SelectExpression e = select("select max (price) from trades where price > 0 over time ('00:01:00'T)");
+
+        assertNotNull(e.over);
+        assertEquals(OverClause.Kind.TIME, e.over.kind);
+        assertEquals(60000, e.over.getSize());
+    }
+
+    @Test
+    public void afterGroupBy() {
+        SelectExpression e = select("select max (price) from trades group by symbol over time (5000)");
+
+        assertNotNull(e.groupBy);
+        assertEquals(OverClause.Kind.TIME, e.over.kind);
+        assertEquals(5000, e.over.getSize());
+    }
+
+    @Test
+    public void noWindow() {
+        assertNull(select("select max (price) from trades").over);
+    }
+
+    @Test
+    public void innermostSelect() {
+        SelectExpression e = select("select max (price) from select price from trades over count (3)");
+
+        assertNull(e.over);
+        assertEquals(OverClause.Kind.COUNT, ((SelectExpression) e.getSource()).over.kind);
+    }
+
+    @Test
+    public void overIsNotReserved() {
+        assertNull(select("select over, time, count from trades").over);
+    }
+
+    @Test(expected = SyntaxErrorException.class)
+    public void countWindowOfTime() {
+        select("select max (price) from trades over count ('00:01:00'T)");
+    }
+
+    @Test(expected = SyntaxErrorException.class)
+    public void unknownWindow() {
+        select("select max (price) from trades over rows (3)");
+    }
+}
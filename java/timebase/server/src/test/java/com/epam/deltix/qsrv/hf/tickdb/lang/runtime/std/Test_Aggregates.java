@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.qsrv.hf.tickdb.lang.runtime.std;
+
+import com.epam.deltix.qsrv.hf.pub.md.IntegerDataType;
+import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.sem.FunctionDescriptor;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Test_Aggregates {
+
+    private static final double EPS = 1e-9;
+
+    @Test
+    public void descriptors() {
+        Class<?>[] classes = {
+            SumInteger.class, SumFloat.class, AvgInteger.class, AvgFloat.class,
+            VarianceInteger.class, VarianceFloat.class, StdevInteger.class, StdevFloat.class,
+            VwapInteger.class, VwapIntegerFloat.class, VwapFloat.class, VwapFloatInteger.class,
+            FirstInteger.class, FirstFloat.class
+        };
+
+        for (Class<?> cls : classes)
+            assertTrue(cls.getName(), new FunctionDescriptor(cls).aggregate);
+    }
+
+    @Test
+    public void sum() {
+        SumInteger s = new SumInteger();
+        assertEquals(IntegerDataType.INT64_NULL, s.get());
+
+        s.set1(3);
+        s.set1(IntegerDataType.INT64_NULL);
+        s.set1(4);
+        assertEquals(7, s.get());
+
+        SumFloat f = new SumFloat();
+        assertTrue(Double.isNaN(f.get()));
+
+        f.set1(1.5);
+        f.set1(Double.NaN);
+        f.set1(2.5);
+        assertEquals(4.0, f.get(), EPS);
+    }
+
+    @Test
+    public void avgAndVariance() {
+        AvgInteger avg = new AvgInteger();
+        VarianceInteger var = new VarianceInteger();
+        StdevFloat stdev = new StdevFloat();
+
+        for (long v : new long[] { 2, 4, 4, 4, 5, 5, 7, 9 }) {
+            avg.set1(v);
+            var.set1(v);
+            stdev.set1(v);
+        }
+
+        assertEquals(5.0, avg.get(), EPS);
+        assertEquals(32.0 / 7, var.get(), EPS);
+        assertEquals(Math.sqrt(32.0 / 7), stdev.get(), EPS);
+
+        VarianceFloat single = new VarianceFloat();
+        single.set1(1.0);
+        assertTrue(Double.isNaN(single.get()));
+    }
+
+    @Test
+    public void vwap() {
+        VwapFloatInteger vwap = new VwapFloatInteger();
+        assertTrue(Double.isNaN(vwap.get()));
+
+        update(vwap, 10.0, 100);
+        update(vwap, 11.0, 300);
+        update(vwap, Double.NaN, 1000);
+
+        assertEquals(10.75, vwap.get(), EPS);
+    }
+
+    @Test
+    public void first() {
+        FirstFloat first = new FirstFloat();
+
+        first.set1(1.0);
+        first.set1(2.0);
+        assertEquals(1.0, first.get(), EPS);
+    }
+
+    private static void update(VwapFloatInteger vwap, double price, long size) {
+        vwap.set1(price);
+        vwap.set2(size);
+        vwap.update();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.ramdisk;
+
+import com.epam.deltix.util.io.Home;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.util.Random;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ */
+public class Test_PageArena {
+    private static final int    NUM_PAGES = 4;
+
+    private final File          folder = new File (Home.getPath ("temp/testramdisk"));
+
+    @Before
+    public void         setUp () throws IOException {
+        Files.createDirectories (folder.toPath ());
+
+        File []     files = folder.listFiles ();
+
+        for (int ii = 0; files != null && ii < files.length; ii++)
+            Files.delete (files [ii].toPath ());
+    }
+
+    @Test
+    public void         directArena () {
+        checkArena (new PageArena (NUM_PAGES, null));
+    }
+
+    @Test
+    public void         mappedArena () {
+        checkArena (new PageArena (NUM_PAGES, folder));
+
+        // backing file is unlinked right after it is mapped
+        assertEquals (0, folder.list ().length);
+    }
+
+    @Test
+    public void         heapRoundTrip () throws Exception {
+        roundTrip (false);
+    }
+
+    @Test
+    public void         offHeapRoundTrip () throws Exception {
+        roundTrip (true);
+    }
+
+    @Test
+    public void         capacity () {
+        assertEquals (NUM_PAGES, numPages (NUM_PAGES * RAMDisk.PAGE_SIZE_WITH_OVERHEAD, false));
+        assertEquals (NUM_PAGES, numPages (NUM_PAGES * (long) RAMDisk.PAGE_SIZE, true));
+
+        // heap pages are charged for Page object and buffer overhead as well
+        assertEquals (NUM_PAGES - 1, numPages (NUM_PAGES * (long) RAMDisk.PAGE_SIZE, false));
+    }
+
+    private static long     numPages (long memorySize, boolean offHeap) {
+        return (RAMDisk.createCached (1, memorySize, 0, offHeap).getStats ().getNumPages ());
+    }
+
+    private static void     checkArena (PageArena arena) {
+        ByteBuffer []   pages = new ByteBuffer [NUM_PAGES];
+
+        for (int ii = 0; ii < NUM_PAGES; ii++) {
+            pages [ii] = arena.allocate ();
+
+            assertNotNull (pages [ii]);
+            assertTrue (pages [ii].isDirect ());
+            assertEquals (0, pages [ii].position ());
+            assertEquals (DataCache.PAGE_SIZE, pages [ii].limit ());
+            assertEquals (DataCache.PAGE_SIZE, pages [ii].capacity ());
+
+            pages [ii].put (0, (byte) ii);
+            pages [ii].put (DataCache.PAGE_SIZE - 1, (byte) -ii);
+        }
+
+        assertNull (arena.allocate ());
+
+        // slices do not overlap
+        for (int ii = 0; ii < NUM_PAGES; ii++) {
+            assertEquals ((byte) ii, pages [ii].get (0));
+            assertEquals ((byte) -ii, pages [ii].get (DataCache.PAGE_SIZE - 1));
+        }
+    }
+
+    private void            roundTrip (boolean offHeap) throws Exception {
+        RAMDisk     ramdisk =
+            RAMDisk.createCached (
+                4,
+                offHeap ?
+                    NUM_PAGES * (long) RAMDisk.PAGE_SIZE :
+                    NUM_PAGES * RAMDisk.PAGE_SIZE_WITH_OVERHEAD,
+                0,
+                offHeap
+            );
+
+        assertEquals (offHeap, ramdisk.isOffHeap ());
+
+        ramdisk.start ();
+
+        // three times more data than the cache can hold
+        byte []     data = new byte [3 * NUM_PAGES * RAMDisk.PAGE_SIZE + 123];
+        File        file = new File (folder, "data");
+
+        new Random (2021).nextBytes (data);
+
+        try {
+            FD      fd = new FD (ramdisk, file);
+
+            fd.format ();
+
+            // chunks cross page boundaries
+            for (int offset = 0; offset < data.length; offset += 1000)
+                fd.write (offset, data, offset, Math.min (1000, data.length - offset));
+
+            data [5] = 7;
+            fd.write (5, data [5]);
+
+            assertEquals (data.length, fd.getLogicalLength ());
+            assertArrayEquals (data, readAll (fd, data.length));
+
+            GlobalStats     stats = ramdisk.getStats ();
+
+            assertEquals (NUM_PAGES, stats.getNumPages ());
+            assertTrue (stats.getNumAllocatedPages () <= NUM_PAGES);
+
+            fd.close ();
+
+            assertArrayEquals (data, Files.readAllBytes (file.toPath ()));
+
+            // recycled pages are loaded from disk
+            fd = new FD (ramdisk, file);
+            fd.open (true);
+
+            assertArrayEquals (data, readAll (fd, data.length));
+
+            fd.close ();
+        } finally {
+            ramdisk.shutdownAndWait ();
+        }
+    }
+
+    private static byte []  readAll (FD fd, int length) throws IOException {
+        byte []     buffer = new byte [length];
+        int         offset = 0;
+
+        while (offset < length) {
+            int     n = fd.read (offset, buffer, offset, Math.min (777, length - offset));
+
+            assertTrue (n > 0);
+            offset += n;
+        }
+
+        return (buffer);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.test.qsrv.hf.pub;
+
+import com.epam.deltix.qsrv.hf.codec.CodecClassCache;
+import com.epam.deltix.qsrv.hf.pub.codec.*;
+import com.epam.deltix.qsrv.hf.pub.md.BooleanDataType;
+import com.epam.deltix.util.JUnitCategories;
+import com.epam.deltix.util.jcg.JClassCompiler;
+import com.epam.deltix.util.memory.MemoryDataInput;
+import com.epam.deltix.util.memory.MemoryDataOutput;
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import javax.tools.ToolProvider;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Compares codecs compiled by "javac" and "memory" code generation backends.
+ */
+@Category(JUnitCategories.TickDBCodecs.class)
+public class Test_CodegenBackends extends Test_RecordCodecsBase {
+    private final JClassCompiler.Backend defaultBackend = JClassCompiler.getDefaultBackend();
+
+    @After
+    public void tearDown() {
+        JClassCompiler.setDefaultBackend(defaultBackend);
+    }
+
+    @Test
+    public void equivalentCodecs() {
+        Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+
+        Test_RecordCodecs.MsgClassAllPublic msg = createMessage();
+
+        FixedBoundEncoder javacEncoder = createEncoder(JClassCompiler.Backend.JAVAC);
+        BoundDecoder javacDecoder = factory.createFixedBoundDecoder(TYPE_LOADER, Test_RecordCodecs.cdMsgClassAllPublic);
+
+        FixedBoundEncoder memoryEncoder = createEncoder(JClassCompiler.Backend.MEMORY);
+        BoundDecoder memoryDecoder = factory.createFixedBoundDecoder(TYPE_LOADER, Test_RecordCodecs.cdMsgClassAllPublic);
+
+        assertNotSame(javacEncoder.getClass(), memoryEncoder.getClass());
+
+        if (!CodecClassCache.INSTANCE.isEnabled()) {
+            // classes were not taken from the persistent cache: make sure that in-memory backend was used
+            assertTrue(memoryEncoder.getClass().getClassLoader().getClass().getName().endsWith("BytecodeClassLoader"));
+            assertFalse(javacEncoder.getClass().getClassLoader().getClass().getName().endsWith("BytecodeClassLoader"));
+        }
+
+        byte[] javacBytes = encode(javacEncoder, msg);
+        byte[] memoryBytes = encode(memoryEncoder, msg);
+
+        assertArrayEquals(javacBytes, memoryBytes);
+
+        // each decoder reads output of the other backend
+        assertEquals(msg.toString(), decode(memoryDecoder, javacBytes).toString());
+        assertEquals(msg.toString(), decode(javacDecoder, memoryBytes).toString());
+    }
+
+    @Test
+    public void sourceErrorIsReportedOnce() {
+        Assume.assumeNotNull(ToolProvider.getSystemJavaCompiler());
+
+        JClassCompiler compiler = JClassCompiler.create(JClassCompiler.Backend.MEMORY, getClass().getClassLoader());
+
+        try {
+            compiler.compileClass("deltix.generated.Broken", "package deltix.generated; public class Broken { int f() { return \"s\"; } }");
+            fail("Broken source is compiled");
+        } catch (JClassCompiler.CompilationException e) {
+            // reported by in-memory backend, javac backend is not used
+            assertTrue(e.getMessage(), e.getMessage().contains("Broken"));
+        } catch (ClassNotFoundException e) {
+            fail(e.toString());
+        }
+    }
+
+    private FixedBoundEncoder createEncoder(JClassCompiler.Backend backend) {
+        JClassCompiler.setDefaultBackend(backend);
+
+        // new factory compiles new codec classes
+        factory = CodecFactory.newCompiledCachingFactory();
+
+        return factory.createFixedBoundEncoder(TYPE_LOADER, Test_RecordCodecs.cdMsgClassAllPublic);
+    }
+
+    private static byte[] encode(FixedBoundEncoder encoder, Object msg) {
+        MemoryDataOutput out = new MemoryDataOutput();
+        encoder.encode(msg, out);
+        return Arrays.copyOf(out.getBuffer(), out.getSize());
+    }
+
+    private static Object decode(BoundDecoder decoder, byte[] bytes) {
+        MemoryDataInput in = new MemoryDataInput(bytes);
+        Object msg = decoder.decode(in);
+        decoder.setStaticFields(msg);
+        return msg;
+    }
+
+    private static Test_RecordCodecs.MsgClassAllPublic createMessage() {
+        Test_RecordCodecs.MsgClassAllPublic msg = new Test_RecordCodecs.MsgClassAllPublic();
+
+        msg.mString = "IBM";
+        msg.mCharSequence = "MSFT";
+        msg.mEnum = Test_RecordCodecs.Kind.SMALL;
+        msg.mByte = 1;
+        msg.mShort = 2;
+        msg.mInt = 3;
+        msg.mInt48 = 4;
+        msg.mLong = 5;
+        msg.mFloat = 63545.34f;
+        msg.mDouble = 76456577.76;
+
+        msg.mBoolean = true;
+        msg.mBoolByte = BooleanDataType.TRUE;
+        msg.mChar = 'C';
+        msg.mDateTime = 1235746625319L;
+        msg.mTimeOfDay = 56841000;
+
+        msg.mPUINT30 = 0x1CCCAAAA;
+        msg.mPUINT61 = 0x1CCCAAAA1CCCAAAAL;
+        msg.mPIneterval = 60000;
+        msg.mSCALE_AUTO = 1.52;
+        msg.mSCALE4 = 1.53;
+
+        return msg;
+    }
+}
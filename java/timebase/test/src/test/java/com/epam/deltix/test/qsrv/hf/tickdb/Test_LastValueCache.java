@@ -0,0 +1,149 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.test.qsrv.hf.tickdb;
+
+import com.epam.deltix.qsrv.hf.pub.md.FloatDataType;
+import com.epam.deltix.qsrv.hf.tickdb.StreamConfigurationHelper;
+import com.epam.deltix.qsrv.hf.tickdb.impl.TickStreamImpl;
+import com.epam.deltix.qsrv.hf.tickdb.pub.*;
+import com.epam.deltix.qsrv.test.messages.BarMessage;
+import com.epam.deltix.util.JUnitCategories.TickDBFast;
+import com.epam.deltix.util.lang.Util;
+import com.epam.deltix.util.lang.Wrapper;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+@Category(TickDBFast.class)
+public class Test_LastValueCache extends TDBTestBase {
+
+    public Test_LastValueCache() {
+        super(true);
+    }
+
+    @Test
+    public void testSnapshot() {
+        String name = "lastValues";
+
+        DXTickStream stream = getServerDb().createStream(name,
+                StreamOptions.fixedType(StreamScope.DURABLE, name, name, 0,
+                        StreamConfigurationHelper.mkBarMessageDescriptor(null, null, null,
+                                FloatDataType.ENCODING_FIXED_DOUBLE,
+                                FloatDataType.ENCODING_FIXED_DOUBLE)));
+
+        if (stream instanceof Wrapper)
+            stream = (DXTickStream) ((Wrapper) stream).getNestedInstance();
+
+        ((TickStreamImpl) stream).setLastValueCacheDepth(1);
+
+        long time = System.currentTimeMillis() - BarMessage.BAR_DAY;
+
+        TickLoader loader = null;
+        try {
+            loader = getTickDb().getStream(name).createLoader(new LoadingOptions(false));
+
+            BarMessage msg = new BarMessage();
+            for (int i = 1; i < 10; i++) {
+                msg.setSymbol("S" + (i % 3));
+                msg.setClose(i);
+                msg.setTimeStampMs(time + i);
+                loader.send(msg);
+            }
+
+            loader.close();
+            loader = null;
+        } finally {
+            Util.close(loader);
+        }
+
+        SelectionOptions options = new SelectionOptions(false, false);
+        options.lastValues = true;
+
+        // only last message of each entity
+        double[] closes = read(name, System.currentTimeMillis(), options);
+        assertArrayEquals(new double[] { 7, 8, 9 }, closes, 0);
+
+        // cached messages are newer than reset time: all come from the stream itself
+        closes = read(name, time + 5, options);
+        assertArrayEquals(new double[] { 5, 6, 7, 8, 9 }, closes, 0);
+
+        options.lastValues = false;
+        assertEquals(0, read(name, System.currentTimeMillis(), options).length);
+    }
+
+    @Test
+    public void testSpacePurge() {
+        String name = "lastValuesSpaces";
+
+        DXTickStream stream = getServerDb().createStream(name,
+                StreamOptions.fixedType(StreamScope.DURABLE, name, name, 0,
+                        StreamConfigurationHelper.mkBarMessageDescriptor(null, null, null,
+                                FloatDataType.ENCODING_FIXED_DOUBLE,
+                                FloatDataType.ENCODING_FIXED_DOUBLE)));
+
+        if (stream instanceof Wrapper)
+            stream = (DXTickStream) ((Wrapper) stream).getNestedInstance();
+
+        ((TickStreamImpl) stream).setLastValueCacheDepth(1);
+
+        long time = System.currentTimeMillis() - BarMessage.BAR_DAY;
+
+        // the same entities and times in both spaces: closes 1-3 in space "a", 11-13 in space "b"
+        load(name, "a", time, 1);
+        load(name, "b", time, 11);
+
+        SelectionOptions options = new SelectionOptions(false, false);
+        options.lastValues = true;
+
+        assertArrayEquals(new double[] { 1, 11, 2, 12, 3, 13 }, read(name, System.currentTimeMillis(), options), 0);
+
+        // purge of one space keeps last values of the other
+        stream.purge(time + 10, "a");
+        assertArrayEquals(new double[] { 11, 12, 13 }, read(name, System.currentTimeMillis(), options), 0);
+    }
+
+    private void load(String name, String space, long time, int close) {
+        LoadingOptions options = new LoadingOptions(false);
+        options.space = space;
+
+        try (TickLoader loader = getTickDb().getStream(name).createLoader(options)) {
+            BarMessage msg = new BarMessage();
+            for (int i = 0; i < 3; i++) {
+                msg.setSymbol("S" + i);
+                msg.setClose(close + i);
+                msg.setTimeStampMs(time + i);
+                loader.send(msg);
+            }
+        }
+    }
+
+    private double[] read(String name, long time, SelectionOptions options) {
+        double[] result = new double[0];
+
+        try (TickCursor cursor = getTickDb().getStream(name).select(time, options)) {
+            while (cursor.next()) {
+                result = Arrays.copyOf(result, result.length + 1);
+                result[result.length - 1] = ((BarMessage) cursor.getMessage()).getClose();
+            }
+        }
+
+        return result;
+    }
+}
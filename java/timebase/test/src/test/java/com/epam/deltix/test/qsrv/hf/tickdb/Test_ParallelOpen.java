@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.test.qsrv.hf.tickdb;
+
+import com.epam.deltix.qsrv.hf.pub.md.*;
+import com.epam.deltix.qsrv.hf.tickdb.StreamConfigurationHelper;
+import com.epam.deltix.qsrv.hf.tickdb.TDBRunner;
+import com.epam.deltix.qsrv.hf.tickdb.pub.*;
+
+import com.epam.deltix.qsrv.test.messages.TradeMessage;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import org.junit.experimental.categories.Category;
+import com.epam.deltix.util.JUnitCategories.TickDBFast;
+
+/**
+ *  Opens database having many streams, which are opened in parallel on startup.
+ */
+@Category(TickDBFast.class)
+public class Test_ParallelOpen {
+    private static final long       T = 1262106445000L;
+    private static final int        NS = 64;
+    private static final int        NM = 20;
+
+    private DXTickDB                db;
+
+    @Before
+    public final void           startup() throws Throwable {
+        RecordClassDescriptor       rcd =
+            StreamConfigurationHelper.mkUniversalTradeMessageDescriptor ();
+
+        TradeMessage msg = new TradeMessage();
+
+        msg.setSymbol("DLTX");
+
+        db = TickDBFactory.create (TDBRunner.getTemporaryLocation());
+
+        db.format ();
+
+        for (int ii = 0; ii < NS; ii++) {
+            StreamOptions       options =
+                new StreamOptions (StreamScope.DURABLE, "Stream #" + ii, null, 1);
+
+            options.setFixedType (rcd);
+
+            DXTickStream        stream = db.createStream ("S" + ii, options);
+
+            try (TickLoader loader = stream.createLoader ()) {
+                for (int jj = 0; jj < NM; jj++) {
+                    msg.setTimeStampMs(T + jj * 1000);
+                    msg.setSize(ii);
+                    msg.setPrice(jj);
+
+                    loader.send (msg);
+                }
+            }
+        }
+
+        db.close ();
+    }
+
+    @After
+    public final void           teardown () {
+        db.close ();
+    }
+
+    @Test (timeout = 120000)
+    public void                 openReadOnly () {
+        db.open (true);
+
+        verify ();
+    }
+
+    @Test (timeout = 120000)
+    public void                 openWritable () {
+        db.open (false);
+
+        verify ();
+
+        // opened streams are writable
+        DXTickStream            stream = db.getStream ("S0");
+        TradeMessage            msg = new TradeMessage();
+
+        msg.setSymbol("DLTX");
+        msg.setTimeStampMs(T + NM * 1000);
+
+        try (TickLoader loader = stream.createLoader ()) {
+            loader.send (msg);
+        }
+
+        assertEquals (NM + 1, count (stream));
+
+        // and database can be reopened again
+        db.close ();
+        db.open (true);
+
+        assertEquals (NS, db.listStreams ().length);
+        assertEquals (NM + 1, count (db.getStream ("S0")));
+        assertEquals (NM, count (db.getStream ("S1")));
+    }
+
+    private void                verify () {
+        assertTrue (db.isOpen ());
+        assertEquals (NS, db.listStreams ().length);
+
+        for (int ii = 0; ii < NS; ii++) {
+            DXTickStream        stream = db.getStream ("S" + ii);
+
+            assertNotNull ("S" + ii, stream);
+            assertEquals ("S" + ii, NM, count (stream));
+        }
+    }
+
+    private static int          count (DXTickStream stream) {
+        int                     count = 0;
+
+        try (TickCursor cursor = stream.select (Long.MIN_VALUE, new SelectionOptions ())) {
+            while (cursor.next ())
+                count++;
+        }
+
+        return (count);
+    }
+}
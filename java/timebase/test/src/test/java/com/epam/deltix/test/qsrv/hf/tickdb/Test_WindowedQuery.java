@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.test.qsrv.hf.tickdb;
+
+import com.epam.deltix.qsrv.hf.pub.RawMessage;
+import com.epam.deltix.qsrv.hf.pub.codec.CodecFactory;
+import com.epam.deltix.qsrv.hf.pub.codec.UnboundDecoder;
+import com.epam.deltix.qsrv.hf.pub.md.*;
+import com.epam.deltix.qsrv.hf.tickdb.StreamConfigurationHelper;
+import com.epam.deltix.qsrv.hf.tickdb.TDBRunner;
+import com.epam.deltix.qsrv.hf.tickdb.pub.*;
+import com.epam.deltix.qsrv.hf.tickdb.pub.query.InstrumentMessageSource;
+
+import com.epam.deltix.qsrv.test.messages.TradeMessage;
+import com.epam.deltix.util.memory.MemoryDataInput;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import org.junit.experimental.categories.Category;
+import com.epam.deltix.util.JUnitCategories.TickDBQQL;
+
+/**
+ *  Runs aggregate queries with OVER TIME and OVER COUNT windows
+ *  and checks window boundaries and aggregated values.
+ */
+@Category(TickDBQQL.class)
+public class Test_WindowedQuery {
+    //  Aligned on 5 seconds
+    private static final long       T = 1262106445000L;
+    private static final int        NM = 10;
+    private static final double     EPSILON = 0.00001;
+
+    private DXTickDB                db;
+
+    @Before
+    public final void           startup() throws Throwable {
+        RecordClassDescriptor       rcd =
+            StreamConfigurationHelper.mkUniversalTradeMessageDescriptor ();
+
+        db = TickDBFactory.create (TDBRunner.getTemporaryLocation());
+
+        db.format ();
+
+        StreamOptions       options =
+            new StreamOptions (StreamScope.DURABLE, "trades", null, 1);
+
+        options.setFixedType (rcd);
+
+        DXTickStream        stream = db.createStream ("trades", options);
+        TradeMessage        msg = new TradeMessage();
+
+        msg.setSymbol("DLTX");
+
+        //  One message per second, price equals to its index
+        try (TickLoader loader = stream.createLoader ()) {
+            for (int ii = 0; ii < NM; ii++) {
+                msg.setTimeStampMs(T + ii * 1000);
+                msg.setPrice(ii);
+                msg.setSize(1);
+
+                loader.send (msg);
+            }
+        }
+    }
+
+    @After
+    public final void           teardown () {
+        db.close ();
+    }
+
+    @Test
+    public void                 timeWindow () {
+        check (
+            "select max (price), count () from trades over time (5000)",
+            new long [] { T, T + 5000 },
+            new double [] { 4, 9 },
+            new long [] { 5, 5 }
+        );
+    }
+
+    @Test
+    public void                 countWindow () {
+        check (
+            "select max (price), count () from trades over count (3)",
+            new long [] { T, T + 3000, T + 6000, T + 9000 },
+            new double [] { 2, 5, 8, 9 },
+            new long [] { 3, 3, 3, 1 }
+        );
+    }
+
+    @Test
+    public void                 filteredTimeWindow () {
+        check (
+            "select max (price), count () from trades where price > 2 over time (5000)",
+            new long [] { T, T + 5000 },
+            new double [] { 4, 9 },
+            new long [] { 2, 5 }
+        );
+    }
+
+    private void                check (
+        String                      qql,
+        long []                     timestamps,
+        double []                   max,
+        long []                     count
+    )
+    {
+        try (InstrumentMessageSource source =
+                 db.executeQuery (qql, new SelectionOptions (true, false)))
+        {
+            for (int ii = 0; ii < timestamps.length; ii++) {
+                assertTrue ("Window #" + ii + " is missing", source.next ());
+
+                RawMessage          msg = (RawMessage) source.getMessage ();
+                UnboundDecoder      decoder =
+                    CodecFactory.INTERPRETED.createFixedUnboundDecoder (msg.type);
+
+                decoder.beginRead (new MemoryDataInput (msg.data, msg.offset, msg.length));
+
+                assertEquals ("Window #" + ii, timestamps [ii], msg.getTimeStampMs ());
+
+                assertTrue (decoder.nextField ());
+                assertEquals ("Window #" + ii, max [ii], decoder.getDouble (), EPSILON);
+
+                assertTrue (decoder.nextField ());
+                assertEquals ("Window #" + ii, count [ii], decoder.getLong ());
+            }
+
+            assertFalse (source.next ());
+        }
+    }
+}
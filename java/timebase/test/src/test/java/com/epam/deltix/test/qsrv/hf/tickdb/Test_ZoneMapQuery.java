@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.test.qsrv.hf.tickdb;
+
+import com.epam.deltix.qsrv.hf.pub.RawMessage;
+import com.epam.deltix.qsrv.hf.tickdb.StreamConfigurationHelper;
+import com.epam.deltix.qsrv.hf.tickdb.TDBRunner;
+import com.epam.deltix.qsrv.hf.tickdb.impl.PDStream;
+import com.epam.deltix.qsrv.hf.tickdb.pub.*;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.PropertyMonitor;
+import com.epam.deltix.qsrv.hf.tickdb.pub.mon.TBMonitor;
+import com.epam.deltix.qsrv.hf.tickdb.pub.query.InstrumentMessageSource;
+
+import com.epam.deltix.qsrv.test.messages.TradeMessage;
+import com.epam.deltix.util.lang.Wrapper;
+import org.junit.*;
+import static org.junit.Assert.*;
+
+import org.junit.experimental.categories.Category;
+import com.epam.deltix.util.JUnitCategories.TickDBQQL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *  Runs QQL filters on a stream with zone maps and on a copy without them:
+ *  blocks of entities whose prices cannot match must be skipped,
+ *  while both streams return the same rows.
+ */
+@Category(TickDBQQL.class)
+public class Test_ZoneMapQuery {
+    private static final long       T = 1262106445000L;
+    private static final int        NE = 4;
+    private static final int        NM = 100;
+
+    private DXTickDB                db;
+    private volatile long           skipped;
+
+    private final PropertyMonitor   monitor = (owner, property, value) -> {
+        if ("zoneMapSkippedBlocks".equals (property))
+            skipped = (Long) value;
+    };
+
+    @Before
+    public final void           startup() throws Throwable {
+        db = TickDBFactory.create (TDBRunner.getTemporaryLocation());
+
+        db.format ();
+
+        DXTickStream        zoned = createStream ("zoned");
+
+        if (zoned instanceof Wrapper)
+            zoned = (DXTickStream) ((Wrapper) zoned).getNestedInstance ();
+
+        ((PDStream) zoned).setZoneMapFields ("price");
+
+        load (zoned);
+        load (createStream ("plain"));
+
+        //  statistics are written when time slices are stored
+        db.close ();
+        db.open (false);
+
+        ((TBMonitor) db).addPropertyMonitor ("Storage", monitor);
+    }
+
+    @After
+    public final void           teardown () {
+        db.close ();
+    }
+
+    @Test
+    public void                 greaterThan () {
+        //  S0 and S1 cannot match
+        check ("price > 2050", 49 + NM, 2);
+    }
+
+    @Test
+    public void                 lessThan () {
+        //  S1, S2 and S3 cannot match
+        check ("price < 1000", NM, 3);
+    }
+
+    @Test
+    public void                 range () {
+        //  S0 and S3 cannot match
+        check ("price >= 1090 and price <= 2009", 10 + 10, 2);
+    }
+
+    @Test
+    public void                 noMatch () {
+        check ("price > 5000", 0, NE);
+    }
+
+    private DXTickStream        createStream (String key) {
+        StreamOptions       options =
+            new StreamOptions (StreamScope.DURABLE, key, null, 1);
+
+        options.setFixedType (StreamConfigurationHelper.mkUniversalTradeMessageDescriptor ());
+
+        return (db.createStream (key, options));
+    }
+
+    private static void         load (DXTickStream stream) {
+        TradeMessage        msg = new TradeMessage();
+
+        //  Prices of entity #i are in [i * 1000, i * 1000 + NM)
+        try (TickLoader loader = stream.createLoader ()) {
+            for (int ii = 0; ii < NM; ii++) {
+                for (int jj = 0; jj < NE; jj++) {
+                    msg.setSymbol ("S" + jj);
+                    msg.setTimeStampMs (T + ii * 1000);
+                    msg.setPrice (jj * 1000 + ii);
+                    msg.setSize (1);
+
+                    loader.send (msg);
+                }
+            }
+        }
+    }
+
+    private void                check (String condition, int count, int skippedBlocks) {
+        long                before = getSkippedBlocks ();
+        List <String>       expected = select ("select * from plain where " + condition);
+
+        assertEquals ("Blocks without zone maps are skipped", before, getSkippedBlocks ());
+
+        List <String>       actual = select ("select * from zoned where " + condition);
+
+        assertEquals (skippedBlocks, getSkippedBlocks () - before);
+        assertEquals (count, expected.size ());
+        assertEquals (expected, actual);
+    }
+
+    private List <String>       select (String qql) {
+        List <String>       result = new ArrayList <> ();
+
+        try (InstrumentMessageSource source =
+                 db.executeQuery (qql, new SelectionOptions (true, false)))
+        {
+            while (source.next ()) {
+                RawMessage      msg = (RawMessage) source.getMessage ();
+
+                result.add (
+                    msg.getTimeStampMs () + " " + msg.getSymbol () + " " +
+                    Arrays.toString (Arrays.copyOfRange (msg.data, msg.offset, msg.offset + msg.length))
+                );
+            }
+        }
+
+        return (result);
+    }
+
+    private long                getSkippedBlocks () {
+        //  listener receives current values, when it is added
+        ((TBMonitor) db).addPropertyMonitor ("Storage", monitor);
+
+        return (skipped);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2021 EPAM Systems, Inc
+ *
+ * See the NOTICE file distributed with this work for additional information
+ * regarding copyright ownership. Licensed under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.epam.deltix.test.qsrv.hf.tickdb.qql;
+
+import com.epam.deltix.qsrv.hf.pub.md.RecordClassDescriptor;
+import com.epam.deltix.qsrv.hf.tickdb.StreamConfigurationHelper;
+import com.epam.deltix.qsrv.hf.tickdb.TDBRunner;
+import com.epam.deltix.qsrv.hf.tickdb.lang.compiler.qcache.PQCache;
+import com.epam.deltix.qsrv.hf.tickdb.lang.pub.CompilerUtil;
+import com.epam.deltix.qsrv.hf.tickdb.pub.*;
+import com.epam.deltix.qsrv.hf.tickdb.pub.query.PreparedQuery;
+import com.epam.deltix.util.parsers.CompilationException;
+import com.epam.deltix.util.parsers.Element;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+import org.junit.experimental.categories.Category;
+import com.epam.deltix.util.JUnitCategories.TickDBQQL;
+
+/**
+ *  Prepares queries through PQCache from many threads at once.
+ */
+@Category(TickDBQQL.class)
+public class Test_PQCache {
+    private static final int        NT = 8;
+    private static final String     QUERY = "select price from trades where size > 10";
+
+    private DXTickDB                db;
+    private ExecutorService         executor;
+
+    @Before
+    public final void           startup () {
+        RecordClassDescriptor       rcd =
+            StreamConfigurationHelper.mkUniversalTradeMessageDescriptor ();
+
+        db = TickDBFactory.create (TDBRunner.getTemporaryLocation ());
+        db.format ();
+
+        StreamOptions               options =
+            new StreamOptions (StreamScope.DURABLE, "trades", null, 1);
+
+        options.setFixedType (rcd);
+
+        db.createStream ("trades", options);
+
+        executor = Executors.newFixedThreadPool (NT);
+    }
+
+    @After
+    public final void           teardown () {
+        executor.shutdownNow ();
+        db.close ();
+    }
+
+    @Test (timeout = 60000)
+    public void                 concurrentPrepare () throws Exception {
+        PQCache                 cache = new PQCache (db);
+        List <PreparedQuery>    results = prepareConcurrently (cache, QUERY);
+        
+        for (PreparedQuery pq : results)
+            assertSame (results.get (0), pq);
+
+        assertEquals (1, cache.size ());
+        assertEquals (1, cache.getMisses ());
+        assertEquals (NT - 1, cache.getHits ());
+    }
+
+    @Test (timeout = 60000)
+    public void                 failedCompileIsMiss () throws Exception {
+        PQCache                 cache = new PQCache (db);
+        Element                 qql = CompilerUtil.parse ("select price from nosuchstream");
+        CyclicBarrier           barrier = new CyclicBarrier (NT);
+        AtomicInteger           failures = new AtomicInteger ();
+        List <Future <?>>       futures = new ArrayList <> ();
+
+        for (int ii = 0; ii < NT; ii++)
+            futures.add (
+                executor.submit (() -> {
+                    barrier.await ();
+
+                    try {
+                        cache.prepareQuery (qql, null);
+                    } catch (CompilationException x) {
+                        failures.incrementAndGet ();
+                    }
+
+                    return (null);
+                })
+            );
+
+        for (Future <?> f : futures)
+            f.get ();
+
+        //  Every caller fails, whether it compiled or waited for another thread
+        assertEquals (NT, failures.get ());
+        assertEquals (0, cache.getHits ());
+        assertEquals (NT, cache.getMisses ());
+        assertEquals (0, cache.size ());
+    }
+
+    @Test (timeout = 60000)
+    public void                 invalidateWhilePreparing () throws Exception {
+        PQCache                 cache = new PQCache (db);
+        Element                 qql = CompilerUtil.parse (QUERY);
+        int                     n = 50;
+        CyclicBarrier           barrier = new CyclicBarrier (NT + 1);
+        List <Future <?>>       futures = new ArrayList <> ();
+
+        for (int ii = 0; ii < NT; ii++)
+            futures.add (
+                executor.submit (() -> {
+                    barrier.await ();
+
+                    for (int jj = 0; jj < n; jj++)
+                        assertNotNull (cache.prepareQuery (qql, null));
+
+                    return (null);
+                })
+            );
+
+        barrier.await ();
+
+        for (int jj = 0; jj < n; jj++) {
+            cache.clear ();
+            Thread.yield ();
+        }
+
+        for (Future <?> f : futures)
+            f.get ();
+
+        assertEquals (NT * n, cache.getHits () + cache.getMisses ());
+        assertTrue (cache.size () <= 1);
+
+        //  Nothing compiled before the last invalidation is served afterwards
+        cache.clear ();
+
+        long                    misses = cache.getMisses ();
+        PreparedQuery           pq = cache.prepareQuery (qql, null);
+
+        assertEquals (misses + 1, cache.getMisses ());
+        assertSame (pq, cache.prepareQuery (qql, null));
+    }
+
+    private List <PreparedQuery>    prepareConcurrently (PQCache cache, String text)
+        throws Exception
+    {
+        CyclicBarrier                   barrier = new CyclicBarrier (NT);
+        List <Future <PreparedQuery>>   futures = new ArrayList <> ();
+
+        for (int ii = 0; ii < NT; ii++)
+            futures.add (
+                executor.submit (() -> {
+                    barrier.await ();
+                    return (cache.prepareQuery (CompilerUtil.parse (text), null));
+                })
+            );
+
+        List <PreparedQuery>            results = new ArrayList <> ();
+
+        for (Future <PreparedQuery> f : futures)
+            results.add (f.get ());
+
+        return (results);
+    }
+}
@@ -56,12 +56,17 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.GregorianCalendar;
+import java.util.Properties;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertTrue;
@@ -660,6 +665,112 @@ public class Test_Replicator {
         }
     }
 
+    @Test
+    public void         testParallelRestore() throws Throwable {
+        File checkpoint = new File(Home.getPath("temp", "replicator1", "restore.checkpoint"));
+        checkpoint.delete();
+
+        try (DXTickDB db = TickDBCreator.createTickDB(PRIMARY_HOME, true)) {
+            TickDBCreator.createBarsStream(db, "bars2");
+
+            StreamStorage[] from = { new StreamStorage(db, TickDBCreator.BARS_STREAM_KEY), new StreamStorage(db, "bars2") };
+            StreamStorage[] to = { new StreamStorage(db, "restored1"), new StreamStorage(db, "restored2") };
+
+            RestoreOptions options = new RestoreOptions();
+            options.threads = 3;
+            options.partitions = 3;
+            options.checkpoint = checkpoint.getPath();
+
+            new StreamReplicator().restore(from, to, options);
+
+            for (int i = 0; i < from.length; i++) {
+                compareStreams(from[i].getSource(), to[i].getSource());
+                assertEquals(count(from[i].getSource()), count(to[i].getSource()));
+            }
+
+            Properties state = loadProperties(checkpoint);
+            assertEquals(from.length * options.partitions, state.size());
+            for (String key : state.stringPropertyNames())
+                assertEquals(key, "completed", state.getProperty(key));
+
+            // completed partitions are skipped
+            options.mode = ReloadMode.prohibit;
+            new StreamReplicator().restore(from, to, options);
+
+            for (int i = 0; i < from.length; i++)
+                assertEquals(count(from[i].getSource()), count(to[i].getSource()));
+        } finally {
+            checkpoint.delete();
+        }
+    }
+
+    @Test
+    public void         testResumeRestoreAppend() throws Throwable {
+        File checkpoint = new File(Home.getPath("temp", "replicator1", "restore.checkpoint"));
+        checkpoint.delete();
+
+        try (DXTickDB db = TickDBCreator.createTickDB(PRIMARY_HOME, true)) {
+            DXTickStream source = db.getStream(TickDBCreator.BARS_STREAM_KEY);
+            StreamOptions so = source.getStreamOptions();
+            so.version = null;
+            so.name = "restored";
+            DXTickStream target = db.createStream("restored", so);
+
+            long[] range = source.getTimeRange();
+            long checkpointTime = range[0] + (range[1] - range[0]) / 2;
+            long loadedTime = checkpointTime + (range[1] - range[0]) / 4;
+
+            // interrupted restore: loader got past the last saved checkpoint
+            try (TickCursor cursor = source.select(Long.MIN_VALUE, new SelectionOptions(true, false), (String[]) null);
+                 TickLoader loader = target.createLoader(new LoadingOptions(true))) {
+                while (cursor.next() && cursor.getMessage().getTimeStampMs() <= loadedTime)
+                    loader.send(cursor.getMessage());
+            }
+
+            Properties state = new Properties();
+            state.setProperty(source.getKey() + "->" + target.getKey() + "#0/1", String.valueOf(checkpointTime));
+            try (OutputStream out = new FileOutputStream(checkpoint)) {
+                state.store(out, null);
+            }
+
+            RestoreOptions options = new RestoreOptions();
+            options.mode = ReloadMode.prohibit; // loader appends and never truncates by itself
+            options.checkpoint = checkpoint.getPath();
+
+            new StreamReplicator().restore(
+                    new StreamStorage[] { new StreamStorage(db, source.getKey()) },
+                    new StreamStorage[] { new StreamStorage(db, target.getKey()) },
+                    options);
+
+            compareStreams(source, target);
+            assertEquals(count(source), count(target));
+            assertEquals("completed", loadProperties(checkpoint).getProperty(source.getKey() + "->" + target.getKey() + "#0/1"));
+        } finally {
+            checkpoint.delete();
+        }
+    }
+
+    private static long         count(DXTickStream stream) {
+        long count = 0;
+
+        try (TickCursor cursor = stream.select(Long.MIN_VALUE, new SelectionOptions(true, false), (String[]) null)) {
+            while (cursor.next())
+                count++;
+        }
+
+        return count;
+    }
+
+    private static Properties   loadProperties(File file) throws IOException {
+        Properties properties = new Properties();
+
+        try (InputStream in = new FileInputStream(file)) {
+            properties.load(in);
+        }
+
+        return properties;
+    }
+
     @Test
     public void         convert() throws Throwable {
 